@@ -0,0 +1,25 @@
+package com.cfbl.platform.core.cache;
+
+import com.cfbl.platform.core.exception.core.DataProviderContext;
+import java.util.function.Supplier;
+
+/**
+ * Cached successful provider response.
+ *
+ * <p>The payload is exposed through a supplier so stores may keep it in a serialized form and
+ * decode it only when the cached result is consumed.
+ *
+ * @param status upstream status of the cached response
+ * @param payload supplier of the cached payload
+ * @param metadata provider metadata of the call that produced the entry
+ * @param storedAtNanos {@link System#nanoTime()} when the entry was stored
+ * @param weight estimated size in bytes used for eviction
+ */
+public record CacheEntry(
+    int status,
+    Supplier<Object> payload,
+    DataProviderContext metadata,
+    long storedAtNanos,
+    long weight
+) {
+}
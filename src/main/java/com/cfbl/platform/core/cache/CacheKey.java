@@ -0,0 +1,22 @@
+package com.cfbl.platform.core.cache;
+
+import java.util.Objects;
+
+/**
+ * Identity of a cached provider result.
+ *
+ * <p>{@code key} must capture everything that makes the payload differ for the given service
+ * operation (for example a customer id).
+ */
+public record CacheKey(
+    String serviceId,
+    String operation,
+    String key
+) {
+
+    public CacheKey {
+        Objects.requireNonNull(serviceId, "serviceId");
+        Objects.requireNonNull(operation, "operation");
+        Objects.requireNonNull(key, "key");
+    }
+}
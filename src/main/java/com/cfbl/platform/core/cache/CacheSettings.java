@@ -0,0 +1,52 @@
+package com.cfbl.platform.core.cache;
+
+import java.time.Duration;
+
+/**
+ * Per-service settings for {@link ProviderResultCache}.
+ *
+ * <p>Entries are fresh for {@code ttlMs}. For a further {@code staleWhileRevalidateMs} they are
+ * still served immediately while one background refresh runs. {@code maxWeightBytes} bounds the
+ * estimated payload size kept per service; least recently used entries are evicted first.
+ *
+ * <p>With {@link CacheStorage#OFF_HEAP}, {@code maxWeightBytes} is the off-heap capacity of
+ * the service's store, carved into blocks of {@code blockSizeBytes}. The memory is allocated
+ * natively and is not bounded by {@code -XX:MaxDirectMemorySize}; the sum of all off-heap
+ * capacities must fit in the process memory left over by the heap.
+ */
+public record CacheSettings(
+    boolean enabled,
+    long ttlMs,
+    long staleWhileRevalidateMs,
+    long maxWeightBytes,
+    CacheStorage storage,
+    int blockSizeBytes
+) {
+
+    private static final long DEFAULT_TTL_MS = 300_000L;
+    private static final long DEFAULT_MAX_WEIGHT_BYTES = 16L * 1024 * 1024;
+    private static final int DEFAULT_BLOCK_SIZE_BYTES = 4096;
+
+    public CacheSettings(boolean enabled, long ttlMs, long staleWhileRevalidateMs, long maxWeightBytes) {
+        this(enabled, ttlMs, staleWhileRevalidateMs, maxWeightBytes, CacheStorage.HEAP, DEFAULT_BLOCK_SIZE_BYTES);
+    }
+
+    public CacheSettings {
+        ttlMs = ttlMs > 0 ? ttlMs : DEFAULT_TTL_MS;
+        staleWhileRevalidateMs = Math.max(0L, staleWhileRevalidateMs);
+        maxWeightBytes = maxWeightBytes > 0 ? maxWeightBytes : DEFAULT_MAX_WEIGHT_BYTES;
+        storage = storage == null ? CacheStorage.HEAP : storage;
+        blockSizeBytes = blockSizeBytes > 0 ? blockSizeBytes : DEFAULT_BLOCK_SIZE_BYTES;
+    }
+
+    /**
+     * Default cache settings: disabled, 5 minute TTL, no stale serving, 16 MiB on heap per service.
+     */
+    public static CacheSettings defaults() {
+        return new CacheSettings(false, DEFAULT_TTL_MS, 0L, DEFAULT_MAX_WEIGHT_BYTES);
+    }
+
+    public Duration ttl() {
+        return Duration.ofMillis(ttlMs);
+    }
+}
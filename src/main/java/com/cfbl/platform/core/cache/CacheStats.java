@@ -0,0 +1,35 @@
+package com.cfbl.platform.core.cache;
+
+/**
+ * Point-in-time statistics of one service's provider cache.
+ *
+ * @param hits fresh hits served
+ * @param staleHits stale hits served while revalidating
+ * @param misses lookups that called the provider
+ * @param evictions entries evicted to make room
+ * @param entries entries currently stored
+ * @param weightBytes estimated (heap) or occupied (off-heap) bytes of stored payloads
+ * @param offHeapBytesInUse off-heap memory occupied by payload blocks
+ * @param offHeapCapacityBytes off-heap memory capacity of the store
+ * @param heapFallbacks puts an off-heap store kept on heap because their payload type has no codec
+ */
+public record CacheStats(
+    long hits,
+    long staleHits,
+    long misses,
+    long evictions,
+    int entries,
+    long weightBytes,
+    long offHeapBytesInUse,
+    long offHeapCapacityBytes,
+    long heapFallbacks
+) {
+
+    /**
+     * Share of lookups served from the cache (fresh or stale); {@code 0} before any lookup.
+     */
+    public double hitRatio() {
+        long lookups = hits + staleHits + misses;
+        return lookups == 0 ? 0d : (double) (hits + staleHits) / lookups;
+    }
+}
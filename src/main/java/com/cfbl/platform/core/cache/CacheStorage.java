@@ -0,0 +1,16 @@
+package com.cfbl.platform.core.cache;
+
+/**
+ * Storage backend used for a service's cached provider results.
+ */
+public enum CacheStorage {
+    /**
+     * Payload objects are kept on the Java heap.
+     */
+    HEAP,
+    /**
+     * String, byte[] and RawJson payloads are serialized into off-heap memory blocks; only the
+     * index and metadata stay on heap. Other payloads fall back to heap storage.
+     */
+    OFF_HEAP
+}
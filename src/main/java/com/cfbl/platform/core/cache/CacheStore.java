@@ -0,0 +1,59 @@
+package com.cfbl.platform.core.cache;
+
+/**
+ * Bounded storage behind {@link ProviderResultCache}; one instance per service.
+ *
+ * <p>Implementations must be thread-safe and evict least recently used entries once the
+ * configured weight is exceeded.
+ */
+public interface CacheStore {
+
+    /**
+     * Returns the entry for the key, or {@code null} when absent.
+     *
+     * <p>The entry payload may be decoded lazily; reading it after the entry was evicted throws
+     * {@link EvictedEntryException}.
+     */
+    CacheEntry get(CacheKey key);
+
+    /**
+     * Stores the entry, replacing an existing one and evicting as needed. Entries heavier than
+     * the store capacity are not stored.
+     */
+    void put(CacheKey key, CacheEntry entry);
+
+    void invalidate(CacheKey key);
+
+    int size();
+
+    /**
+     * Total weight of the stored entries in bytes.
+     */
+    long weight();
+
+    /**
+     * Number of entries evicted to make room since the store was created.
+     */
+    long evictions();
+
+    /**
+     * Number of puts kept on heap because the store could not serialize their payload.
+     */
+    default long heapFallbacks() {
+        return 0L;
+    }
+
+    /**
+     * Direct memory currently occupied by stored payloads.
+     */
+    default long offHeapBytesInUse() {
+        return 0L;
+    }
+
+    /**
+     * Direct memory capacity of this store.
+     */
+    default long offHeapCapacityBytes() {
+        return 0L;
+    }
+}
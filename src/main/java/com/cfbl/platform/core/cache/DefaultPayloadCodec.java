@@ -0,0 +1,44 @@
+package com.cfbl.platform.core.cache;
+
+import com.cfbl.platform.core.integration.model.RawJson;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * {@link PayloadCodec} for the raw payload types produced by the executors: {@code String}
+ * (stored as UTF-8), {@code byte[]} and {@link RawJson} (stored as its bytes).
+ */
+public class DefaultPayloadCodec implements PayloadCodec {
+
+    @Override
+    public boolean supports(Object payload) {
+        return payload instanceof String || payload instanceof byte[] || payload instanceof RawJson;
+    }
+
+    @Override
+    public byte[] encode(Object payload) {
+        if (payload instanceof String text) {
+            return text.getBytes(StandardCharsets.UTF_8);
+        }
+        if (payload instanceof byte[] bytes) {
+            return bytes;
+        }
+        if (payload instanceof RawJson json) {
+            return json.bytes();
+        }
+        throw new IllegalArgumentException("Unsupported payload type: " + payload.getClass().getName());
+    }
+
+    @Override
+    public Object decode(byte[] bytes, Class<?> type) {
+        if (type == String.class) {
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+        if (type == byte[].class) {
+            return bytes;
+        }
+        if (type == RawJson.class) {
+            return RawJson.of(bytes);
+        }
+        throw new IllegalArgumentException("Unsupported payload type: " + type.getName());
+    }
+}
@@ -0,0 +1,14 @@
+package com.cfbl.platform.core.cache;
+
+/**
+ * Thrown when a lazily decoded cache entry is read after its storage was reclaimed.
+ *
+ * <p>{@link ProviderResultCache} treats it as a miss. Stackless because it is a control-flow
+ * signal, not a diagnostic.
+ */
+public class EvictedEntryException extends RuntimeException {
+
+    public EvictedEntryException(CacheKey key) {
+        super("Cache entry evicted before it was read: " + key, null, false, false);
+    }
+}
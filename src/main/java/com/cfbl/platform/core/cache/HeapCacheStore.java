@@ -0,0 +1,69 @@
+package com.cfbl.platform.core.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * On-heap {@link CacheStore} with weight-bounded LRU eviction.
+ */
+public class HeapCacheStore implements CacheStore {
+
+    private final long maxWeightBytes;
+    private final LinkedHashMap<CacheKey, CacheEntry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long weight;
+    private long evictions;
+
+    public HeapCacheStore(long maxWeightBytes) {
+        this.maxWeightBytes = maxWeightBytes;
+    }
+
+    @Override
+    public synchronized CacheEntry get(CacheKey key) {
+        return entries.get(key);
+    }
+
+    @Override
+    public synchronized void put(CacheKey key, CacheEntry entry) {
+        remove(key);
+        if (entry.weight() > maxWeightBytes) {
+            return;
+        }
+        entries.put(key, entry);
+        weight += entry.weight();
+
+        Iterator<Map.Entry<CacheKey, CacheEntry>> eldest = entries.entrySet().iterator();
+        while (weight > maxWeightBytes && eldest.hasNext()) {
+            weight -= eldest.next().getValue().weight();
+            eldest.remove();
+            evictions++;
+        }
+    }
+
+    @Override
+    public synchronized void invalidate(CacheKey key) {
+        remove(key);
+    }
+
+    @Override
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    @Override
+    public synchronized long weight() {
+        return weight;
+    }
+
+    @Override
+    public synchronized long evictions() {
+        return evictions;
+    }
+
+    private void remove(CacheKey key) {
+        CacheEntry previous = entries.remove(key);
+        if (previous != null) {
+            weight -= previous.weight();
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.cfbl.platform.core.cache;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+/**
+ * Fixed-size block allocator over lazily allocated native-memory slabs.
+ *
+ * <p>Slabs are {@link MemorySegment}s from an automatic {@link Arena}: their memory is released
+ * when the allocator becomes unreachable, and copies are bounds-checked against the slab without
+ * creating a view per block. Payloads are written into one or more blocks, so freed space is always reusable without
+ * compaction. Slabs are only allocated when one of their blocks is first handed out. Not
+ * thread-safe; callers synchronize.
+ */
+final class OffHeapBlockAllocator {
+
+    static final int MAX_SLAB_BYTES = 1024 * 1024;
+
+    private final int blockSize;
+    private final int blocksPerSlab;
+    private final int totalBlocks;
+    private final Arena arena = Arena.ofAuto();
+    private final MemorySegment[] slabs;
+    private final int[] freeBlocks;
+    private int freeCount;
+
+    OffHeapBlockAllocator(long capacityBytes, int blockSize) {
+        if (blockSize <= 0 || blockSize > MAX_SLAB_BYTES) {
+            throw new IllegalArgumentException("blockSize must be in (0, " + MAX_SLAB_BYTES + "]");
+        }
+        this.blockSize = blockSize;
+        this.blocksPerSlab = MAX_SLAB_BYTES / blockSize;
+        this.totalBlocks = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(0L, capacityBytes / blockSize));
+        this.slabs = new MemorySegment[(totalBlocks + blocksPerSlab - 1) / blocksPerSlab];
+        this.freeBlocks = new int[totalBlocks];
+        // Lowest block ids are handed out first so slabs fill up in order.
+        for (int i = 0; i < totalBlocks; i++) {
+            freeBlocks[i] = totalBlocks - 1 - i;
+        }
+        this.freeCount = totalBlocks;
+    }
+
+    int blocksFor(int bytes) {
+        return Math.max(1, (bytes + blockSize - 1) / blockSize);
+    }
+
+    int blockSize() {
+        return blockSize;
+    }
+
+    int freeBlockCount() {
+        return freeCount;
+    }
+
+    int totalBlockCount() {
+        return totalBlocks;
+    }
+
+    /**
+     * Allocates blocks for {@code bytes}, or returns {@code null} when not enough are free.
+     */
+    int[] allocate(int bytes) {
+        int needed = blocksFor(bytes);
+        if (needed > freeCount) {
+            return null;
+        }
+        int[] blocks = new int[needed];
+        for (int i = 0; i < needed; i++) {
+            blocks[i] = freeBlocks[--freeCount];
+        }
+        return blocks;
+    }
+
+    void free(int[] blocks) {
+        for (int block : blocks) {
+            freeBlocks[freeCount++] = block;
+        }
+    }
+
+    void write(int[] blocks, byte[] data) {
+        int offset = 0;
+        for (int block : blocks) {
+            int length = Math.min(blockSize, data.length - offset);
+            if (length <= 0) {
+                break;
+            }
+            MemorySegment.copy(
+                    data, offset, slab(block), ValueLayout.JAVA_BYTE, blockOffset(block), length);
+            offset += length;
+        }
+    }
+
+    byte[] read(int[] blocks, int length) {
+        byte[] data = new byte[length];
+        int offset = 0;
+        for (int block : blocks) {
+            int chunk = Math.min(blockSize, length - offset);
+            if (chunk <= 0) {
+                break;
+            }
+            MemorySegment.copy(
+                    slab(block), ValueLayout.JAVA_BYTE, blockOffset(block), data, offset, chunk);
+            offset += chunk;
+        }
+        return data;
+    }
+
+    long bytesInUse() {
+        return (long) (totalBlocks - freeCount) * blockSize;
+    }
+
+    long capacityBytes() {
+        return (long) totalBlocks * blockSize;
+    }
+
+    private MemorySegment slab(int block) {
+        int slabIndex = block / blocksPerSlab;
+        MemorySegment slab = slabs[slabIndex];
+        if (slab == null) {
+            int slabBlocks = Math.min(blocksPerSlab, totalBlocks - slabIndex * blocksPerSlab);
+            slab = arena.allocate((long) slabBlocks * blockSize);
+            slabs[slabIndex] = slab;
+        }
+        return slab;
+    }
+
+    private long blockOffset(int block) {
+        return (long) (block % blocksPerSlab) * blockSize;
+    }
+}
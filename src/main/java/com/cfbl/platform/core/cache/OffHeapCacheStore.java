@@ -0,0 +1,178 @@
+package com.cfbl.platform.core.cache;
+
+import com.cfbl.platform.core.exception.core.DataProviderContext;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * {@link CacheStore} keeping serialized payloads in native memory outside the heap.
+ *
+ * <p>The index (keys, metadata, block lists) stays on heap; payload bytes live in fixed-size blocks
+ * of an {@link OffHeapBlockAllocator}. Payloads are decoded only when a cached result is consumed.
+ * When a payload does not fit, least recently used entries are evicted until it does.
+ *
+ * <p>Payloads the {@link PayloadCodec} does not support are kept on heap instead, in a
+ * {@link HeapCacheStore} bounded by the same capacity, and counted by {@link #heapFallbacks()}.
+ * A steadily growing count means the service's payloads need a codec or {@link CacheStorage#HEAP}.
+ */
+public class OffHeapCacheStore implements CacheStore {
+
+    private final OffHeapBlockAllocator allocator;
+    private final PayloadCodec codec;
+    private final HeapCacheStore heapFallback;
+    private final LinkedHashMap<CacheKey, Slot> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long evictions;
+    private long heapFallbacks;
+
+    public OffHeapCacheStore(long capacityBytes, int blockSizeBytes, PayloadCodec codec) {
+        this.allocator = new OffHeapBlockAllocator(capacityBytes, blockSizeBytes);
+        this.codec = Objects.requireNonNull(codec, "codec");
+        this.heapFallback = new HeapCacheStore(capacityBytes);
+    }
+
+    @Override
+    public synchronized CacheEntry get(CacheKey key) {
+        Slot slot = entries.get(key);
+        if (slot == null) {
+            return heapFallback.get(key);
+        }
+        return new CacheEntry(
+                slot.status,
+                () -> decode(key, slot),
+                slot.metadata,
+                slot.storedAtNanos,
+                (long) slot.blocks.length * allocator.blockSize());
+    }
+
+    @Override
+    public void put(CacheKey key, CacheEntry entry) {
+        Object payload = entry.payload().get();
+        if (payload == null) {
+            invalidate(key);
+            return;
+        }
+        if (!codec.supports(payload)) {
+            synchronized (this) {
+                remove(key);
+                heapFallback.put(key, entry);
+                heapFallbacks++;
+            }
+            return;
+        }
+        // Encode outside the lock; only the block copy happens while holding it.
+        byte[] bytes = codec.encode(payload);
+
+        synchronized (this) {
+            remove(key);
+            heapFallback.invalidate(key);
+            if (allocator.blocksFor(bytes.length) > allocator.totalBlockCount()) {
+                return;
+            }
+            int[] blocks = allocator.allocate(bytes.length);
+            Iterator<Map.Entry<CacheKey, Slot>> eldest = entries.entrySet().iterator();
+            while (blocks == null && eldest.hasNext()) {
+                release(eldest.next().getValue());
+                eldest.remove();
+                evictions++;
+                blocks = allocator.allocate(bytes.length);
+            }
+            allocator.write(blocks, bytes);
+            entries.put(key, new Slot(
+                    entry.status(),
+                    entry.metadata(),
+                    entry.storedAtNanos(),
+                    payload.getClass(),
+                    blocks,
+                    bytes.length));
+        }
+    }
+
+    @Override
+    public synchronized void invalidate(CacheKey key) {
+        remove(key);
+        heapFallback.invalidate(key);
+    }
+
+    @Override
+    public synchronized int size() {
+        return entries.size() + heapFallback.size();
+    }
+
+    /**
+     * Occupied off-heap bytes plus the estimated weight of the payloads kept on heap.
+     */
+    @Override
+    public synchronized long weight() {
+        return allocator.bytesInUse() + heapFallback.weight();
+    }
+
+    @Override
+    public synchronized long evictions() {
+        return evictions + heapFallback.evictions();
+    }
+
+    @Override
+    public synchronized long heapFallbacks() {
+        return heapFallbacks;
+    }
+
+    @Override
+    public synchronized long offHeapBytesInUse() {
+        return allocator.bytesInUse();
+    }
+
+    @Override
+    public long offHeapCapacityBytes() {
+        return allocator.capacityBytes();
+    }
+
+    private Object decode(CacheKey key, Slot slot) {
+        byte[] bytes;
+        synchronized (this) {
+            if (slot.released) {
+                throw new EvictedEntryException(key);
+            }
+            bytes = allocator.read(slot.blocks, slot.length);
+        }
+        return codec.decode(bytes, slot.type);
+    }
+
+    private void remove(CacheKey key) {
+        Slot previous = entries.remove(key);
+        if (previous != null) {
+            release(previous);
+        }
+    }
+
+    private void release(Slot slot) {
+        slot.released = true;
+        allocator.free(slot.blocks);
+    }
+
+    private static final class Slot {
+        private final int status;
+        private final DataProviderContext metadata;
+        private final long storedAtNanos;
+        private final Class<?> type;
+        private final int[] blocks;
+        private final int length;
+        private boolean released;
+
+        private Slot(
+                int status,
+                DataProviderContext metadata,
+                long storedAtNanos,
+                Class<?> type,
+                int[] blocks,
+                int length) {
+            this.status = status;
+            this.metadata = metadata;
+            this.storedAtNanos = storedAtNanos;
+            this.type = type;
+            this.blocks = blocks;
+            this.length = length;
+        }
+    }
+}
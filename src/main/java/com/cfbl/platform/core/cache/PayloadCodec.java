@@ -0,0 +1,19 @@
+package com.cfbl.platform.core.cache;
+
+/**
+ * Serializes cached payloads for stores that keep them outside the Java heap.
+ */
+public interface PayloadCodec {
+
+    /**
+     * Whether the payload can be encoded; unsupported payloads are not stored.
+     */
+    boolean supports(Object payload);
+
+    byte[] encode(Object payload);
+
+    /**
+     * Decodes bytes produced by {@link #encode(Object)} for a payload of the given type.
+     */
+    Object decode(byte[] bytes, Class<?> type);
+}
@@ -0,0 +1,236 @@
+package com.cfbl.platform.core.cache;
+
+import com.cfbl.platform.core.config.PlatformProperties;
+import com.cfbl.platform.core.config.PlatformProperties.ServiceDefinition;
+import com.cfbl.platform.core.exception.core.DataProviderContext;
+import com.cfbl.platform.core.integration.model.ProviderResult;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Caching stage in front of provider executors.
+ *
+ * <p>Usage: wrap an existing executor call without changing it, e.g.
+ * {@code cache.getOrLoad(new CacheKey(serviceId, operation, customerId), () -> restCallExecutor.executeProvider(...))}.
+ * Settings are resolved per service from {@code ServiceDefinition.cache}; services without caching
+ * enabled call straight through.
+ *
+ * <p>Only 2xx results are stored. Results are marked with protocol attribute
+ * {@code cache=HIT|STALE|MISS}; cached results carry the metadata of the call that produced them
+ * and no retry metadata. A stale hit triggers at most one background refresh per key, which runs
+ * outside the caller's Reactor context (and therefore outside its deadline).
+ *
+ * <p>Storage is selected per service by {@link CacheSettings#storage()}; see
+ * {@link OffHeapCacheStore} for keeping large payloads out of the Java heap. Hit ratio and memory
+ * use are available from {@link #stats(String)}.
+ */
+@Slf4j
+@Component
+public class ProviderResultCache {
+
+    /**
+     * Protocol attribute carrying the cache outcome.
+     */
+    public static final String CACHE_ATTRIBUTE = "cache";
+
+    static final long ENTRY_OVERHEAD_BYTES = 128L;
+    static final long DEFAULT_PAYLOAD_WEIGHT_BYTES = 1024L;
+
+    private final PlatformProperties platformProperties;
+    private final LongSupplier nanoClock;
+    private final PayloadCodec payloadCodec;
+    private final Map<String, CacheStore> stores = new ConcurrentHashMap<>();
+    private final Map<String, Counters> counters = new ConcurrentHashMap<>();
+    private final Set<CacheKey> refreshing = ConcurrentHashMap.newKeySet();
+
+    public ProviderResultCache(PlatformProperties platformProperties) {
+        this(platformProperties, new DefaultPayloadCodec(), System::nanoTime);
+    }
+
+    ProviderResultCache(PlatformProperties platformProperties, PayloadCodec payloadCodec, LongSupplier nanoClock) {
+        this.platformProperties = Objects.requireNonNull(platformProperties, "platformProperties");
+        this.payloadCodec = Objects.requireNonNull(payloadCodec, "payloadCodec");
+        this.nanoClock = Objects.requireNonNull(nanoClock, "nanoClock");
+    }
+
+    /**
+     * Returns the cached result for the key, or loads, stores and returns it.
+     *
+     * @param key cache key; {@code serviceId} selects the cache settings
+     * @param loader executor call producing a fresh result per subscription
+     * @param <T> payload type
+     * @return cached or freshly loaded result
+     */
+    public <T> Mono<ProviderResult<T>> getOrLoad(CacheKey key, Supplier<Mono<ProviderResult<T>>> loader) {
+        Objects.requireNonNull(key, "key");
+        Objects.requireNonNull(loader, "loader");
+        return Mono.defer(() -> {
+            CacheSettings settings = settingsFor(key.serviceId());
+            if (!settings.enabled()) {
+                return loader.get();
+            }
+
+            CacheStore store = storeFor(key.serviceId(), settings);
+            Counters serviceCounters = countersFor(key.serviceId());
+            Mono<ProviderResult<T>> load = Mono.defer(() -> {
+                        serviceCounters.misses.increment();
+                        return loader.get();
+                    })
+                    .doOnNext(result -> store(key, store, result))
+                    .map(result -> withOutcome(result, CacheOutcome.MISS));
+
+            CacheEntry entry = store.get(key);
+            if (entry != null) {
+                long ageMs = TimeUnit.NANOSECONDS.toMillis(nanoClock.getAsLong() - entry.storedAtNanos());
+                if (ageMs < settings.ttlMs()) {
+                    return Mono.fromSupplier(() -> this.<T>fromEntry(entry, CacheOutcome.HIT))
+                            .doOnNext(result -> serviceCounters.hits.increment())
+                            .onErrorResume(EvictedEntryException.class, ex -> load);
+                }
+                if (ageMs < settings.ttlMs() + settings.staleWhileRevalidateMs()) {
+                    return Mono.fromSupplier(() -> this.<T>fromEntry(entry, CacheOutcome.STALE))
+                            .doOnNext(result -> {
+                                serviceCounters.staleHits.increment();
+                                refreshInBackground(key, store, loader);
+                            })
+                            .onErrorResume(EvictedEntryException.class, ex -> load);
+                }
+            }
+            return load;
+        });
+    }
+
+    /**
+     * Returns statistics for the service's cache; all zero when nothing was cached yet.
+     */
+    public CacheStats stats(String serviceId) {
+        Objects.requireNonNull(serviceId, "serviceId");
+        Counters serviceCounters = countersFor(serviceId);
+        CacheStore store = stores.get(serviceId);
+        return new CacheStats(
+                serviceCounters.hits.sum(),
+                serviceCounters.staleHits.sum(),
+                serviceCounters.misses.sum(),
+                store == null ? 0L : store.evictions(),
+                store == null ? 0 : store.size(),
+                store == null ? 0L : store.weight(),
+                store == null ? 0L : store.offHeapBytesInUse(),
+                store == null ? 0L : store.offHeapCapacityBytes(),
+                store == null ? 0L : store.heapFallbacks());
+    }
+
+    /**
+     * Removes a cached entry, e.g. after a write to the provider.
+     */
+    public void invalidate(CacheKey key) {
+        Objects.requireNonNull(key, "key");
+        CacheStore store = stores.get(key.serviceId());
+        if (store != null) {
+            store.invalidate(key);
+        }
+    }
+
+    private <T> void refreshInBackground(CacheKey key, CacheStore store, Supplier<Mono<ProviderResult<T>>> loader) {
+        if (!refreshing.add(key)) {
+            return;
+        }
+        Mono.defer(loader)
+                .subscribeOn(Schedulers.boundedElastic())
+                .doFinally(signal -> refreshing.remove(key))
+                .subscribe(
+                        result -> store(key, store, result),
+                        ex -> log.warn("Background cache refresh failed key={}, cause={}", key, ex.getMessage()));
+    }
+
+    private void store(CacheKey key, CacheStore store, ProviderResult<?> result) {
+        if (result.status() < 200 || result.status() >= 300) {
+            return;
+        }
+        Object payload = result.data();
+        store.put(key, new CacheEntry(
+                result.status(),
+                () -> payload,
+                result.metadata(),
+                nanoClock.getAsLong(),
+                estimateWeight(payload)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> ProviderResult<T> fromEntry(CacheEntry entry, CacheOutcome outcome) {
+        return withOutcome(new ProviderResult<>(entry.status(), (T) entry.payload().get(), entry.metadata(), null), outcome);
+    }
+
+    private <T> ProviderResult<T> withOutcome(ProviderResult<T> result, CacheOutcome outcome) {
+        DataProviderContext metadata = result.metadata();
+        if (metadata == null) {
+            return result;
+        }
+        Map<String, String> attributes = new LinkedHashMap<>(metadata.protocolAttributes());
+        attributes.put(CACHE_ATTRIBUTE, outcome.name());
+        return new ProviderResult<>(
+                result.status(),
+                result.data(),
+                new DataProviderContext(
+                        metadata.protocol(),
+                        metadata.serviceId(),
+                        metadata.endpoint(),
+                        Map.copyOf(attributes),
+                        metadata.responseTimeMs(),
+                        metadata.collectedAt()),
+                result.retry());
+    }
+
+    private CacheSettings settingsFor(String serviceId) {
+        ServiceDefinition service = platformProperties.getServices().get(serviceId);
+        return service != null && service.getCache() != null ? service.getCache() : CacheSettings.defaults();
+    }
+
+    private CacheStore storeFor(String serviceId, CacheSettings settings) {
+        return stores.computeIfAbsent(serviceId, id -> settings.storage() == CacheStorage.OFF_HEAP
+                ? new OffHeapCacheStore(settings.maxWeightBytes(), settings.blockSizeBytes(), payloadCodec)
+                : new HeapCacheStore(settings.maxWeightBytes()));
+    }
+
+    private Counters countersFor(String serviceId) {
+        return counters.computeIfAbsent(serviceId, id -> new Counters());
+    }
+
+    /**
+     * Rough retained-size estimate used for weight-bounded eviction.
+     */
+    static long estimateWeight(Object payload) {
+        if (payload == null) {
+            return ENTRY_OVERHEAD_BYTES;
+        }
+        if (payload instanceof CharSequence text) {
+            return ENTRY_OVERHEAD_BYTES + 2L * text.length();
+        }
+        if (payload instanceof byte[] bytes) {
+            return ENTRY_OVERHEAD_BYTES + bytes.length;
+        }
+        return ENTRY_OVERHEAD_BYTES + DEFAULT_PAYLOAD_WEIGHT_BYTES;
+    }
+
+    private static final class Counters {
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder staleHits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+    }
+
+    private enum CacheOutcome {
+        HIT,
+        STALE,
+        MISS
+    }
+}
@@ -0,0 +1,30 @@
+package com.cfbl.platform.core.coalescing;
+
+/**
+ * Per-service micro-batching settings used by {@link ProviderLookupBatcher}.
+ *
+ * <p>A batch is sent when {@code maxBatchSize} distinct keys are pending or {@code maxWaitMs}
+ * after its first key arrived, whichever comes first. {@code maxBatchSize} is capped at 1000, the
+ * largest {@code IN} list some databases (e.g. Oracle) accept.
+ */
+public record BatchSettings(
+    int maxBatchSize,
+    long maxWaitMs
+) {
+
+    private static final int DEFAULT_MAX_BATCH_SIZE = 100;
+    private static final long DEFAULT_MAX_WAIT_MS = 5L;
+    private static final int MAX_BATCH_SIZE_LIMIT = 1000;
+
+    public BatchSettings {
+        maxBatchSize = maxBatchSize > 0 ? Math.min(maxBatchSize, MAX_BATCH_SIZE_LIMIT) : DEFAULT_MAX_BATCH_SIZE;
+        maxWaitMs = maxWaitMs > 0 ? maxWaitMs : DEFAULT_MAX_WAIT_MS;
+    }
+
+    /**
+     * Default batching settings: up to 100 keys, sent at most 5ms after the first.
+     */
+    public static BatchSettings defaults() {
+        return new BatchSettings(DEFAULT_MAX_BATCH_SIZE, DEFAULT_MAX_WAIT_MS);
+    }
+}
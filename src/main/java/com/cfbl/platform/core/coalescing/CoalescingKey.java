@@ -0,0 +1,25 @@
+package com.cfbl.platform.core.coalescing;
+
+import java.util.Objects;
+import org.springframework.http.HttpMethod;
+
+/**
+ * Identity of an upstream call for single-flight coalescing.
+ *
+ * <p>{@code requestKey} must capture everything that makes the response differ besides
+ * service, method and path (for example a customer id or a hash of the request body).
+ */
+public record CoalescingKey(
+    String serviceId,
+    HttpMethod httpMethod,
+    String path,
+    String requestKey
+) {
+
+    public CoalescingKey {
+        Objects.requireNonNull(serviceId, "serviceId");
+        Objects.requireNonNull(httpMethod, "httpMethod");
+        Objects.requireNonNull(path, "path");
+        Objects.requireNonNull(requestKey, "requestKey");
+    }
+}
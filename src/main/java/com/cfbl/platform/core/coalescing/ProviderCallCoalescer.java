@@ -0,0 +1,104 @@
+package com.cfbl.platform.core.coalescing;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Opt-in single-flight layer for identical in-flight provider calls.
+ *
+ * <p>Concurrent callers with the same {@link CoalescingKey} share one upstream call and receive
+ * the same result or failure. Nothing is cached: the entry is removed as soon as the call
+ * terminates, so the next caller after completion triggers a fresh upstream call.
+ *
+ * <p>Usage: wrap an executor call without changing it, e.g.
+ * {@code coalescer.execute(key, () -> restCallExecutor.executeProvider(...))}. The shared call
+ * runs with the Reactor context (and therefore deadline) of the first subscriber; blocking calls
+ * run on the first caller's thread.
+ */
+@Component
+public class ProviderCallCoalescer {
+
+    private final Map<CoalescingKey, Mono<?>> inFlight = new ConcurrentHashMap<>();
+    private final Map<CoalescingKey, CompletableFuture<?>> inFlightSync = new ConcurrentHashMap<>();
+
+    /**
+     * Shares one subscription to {@code call} among all concurrent subscribers with the same key.
+     *
+     * <p>The upstream call is cancelled only when every subscriber has cancelled.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Mono<T> execute(CoalescingKey key, Supplier<Mono<T>> call) {
+        Objects.requireNonNull(key, "key");
+        Objects.requireNonNull(call, "call");
+        return Mono.defer(() -> (Mono<T>) inFlight.computeIfAbsent(key, k -> share(k, call)));
+    }
+
+    /**
+     * Runs {@code call} once for all concurrent blocking callers with the same key.
+     *
+     * <p>The first caller executes the call on its own thread; the others block until it
+     * completes and then return its result or rethrow its failure.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T executeSync(CoalescingKey key, Supplier<T> call) {
+        Objects.requireNonNull(key, "key");
+        Objects.requireNonNull(call, "call");
+
+        CompletableFuture<T> created = new CompletableFuture<>();
+        CompletableFuture<T> existing = (CompletableFuture<T>) inFlightSync.putIfAbsent(key, created);
+        if (existing != null) {
+            return await(existing);
+        }
+
+        T result;
+        try {
+            result = call.get();
+        } catch (RuntimeException | Error ex) {
+            inFlightSync.remove(key, created);
+            created.completeExceptionally(ex);
+            throw ex;
+        }
+        inFlightSync.remove(key, created);
+        created.complete(result);
+        return result;
+    }
+
+    /**
+     * Number of distinct calls currently in flight (reactive and blocking).
+     */
+    public int inFlightCount() {
+        return inFlight.size() + inFlightSync.size();
+    }
+
+    private <T> Mono<T> share(CoalescingKey key, Supplier<Mono<T>> call) {
+        AtomicReference<Mono<T>> shared = new AtomicReference<>();
+        // Remove before the result is signalled so callers arriving afterwards start a fresh call.
+        shared.set(Mono.defer(call)
+                .doOnTerminate(() -> inFlight.remove(key, shared.get()))
+                .doOnCancel(() -> inFlight.remove(key, shared.get()))
+                .share());
+        return shared.get();
+    }
+
+    private <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw ex;
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package com.cfbl.platform.core.coalescing;
+
+import com.cfbl.platform.core.exception.core.CreditSummaryDataCollectionException;
+import com.cfbl.platform.core.exception.core.DataProviderContext;
+import com.cfbl.platform.core.exception.core.ErrorCode;
+import com.cfbl.platform.core.integration.model.ProviderResult;
+import com.cfbl.platform.core.timeout.Deadline;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.context.Context;
+
+/**
+ * Micro-batching stage that turns many concurrent single-key lookups into one provider call.
+ *
+ * <p>Keys passed to {@link #lookup(Object)} are collected until {@link BatchSettings#maxBatchSize()}
+ * distinct keys are pending or {@link BatchSettings#maxWaitMs()} has passed since the first one;
+ * then the batch call runs once for all of them and its result is split back per key. Callers
+ * asking for the same key in one window share its entry.
+ *
+ * <p>Each caller gets its own {@link DataProviderContext}: the batch call's context with
+ * {@code responseTimeMs} and {@code collectedAt} measured from that caller's lookup and a
+ * {@code batchSize} protocol attribute. A failed batch fails every caller; a
+ * {@link CreditSummaryDataCollectionException} is copied per caller with that caller's context.
+ * A batch call that completes without a result fails every caller with a
+ * {@link CreditSummaryDataCollectionException} naming its key.
+ * The batch call runs with the earliest {@link Deadline} of its callers, and a caller that cancels
+ * before its batch is sent is left out of it.
+ *
+ * <p>Instances are thread-safe and meant to be kept for the lifetime of the calling service, one
+ * per kind of lookup.
+ *
+ * @param <K> lookup key type
+ * @param <T> per-key payload type
+ */
+public final class ProviderLookupBatcher<K, T> {
+
+    /**
+     * Protocol attribute with the number of distinct keys in the batch that served a lookup.
+     */
+    public static final String BATCH_SIZE_ATTRIBUTE = "batchSize";
+
+    private final BatchSettings settings;
+    private final Function<List<K>, Mono<ProviderResult<Map<K, T>>>> batchCall;
+    private final Scheduler timer;
+    private final Object lock = new Object();
+    private Map<K, List<Pending<T>>> pending = new LinkedHashMap<>();
+    private Disposable flushTimer;
+
+    /**
+     * @param settings  batch size and wait
+     * @param batchCall provider call for a list of distinct keys; keys missing from its result map
+     *                  get a {@code null} payload
+     */
+    public ProviderLookupBatcher(
+            BatchSettings settings,
+            Function<List<K>, Mono<ProviderResult<Map<K, T>>>> batchCall) {
+        this(settings, batchCall, Schedulers.parallel());
+    }
+
+    ProviderLookupBatcher(
+            BatchSettings settings,
+            Function<List<K>, Mono<ProviderResult<Map<K, T>>>> batchCall,
+            Scheduler timer) {
+        this.settings = Objects.requireNonNull(settings, "settings");
+        this.batchCall = Objects.requireNonNull(batchCall, "batchCall");
+        this.timer = Objects.requireNonNull(timer, "timer");
+    }
+
+    /**
+     * Looks up one key as part of the next batch.
+     */
+    public Mono<ProviderResult<T>> lookup(K key) {
+        Objects.requireNonNull(key, "key");
+        return Mono.create(sink -> {
+            Pending<T> entry = new Pending<>(sink, Instant.now(), System.nanoTime(),
+                    Deadline.fromContext(sink.contextView()));
+            Map<K, List<Pending<T>>> full = null;
+            synchronized (lock) {
+                pending.computeIfAbsent(key, k -> new ArrayList<>()).add(entry);
+                if (pending.size() >= settings.maxBatchSize()) {
+                    full = drain();
+                } else if (flushTimer == null) {
+                    flushTimer = timer.schedule(this::flushDue, settings.maxWaitMs(), TimeUnit.MILLISECONDS);
+                }
+            }
+            sink.onCancel(() -> withdraw(key, entry));
+            if (full != null) {
+                dispatch(full);
+            }
+        });
+    }
+
+    /**
+     * Number of distinct keys waiting for the next batch.
+     */
+    public int pendingKeys() {
+        synchronized (lock) {
+            return pending.size();
+        }
+    }
+
+    private void flushDue() {
+        Map<K, List<Pending<T>>> due;
+        synchronized (lock) {
+            flushTimer = null;
+            due = drain();
+        }
+        dispatch(due);
+    }
+
+    /**
+     * Takes the pending batch; caller holds {@link #lock}.
+     */
+    private Map<K, List<Pending<T>>> drain() {
+        Map<K, List<Pending<T>>> drained = pending;
+        pending = new LinkedHashMap<>();
+        if (flushTimer != null) {
+            flushTimer.dispose();
+            flushTimer = null;
+        }
+        return drained;
+    }
+
+    private void withdraw(K key, Pending<T> entry) {
+        synchronized (lock) {
+            List<Pending<T>> waiting = pending.get(key);
+            if (waiting != null && waiting.remove(entry) && waiting.isEmpty()) {
+                pending.remove(key);
+            }
+        }
+    }
+
+    private void dispatch(Map<K, List<Pending<T>>> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<K> keys = List.copyOf(batch.keySet());
+        Context context = Context.empty();
+        for (List<Pending<T>> waiting : batch.values()) {
+            for (Pending<T> entry : waiting) {
+                if (entry.deadline() != null) {
+                    context = entry.deadline().putInto(context);
+                }
+            }
+        }
+        AtomicBoolean answered = new AtomicBoolean();
+        Mono.defer(() -> batchCall.apply(keys))
+                .contextWrite(context)
+                .subscribe(
+                        result -> {
+                            answered.set(true);
+                            batch.forEach((key, waiting) -> waiting.forEach(entry -> entry.sink().success(
+                                    perCaller(result, result.data() == null ? null : result.data().get(key), keys.size(), entry))));
+                        },
+                        error -> batch.values().forEach(waiting -> waiting.forEach(entry -> entry.sink().error(
+                                perCaller(error, keys.size(), entry)))),
+                        () -> {
+                            if (!answered.get()) {
+                                batch.forEach((key, waiting) -> waiting.forEach(entry -> entry.sink().error(
+                                        noResult(key))));
+                            }
+                        });
+    }
+
+    private static CreditSummaryDataCollectionException noResult(Object key) {
+        return new CreditSummaryDataCollectionException(
+                ErrorCode.LAYER_DATA_COLLECTION_FAILURE,
+                "Batch call completed with no result for key " + key);
+    }
+
+    private ProviderResult<T> perCaller(
+            ProviderResult<Map<K, T>> result,
+            T data,
+            int batchSize,
+            Pending<T> entry) {
+        return ProviderResult.success(
+                result.status(),
+                data,
+                callerContext(result.metadata(), batchSize, entry),
+                result.retry());
+    }
+
+    private Throwable perCaller(Throwable error, int batchSize, Pending<T> entry) {
+        if (!(error instanceof CreditSummaryDataCollectionException shared) || shared.getProviderContext() == null) {
+            return error;
+        }
+        CreditSummaryDataCollectionException copy = new CreditSummaryDataCollectionException(
+                shared.getCode(),
+                shared.getMessage(),
+                callerContext(shared.getProviderContext(), batchSize, entry),
+                shared.getUpstream(),
+                shared.getCause());
+        copy.attachRetryInfo(shared.getRetryInfo());
+        return copy;
+    }
+
+    private static DataProviderContext callerContext(
+            DataProviderContext batchContext,
+            int batchSize,
+            Pending<?> entry) {
+        if (batchContext == null) {
+            return null;
+        }
+        Map<String, String> attributes = new LinkedHashMap<>(batchContext.protocolAttributes());
+        attributes.put(BATCH_SIZE_ATTRIBUTE, Integer.toString(batchSize));
+        return new DataProviderContext(
+                batchContext.protocol(),
+                batchContext.serviceId(),
+                batchContext.endpoint(),
+                Map.copyOf(attributes),
+                Duration.ofNanos(System.nanoTime() - entry.startNanos()).toMillis(),
+                entry.collectedAt());
+    }
+
+    private record Pending<T>(
+            MonoSink<ProviderResult<T>> sink,
+            Instant collectedAt,
+            long startNanos,
+            Deadline deadline) {
+    }
+}
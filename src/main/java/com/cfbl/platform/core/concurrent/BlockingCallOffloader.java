@@ -0,0 +1,326 @@
+package com.cfbl.platform.core.concurrent;
+
+import com.cfbl.platform.core.config.PlatformProperties;
+import com.cfbl.platform.core.config.PlatformProperties.ServiceDefinition;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Moves blocking provider calls off the subscriber thread of reactive executors.
+ *
+ * <p>Lanes are named like retry policies ({@code soap:<serviceId>}) and configured from
+ * {@code ServiceDefinition.offload}; the first call for a name fixes its mode and size. In
+ * {@link OffloadMode#INLINE} mode (the default) the call runs on the subscriber thread as before.
+ * Otherwise it runs on the lane's bounded platform-thread pool or on a virtual thread, so a slow
+ * call never stalls a Netty event loop.
+ *
+ * <p>Because the call switches threads, the subscriber thread's {@link ThreadContextSnapshot}
+ * (security context, MDC, deadline) is captured at subscription and installed around the call.
+ * A saturated lane fails the call with {@link OffloadRejectedException}; cancelling the returned
+ * publisher interrupts the call.
+ *
+ * <p>Per lane the following meters are registered, tagged with {@code name}, {@code service} and
+ * {@code mode}: {@code provider.offload.queue.depth}, {@code provider.offload.active} (gauges) and
+ * {@code provider.offload.rejected} (counter).
+ */
+@Component
+public class BlockingCallOffloader {
+
+    private final PlatformProperties platformProperties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Lane> lanes = new ConcurrentHashMap<>();
+
+    /**
+     * Creates an offloader with no service configuration; every call runs inline.
+     */
+    public BlockingCallOffloader() {
+        this(new PlatformProperties(), Metrics.globalRegistry);
+    }
+
+    public BlockingCallOffloader(PlatformProperties platformProperties, MeterRegistry meterRegistry) {
+        this.platformProperties = Objects.requireNonNull(platformProperties, "platformProperties");
+        this.meterRegistry = Objects.requireNonNull(meterRegistry, "meterRegistry");
+    }
+
+    /**
+     * Uses the application's {@link MeterRegistry} when one is configured, else the global registry.
+     */
+    @Autowired
+    public BlockingCallOffloader(PlatformProperties platformProperties, ObjectProvider<MeterRegistry> meterRegistry) {
+        this(platformProperties, meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+    }
+
+    /**
+     * Runs one blocking call on the service's offload lane, or inline when offloading is off.
+     *
+     * @param laneName protocol-namespaced name, e.g. {@code soap:<serviceId>}
+     * @param serviceId service key used to resolve {@link OffloadSettings}
+     * @param call blocking call; a {@code null} result completes the publisher empty
+     * @param <T> payload type
+     * @return call publisher, or an error with {@link OffloadRejectedException} when the lane is saturated
+     */
+    public <T> Mono<T> call(String laneName, String serviceId, Supplier<T> call) {
+        Objects.requireNonNull(laneName, "laneName");
+        Objects.requireNonNull(call, "call");
+
+        OffloadSettings settings = settingsFor(serviceId);
+        if (!settings.offloaded()) {
+            return Mono.fromCallable(call::get);
+        }
+        return offload(laneName, serviceId, settings, call);
+    }
+
+    /**
+     * Like {@link #call(String, String, Supplier)}, but never runs on the subscriber thread: a
+     * service left in {@link OffloadMode#INLINE} mode gets a {@link OffloadMode#BOUNDED_ELASTIC}
+     * lane with its configured sizes. For calls that always block, such as JDBC.
+     */
+    public <T> Mono<T> callOffThread(String laneName, String serviceId, Supplier<T> call) {
+        Objects.requireNonNull(laneName, "laneName");
+        Objects.requireNonNull(call, "call");
+
+        OffloadSettings settings = settingsFor(serviceId);
+        if (!settings.offloaded()) {
+            settings = new OffloadSettings(OffloadMode.BOUNDED_ELASTIC, settings.maxThreads(), settings.maxQueuedTasks());
+        }
+        return offload(laneName, serviceId, settings, call);
+    }
+
+    private <T> Mono<T> offload(String laneName, String serviceId, OffloadSettings settings, Supplier<T> call) {
+        return Mono.defer(() -> {
+            ThreadContextSnapshot snapshot = ThreadContextSnapshot.capture();
+            Lane lane = lane(laneName, serviceId, settings);
+            return Mono.<T>create(sink -> {
+                Future<?> task;
+                try {
+                    task = lane.submit(() -> {
+                        try {
+                            sink.success(snapshot.call(call));
+                        } catch (Throwable ex) {
+                            sink.error(ex);
+                        }
+                    });
+                } catch (OffloadRejectedException ex) {
+                    sink.error(ex);
+                    return;
+                }
+                sink.onCancel(() -> task.cancel(true));
+            });
+        });
+    }
+
+    /**
+     * Number of calls waiting for a free thread, or {@code 0} when the lane was never used.
+     */
+    public int queueDepth(String laneName) {
+        Lane lane = lanes.get(laneName);
+        return lane == null ? 0 : lane.queueDepth();
+    }
+
+    /**
+     * Number of calls currently running, or {@code 0} when the lane was never used.
+     */
+    public int activeCount(String laneName) {
+        Lane lane = lanes.get(laneName);
+        return lane == null ? 0 : lane.active();
+    }
+
+    /**
+     * Total number of rejected calls, or {@code 0} when the lane was never used.
+     */
+    public long rejectedCount(String laneName) {
+        Lane lane = lanes.get(laneName);
+        return lane == null ? 0L : (long) lane.rejections.count();
+    }
+
+    private Lane lane(String laneName, String serviceId, OffloadSettings settings) {
+        return lanes.computeIfAbsent(laneName, name -> {
+            Lane lane = settings.mode() == OffloadMode.VIRTUAL
+                    ? new VirtualLane(name, settings)
+                    : new BoundedElasticLane(name, settings);
+            lane.registerMeters(serviceId, settings.mode(), meterRegistry);
+            return lane;
+        });
+    }
+
+    private OffloadSettings settingsFor(String serviceId) {
+        ServiceDefinition service = serviceId == null ? null : platformProperties.getServices().get(serviceId);
+        return service != null && service.getOffload() != null
+                ? service.getOffload()
+                : OffloadSettings.defaults();
+    }
+
+    private abstract static class Lane {
+
+        private final String name;
+        private final OffloadSettings settings;
+        private Counter rejections;
+
+        private Lane(String name, OffloadSettings settings) {
+            this.name = name;
+            this.settings = settings;
+        }
+
+        abstract Future<?> submit(Runnable task);
+
+        abstract int queueDepth();
+
+        abstract int active();
+
+        final OffloadRejectedException rejected() {
+            rejections.increment();
+            return new OffloadRejectedException(name, settings.maxThreads(), settings.maxQueuedTasks());
+        }
+
+        final String threadNamePrefix() {
+            return "offload-" + name + "-";
+        }
+
+        private void registerMeters(String serviceId, OffloadMode mode, MeterRegistry meterRegistry) {
+            String service = serviceId == null ? "unknown" : serviceId;
+            String modeTag = mode.name().toLowerCase(Locale.ROOT).replace('_', '-');
+            Gauge.builder("provider.offload.queue.depth", this, Lane::queueDepth)
+                    .description("Blocking provider calls waiting for an offload thread")
+                    .tag("name", name)
+                    .tag("service", service)
+                    .tag("mode", modeTag)
+                    .register(meterRegistry);
+            Gauge.builder("provider.offload.active", this, Lane::active)
+                    .description("Blocking provider calls currently running on an offload thread")
+                    .tag("name", name)
+                    .tag("service", service)
+                    .tag("mode", modeTag)
+                    .register(meterRegistry);
+            this.rejections = Counter.builder("provider.offload.rejected")
+                    .description("Blocking provider calls rejected because the offload lane was saturated")
+                    .tag("name", name)
+                    .tag("service", service)
+                    .tag("mode", modeTag)
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * Platform threads grown on demand up to {@code maxThreads}, idle ones retired after a minute,
+     * with a bounded FIFO queue in front.
+     */
+    private static final class BoundedElasticLane extends Lane {
+
+        private static final long KEEP_ALIVE_SECONDS = 60L;
+
+        private final ThreadPoolExecutor pool;
+
+        private BoundedElasticLane(String name, OffloadSettings settings) {
+            super(name, settings);
+            BlockingQueue<Runnable> queue = settings.maxQueuedTasks() > 0
+                    ? new LinkedBlockingQueue<>(settings.maxQueuedTasks())
+                    : new SynchronousQueue<>();
+            this.pool = new ThreadPoolExecutor(
+                    settings.maxThreads(),
+                    settings.maxThreads(),
+                    KEEP_ALIVE_SECONDS,
+                    TimeUnit.SECONDS,
+                    queue,
+                    Thread.ofPlatform().daemon(true).name(threadNamePrefix(), 0).factory(),
+                    (task, executor) -> {
+                        throw rejected();
+                    });
+            this.pool.allowCoreThreadTimeOut(true);
+        }
+
+        @Override
+        Future<?> submit(Runnable task) {
+            return pool.submit(task);
+        }
+
+        @Override
+        int queueDepth() {
+            return pool.getQueue().size();
+        }
+
+        @Override
+        int active() {
+            return pool.getActiveCount();
+        }
+    }
+
+    /**
+     * One virtual thread per call; at most {@code maxThreads} run the call at once and up to
+     * {@code maxQueuedTasks} more park waiting for a slot.
+     */
+    private static final class VirtualLane extends Lane {
+
+        private final ExecutorService threads;
+        private final Semaphore running;
+        private final AtomicInteger admitted = new AtomicInteger();
+        private final int maxThreads;
+        private final int maxAdmitted;
+
+        private VirtualLane(String name, OffloadSettings settings) {
+            super(name, settings);
+            this.threads = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(threadNamePrefix(), 0).factory());
+            this.running = new Semaphore(settings.maxThreads());
+            this.maxThreads = settings.maxThreads();
+            this.maxAdmitted = settings.maxThreads() + settings.maxQueuedTasks();
+        }
+
+        @Override
+        Future<?> submit(Runnable task) {
+            if (admitted.incrementAndGet() > maxAdmitted) {
+                admitted.decrementAndGet();
+                throw rejected();
+            }
+            try {
+                return threads.submit(() -> {
+                    try {
+                        running.acquire();
+                        try {
+                            task.run();
+                        } finally {
+                            running.release();
+                        }
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        admitted.decrementAndGet();
+                    }
+                });
+            } catch (RejectedExecutionException ex) {
+                admitted.decrementAndGet();
+                throw ex;
+            }
+        }
+
+        @Override
+        int queueDepth() {
+            return running.getQueueLength();
+        }
+
+        @Override
+        int active() {
+            return maxThreads - running.availablePermits();
+        }
+    }
+}
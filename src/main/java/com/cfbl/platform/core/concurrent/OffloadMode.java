@@ -0,0 +1,19 @@
+package com.cfbl.platform.core.concurrent;
+
+/**
+ * Where a blocking provider call runs when invoked from a reactive executor.
+ */
+public enum OffloadMode {
+    /**
+     * Run on the subscriber thread (no thread switch).
+     */
+    INLINE,
+    /**
+     * Run on a per-service pool of platform threads that grows up to a cap and queues beyond it.
+     */
+    BOUNDED_ELASTIC,
+    /**
+     * Run each call on its own virtual thread, with a per-service cap on concurrently running calls.
+     */
+    VIRTUAL
+}
@@ -0,0 +1,41 @@
+package com.cfbl.platform.core.concurrent;
+
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Thrown when a blocking provider call is rejected because its offload lane has no free thread and
+ * its queue is full.
+ *
+ * <p>Stackless because rejection is a load-shedding signal on a hot path, not a diagnostic.
+ */
+public class OffloadRejectedException extends RejectedExecutionException {
+
+    private final String laneName;
+    private final int maxThreads;
+    private final int maxQueuedTasks;
+
+    public OffloadRejectedException(String laneName, int maxThreads, int maxQueuedTasks) {
+        super("Offload lane '" + laneName + "' is saturated (maxThreads=" + maxThreads
+                + ", maxQueuedTasks=" + maxQueuedTasks + ")");
+        this.laneName = laneName;
+        this.maxThreads = maxThreads;
+        this.maxQueuedTasks = maxQueuedTasks;
+    }
+
+    public String getLaneName() {
+        return laneName;
+    }
+
+    public int getMaxThreads() {
+        return maxThreads;
+    }
+
+    public int getMaxQueuedTasks() {
+        return maxQueuedTasks;
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
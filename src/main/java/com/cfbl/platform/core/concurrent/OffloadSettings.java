@@ -0,0 +1,39 @@
+package com.cfbl.platform.core.concurrent;
+
+/**
+ * Per-service settings for offloading blocking provider calls used by {@link BlockingCallOffloader}.
+ *
+ * <p>In {@link OffloadMode#BOUNDED_ELASTIC} and {@link OffloadMode#VIRTUAL} mode at most
+ * {@code maxThreads} calls of a service run at once and up to {@code maxQueuedTasks} more wait for
+ * a free slot; further calls are rejected. {@link OffloadMode#INLINE} keeps the call on the
+ * subscriber thread.
+ */
+public record OffloadSettings(
+    OffloadMode mode,
+    int maxThreads,
+    int maxQueuedTasks
+) {
+
+    private static final int DEFAULT_MAX_THREADS = 10;
+    private static final int DEFAULT_MAX_QUEUED_TASKS = 100;
+
+    public OffloadSettings {
+        mode = mode != null ? mode : OffloadMode.INLINE;
+        maxThreads = maxThreads > 0 ? maxThreads : DEFAULT_MAX_THREADS;
+        maxQueuedTasks = Math.max(0, maxQueuedTasks);
+    }
+
+    /**
+     * Default offload settings: inline, i.e. no thread switch.
+     */
+    public static OffloadSettings defaults() {
+        return new OffloadSettings(OffloadMode.INLINE, DEFAULT_MAX_THREADS, DEFAULT_MAX_QUEUED_TASKS);
+    }
+
+    /**
+     * Whether calls leave the subscriber thread.
+     */
+    public boolean offloaded() {
+        return mode != OffloadMode.INLINE;
+    }
+}
@@ -0,0 +1,70 @@
+package com.cfbl.platform.core.concurrent;
+
+import com.cfbl.platform.core.timeout.Deadline;
+import java.util.Map;
+import java.util.function.Supplier;
+import org.slf4j.MDC;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * Thread-bound request state captured on one thread and re-established on another.
+ *
+ * <p>Blocking executors rely on thread locals: the {@link SecurityContext}, the logging
+ * {@link MDC} and the {@link Deadline}. Whenever work is handed to another thread these must be
+ * carried over explicitly; {@link #call(Supplier)} installs them for the duration of the call and
+ * restores whatever the executing thread had before.
+ */
+public final class ThreadContextSnapshot {
+
+    private final SecurityContext securityContext;
+    private final Map<String, String> mdc;
+    private final Deadline deadline;
+
+    private ThreadContextSnapshot(SecurityContext securityContext, Map<String, String> mdc, Deadline deadline) {
+        this.securityContext = securityContext;
+        this.mdc = mdc;
+        this.deadline = deadline;
+    }
+
+    /**
+     * Captures the security context, MDC and deadline of the current thread.
+     */
+    public static ThreadContextSnapshot capture() {
+        return new ThreadContextSnapshot(
+                SecurityContextHolder.getContext(),
+                MDC.getCopyOfContextMap(),
+                Deadline.current());
+    }
+
+    /**
+     * Runs {@code call} on the current thread with the captured state installed.
+     */
+    public <T> T call(Supplier<T> call) {
+        SecurityContext previousSecurityContext = SecurityContextHolder.getContext();
+        Map<String, String> previousMdc = MDC.getCopyOfContextMap();
+        SecurityContextHolder.setContext(securityContext);
+        setMdc(mdc);
+        try {
+            return deadline == null ? call.get() : Deadline.callWithin(deadline, call);
+        } finally {
+            SecurityContextHolder.setContext(previousSecurityContext);
+            setMdc(previousMdc);
+        }
+    }
+
+    /**
+     * Wraps {@code call} so that it runs with the captured state on whichever thread invokes it.
+     */
+    public <T> Supplier<T> wrap(Supplier<T> call) {
+        return () -> call(call);
+    }
+
+    private static void setMdc(Map<String, String> contextMap) {
+        if (contextMap == null) {
+            MDC.clear();
+        } else {
+            MDC.setContextMap(contextMap);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.cfbl.platform.core.concurrent;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs blocking provider calls on virtual threads when the application runs in virtual-thread
+ * mode ({@code spring.threads.virtual.enabled=true}, which also switches Tomcat to a
+ * virtual-thread executor).
+ *
+ * <p>Each call gets its own virtual thread, so the attempt timeout applies even to calls that take
+ * no timeout of their own (e.g. a JAX-WS port call): on timeout the virtual thread is interrupted,
+ * which aborts blocking socket I/O on virtual threads. The caller's
+ * {@link ThreadContextSnapshot} (security context, MDC, deadline) is installed on the virtual
+ * thread. When the mode is off, calls run inline on the caller thread as before.
+ *
+ * <p>The executor is closed with the application context, after in-flight calls finish.
+ */
+@Component
+public class VirtualThreadCallRunner implements DisposableBean {
+
+    private final boolean enabled;
+    private final ExecutorService executor;
+
+    public VirtualThreadCallRunner() {
+        this(false);
+    }
+
+    public VirtualThreadCallRunner(boolean enabled) {
+        this.enabled = enabled;
+        this.executor = enabled
+                ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("provider-call-", 0).factory())
+                : null;
+    }
+
+    @Autowired
+    public VirtualThreadCallRunner(Environment environment) {
+        this(Threading.VIRTUAL.isActive(Objects.requireNonNull(environment, "environment")));
+    }
+
+    /**
+     * Whether calls are offloaded to virtual threads.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Runs {@code call} and waits at most {@code timeout} for its result.
+     *
+     * <p>On timeout the virtual thread is interrupted and this method returns only once it has
+     * ended, so the bulkhead and concurrency-limit permits the caller holds around this method
+     * cover the call for as long as it actually runs. Its result is discarded. Failures of the call
+     * are rethrown unchanged.
+     *
+     * @throws TimeoutException if the call did not complete within {@code timeout}
+     */
+    public <T> T call(Supplier<T> call, Duration timeout) throws TimeoutException {
+        Objects.requireNonNull(call, "call");
+        Objects.requireNonNull(timeout, "timeout");
+        if (!enabled) {
+            return call.get();
+        }
+
+        Supplier<T> task = ThreadContextSnapshot.capture().wrap(call);
+        AtomicBoolean claimed = new AtomicBoolean();
+        CountDownLatch ended = new CountDownLatch(1);
+        Future<T> future = executor.submit(() -> {
+            if (!claimed.compareAndSet(false, true)) {
+                return null;
+            }
+            try {
+                return task.get();
+            } finally {
+                ended.countDown();
+            }
+        });
+        try {
+            return future.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException ex) {
+            cancelAndAwait(future, claimed, ended);
+            throw new TimeoutException("Provider call did not complete within " + timeout.toMillis() + "ms");
+        } catch (InterruptedException ex) {
+            cancelAndAwait(future, claimed, ended);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for provider call", ex);
+        } catch (ExecutionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (executor != null) {
+            executor.close();
+        }
+    }
+
+    /**
+     * Interrupts the call and waits until it has ended; a call that has not started yet is
+     * prevented from starting. An interrupt of the waiting thread is kept for the caller but does
+     * not cut the wait short.
+     */
+    private static void cancelAndAwait(Future<?> future, AtomicBoolean claimed, CountDownLatch ended) {
+        boolean started = !claimed.compareAndSet(false, true);
+        future.cancel(true);
+        if (!started) {
+            return;
+        }
+        boolean interrupted = false;
+        while (true) {
+            try {
+                ended.await();
+                break;
+            } catch (InterruptedException ex) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
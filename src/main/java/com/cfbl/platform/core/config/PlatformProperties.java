@@ -1,6 +1,16 @@
 package com.cfbl.platform.core.config;
 
+import com.cfbl.platform.core.cache.CacheSettings;
+import com.cfbl.platform.core.coalescing.BatchSettings;
+import com.cfbl.platform.core.concurrent.OffloadSettings;
+import com.cfbl.platform.core.exception.core.StackTraceMode;
+import com.cfbl.platform.core.executor.JdbcSettings;
+import com.cfbl.platform.core.hedge.HedgeSettings;
+import com.cfbl.platform.core.resilience.BulkheadSettings;
+import com.cfbl.platform.core.resilience.CircuitBreakerSettings;
+import com.cfbl.platform.core.resilience.ConcurrencyLimitSettings;
 import com.cfbl.platform.core.retry.RetrySettings;
+import com.cfbl.platform.core.timeout.TimeoutSettings;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -12,6 +22,7 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 public class PlatformProperties {
 
     private boolean exposeEndpointInErrors = true;
+    private StackTraceMode stackTraceMode = StackTraceMode.FULL;
     private Map<String, ServiceDefinition> services = new LinkedHashMap<>();
 
     public boolean isExposeEndpointInErrors() {
@@ -22,6 +33,18 @@ public class PlatformProperties {
         this.exposeEndpointInErrors = exposeEndpointInErrors;
     }
 
+    /**
+     * Whether data-collection failures caused by transient upstream failures capture a stack
+     * trace; applied once at startup.
+     */
+    public StackTraceMode getStackTraceMode() {
+        return stackTraceMode;
+    }
+
+    public void setStackTraceMode(StackTraceMode stackTraceMode) {
+        this.stackTraceMode = stackTraceMode;
+    }
+
     public Map<String, ServiceDefinition> getServices() {
         return services;
     }
@@ -44,7 +67,19 @@ public class PlatformProperties {
         private String portName;
         private String schema;
         private String catalog;
+        private String username;
+        private String password;
+        private int errorBodyMaxBytes = 1000;
         private RetrySettings retrySettings = RetrySettings.defaults();
+        private TimeoutSettings timeouts = TimeoutSettings.defaults();
+        private HedgeSettings hedge = HedgeSettings.defaults();
+        private CacheSettings cache = CacheSettings.defaults();
+        private CircuitBreakerSettings circuitBreaker = CircuitBreakerSettings.defaults();
+        private BulkheadSettings bulkhead = BulkheadSettings.defaults();
+        private ConcurrencyLimitSettings concurrencyLimit = ConcurrencyLimitSettings.defaults();
+        private OffloadSettings offload = OffloadSettings.defaults();
+        private JdbcSettings jdbc = JdbcSettings.defaults();
+        private BatchSettings batching = BatchSettings.defaults();
 
         public String getEndpointUrl() {
             return endpointUrl;
@@ -118,6 +153,34 @@ public class PlatformProperties {
             this.catalog = catalog;
         }
 
+        public String getUsername() {
+            return username;
+        }
+
+        public void setUsername(String username) {
+            this.username = username;
+        }
+
+        public String getPassword() {
+            return password;
+        }
+
+        public void setPassword(String password) {
+            this.password = password;
+        }
+
+        /**
+         * Maximum number of upstream error-body bytes captured into failure messages;
+         * {@code 0} disables capture.
+         */
+        public int getErrorBodyMaxBytes() {
+            return errorBodyMaxBytes;
+        }
+
+        public void setErrorBodyMaxBytes(int errorBodyMaxBytes) {
+            this.errorBodyMaxBytes = errorBodyMaxBytes;
+        }
+
         public RetrySettings getRetrySettings() {
             return retrySettings;
         }
@@ -125,5 +188,86 @@ public class PlatformProperties {
         public void setRetrySettings(RetrySettings retrySettings) {
             this.retrySettings = retrySettings;
         }
+
+        public TimeoutSettings getTimeouts() {
+            return timeouts;
+        }
+
+        public void setTimeouts(TimeoutSettings timeouts) {
+            this.timeouts = timeouts;
+        }
+
+        public HedgeSettings getHedge() {
+            return hedge;
+        }
+
+        public void setHedge(HedgeSettings hedge) {
+            this.hedge = hedge;
+        }
+
+        public CacheSettings getCache() {
+            return cache;
+        }
+
+        public void setCache(CacheSettings cache) {
+            this.cache = cache;
+        }
+
+        public CircuitBreakerSettings getCircuitBreaker() {
+            return circuitBreaker;
+        }
+
+        public void setCircuitBreaker(CircuitBreakerSettings circuitBreaker) {
+            this.circuitBreaker = circuitBreaker;
+        }
+
+        public BulkheadSettings getBulkhead() {
+            return bulkhead;
+        }
+
+        public void setBulkhead(BulkheadSettings bulkhead) {
+            this.bulkhead = bulkhead;
+        }
+
+        public ConcurrencyLimitSettings getConcurrencyLimit() {
+            return concurrencyLimit;
+        }
+
+        public void setConcurrencyLimit(ConcurrencyLimitSettings concurrencyLimit) {
+            this.concurrencyLimit = concurrencyLimit;
+        }
+
+        /**
+         * Where blocking calls of this service run when invoked from a reactive executor.
+         */
+        public OffloadSettings getOffload() {
+            return offload;
+        }
+
+        public void setOffload(OffloadSettings offload) {
+            this.offload = offload;
+        }
+
+        /**
+         * Connection-pool settings for JDBC services.
+         */
+        public JdbcSettings getJdbc() {
+            return jdbc;
+        }
+
+        public void setJdbc(JdbcSettings jdbc) {
+            this.jdbc = jdbc;
+        }
+
+        /**
+         * Micro-batching window for batched lookups against this service.
+         */
+        public BatchSettings getBatching() {
+            return batching;
+        }
+
+        public void setBatching(BatchSettings batching) {
+            this.batching = batching;
+        }
     }
 }
@@ -0,0 +1,36 @@
+package com.cfbl.platform.core.config;
+
+import com.cfbl.platform.core.exception.core.StackTraceMode;
+import com.cfbl.platform.core.exception.core.StackTracePolicy;
+import com.cfbl.platform.core.resilience.BulkheadFullException;
+import com.cfbl.platform.core.resilience.ConcurrencyLimitExceededException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import java.util.List;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.stereotype.Component;
+
+/**
+ * Installs the process-wide {@link StackTracePolicy} at startup from
+ * {@link PlatformProperties#getStackTraceMode()}, treating the platform's own load-shedding
+ * rejections (circuit breaker, bulkhead and concurrency limit) as transient failures too.
+ */
+@Component
+public class StackTracePolicyConfigurer implements InitializingBean {
+
+    private final PlatformProperties platformProperties;
+
+    public StackTracePolicyConfigurer(PlatformProperties platformProperties) {
+        this.platformProperties = platformProperties;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        StackTraceMode mode = platformProperties.getStackTraceMode();
+        StackTracePolicy.install(new StackTracePolicy(
+                mode == null ? StackTraceMode.FULL : mode,
+                List.of(
+                        CallNotPermittedException.class,
+                        BulkheadFullException.class,
+                        ConcurrencyLimitExceededException.class)));
+    }
+}
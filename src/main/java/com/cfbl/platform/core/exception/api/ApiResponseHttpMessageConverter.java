@@ -0,0 +1,69 @@
+package com.cfbl.platform.core.exception.api;
+
+import com.cfbl.platform.core.integration.model.RawJson;
+import java.io.IOException;
+import java.io.OutputStream;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Writes {@link ApiResponse} envelopes as JSON, error and success alike, without reflective
+ * serialization where the envelope shape is known.
+ *
+ * <ul>
+ *   <li>Envelopes without a payload (every error response from {@link ApiGlobalExceptionHandler})
+ *       are written by {@link ApiResponseMapper#writeJson(ApiResponse, java.io.OutputStream)} from
+ *       its pre-serialized templates.</li>
+ *   <li>Success envelopes carrying {@link RawJson} are written by
+ *       {@link ApiResponseMapper#writeRawJson(ApiResponse, java.io.OutputStream)}, which copies the
+ *       upstream bytes to the response verbatim.</li>
+ *   <li>Any other payload is handed to Jackson.</li>
+ * </ul>
+ * Registered as a bean so it is consulted before the default Jackson converter; it never reads
+ * request bodies.
+ */
+@Component
+public class ApiResponseHttpMessageConverter extends AbstractHttpMessageConverter<ApiResponse<?>> {
+
+    private final ApiResponseMapper apiResponseMapper;
+    private final JsonMapper jsonMapper;
+
+    public ApiResponseHttpMessageConverter(ApiResponseMapper apiResponseMapper, JsonMapper jsonMapper) {
+        super(MediaType.APPLICATION_JSON, new MediaType("application", "*+json"));
+        this.apiResponseMapper = apiResponseMapper;
+        this.jsonMapper = jsonMapper;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return ApiResponse.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected ApiResponse<?> readInternal(Class<? extends ApiResponse<?>> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("ApiResponse is a response-only type", inputMessage);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void writeInternal(ApiResponse<?> body, HttpOutputMessage outputMessage) throws IOException {
+        OutputStream out = outputMessage.getBody();
+        if (body.data() == null) {
+            apiResponseMapper.writeJson((ApiResponse<Void>) body, out);
+        } else if (body.data() instanceof RawJson) {
+            apiResponseMapper.writeRawJson((ApiResponse<RawJson>) body, out);
+        } else {
+            jsonMapper.writeValue(out, body);
+        }
+    }
+}
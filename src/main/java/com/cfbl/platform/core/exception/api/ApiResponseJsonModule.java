@@ -0,0 +1,198 @@
+package com.cfbl.platform.core.exception.api;
+
+import com.cfbl.platform.core.exception.core.DataProviderContext;
+import com.cfbl.platform.core.exception.core.UpstreamInfo;
+import com.cfbl.platform.core.integration.model.ProviderResult;
+import com.cfbl.platform.core.integration.model.RawJson;
+import com.cfbl.platform.core.retry.RetryInfo;
+import org.springframework.stereotype.Component;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.SerializableString;
+import tools.jackson.core.io.SerializedString;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ValueSerializer;
+import tools.jackson.databind.module.SimpleModule;
+
+/**
+ * Jackson module with hand-written streaming serializers for the response envelope types.
+ *
+ * <p>{@link ApiResponse}, {@link ProviderResult} and {@link UpstreamInfo} are written field by field
+ * straight to the generator, with property names pre-encoded once, instead of going through
+ * reflective bean introspection and per-property inclusion checks. {@link ApiResponse.Error},
+ * {@link DataProviderContext} and {@link RetryInfo} are written by {@link ApiResponseMapper}'s byte
+ * writers and added as raw values, so the servlet and Jackson paths share one writer for them. Only
+ * the {@code data} payload is still serialized by Jackson; a {@link RawJson} payload is written as
+ * a raw value, without escaping.
+ *
+ * <p>The output is identical to the annotation-driven serialization of these records: same property
+ * names, same {@code NON_NULL} rules, {@link java.time.Instant} as an ISO-8601 string. Registered as a
+ * bean so Boot adds it to the auto-configured {@code JsonMapper}; global inclusion or date settings in
+ * {@code spring.jackson.*} do not apply to these types.
+ */
+@Component
+public class ApiResponseJsonModule extends SimpleModule {
+
+    private static final SerializableString TIMESTAMP = new SerializedString("timestamp");
+    private static final SerializableString TRACE_ID = new SerializedString("traceId");
+    private static final SerializableString STATUS = new SerializedString("status");
+    private static final SerializableString DATA = new SerializedString("data");
+    private static final SerializableString METADATA = new SerializedString("metadata");
+    private static final SerializableString RETRY = new SerializedString("retry");
+    private static final SerializableString ERROR = new SerializedString("error");
+    private static final SerializableString RESPONSE_TIME_MS = new SerializedString("responseTimeMs");
+    private static final SerializableString HTTP_STATUS = new SerializedString("httpStatus");
+    private static final SerializableString RAW_MESSAGE = new SerializedString("rawMessage");
+    private static final SerializableString CIRCUIT_BREAKER_STATE = new SerializedString("circuitBreakerState");
+    private static final SerializableString RETRY_AFTER_MS = new SerializedString("retryAfterMs");
+
+    @SuppressWarnings("unchecked")
+    public ApiResponseJsonModule() {
+        super("credit-summary-api-response");
+        addSerializer((Class<ApiResponse<?>>) (Class<?>) ApiResponse.class, new ApiResponseSerializer());
+        addSerializer((Class<ProviderResult<?>>) (Class<?>) ProviderResult.class, new ProviderResultSerializer());
+        addSerializer(ApiResponse.Error.class, new ErrorSerializer());
+        addSerializer(DataProviderContext.class, new DataProviderContextSerializer());
+        addSerializer(RetryInfo.class, new RetryInfoSerializer());
+        addSerializer(UpstreamInfo.class, new UpstreamInfoSerializer());
+        addSerializer(RawJson.class, new RawJsonSerializer());
+    }
+
+    static final class ApiResponseSerializer extends ValueSerializer<ApiResponse<?>> {
+
+        @Override
+        public void serialize(ApiResponse<?> value, JsonGenerator gen, SerializationContext ctxt) {
+            gen.writeStartObject(value);
+            if (value.timestamp() != null) {
+                gen.writeName(TIMESTAMP);
+                gen.writeString(value.timestamp().toString());
+            }
+            if (value.traceId() != null) {
+                gen.writeName(TRACE_ID);
+                gen.writeString(value.traceId());
+            }
+            gen.writeName(STATUS);
+            gen.writeNumber(value.status());
+            if (value.data() != null) {
+                gen.writeName(DATA);
+                gen.writePOJO(value.data());
+            }
+            if (value.metadata() != null) {
+                gen.writeName(METADATA);
+                writeMetadata(value.metadata(), gen);
+            }
+            if (value.retry() != null) {
+                gen.writeName(RETRY);
+                writeRetry(value.retry(), gen);
+            }
+            if (value.error() != null) {
+                gen.writeName(ERROR);
+                writeError(value.error(), gen);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    static final class ProviderResultSerializer extends ValueSerializer<ProviderResult<?>> {
+
+        @Override
+        public void serialize(ProviderResult<?> value, JsonGenerator gen, SerializationContext ctxt) {
+            gen.writeStartObject(value);
+            gen.writeName(STATUS);
+            gen.writeNumber(value.status());
+            gen.writeName(DATA);
+            gen.writePOJO(value.data());
+            gen.writeName(METADATA);
+            writeMetadata(value.metadata(), gen);
+            gen.writeName(RETRY);
+            writeRetry(value.retry(), gen);
+            gen.writeEndObject();
+        }
+    }
+
+    static final class ErrorSerializer extends ValueSerializer<ApiResponse.Error> {
+
+        @Override
+        public void serialize(ApiResponse.Error value, JsonGenerator gen, SerializationContext ctxt) {
+            writeError(value, gen);
+        }
+    }
+
+    static final class DataProviderContextSerializer extends ValueSerializer<DataProviderContext> {
+
+        @Override
+        public void serialize(DataProviderContext value, JsonGenerator gen, SerializationContext ctxt) {
+            writeMetadata(value, gen);
+        }
+    }
+
+    static final class RetryInfoSerializer extends ValueSerializer<RetryInfo> {
+
+        @Override
+        public void serialize(RetryInfo value, JsonGenerator gen, SerializationContext ctxt) {
+            writeRetry(value, gen);
+        }
+    }
+
+    static final class UpstreamInfoSerializer extends ValueSerializer<UpstreamInfo> {
+
+        @Override
+        public void serialize(UpstreamInfo value, JsonGenerator gen, SerializationContext ctxt) {
+            gen.writeStartObject(value);
+            gen.writeName(HTTP_STATUS);
+            writeNullableNumber(value.httpStatus(), gen);
+            gen.writeName(RAW_MESSAGE);
+            gen.writeString(value.rawMessage());
+            gen.writeName(RESPONSE_TIME_MS);
+            writeNullableNumber(value.responseTimeMs(), gen);
+            if (value.circuitBreakerState() != null) {
+                gen.writeName(CIRCUIT_BREAKER_STATE);
+                gen.writeString(value.circuitBreakerState());
+            }
+            if (value.retryAfterMs() != null) {
+                gen.writeName(RETRY_AFTER_MS);
+                gen.writeNumber(value.retryAfterMs());
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    /**
+     * Jackson has no raw-bytes write, so this path decodes the text once; servlet responses go
+     * through {@link ApiResponseMapper#writeRawJson} and skip that.
+     */
+    static final class RawJsonSerializer extends ValueSerializer<RawJson> {
+
+        @Override
+        public void serialize(RawJson value, JsonGenerator gen, SerializationContext ctxt) {
+            gen.writeRawValue(value.toString());
+        }
+    }
+
+    private static void writeError(ApiResponse.Error error, JsonGenerator gen) {
+        gen.writeRawValue(ApiResponseMapper.errorJson(error));
+    }
+
+    private static void writeMetadata(DataProviderContext metadata, JsonGenerator gen) {
+        if (metadata == null) {
+            gen.writeNull();
+        } else {
+            gen.writeRawValue(ApiResponseMapper.metadataJson(metadata));
+        }
+    }
+
+    private static void writeRetry(RetryInfo retry, JsonGenerator gen) {
+        if (retry == null) {
+            gen.writeNull();
+        } else {
+            gen.writeRawValue(ApiResponseMapper.retryJson(retry));
+        }
+    }
+
+    private static void writeNullableNumber(Number value, JsonGenerator gen) {
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(value.longValue());
+        }
+    }
+}
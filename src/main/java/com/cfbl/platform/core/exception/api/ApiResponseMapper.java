@@ -1,19 +1,80 @@
 package com.cfbl.platform.core.exception.api;
 
 import com.cfbl.platform.core.exception.core.CreditSummaryPlatformException;
+import com.cfbl.platform.core.exception.core.DataProviderContext;
 import com.cfbl.platform.core.exception.core.ErrorCode;
 import com.cfbl.platform.core.exception.core.LayerType;
 import com.cfbl.platform.core.exception.core.UpstreamInfo;
+import com.cfbl.platform.core.integration.model.RawJson;
+import com.cfbl.platform.core.retry.RetryInfo;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.function.BiConsumer;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 
 /**
  * Maps platform exceptions into {@link ApiResponse} error envelopes.
+ *
+ * <p>Error envelopes can also be written straight to JSON bytes with
+ * {@link #writeJson(ApiResponse, OutputStream)}, which
+ * {@link ApiResponseHttpMessageConverter} uses instead of reflective serialization. The
+ * constant part of the {@code error} object ({@code code}, {@code layer} and {@code reason}) is
+ * pre-serialized once per ({@link ErrorCode}, {@link LayerType}); only timestamp, trace id,
+ * message, metadata, retry and upstream details are written per response, into a pooled buffer.
+ * The output has the same shape as Jackson's serialization of {@link ApiResponse}.
+ *
+ * <p>{@link #writeRawJson(ApiResponse, OutputStream)} does the same for envelopes whose payload is
+ * upstream {@link RawJson}: the upstream bytes go to the output stream as they are, between the
+ * buffered envelope head and tail.
+ *
+ * <p>These byte writers are the only hand-written JSON for the error, metadata and retry objects:
+ * {@link ApiResponseJsonModule} writes them through {@link #errorJson}, {@link #metadataJson} and
+ * {@link #retryJson}.
  */
 @Component
 public class ApiResponseMapper {
 
+    private static final int BUFFER_INITIAL_CAPACITY = 1024;
+    private static final int BUFFER_MAX_POOLED_CAPACITY = 64 * 1024;
+    private static final int BUFFER_POOL_SIZE = Math.max(4, Runtime.getRuntime().availableProcessors() * 2);
+
+    private static final Map<String, ErrorCode> CODES_BY_NAME = new HashMap<>();
+    private static final Map<String, LayerType> LAYERS_BY_NAME = new HashMap<>();
+
+    static {
+        for (ErrorCode code : ErrorCode.values()) {
+            CODES_BY_NAME.put(code.name(), code);
+        }
+        for (LayerType layer : LayerType.values()) {
+            LAYERS_BY_NAME.put(layer.name(), layer);
+        }
+    }
+
+    private static final Map<ErrorCode, Map<LayerType, byte[]>> ERROR_TEMPLATES = new EnumMap<>(ErrorCode.class);
+    private static final BlockingQueue<JsonByteBuffer> BUFFERS = new ArrayBlockingQueue<>(BUFFER_POOL_SIZE);
+
+    static {
+        for (ErrorCode code : ErrorCode.values()) {
+            Map<LayerType, byte[]> byLayer = new EnumMap<>(LayerType.class);
+            for (LayerType layer : LayerType.values()) {
+                byLayer.put(layer, new JsonByteBuffer(128)
+                        .raw('{')
+                        .name("code").string(code.name()).raw(',')
+                        .name("layer").string(layer.name()).raw(',')
+                        .name("reason").string(code.httpStatus().getReasonPhrase())
+                        .toByteArray());
+            }
+            ERROR_TEMPLATES.put(code, byLayer);
+        }
+    }
+
     /**
      * Converts a platform exception into an error response body.
      */
@@ -50,6 +111,83 @@ public class ApiResponseMapper {
         );
     }
 
+    /**
+     * Writes a payload-less envelope (typically an error) as UTF-8 JSON.
+     */
+    public void writeJson(ApiResponse<Void> body, OutputStream out) throws IOException {
+        JsonByteBuffer buffer = acquireBuffer();
+        try {
+            writeEnvelope(body, buffer);
+            buffer.writeTo(out);
+        } finally {
+            releaseBuffer(buffer);
+        }
+    }
+
+    /**
+     * Writes an envelope carrying upstream JSON, splicing its bytes verbatim into {@code data}.
+     */
+    public void writeRawJson(ApiResponse<RawJson> body, OutputStream out) throws IOException {
+        JsonByteBuffer buffer = acquireBuffer();
+        try {
+            writeHead(body, buffer);
+            if (body.data() != null) {
+                buffer.raw(',').name("data");
+                buffer.writeTo(out);
+                buffer.reset();
+                body.data().writeTo(out);
+            }
+            writeTail(body, buffer);
+            buffer.writeTo(out);
+        } finally {
+            releaseBuffer(buffer);
+        }
+    }
+
+    /**
+     * Same as {@link #writeJson(ApiResponse, OutputStream)}, returned as a byte array.
+     */
+    public byte[] toJson(ApiResponse<Void> body) {
+        JsonByteBuffer buffer = acquireBuffer();
+        try {
+            writeEnvelope(body, buffer);
+            return buffer.toByteArray();
+        } finally {
+            releaseBuffer(buffer);
+        }
+    }
+
+    /**
+     * JSON text of an {@code error} object.
+     */
+    static String errorJson(ApiResponse.Error error) {
+        return toText(error, ApiResponseMapper::writeError);
+    }
+
+    /**
+     * JSON text of a {@code metadata} object.
+     */
+    static String metadataJson(DataProviderContext metadata) {
+        return toText(metadata, ApiResponseMapper::writeMetadata);
+    }
+
+    /**
+     * JSON text of a {@code retry} object.
+     */
+    static String retryJson(RetryInfo retry) {
+        return toText(retry, ApiResponseMapper::writeRetry);
+    }
+
+    private static <T> String toText(T value, BiConsumer<T, JsonByteBuffer> writer) {
+        JsonByteBuffer buffer = acquireBuffer();
+        try {
+            writer.accept(value, buffer);
+            return buffer.toText();
+        } finally {
+            releaseBuffer(buffer);
+        }
+    }
+
     private ApiResponse.Upstream toUpstream(UpstreamInfo upstream) {
         if (upstream == null) {
             return null;
@@ -61,4 +199,191 @@ public class ApiResponseMapper {
             upstream.responseTimeMs()
         );
     }
+
+    private static void writeEnvelope(ApiResponse<Void> body, JsonByteBuffer out) {
+        writeHead(body, out);
+        writeTail(body, out);
+    }
+
+    /**
+     * Writes the envelope up to and including {@code status}.
+     */
+    private static void writeHead(ApiResponse<?> body, JsonByteBuffer out) {
+        out.raw('{');
+        boolean next = false;
+        if (body.timestamp() != null) {
+            next = field(out, next, "timestamp");
+            out.string(body.timestamp().toString());
+        }
+        if (body.traceId() != null) {
+            next = field(out, next, "traceId");
+            out.string(body.traceId());
+        }
+        field(out, next, "status");
+        out.number(body.status());
+    }
+
+    /**
+     * Writes the envelope fields after {@code data} and the closing brace.
+     */
+    private static void writeTail(ApiResponse<?> body, JsonByteBuffer out) {
+        if (body.metadata() != null) {
+            field(out, true, "metadata");
+            writeMetadata(body.metadata(), out);
+        }
+        if (body.retry() != null) {
+            field(out, true, "retry");
+            writeRetry(body.retry(), out);
+        }
+        if (body.error() != null) {
+            field(out, true, "error");
+            writeError(body.error(), out);
+        }
+        out.raw('}');
+    }
+
+    private static void writeError(ApiResponse.Error error, JsonByteBuffer out) {
+        byte[] template = template(error);
+        boolean next;
+        if (template != null) {
+            out.raw(template);
+            next = true;
+        } else {
+            out.raw('{');
+            next = false;
+            if (error.code() != null) {
+                next = field(out, next, "code");
+                out.string(error.code());
+            }
+            if (error.layer() != null) {
+                next = field(out, next, "layer");
+                out.string(error.layer());
+            }
+            if (error.reason() != null) {
+                next = field(out, next, "reason");
+                out.string(error.reason());
+            }
+        }
+        if (error.message() != null) {
+            next = field(out, next, "message");
+            out.string(error.message());
+        }
+        if (error.upstream() != null) {
+            next = field(out, next, "upstream");
+            writeUpstream(error.upstream(), out);
+        }
+        if (error.validationErrors() != null) {
+            field(out, next, "validationErrors");
+            out.raw('[');
+            boolean nextError = false;
+            for (ApiResponse.ValidationError validationError : error.validationErrors()) {
+                if (nextError) {
+                    out.raw(',');
+                }
+                nextError = true;
+                writeValidationError(validationError, out);
+            }
+            out.raw(']');
+        }
+        out.raw('}');
+    }
+
+    private static byte[] template(ApiResponse.Error error) {
+        ErrorCode code = error.code() == null ? null : CODES_BY_NAME.get(error.code());
+        LayerType layer = error.layer() == null ? null : LAYERS_BY_NAME.get(error.layer());
+        if (code == null || layer == null || !code.httpStatus().getReasonPhrase().equals(error.reason())) {
+            return null;
+        }
+        return ERROR_TEMPLATES.get(code).get(layer);
+    }
+
+    private static void writeMetadata(DataProviderContext metadata, JsonByteBuffer out) {
+        out.raw('{').name("protocol").string(metadata.protocol() == null ? null : metadata.protocol().name());
+        out.raw(',').name("serviceId").string(metadata.serviceId());
+        out.raw(',').name("endpoint").string(metadata.endpoint());
+        out.raw(',').name("protocolAttributes");
+        if (metadata.protocolAttributes() == null) {
+            out.nullValue();
+        } else {
+            out.raw('{');
+            boolean next = false;
+            for (Map.Entry<String, String> attribute : metadata.protocolAttributes().entrySet()) {
+                if (next) {
+                    out.raw(',');
+                }
+                next = true;
+                out.string(attribute.getKey()).raw(':').string(attribute.getValue());
+            }
+            out.raw('}');
+        }
+        out.raw(',').name("responseTimeMs").number(metadata.responseTimeMs());
+        out.raw(',').name("collectedAt").string(metadata.collectedAt() == null ? null : metadata.collectedAt().toString());
+        out.raw('}');
+    }
+
+    private static void writeRetry(RetryInfo retry, JsonByteBuffer out) {
+        out.raw('{').name("attempted").number(retry.attempted());
+        out.raw(',').name("maxAttempts").number(retry.maxAttempts());
+        out.raw(',').name("retried").bool(retry.retried());
+        out.raw(',').name("exhausted").bool(retry.exhausted());
+        if (retry.stopReason() != null) {
+            out.raw(',').name("stopReason").string(retry.stopReason().name());
+        }
+        out.raw('}');
+    }
+
+    private static void writeUpstream(ApiResponse.Upstream upstream, JsonByteBuffer out) {
+        out.raw('{');
+        boolean next = false;
+        if (upstream.httpStatus() != null) {
+            next = field(out, next, "httpStatus");
+            out.number(upstream.httpStatus());
+        }
+        if (upstream.rawMessage() != null) {
+            next = field(out, next, "rawMessage");
+            out.string(upstream.rawMessage());
+        }
+        if (upstream.responseTimeMs() != null) {
+            field(out, next, "responseTimeMs");
+            out.number(upstream.responseTimeMs());
+        }
+        out.raw('}');
+    }
+
+    private static void writeValidationError(ApiResponse.ValidationError validationError, JsonByteBuffer out) {
+        out.raw('{');
+        boolean next = false;
+        if (validationError.field() != null) {
+            next = field(out, next, "field");
+            out.string(validationError.field());
+        }
+        if (validationError.message() != null) {
+            field(out, next, "message");
+            out.string(validationError.message());
+        }
+        out.raw('}');
+    }
+
+    /**
+     * Writes the separator (unless first) and the field name; returns {@code true} for chaining.
+     */
+    private static boolean field(JsonByteBuffer out, boolean next, String name) {
+        if (next) {
+            out.raw(',');
+        }
+        out.name(name);
+        return true;
+    }
+
+    private static JsonByteBuffer acquireBuffer() {
+        JsonByteBuffer buffer = BUFFERS.poll();
+        return buffer != null ? buffer : new JsonByteBuffer(BUFFER_INITIAL_CAPACITY);
+    }
+
+    private static void releaseBuffer(JsonByteBuffer buffer) {
+        if (buffer.capacity() <= BUFFER_MAX_POOLED_CAPACITY) {
+            buffer.reset();
+            BUFFERS.offer(buffer);
+        }
+    }
 }
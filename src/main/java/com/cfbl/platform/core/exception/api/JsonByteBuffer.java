@@ -0,0 +1,187 @@
+package com.cfbl.platform.core.exception.api;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Growable UTF-8 byte buffer with just enough JSON writing for the error envelope.
+ *
+ * <p>Strings are escaped the way Jackson does by default: quote, backslash and control characters
+ * only; everything else is written as UTF-8.
+ */
+final class JsonByteBuffer {
+
+    private static final byte[] NULL = {'n', 'u', 'l', 'l'};
+    private static final byte[] TRUE = {'t', 'r', 'u', 'e'};
+    private static final byte[] FALSE = {'f', 'a', 'l', 's', 'e'};
+    private static final byte[] HEX = "0123456789ABCDEF".getBytes(StandardCharsets.US_ASCII);
+
+    private byte[] bytes;
+    private int length;
+
+    JsonByteBuffer(int initialCapacity) {
+        this.bytes = new byte[initialCapacity];
+    }
+
+    int capacity() {
+        return bytes.length;
+    }
+
+    int length() {
+        return length;
+    }
+
+    void reset() {
+        length = 0;
+    }
+
+    JsonByteBuffer raw(byte[] source) {
+        ensure(source.length);
+        System.arraycopy(source, 0, bytes, length, source.length);
+        length += source.length;
+        return this;
+    }
+
+    JsonByteBuffer raw(char ascii) {
+        ensure(1);
+        bytes[length++] = (byte) ascii;
+        return this;
+    }
+
+    /**
+     * Writes {@code "name":}; {@code name} must be plain ASCII.
+     */
+    JsonByteBuffer name(String name) {
+        ensure(name.length() + 3);
+        bytes[length++] = '"';
+        for (int i = 0; i < name.length(); i++) {
+            bytes[length++] = (byte) name.charAt(i);
+        }
+        bytes[length++] = '"';
+        bytes[length++] = ':';
+        return this;
+    }
+
+    JsonByteBuffer number(long value) {
+        if (value == Long.MIN_VALUE) {
+            return ascii(Long.toString(value));
+        }
+        ensure(20);
+        if (value < 0) {
+            bytes[length++] = '-';
+            value = -value;
+        }
+        int start = length;
+        do {
+            bytes[length++] = (byte) ('0' + (int) (value % 10));
+            value /= 10;
+        } while (value != 0);
+        for (int left = start, right = length - 1; left < right; left++, right--) {
+            byte swap = bytes[left];
+            bytes[left] = bytes[right];
+            bytes[right] = swap;
+        }
+        return this;
+    }
+
+    JsonByteBuffer bool(boolean value) {
+        return raw(value ? TRUE : FALSE);
+    }
+
+    JsonByteBuffer nullValue() {
+        return raw(NULL);
+    }
+
+    /**
+     * Writes a quoted, escaped JSON string, or {@code null}.
+     */
+    JsonByteBuffer string(String value) {
+        if (value == null) {
+            return nullValue();
+        }
+        ensure(value.length() + 2);
+        bytes[length++] = '"';
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c >= 0x20 && c < 0x80 && c != '"' && c != '\\') {
+                ensure(1);
+                bytes[length++] = (byte) c;
+            } else if (c < 0x80) {
+                escape(c);
+            } else if (c < 0x800) {
+                ensure(2);
+                bytes[length++] = (byte) (0xC0 | (c >> 6));
+                bytes[length++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length()
+                    && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                ensure(4);
+                bytes[length++] = (byte) (0xF0 | (codePoint >> 18));
+                bytes[length++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                bytes[length++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                bytes[length++] = (byte) (0x80 | (codePoint & 0x3F));
+            } else {
+                char encoded = Character.isSurrogate(c) ? '\uFFFD' : c;
+                ensure(3);
+                bytes[length++] = (byte) (0xE0 | (encoded >> 12));
+                bytes[length++] = (byte) (0x80 | ((encoded >> 6) & 0x3F));
+                bytes[length++] = (byte) (0x80 | (encoded & 0x3F));
+            }
+        }
+        ensure(1);
+        bytes[length++] = '"';
+        return this;
+    }
+
+    void writeTo(OutputStream out) throws IOException {
+        out.write(bytes, 0, length);
+    }
+
+    /**
+     * Buffered bytes decoded as UTF-8.
+     */
+    String toText() {
+        return new String(bytes, 0, length, StandardCharsets.UTF_8);
+    }
+
+    byte[] toByteArray() {
+        return Arrays.copyOf(bytes, length);
+    }
+
+    private JsonByteBuffer ascii(String value) {
+        ensure(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            bytes[length++] = (byte) value.charAt(i);
+        }
+        return this;
+    }
+
+    private void escape(char c) {
+        ensure(6);
+        bytes[length++] = '\\';
+        switch (c) {
+            case '"' -> bytes[length++] = '"';
+            case '\\' -> bytes[length++] = '\\';
+            case '\n' -> bytes[length++] = 'n';
+            case '\r' -> bytes[length++] = 'r';
+            case '\t' -> bytes[length++] = 't';
+            case '\b' -> bytes[length++] = 'b';
+            case '\f' -> bytes[length++] = 'f';
+            default -> {
+                bytes[length++] = 'u';
+                bytes[length++] = '0';
+                bytes[length++] = '0';
+                bytes[length++] = HEX[c >> 4];
+                bytes[length++] = HEX[c & 0xF];
+            }
+        }
+    }
+
+    private void ensure(int extra) {
+        if (length + extra > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + extra));
+        }
+    }
+}
@@ -5,6 +5,9 @@ import java.util.Objects;
 
 /**
  * Base runtime exception for credit-summary modules.
+ *
+ * <p>Whether an instance captures its stack trace is decided by the installed
+ * {@link StackTracePolicy}; transient upstream failures can be created stackless.
  */
 public class CreditSummaryPlatformException extends RuntimeException {
 
@@ -23,7 +26,11 @@ public class CreditSummaryPlatformException extends RuntimeException {
             DataProviderContext providerContext,
             UpstreamInfo upstream,
             Throwable cause) {
-        super(message == null || message.isBlank() ? code.defaultMessage() : message, cause);
+        super(
+                message == null || message.isBlank() ? code.defaultMessage() : message,
+                cause,
+                true,
+                StackTracePolicy.current().captureStackTrace(code, cause));
         this.layer = Objects.requireNonNull(layer, "layer");
         this.code = Objects.requireNonNull(code, "code");
         this.providerContext = providerContext;
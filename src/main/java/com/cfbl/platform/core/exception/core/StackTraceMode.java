@@ -0,0 +1,18 @@
+package com.cfbl.platform.core.exception.core;
+
+/**
+ * Whether {@link CreditSummaryPlatformException}s capture a stack trace.
+ */
+public enum StackTraceMode {
+
+    /**
+     * Every platform exception captures its stack trace.
+     */
+    FULL,
+
+    /**
+     * Data-collection failures caused by a transient upstream failure (see
+     * {@link StackTracePolicy}) skip stack capture; every other platform exception keeps it.
+     */
+    STACKLESS_EXPECTED
+}
@@ -0,0 +1,135 @@
+package com.cfbl.platform.core.exception.core;
+
+import java.net.SocketException;
+import java.net.SocketTimeoutException;
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTransientException;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import org.springframework.dao.TransientDataAccessException;
+
+/**
+ * Decides whether a {@link CreditSummaryPlatformException} captures its stack trace.
+ *
+ * <p>During upstream outages every attempt maps its failure to a platform exception, and
+ * {@code fillInStackTrace} over deep Reactor stacks becomes a CPU and allocation hotspot while the
+ * trace itself says nothing the {@link DataProviderContext} and {@link UpstreamInfo} do not. In
+ * {@link StackTraceMode#STACKLESS_EXPECTED} a {@link ErrorCode#LAYER_DATA_COLLECTION_FAILURE} is
+ * therefore created without a stack trace when its cause chain contains a transient failure type:
+ * timeouts, refused or reset connections, transient SQL failures and rejected executions (see
+ * {@link #DEFAULT_TRANSIENT_TYPES}), plus the types a policy is created with. Every other code, a
+ * failure without a cause and any other cause keep their trace, so business, validation and
+ * programming errors (bad SQL, decoding failures, ...) stay diagnosable.
+ *
+ * <p>A policy is immutable. The process-wide policy is installed once at startup from
+ * {@code kxt.platform.stack-trace-mode}; until then every platform exception captures its trace.
+ */
+public final class StackTracePolicy {
+
+    /**
+     * Transient failure types every policy recognizes, matched anywhere in the cause chain.
+     */
+    public static final Set<Class<? extends Throwable>> DEFAULT_TRANSIENT_TYPES = Set.of(
+            TimeoutException.class,
+            SocketTimeoutException.class,
+            SocketException.class,
+            SQLTransientException.class,
+            SQLRecoverableException.class,
+            TransientDataAccessException.class,
+            RejectedExecutionException.class);
+
+    private static final int MAX_CAUSE_DEPTH = 16;
+    private static final StackTracePolicy FULL = new StackTracePolicy(StackTraceMode.FULL, List.of());
+    private static final AtomicReference<StackTracePolicy> INSTALLED = new AtomicReference<>();
+
+    private final StackTraceMode mode;
+    private final Set<Class<? extends Throwable>> transientTypes;
+
+    /**
+     * @param mode                    whether transient upstream failures skip stack capture
+     * @param additionalTransientTypes further transient types, e.g. circuit breaker rejections
+     */
+    public StackTracePolicy(StackTraceMode mode, Collection<Class<? extends Throwable>> additionalTransientTypes) {
+        this.mode = Objects.requireNonNull(mode, "mode");
+        Set<Class<? extends Throwable>> types = new LinkedHashSet<>(DEFAULT_TRANSIENT_TYPES);
+        types.addAll(Objects.requireNonNull(additionalTransientTypes, "additionalTransientTypes"));
+        this.transientTypes = Set.copyOf(types);
+    }
+
+    /**
+     * Policy in effect for new platform exceptions: the installed one, else {@link StackTraceMode#FULL}.
+     */
+    public static StackTracePolicy current() {
+        StackTracePolicy installed = INSTALLED.get();
+        return installed != null ? installed : FULL;
+    }
+
+    /**
+     * Installs the process-wide policy. Installing an equal policy again is a no-op.
+     *
+     * @throws IllegalStateException if a different policy is already installed
+     */
+    public static void install(StackTracePolicy policy) {
+        Objects.requireNonNull(policy, "policy");
+        if (!INSTALLED.compareAndSet(null, policy) && !INSTALLED.get().equals(policy)) {
+            throw new IllegalStateException("A different stack trace policy is already installed: " + INSTALLED.get());
+        }
+    }
+
+    /**
+     * Removes the installed policy; for tests of this package.
+     */
+    static void uninstall() {
+        INSTALLED.set(null);
+    }
+
+    public StackTraceMode mode() {
+        return mode;
+    }
+
+    /**
+     * Whether an exception with this code and cause should capture its stack trace.
+     */
+    public boolean captureStackTrace(ErrorCode code, Throwable cause) {
+        return mode == StackTraceMode.FULL
+                || code != ErrorCode.LAYER_DATA_COLLECTION_FAILURE
+                || cause == null
+                || !isTransient(cause);
+    }
+
+    private boolean isTransient(Throwable cause) {
+        Throwable current = cause;
+        for (int depth = 0; current != null && depth < MAX_CAUSE_DEPTH; depth++) {
+            for (Class<? extends Throwable> type : transientTypes) {
+                if (type.isInstance(current)) {
+                    return true;
+                }
+            }
+            current = current.getCause();
+        }
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof StackTracePolicy policy
+                && mode == policy.mode
+                && transientTypes.equals(policy.transientTypes);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(mode, transientTypes);
+    }
+
+    @Override
+    public String toString() {
+        return "StackTracePolicy[mode=" + mode + ", transientTypes=" + transientTypes + "]";
+    }
+}
@@ -1,11 +1,29 @@
 package com.cfbl.platform.core.exception.core;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 /**
  * Captures raw upstream response details for diagnostic purposes.
+ *
+ * <p>{@code circuitBreakerState} is set when the call was rejected by the provider's circuit
+ * breaker without reaching the upstream. {@code retryAfterMs} is the delay requested by a
+ * {@code Retry-After} header on a {@code 429}/{@code 503} response.
  */
 public record UpstreamInfo(
     Integer httpStatus,
     String rawMessage,
-    Long responseTimeMs
+    Long responseTimeMs,
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    String circuitBreakerState,
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    Long retryAfterMs
 ) {
+
+    public UpstreamInfo(Integer httpStatus, String rawMessage, Long responseTimeMs) {
+        this(httpStatus, rawMessage, responseTimeMs, null, null);
+    }
+
+    public UpstreamInfo(Integer httpStatus, String rawMessage, Long responseTimeMs, String circuitBreakerState) {
+        this(httpStatus, rawMessage, responseTimeMs, circuitBreakerState, null);
+    }
 }
@@ -0,0 +1,91 @@
+package com.cfbl.platform.core.executor;
+
+import com.cfbl.platform.core.coalescing.BatchSettings;
+import com.cfbl.platform.core.retry.RetryPolicies;
+import com.cfbl.platform.core.retry.RetryPolicy;
+import com.cfbl.platform.core.retry.RetrySettings;
+import com.cfbl.platform.core.timeout.TimeoutSettings;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import javax.sql.DataSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+/**
+ * Immutable holder for a pooled {@link DataSource} and provider metadata.
+ *
+ * <p>Used by the JDBC executors so execution logic stays independent from how the pool was
+ * created. The {@code jdbc:<serviceId>} retry policy is resolved here through the shared
+ * {@link RetryPolicies}, so holders of one service share it; its name is also the circuit breaker,
+ * bulkhead and offload lane name. {@code fetchSize} is the number of rows fetched per round trip by
+ * streaming queries (see {@link JdbcCursor}), of which at most {@code maxOpenCursors} are open at
+ * once and each is closed after {@code cursorIdleTimeoutMs} without demand (see
+ * {@link JdbcSettings}); {@code batchSettings} is the window of batched lookups.
+ */
+public record DataSourceHolder(
+    String serviceId,
+    String jdbcUrl,
+    DataSource dataSource,
+    String schema,
+    String catalog,
+    RetrySettings retrySettings,
+    TimeoutSettings timeoutSettings,
+    int fetchSize,
+    int maxOpenCursors,
+    long cursorIdleTimeoutMs,
+    BatchSettings batchSettings,
+    RetryPolicy retryPolicy
+) {
+
+    public DataSourceHolder(String serviceId, String jdbcUrl, DataSource dataSource) {
+        this(serviceId, jdbcUrl, dataSource, null, null, RetrySettings.defaults(), TimeoutSettings.defaults(),
+            0, 0, 0L, null, null);
+    }
+
+    public DataSourceHolder {
+        Objects.requireNonNull(serviceId, "serviceId");
+        Objects.requireNonNull(jdbcUrl, "jdbcUrl");
+        Objects.requireNonNull(dataSource, "dataSource");
+        retrySettings = retrySettings == null ? RetrySettings.defaults() : retrySettings;
+        timeoutSettings = timeoutSettings == null ? TimeoutSettings.defaults() : timeoutSettings;
+        fetchSize = fetchSize > 0 ? fetchSize : JdbcSettings.defaults().fetchSize();
+        maxOpenCursors = maxOpenCursors > 0 ? maxOpenCursors : JdbcSettings.defaults().maxOpenCursors();
+        cursorIdleTimeoutMs = cursorIdleTimeoutMs > 0
+            ? cursorIdleTimeoutMs
+            : JdbcSettings.defaults().cursorIdleTimeoutMs();
+        batchSettings = batchSettings == null ? BatchSettings.defaults() : batchSettings;
+        retryPolicy = retryPolicy != null && retryPolicy.compiledFrom(retrySettings)
+            ? retryPolicy
+            : RetryPolicies.shared("jdbc:").forService(serviceId, retrySettings);
+    }
+
+    /**
+     * Template bound to the pool whose statements time out after {@code attemptTimeout} (rounded
+     * up to whole seconds, as JDBC requires) and fetch {@code fetchSize} rows per round trip.
+     */
+    public NamedParameterJdbcOperations jdbcOperations(Duration attemptTimeout) {
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        template.setFetchSize(fetchSize);
+        template.setQueryTimeout((int) Math.max(1L, (attemptTimeout.toMillis() + 999L) / 1000L));
+        return new NamedParameterJdbcTemplate(template);
+    }
+
+    /**
+     * Protocol attributes of a call: {@code operation}, plus {@code schema} and {@code catalog}
+     * when configured.
+     */
+    public Map<String, String> protocolAttributes(String operation) {
+        Map<String, String> attributes = new LinkedHashMap<>();
+        attributes.put("operation", operation);
+        if (schema != null) {
+            attributes.put("schema", schema);
+        }
+        if (catalog != null) {
+            attributes.put("catalog", catalog);
+        }
+        return Map.copyOf(attributes);
+    }
+}
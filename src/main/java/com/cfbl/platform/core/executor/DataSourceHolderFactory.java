@@ -0,0 +1,90 @@
+package com.cfbl.platform.core.executor;
+
+import com.cfbl.platform.core.config.PlatformProperties;
+import com.cfbl.platform.core.config.PlatformProperties.ServiceDefinition;
+import com.cfbl.platform.core.retry.RetrySettings;
+import com.cfbl.platform.core.timeout.TimeoutSettings;
+import com.zaxxer.hikari.HikariDataSource;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+/**
+ * Builds {@link DataSourceHolder} instances from {@link PlatformProperties} service definitions.
+ *
+ * <p>Each service gets one bounded Hikari pool, sized from {@code ServiceDefinition.jdbc} and
+ * created on first use; connections are only opened when the first query runs. Pools are closed
+ * when the application context shuts down.
+ */
+@Component
+public class DataSourceHolderFactory implements DisposableBean {
+
+    private final PlatformProperties platformProperties;
+    private final Map<String, DataSourceHolder> holders = new ConcurrentHashMap<>();
+
+    public DataSourceHolderFactory(PlatformProperties platformProperties) {
+        this.platformProperties = Objects.requireNonNull(platformProperties, "platformProperties");
+    }
+
+    /**
+     * Returns the holder for the given service id, creating its pool on first use.
+     *
+     * @param serviceId service key in {@code kxt.platform.services}
+     * @return holder containing the pooled data source and retry/timeout settings
+     */
+    public DataSourceHolder create(String serviceId) {
+        Objects.requireNonNull(serviceId, "serviceId");
+        return holders.computeIfAbsent(serviceId, this::build);
+    }
+
+    @Override
+    public void destroy() {
+        holders.values().forEach(holder -> {
+            if (holder.dataSource() instanceof HikariDataSource pool) {
+                pool.close();
+            }
+        });
+        holders.clear();
+    }
+
+    private DataSourceHolder build(String serviceId) {
+        ServiceDefinition service = platformProperties.getServices().get(serviceId);
+        if (service == null || service.getJdbcUrl() == null || service.getJdbcUrl().isBlank()) {
+            throw new IllegalStateException("No jdbcUrl configured for serviceId=" + serviceId);
+        }
+        JdbcSettings jdbcSettings = service.getJdbc() != null ? service.getJdbc() : JdbcSettings.defaults();
+        RetrySettings retrySettings = service.getRetrySettings() != null
+            ? service.getRetrySettings()
+            : RetrySettings.defaults();
+        TimeoutSettings timeoutSettings = service.getTimeouts() != null
+            ? service.getTimeouts()
+            : TimeoutSettings.defaults();
+
+        HikariDataSource pool = new HikariDataSource();
+        pool.setPoolName("jdbc-" + serviceId);
+        pool.setJdbcUrl(service.getJdbcUrl());
+        pool.setUsername(service.getUsername());
+        pool.setPassword(service.getPassword());
+        pool.setSchema(service.getSchema());
+        pool.setCatalog(service.getCatalog());
+        pool.setMaximumPoolSize(jdbcSettings.maxPoolSize());
+        pool.setMinimumIdle(jdbcSettings.minIdle());
+        pool.setConnectionTimeout(jdbcSettings.connectionTimeoutMs());
+
+        return new DataSourceHolder(
+            serviceId,
+            service.getJdbcUrl(),
+            pool,
+            service.getSchema(),
+            service.getCatalog(),
+            retrySettings,
+            timeoutSettings,
+            jdbcSettings.fetchSize(),
+            jdbcSettings.maxOpenCursors(),
+            jdbcSettings.cursorIdleTimeoutMs(),
+            service.getBatching(),
+            null);
+    }
+}
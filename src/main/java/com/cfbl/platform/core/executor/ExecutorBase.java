@@ -1,14 +1,29 @@
 package com.cfbl.platform.core.executor;
 
+import com.cfbl.platform.core.concurrent.OffloadRejectedException;
+import com.cfbl.platform.core.exception.core.CreditSummaryDataCollectionException;
 import com.cfbl.platform.core.exception.core.CreditSummaryPlatformException;
 import com.cfbl.platform.core.exception.core.DataProviderContext;
+import com.cfbl.platform.core.exception.core.UpstreamInfo;
 import com.cfbl.platform.core.integration.model.ProviderResult;
+import com.cfbl.platform.core.resilience.BulkheadFullException;
+import com.cfbl.platform.core.resilience.BulkheadPolicyExecutor;
+import com.cfbl.platform.core.resilience.CircuitBreakerPolicyExecutor;
+import com.cfbl.platform.core.resilience.ConcurrencyLimitExceededException;
+import com.cfbl.platform.core.resilience.ConcurrencyLimitPolicyExecutor;
 import com.cfbl.platform.core.retry.RetryInfo;
+import com.cfbl.platform.core.retry.RetryPolicy;
 import com.cfbl.platform.core.retry.RetryPolicyExecutor;
 import com.cfbl.platform.core.retry.RetrySettings;
+import com.cfbl.platform.core.retry.RetryStopReason;
+import com.cfbl.platform.core.retry.RetryStoppedException;
+import com.cfbl.platform.core.timeout.Deadline;
+import com.cfbl.platform.core.timeout.TimeoutSettings;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.Objects;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -18,43 +33,202 @@ import reactor.core.publisher.Mono;
  * Shared base for outbound executors with retry, response enrichment, and failure mapping.
  *
  * <p>Protocol executors delegate common concerns here:
- * retry execution, retry metadata attachment, context timing updates, and conversion of unexpected
- * failures through protocol-owned failure mappers.
+ * retry execution, circuit breaking, per-attempt timeouts and deadline budgeting, retry metadata
+ * attachment, context timing updates, and conversion of unexpected failures through protocol-owned
+ * failure mappers. Every call is recorded in {@link ProviderCallMetrics}.
  */
 abstract class ExecutorBase {
 
     private final RetryPolicyExecutor retryExecutor;
+    private final CircuitBreakerPolicyExecutor circuitBreakerExecutor;
+    private final BulkheadPolicyExecutor bulkheadExecutor;
+    private final ConcurrencyLimitPolicyExecutor concurrencyLimitExecutor;
+    private final ProviderCallMetrics callMetrics;
 
     protected ExecutorBase(RetryPolicyExecutor retryExecutor) {
+        this(retryExecutor, new CircuitBreakerPolicyExecutor(),
+                new BulkheadPolicyExecutor(),
+                new ConcurrencyLimitPolicyExecutor());
+    }
+
+    protected ExecutorBase(
+            RetryPolicyExecutor retryExecutor,
+            CircuitBreakerPolicyExecutor circuitBreakerExecutor,
+            BulkheadPolicyExecutor bulkheadExecutor,
+            ConcurrencyLimitPolicyExecutor concurrencyLimitExecutor) {
+        this(retryExecutor, circuitBreakerExecutor, bulkheadExecutor, concurrencyLimitExecutor,
+                new ProviderCallMetrics());
+    }
+
+    protected ExecutorBase(
+            RetryPolicyExecutor retryExecutor,
+            CircuitBreakerPolicyExecutor circuitBreakerExecutor,
+            BulkheadPolicyExecutor bulkheadExecutor,
+            ConcurrencyLimitPolicyExecutor concurrencyLimitExecutor,
+            ProviderCallMetrics callMetrics) {
         this.retryExecutor = Objects.requireNonNull(retryExecutor, "retryExecutor");
+        this.circuitBreakerExecutor = Objects.requireNonNull(circuitBreakerExecutor, "circuitBreakerExecutor");
+        this.bulkheadExecutor = Objects.requireNonNull(bulkheadExecutor, "bulkheadExecutor");
+        this.concurrencyLimitExecutor = Objects.requireNonNull(concurrencyLimitExecutor, "concurrencyLimitExecutor");
+        this.callMetrics = Objects.requireNonNull(callMetrics, "callMetrics");
     }
 
+    /**
+     * Runs attempts under the retry policy, bounding each attempt by the configured timeout and the
+     * {@link Deadline} found in the Reactor context (if any).
+     *
+     * <p>The wait drawn before each retry is clamped so that {@link TimeoutSettings#minAttemptBudgetMs()}
+     * of the deadline remain for the next attempt. When even the shortest wait does not fit,
+     * retrying stops with the last failure and {@link RetryInfo#stopReason()} is set to
+     * {@link RetryStopReason#DEADLINE}.
+     *
+     * <p>Each attempt passes through the service's circuit breaker (named like the retry policy).
+     * While it is open, attempts fail fast, retrying stops with
+     * {@link RetryStopReason#CIRCUIT_OPEN} and the mapped exception carries the breaker state in
+     * {@link UpstreamInfo#circuitBreakerState()}. Inside the breaker, the service's adaptive
+     * concurrency limit and then its bulkhead cap in-flight attempts; a shed attempt stops retrying
+     * with {@link RetryStopReason#LIMIT_EXCEEDED} or {@link RetryStopReason#BULKHEAD_FULL} without
+     * counting against the breaker.
+     *
+     * <p>The call, from subscription to its final result, is recorded in {@link ProviderCallMetrics}
+     * under the retry policy name.
+     */
     protected <T> Mono<ProviderResult<T>> executeWithRetry(
-            String retryName,
-            RetrySettings retrySettings,
+            RetryPolicy retryPolicy,
+            String serviceId,
+            TimeoutSettings timeoutSettings,
             Supplier<Mono<ProviderResult<T>>> executeAttempt,
             Predicate<Throwable> retryable,
             FailureMapper failureMapper) {
-        AtomicInteger attempts = new AtomicInteger();
-        int maxAttempts = retrySettings.effectiveMaxAttempts();
-
-        return retryExecutor.execute(
-                        retryName,
-                        retrySettings,
-                        () -> Mono.defer(() -> {
-                            attempts.incrementAndGet();
-                            return executeAttempt.get();
-                        }),
+        return executeWithRetry(
+                retryPolicy,
+                serviceId,
+                timeoutSettings,
+                guard -> guard.guard(executeAttempt),
+                retryable,
+                failureMapper);
+    }
+
+    /**
+     * Like {@link #executeWithRetry(RetryPolicy, String, TimeoutSettings, Supplier, Predicate, FailureMapper)},
+     * but each retry attempt is built by {@code attemptPlan}, which may send several upstream
+     * requests (e.g. a hedge). Every request it passes to the {@link RequestGuard} takes its own
+     * circuit breaker permission, concurrency limit slot, bulkhead slot and attempt timeout.
+     */
+    protected <T> Mono<ProviderResult<T>> executeWithRetry(
+            RetryPolicy retryPolicy,
+            String serviceId,
+            TimeoutSettings timeoutSettings,
+            AttemptPlan<T> attemptPlan,
+            Predicate<Throwable> retryable,
+            FailureMapper failureMapper) {
+        String retryName = retryPolicy.name();
+        RetrySettings retrySettings = retryPolicy.settings();
+        ProviderCallMetrics.ServiceCalls calls = callMetrics.service(retryName, serviceId);
+        return Mono.deferContextual(ctx -> {
+            long startNanos = calls.start();
+            Deadline deadline = Deadline.fromContext(ctx);
+            AtomicInteger attempts = new AtomicInteger();
+            int maxAttempts = retrySettings.effectiveMaxAttempts();
+
+            return retryExecutor.execute(
+                            retryPolicy,
+                            () -> Mono.defer(() -> {
+                                attempts.incrementAndGet();
+                                return attemptPlan.attempt(request -> circuitBreakerExecutor.execute(
+                                                retryName,
+                                                serviceId,
+                                                () -> limitedAttempt(
+                                                        retryName,
+                                                        serviceId,
+                                                        () -> timedAttempt(request, timeoutSettings, deadline),
+                                                        retryable),
+                                                retryable)
+                                        .onErrorMap(CallNotPermittedException.class,
+                                                ex -> new RetryStoppedException(RetryStopReason.CIRCUIT_OPEN, ex)));
+                            }),
+                            retryable,
+                            deadline,
+                            timeoutSettings.minAttemptBudgetMs())
+                    .map(response -> withRetryInfo(response, buildRetryInfo(attempts.get(), maxAttempts, false, null)))
+                    .onErrorMap(ex -> {
+                        RetryStopReason stopReason = ex instanceof RetryStoppedException stopped ? stopped.getReason() : null;
+                        Throwable failure = stopReason != null ? ex.getCause() : ex;
+                        boolean exhausted = retrySettings.enabled()
+                                && attempts.get() >= maxAttempts
+                                && retryable.test(failure);
+                        CreditSummaryPlatformException mapped = mapFailure(failure, retryName, failureMapper);
+                        mapped.attachRetryInfo(buildRetryInfo(attempts.get(), maxAttempts, exhausted, stopReason));
+                        return mapped;
+                    })
+                    .doOnSuccess(result -> calls.recordSuccess(startNanos, result))
+                    .doOnError(failure -> calls.recordFailure(startNanos, failure))
+                    .doFinally(signal -> calls.finish());
+        });
+    }
+
+    private <T> Mono<ProviderResult<T>> limitedAttempt(
+            String policyName,
+            String serviceId,
+            Supplier<Mono<ProviderResult<T>>> attempt,
+            Predicate<Throwable> retryable) {
+        return concurrencyLimitExecutor.execute(
+                        policyName,
+                        serviceId,
+                        () -> bulkheadExecutor.execute(policyName, serviceId, attempt)
+                                .onErrorMap(BulkheadFullException.class,
+                                        ex -> new RetryStoppedException(RetryStopReason.BULKHEAD_FULL, ex)),
                         retryable)
-                .map(response -> withRetryInfo(response, buildRetryInfo(attempts.get(), maxAttempts, false)))
-                .onErrorMap(ex -> {
-                    boolean exhausted = retrySettings.enabled()
-                            && attempts.get() >= maxAttempts
-                            && retryable.test(ex);
-                    CreditSummaryPlatformException mapped = failureMapper.map(ex);
-                    mapped.attachRetryInfo(buildRetryInfo(attempts.get(), maxAttempts, exhausted));
-                    return mapped;
-                });
+                .onErrorMap(ConcurrencyLimitExceededException.class,
+                        ex -> new RetryStoppedException(RetryStopReason.LIMIT_EXCEEDED, ex));
+    }
+
+    private <T> Mono<ProviderResult<T>> timedAttempt(
+            Supplier<Mono<ProviderResult<T>>> executeAttempt,
+            TimeoutSettings timeoutSettings,
+            Deadline deadline) {
+        if (deadline == null) {
+            return executeAttempt.get().timeout(timeoutSettings.attemptTimeout());
+        }
+        if (deadline.isExpired()) {
+            return Mono.error(new RetryStoppedException(
+                    RetryStopReason.DEADLINE,
+                    new TimeoutException("Request deadline exceeded before provider call")));
+        }
+        return executeAttempt.get().timeout(deadline.boundAttemptTimeout(timeoutSettings.attemptTimeout()));
+    }
+
+    private CreditSummaryPlatformException mapFailure(
+            Throwable failure,
+            String policyName,
+            FailureMapper failureMapper) {
+        CreditSummaryPlatformException mapped = failureMapper.map(failure);
+        if (failure instanceof CallNotPermittedException) {
+            return rejectedFailure(mapped, "Circuit breaker is open for " + policyName, failure, policyName);
+        }
+        if (failure instanceof BulkheadFullException) {
+            return rejectedFailure(mapped, "Bulkhead is full for " + policyName, failure, policyName);
+        }
+        if (failure instanceof ConcurrencyLimitExceededException) {
+            return rejectedFailure(mapped, "Concurrency limit reached for " + policyName, failure, policyName);
+        }
+        if (failure instanceof OffloadRejectedException) {
+            return rejectedFailure(mapped, "Offload queue is full for " + policyName, failure, policyName);
+        }
+        return mapped;
+    }
+
+    private CreditSummaryPlatformException rejectedFailure(
+            CreditSummaryPlatformException mapped,
+            String message,
+            Throwable rejection,
+            String policyName) {
+        return new CreditSummaryDataCollectionException(
+                mapped.getCode(),
+                message,
+                mapped.getProviderContext(),
+                new UpstreamInfo(null, rejection.getMessage(), 0L, circuitBreakerExecutor.state(policyName)),
+                rejection);
     }
 
     protected DataProviderContext withResponseTime(DataProviderContext base, Instant start) {
@@ -71,12 +245,17 @@ abstract class ExecutorBase {
         return Duration.between(start, Instant.now()).toMillis();
     }
 
-    private RetryInfo buildRetryInfo(int attempted, int maxAttempts, boolean exhausted) {
+    private RetryInfo buildRetryInfo(
+            int attempted,
+            int maxAttempts,
+            boolean exhausted,
+            RetryStopReason stopReason) {
         return new RetryInfo(
                 Math.max(1, attempted),
                 maxAttempts,
                 attempted > 1,
-                exhausted);
+                exhausted,
+                stopReason);
     }
 
     private <T> ProviderResult<T> withRetryInfo(ProviderResult<T> response, RetryInfo retryInfo) {
@@ -87,6 +266,24 @@ abstract class ExecutorBase {
                 retryInfo);
     }
 
+    /**
+     * Builds one retry attempt from guarded upstream requests.
+     */
+    @FunctionalInterface
+    protected interface AttemptPlan<T> {
+        Mono<ProviderResult<T>> attempt(RequestGuard<T> guard);
+    }
+
+    /**
+     * Runs one upstream request through the service's circuit breaker, concurrency limit, bulkhead
+     * and attempt timeout. A request the guards reject fails with {@link RetryStoppedException}
+     * before {@code request} is subscribed.
+     */
+    @FunctionalInterface
+    protected interface RequestGuard<T> {
+        Mono<ProviderResult<T>> guard(Supplier<Mono<ProviderResult<T>>> request);
+    }
+
     @FunctionalInterface
     /**
      * Maps raw failures into a platform exception carrying context.
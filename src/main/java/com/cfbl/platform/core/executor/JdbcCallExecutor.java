@@ -0,0 +1,480 @@
+package com.cfbl.platform.core.executor;
+
+import com.cfbl.platform.core.coalescing.ProviderLookupBatcher;
+import com.cfbl.platform.core.concurrent.BlockingCallOffloader;
+import com.cfbl.platform.core.exception.core.CreditSummaryDataCollectionException;
+import com.cfbl.platform.core.exception.core.CreditSummaryPlatformException;
+import com.cfbl.platform.core.exception.core.DataProviderContext;
+import com.cfbl.platform.core.exception.core.ErrorCode;
+import com.cfbl.platform.core.exception.core.UpstreamInfo;
+import com.cfbl.platform.core.integration.model.ProviderResult;
+import com.cfbl.platform.core.resilience.BulkheadFullException;
+import com.cfbl.platform.core.resilience.BulkheadPolicyExecutor;
+import com.cfbl.platform.core.resilience.CircuitBreakerPolicyExecutor;
+import com.cfbl.platform.core.resilience.ConcurrencyLimitPolicyExecutor;
+import com.cfbl.platform.core.retry.RetryPolicyExecutor;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Executes JDBC provider calls without blocking the subscriber thread and maps results into
+ * integration-layer {@code ProviderResult}.
+ *
+ * <p>JDBC is blocking, so every attempt runs on the service's {@code jdbc:<serviceId>} lane of
+ * {@link BlockingCallOffloader} (bounded-elastic unless {@code ServiceDefinition.offload} says
+ * otherwise), with the subscriber's security context and MDC carried over. Connections come from
+ * the bounded pool of the {@link DataSourceHolder}. Each statement gets a query timeout equal to
+ * the attempt timeout, so a timed-out attempt also stops on the database side.
+ *
+ * <p>Large results can be streamed through a {@link JdbcCursor} with
+ * {@link #executeQueryStream(DataSourceHolder, String, String, Map, RowMapper, String, Consumer)};
+ * its rows are pumped on a separate {@code jdbc-cursor:<serviceId>} lane, so slow stream
+ * subscribers never occupy the threads ordinary queries run on. Many small per-key lookups can
+ * share one round trip through {@link #batchedLookup}.
+ */
+@Component
+public class JdbcCallExecutor extends ExecutorBase {
+
+    private final BlockingCallOffloader offloader;
+    private final Map<String, Semaphore> openCursors = new ConcurrentHashMap<>();
+
+    public JdbcCallExecutor(RetryPolicyExecutor retryExecutor) {
+        super(retryExecutor);
+        this.offloader = new BlockingCallOffloader();
+    }
+
+    public JdbcCallExecutor(
+            RetryPolicyExecutor retryExecutor,
+            CircuitBreakerPolicyExecutor circuitBreakerExecutor,
+            BulkheadPolicyExecutor bulkheadExecutor,
+            ConcurrencyLimitPolicyExecutor concurrencyLimitExecutor,
+            BlockingCallOffloader offloader) {
+        this(retryExecutor, circuitBreakerExecutor, bulkheadExecutor, concurrencyLimitExecutor, offloader,
+                new ProviderCallMetrics());
+    }
+
+    @Autowired
+    public JdbcCallExecutor(
+            RetryPolicyExecutor retryExecutor,
+            CircuitBreakerPolicyExecutor circuitBreakerExecutor,
+            BulkheadPolicyExecutor bulkheadExecutor,
+            ConcurrencyLimitPolicyExecutor concurrencyLimitExecutor,
+            BlockingCallOffloader offloader,
+            ProviderCallMetrics callMetrics) {
+        super(retryExecutor, circuitBreakerExecutor, bulkheadExecutor, concurrencyLimitExecutor, callMetrics);
+        this.offloader = Objects.requireNonNull(offloader, "offloader");
+    }
+
+    /**
+     * Runs a query and returns all mapped rows.
+     */
+    public <T> Mono<ProviderResult<List<T>>> executeQuery(
+            DataSourceHolder holder,
+            String operation,
+            String sql,
+            Map<String, ?> parameters,
+            RowMapper<T> rowMapper,
+            String failureMessage) {
+        Objects.requireNonNull(sql, "sql");
+        Objects.requireNonNull(parameters, "parameters");
+        Objects.requireNonNull(rowMapper, "rowMapper");
+        return executeProvider(
+                holder,
+                operation,
+                jdbc -> jdbc.query(sql, parameters, rowMapper),
+                failureMessage,
+                throwable -> false);
+    }
+
+    /**
+     * Creates a micro-batching stage for single-key lookups against the service.
+     *
+     * <p>Keys collected within {@link DataSourceHolder#batchSettings()} are bound as one list to
+     * {@code keysParameter}, which is expanded to an {@code IN} list, so {@code sql} reads like
+     * {@code ... WHERE customer_id IN (:keys)}. Each batch is one {@link #executeQuery} call, with
+     * its retry, circuit breaker and offloading, and its rows are grouped back by
+     * {@code keyExtractor}; a key without rows gets an empty list. Keep the returned batcher for
+     * the lifetime of the calling service.
+     */
+    public <K, T> ProviderLookupBatcher<K, List<T>> batchedLookup(
+            DataSourceHolder holder,
+            String operation,
+            String sql,
+            String keysParameter,
+            RowMapper<T> rowMapper,
+            Function<? super T, ? extends K> keyExtractor,
+            String failureMessage) {
+        Objects.requireNonNull(holder, "holder");
+        Objects.requireNonNull(sql, "sql");
+        Objects.requireNonNull(keysParameter, "keysParameter");
+        Objects.requireNonNull(rowMapper, "rowMapper");
+        Objects.requireNonNull(keyExtractor, "keyExtractor");
+        return new ProviderLookupBatcher<K, List<T>>(
+                holder.batchSettings(),
+                keys -> executeQuery(holder, operation, sql, Map.of(keysParameter, keys), rowMapper, failureMessage)
+                        .map(result -> result.map(rows -> groupByKey(keys, rows, keyExtractor))));
+    }
+
+    /**
+     * Like {@link #executeQueryStream(DataSourceHolder, String, String, Map, RowMapper, String, Consumer)}
+     * without a completion callback.
+     */
+    public <T> Mono<ProviderResult<Flux<T>>> executeQueryStream(
+            DataSourceHolder holder,
+            String operation,
+            String sql,
+            Map<String, ?> parameters,
+            RowMapper<T> rowMapper,
+            String failureMessage) {
+        return executeQueryStream(holder, operation, sql, parameters, rowMapper, failureMessage, context -> {
+        });
+    }
+
+    /**
+     * Runs a query through a server-side cursor and streams the mapped rows.
+     *
+     * <p>Retry, timeout and {@link DataProviderContext} timing cover executing the statement and
+     * fetching the first row; the context carries {@code timeToFirstRowMs}. After that, rows are
+     * fetched {@link DataSourceHolder#fetchSize()} at a time and mapped one by one as the subscriber
+     * requests them, so a slow subscriber holds the cursor back instead of buffering the result.
+     * Rows are emitted on a thread of the service's {@code jdbc-cursor:<serviceId>} lane, sized
+     * like its other offload lanes.
+     *
+     * <p>The returned {@code Flux} can be subscribed once and should be consumed or cancelled: until
+     * it terminates it holds a pooled connection and a cursor-lane thread. At most
+     * {@link DataSourceHolder#maxOpenCursors()} streams of a service are open at once; a further
+     * call fails fast with a {@link BulkheadFullException} cause and is not retried. A stream that
+     * is not subscribed, or requests no row, for {@link DataSourceHolder#cursorIdleTimeoutMs()}
+     * fails with a {@link TimeoutException} cause and releases its cursor. When it completes,
+     * {@code completion} receives the final context with {@code rowsStreamed}. Failures while
+     * streaming are not retried and are mapped to {@link CreditSummaryDataCollectionException}
+     * whose context carries the rows streamed so far.
+     */
+    public <T> Mono<ProviderResult<Flux<T>>> executeQueryStream(
+            DataSourceHolder holder,
+            String operation,
+            String sql,
+            Map<String, ?> parameters,
+            RowMapper<T> rowMapper,
+            String failureMessage,
+            Consumer<DataProviderContext> completion) {
+        return Mono.defer(() -> {
+            Objects.requireNonNull(holder, "holder");
+            Objects.requireNonNull(operation, "operation");
+            Objects.requireNonNull(sql, "sql");
+            Objects.requireNonNull(parameters, "parameters");
+            Objects.requireNonNull(rowMapper, "rowMapper");
+            Objects.requireNonNull(failureMessage, "failureMessage");
+            Objects.requireNonNull(completion, "completion");
+
+            Instant collectedAt = Instant.now();
+            Instant start = collectedAt;
+
+            DataProviderContext baseContext = new DataProviderContext(
+                    DataProviderContext.Protocol.JDBC,
+                    holder.serviceId(),
+                    holder.jdbcUrl(),
+                    holder.protocolAttributes(operation),
+                    0L,
+                    collectedAt);
+
+            Duration queryTimeout = holder.timeoutSettings().attemptTimeout();
+            return executeWithRetry(
+                    holder.retryPolicy(),
+                    holder.serviceId(),
+                    holder.timeoutSettings(),
+                    () -> offloader.callOffThread(
+                                    holder.retryPolicy().name(),
+                                    holder.serviceId(),
+                                    () -> openCursor(holder, sql, parameters, rowMapper, queryTimeout))
+                            .doOnDiscard(JdbcCursor.class, JdbcCursor::close)
+                            .map(cursor -> ProviderResult.success(
+                                    HttpStatus.OK.value(),
+                                    streamRows(holder, cursor, failureMessage, baseContext, start, completion),
+                                    withResponseTime(cursor.describe(baseContext), start))),
+                    SqlFailures::isTransient,
+                    ex -> toPlatformException(ex, failureMessage, baseContext, start));
+        });
+    }
+
+    /**
+     * Executes arbitrary JDBC work against the service's pool and returns integration-layer
+     * result (no API envelope coupling).
+     *
+     * <p>{@code work} receives a template bound to the pooled data source with the attempt timeout
+     * as query timeout. It may run more than once when the failure is retryable (see
+     * {@link SqlFailures#isTransient(Throwable)}), so it should be idempotent.
+     */
+    public <T> Mono<ProviderResult<T>> executeProvider(
+            DataSourceHolder holder,
+            String operation,
+            Function<NamedParameterJdbcOperations, T> work,
+            String failureMessage,
+            Predicate<Throwable> callerRetryablePredicate) {
+        return Mono.defer(() -> {
+            Objects.requireNonNull(holder, "holder");
+            Objects.requireNonNull(operation, "operation");
+            Objects.requireNonNull(work, "work");
+            Objects.requireNonNull(failureMessage, "failureMessage");
+            Objects.requireNonNull(callerRetryablePredicate, "callerRetryablePredicate");
+
+            Instant collectedAt = Instant.now();
+            Instant start = collectedAt;
+
+            DataProviderContext baseContext = new DataProviderContext(
+                    DataProviderContext.Protocol.JDBC,
+                    holder.serviceId(),
+                    holder.jdbcUrl(),
+                    holder.protocolAttributes(operation),
+                    0L,
+                    collectedAt);
+
+            Predicate<Throwable> effectiveRetryable =
+                    throwable -> SqlFailures.isTransient(throwable) || callerRetryablePredicate.test(throwable);
+            NamedParameterJdbcOperations jdbc = holder.jdbcOperations(holder.timeoutSettings().attemptTimeout());
+            return executeWithRetry(
+                    holder.retryPolicy(),
+                    holder.serviceId(),
+                    holder.timeoutSettings(),
+                    () -> executeAttempt(holder, () -> work.apply(jdbc), baseContext, start),
+                    effectiveRetryable,
+                    ex -> toPlatformException(ex, failureMessage, baseContext, start));
+        });
+    }
+
+    private <T> Mono<ProviderResult<T>> executeAttempt(
+            DataSourceHolder holder,
+            Supplier<T> call,
+            DataProviderContext baseContext,
+            Instant start) {
+        return offloader.callOffThread(holder.retryPolicy().name(), holder.serviceId(), call)
+                .map(data -> ProviderResult.success(HttpStatus.OK.value(), data, withResponseTime(baseContext, start)))
+                .switchIfEmpty(Mono.fromSupplier(
+                        () -> ProviderResult.success(HttpStatus.OK.value(), null, withResponseTime(baseContext, start))));
+    }
+
+    private static <K, T> Map<K, List<T>> groupByKey(
+            List<K> keys,
+            List<T> rows,
+            Function<? super T, ? extends K> keyExtractor) {
+        Map<K, List<T>> grouped = new HashMap<>();
+        keys.forEach(key -> grouped.put(key, new ArrayList<>()));
+        for (T row : rows) {
+            List<T> bucket = grouped.get(keyExtractor.apply(row));
+            if (bucket != null) {
+                bucket.add(row);
+            }
+        }
+        return grouped;
+    }
+
+    /**
+     * Opens a cursor within the service's open-cursor cap and fetches its first row; the slot is
+     * released when the cursor closes.
+     */
+    private <T> JdbcCursor<T> openCursor(
+            DataSourceHolder holder,
+            String sql,
+            Map<String, ?> parameters,
+            RowMapper<T> rowMapper,
+            Duration queryTimeout) {
+        Semaphore slots = openCursors.computeIfAbsent(
+                holder.retryPolicy().name(), name -> new Semaphore(holder.maxOpenCursors()));
+        if (!slots.tryAcquire()) {
+            throw new BulkheadFullException(cursorLane(holder), holder.maxOpenCursors());
+        }
+        JdbcCursor<T> cursor;
+        try {
+            cursor = JdbcCursor.open(holder, sql, parameters, rowMapper, queryTimeout);
+        } catch (RuntimeException ex) {
+            slots.release();
+            throw ex;
+        }
+        cursor.onClose(slots::release);
+        try {
+            cursor.advance();
+            return cursor;
+        } catch (RuntimeException ex) {
+            cursor.close();
+            throw ex;
+        }
+    }
+
+    private static String cursorLane(DataSourceHolder holder) {
+        return "jdbc-cursor:" + holder.serviceId();
+    }
+
+    /**
+     * Rows of an open cursor, pumped on a cursor-lane thread only as far as the subscriber has
+     * requested. Whoever first claims the cursor (the pump, a cancel that arrives before it starts,
+     * or the idle timer of a stream never subscribed) closes it; a cancel during pumping wakes the
+     * pump and aborts any running fetch instead, and a pump left without demand for the idle
+     * timeout fails the stream.
+     */
+    private <T> Flux<T> streamRows(
+            DataSourceHolder holder,
+            JdbcCursor<T> cursor,
+            String failureMessage,
+            DataProviderContext baseContext,
+            Instant start,
+            Consumer<DataProviderContext> completion) {
+        AtomicBoolean subscribed = new AtomicBoolean();
+        AtomicBoolean claimed = new AtomicBoolean();
+        Duration idleTimeout = Duration.ofMillis(holder.cursorIdleTimeoutMs());
+        Disposable unsubscribedTimeout = Schedulers.parallel().schedule(() -> {
+            if (claimed.compareAndSet(false, true)) {
+                cursor.close();
+            }
+        }, idleTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        return Flux.<T>create(sink -> {
+                    if (!subscribed.compareAndSet(false, true)) {
+                        sink.error(new IllegalStateException("JDBC row stream can only be consumed once"));
+                        return;
+                    }
+                    unsubscribedTimeout.dispose();
+                    Demand demand = new Demand();
+                    sink.onRequest(demand::add);
+                    Disposable pump = offloader.callOffThread(cursorLane(holder), holder.serviceId(), () -> {
+                                if (claimed.compareAndSet(false, true)) {
+                                    pump(cursor, sink, demand, idleTimeout);
+                                } else if (!demand.cancelled()) {
+                                    sink.error(new TimeoutException("JDBC row stream was not subscribed within "
+                                            + idleTimeout.toMillis() + "ms"));
+                                }
+                                return null;
+                            })
+                            .subscribe(null, ex -> {
+                                if (claimed.compareAndSet(false, true)) {
+                                    cursor.close();
+                                }
+                                sink.error(ex);
+                            });
+                    sink.onCancel(() -> {
+                        demand.cancel();
+                        if (claimed.compareAndSet(false, true)) {
+                            cursor.close();
+                            pump.dispose();
+                        } else {
+                            cursor.cancel();
+                        }
+                    });
+                })
+                .onErrorMap(ex -> toPlatformException(ex, failureMessage, cursor.describe(baseContext), start))
+                .doOnComplete(() -> completion.accept(withResponseTime(cursor.describe(baseContext), start)));
+    }
+
+    private static <T> void pump(JdbcCursor<T> cursor, FluxSink<T> sink, Demand demand, Duration idleTimeout) {
+        Throwable failure = null;
+        try {
+            boolean hasRow = cursor.hasCurrent();
+            while (hasRow && demand.awaitNext(idleTimeout)) {
+                sink.next(cursor.map());
+                hasRow = cursor.advance();
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            failure = ex;
+        } catch (TimeoutException | RuntimeException ex) {
+            failure = ex;
+        } finally {
+            cursor.close();
+        }
+        if (demand.cancelled()) {
+            return;
+        }
+        if (failure != null) {
+            sink.error(failure);
+        } else {
+            sink.complete();
+        }
+    }
+
+    private CreditSummaryPlatformException toPlatformException(
+            Throwable throwable,
+            String failureMessage,
+            DataProviderContext baseContext,
+            Instant start) {
+        if (throwable instanceof CreditSummaryPlatformException platformException) {
+            return platformException;
+        }
+
+        return new CreditSummaryDataCollectionException(
+                ErrorCode.LAYER_DATA_COLLECTION_FAILURE,
+                failureMessage,
+                withResponseTime(baseContext, start),
+                new UpstreamInfo(null, SqlFailures.describe(throwable), elapsedMs(start)),
+                throwable);
+    }
+
+    /**
+     * Outstanding subscriber demand, awaited by the pump thread between rows.
+     */
+    private static final class Demand {
+
+        private long requested;
+        private boolean cancelled;
+
+        synchronized void add(long n) {
+            requested = requested + n < 0 ? Long.MAX_VALUE : requested + n;
+            notifyAll();
+        }
+
+        synchronized void cancel() {
+            cancelled = true;
+            notifyAll();
+        }
+
+        synchronized boolean cancelled() {
+            return cancelled;
+        }
+
+        /**
+         * Waits up to {@code idleTimeout} for demand and takes one unit of it; {@code false} once
+         * cancelled.
+         *
+         * @throws TimeoutException if no demand arrived within {@code idleTimeout}
+         */
+        synchronized boolean awaitNext(Duration idleTimeout) throws InterruptedException, TimeoutException {
+            long deadline = System.nanoTime() + idleTimeout.toNanos();
+            while (requested == 0 && !cancelled) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    throw new TimeoutException("No rows requested from JDBC row stream for "
+                            + idleTimeout.toMillis() + "ms");
+                }
+                TimeUnit.NANOSECONDS.timedWait(this, remaining);
+            }
+            if (cancelled) {
+                return false;
+            }
+            if (requested != Long.MAX_VALUE) {
+                requested--;
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,257 @@
+package com.cfbl.platform.core.executor;
+
+import com.cfbl.platform.core.exception.core.DataProviderContext;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.UncategorizedSQLException;
+import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterUtils;
+import org.springframework.jdbc.core.namedparam.ParsedSql;
+import org.springframework.jdbc.support.SQLErrorCodeSQLExceptionTranslator;
+import org.springframework.jdbc.support.SQLExceptionTranslator;
+
+/**
+ * Forward-only, read-only server-side cursor over one query, owning its pooled connection.
+ *
+ * <p>The statement uses the holder's fetch size and the connection runs with auto-commit off, so
+ * drivers that only stream inside a transaction (e.g. PostgreSQL) fetch in batches instead of
+ * loading the whole result. Rows are only mapped when {@link #map()} is called, and the next
+ * batch is only fetched when {@link #advance()} runs past the current one. SQL failures are
+ * translated into Spring's {@link DataAccessException} hierarchy.
+ *
+ * <p>A cursor is used by one thread at a time; only {@link #cancel()} may be called concurrently.
+ *
+ * @param <T> mapped row type
+ */
+public final class JdbcCursor<T> implements AutoCloseable {
+
+    /**
+     * Protocol attribute with the number of rows handed out by a cursor.
+     */
+    public static final String ROWS_STREAMED_ATTRIBUTE = "rowsStreamed";
+
+    /**
+     * Protocol attribute with the time from opening a cursor to its first row, in milliseconds.
+     */
+    public static final String TIME_TO_FIRST_ROW_ATTRIBUTE = "timeToFirstRowMs";
+
+    private final Connection connection;
+    private final PreparedStatement statement;
+    private final ResultSet resultSet;
+    private final RowMapper<T> rowMapper;
+    private final SQLExceptionTranslator translator;
+    private final String sql;
+    private final long openedAtNanos;
+    private long firstRowAtNanos = -1L;
+    private long rowsStreamed;
+    private boolean hasCurrent;
+    private boolean closed;
+    private Runnable onClose = () -> {
+    };
+
+    private JdbcCursor(
+            Connection connection,
+            PreparedStatement statement,
+            ResultSet resultSet,
+            RowMapper<T> rowMapper,
+            SQLExceptionTranslator translator,
+            String sql,
+            long openedAtNanos) {
+        this.connection = connection;
+        this.statement = statement;
+        this.resultSet = resultSet;
+        this.rowMapper = rowMapper;
+        this.translator = translator;
+        this.sql = sql;
+        this.openedAtNanos = openedAtNanos;
+    }
+
+    /**
+     * Borrows a connection and executes the query; no row is fetched yet.
+     *
+     * @param sql SQL with named parameters
+     * @param queryTimeout statement timeout, rounded up to whole seconds
+     */
+    public static <T> JdbcCursor<T> open(
+            DataSourceHolder holder,
+            String sql,
+            Map<String, ?> parameters,
+            RowMapper<T> rowMapper,
+            Duration queryTimeout) {
+        Objects.requireNonNull(holder, "holder");
+        Objects.requireNonNull(sql, "sql");
+        Objects.requireNonNull(parameters, "parameters");
+        Objects.requireNonNull(rowMapper, "rowMapper");
+        Objects.requireNonNull(queryTimeout, "queryTimeout");
+
+        long openedAtNanos = System.nanoTime();
+        MapSqlParameterSource source = new MapSqlParameterSource(parameters);
+        ParsedSql parsedSql = NamedParameterUtils.parseSqlStatement(sql);
+        String sqlToUse = NamedParameterUtils.substituteNamedParameters(parsedSql, source);
+        Object[] values = NamedParameterUtils.buildValueArray(parsedSql, source, null);
+        SQLExceptionTranslator translator = new SQLErrorCodeSQLExceptionTranslator(holder.dataSource());
+
+        Connection connection = null;
+        PreparedStatement statement = null;
+        try {
+            connection = holder.dataSource().getConnection();
+            connection.setAutoCommit(false);
+            statement = connection.prepareStatement(sqlToUse, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(holder.fetchSize());
+            statement.setQueryTimeout((int) Math.max(1L, (queryTimeout.toMillis() + 999L) / 1000L));
+            new ArgumentPreparedStatementSetter(values).setValues(statement);
+            ResultSet resultSet = statement.executeQuery();
+            return new JdbcCursor<>(connection, statement, resultSet, rowMapper, translator, sqlToUse, openedAtNanos);
+        } catch (SQLException ex) {
+            closeQuietly(statement);
+            release(connection);
+            throw translate(translator, sqlToUse, ex);
+        }
+    }
+
+    /**
+     * Moves to the next row, fetching the next batch from the database when needed.
+     *
+     * @return whether a row is available
+     */
+    public boolean advance() {
+        try {
+            hasCurrent = resultSet.next();
+        } catch (SQLException ex) {
+            throw translate(translator, sql, ex);
+        }
+        if (hasCurrent && firstRowAtNanos < 0) {
+            firstRowAtNanos = System.nanoTime();
+        }
+        return hasCurrent;
+    }
+
+    /**
+     * Whether the last {@link #advance()} found a row.
+     */
+    public boolean hasCurrent() {
+        return hasCurrent;
+    }
+
+    /**
+     * Maps the current row.
+     */
+    public T map() {
+        try {
+            T row = rowMapper.mapRow(resultSet, (int) Math.min(Integer.MAX_VALUE, rowsStreamed));
+            rowsStreamed++;
+            return row;
+        } catch (SQLException ex) {
+            throw translate(translator, sql, ex);
+        }
+    }
+
+    /**
+     * Number of rows mapped so far.
+     */
+    public long rowsStreamed() {
+        return rowsStreamed;
+    }
+
+    /**
+     * Milliseconds from opening to the first row, or {@code null} before any row was fetched.
+     */
+    public Long timeToFirstRowMs() {
+        return firstRowAtNanos < 0 ? null : TimeUnit.NANOSECONDS.toMillis(firstRowAtNanos - openedAtNanos);
+    }
+
+    /**
+     * Copy of {@code base} whose protocol attributes also carry {@link #ROWS_STREAMED_ATTRIBUTE} and,
+     * once a row was fetched, {@link #TIME_TO_FIRST_ROW_ATTRIBUTE}.
+     */
+    public DataProviderContext describe(DataProviderContext base) {
+        Map<String, String> attributes = new LinkedHashMap<>(base.protocolAttributes());
+        attributes.put(ROWS_STREAMED_ATTRIBUTE, Long.toString(rowsStreamed));
+        Long timeToFirstRowMs = timeToFirstRowMs();
+        if (timeToFirstRowMs != null) {
+            attributes.put(TIME_TO_FIRST_ROW_ATTRIBUTE, Long.toString(timeToFirstRowMs));
+        }
+        return new DataProviderContext(
+                base.protocol(),
+                base.serviceId(),
+                base.endpoint(),
+                Map.copyOf(attributes),
+                base.responseTimeMs(),
+                base.collectedAt());
+    }
+
+    /**
+     * Runs {@code action} once the cursor is closed, e.g. to release a slot the cursor was counted
+     * in.
+     */
+    JdbcCursor<T> onClose(Runnable action) {
+        this.onClose = Objects.requireNonNull(action, "action");
+        return this;
+    }
+
+    /**
+     * Asks the driver to abort the running statement; safe to call from any thread.
+     */
+    public void cancel() {
+        try {
+            statement.cancel();
+        } catch (SQLException ignored) {
+            // Best effort: the cursor is closed by its owning thread either way.
+        }
+    }
+
+    /**
+     * Closes the result set and statement, ends the read transaction and returns the connection
+     * to the pool. Idempotent.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        closeQuietly(resultSet);
+        closeQuietly(statement);
+        release(connection);
+        onClose.run();
+    }
+
+    private static void release(Connection connection) {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.rollback();
+            connection.setAutoCommit(true);
+        } catch (SQLException ignored) {
+            // The pool validates or evicts the connection on return.
+        }
+        closeQuietly(connection);
+    }
+
+    private static void closeQuietly(AutoCloseable resource) {
+        if (resource == null) {
+            return;
+        }
+        try {
+            resource.close();
+        } catch (Exception ignored) {
+            // Nothing more to release.
+        }
+    }
+
+    private static DataAccessException translate(SQLExceptionTranslator translator, String sql, SQLException ex) {
+        DataAccessException translated = translator.translate("JdbcCursor", sql, ex);
+        return translated != null ? translated : new UncategorizedSQLException("JdbcCursor", sql, ex);
+    }
+}
@@ -0,0 +1,65 @@
+package com.cfbl.platform.core.executor;
+
+/**
+ * Per-service connection-pool settings used by {@link DataSourceHolderFactory}.
+ *
+ * <p>At most {@code maxPoolSize} connections are open per service and {@code minIdle} are kept
+ * warm. A caller waits up to {@code connectionTimeoutMs} for a free connection before the attempt
+ * fails with a (retryable) connection error. Streaming queries ask the driver for {@code fetchSize}
+ * rows per round trip, which bounds the memory a cursor holds on the client.
+ *
+ * <p>An open cursor holds a pooled connection until its stream ends, so at most
+ * {@code maxOpenCursors} (by default half the pool) are open per service, leaving the rest of the
+ * pool to ordinary queries. A stream that is not subscribed, or whose subscriber requests no rows,
+ * for {@code cursorIdleTimeoutMs} fails and closes its cursor.
+ */
+public record JdbcSettings(
+    int maxPoolSize,
+    int minIdle,
+    long connectionTimeoutMs,
+    int fetchSize,
+    int maxOpenCursors,
+    long cursorIdleTimeoutMs
+) {
+
+    private static final int DEFAULT_MAX_POOL_SIZE = 10;
+    private static final int DEFAULT_MIN_IDLE = 2;
+    private static final long DEFAULT_CONNECTION_TIMEOUT_MS = 1000L;
+    private static final long MIN_CONNECTION_TIMEOUT_MS = 250L;
+    private static final int DEFAULT_FETCH_SIZE = 500;
+    private static final long DEFAULT_CURSOR_IDLE_TIMEOUT_MS = 30_000L;
+
+    public JdbcSettings {
+        maxPoolSize = maxPoolSize > 0 ? maxPoolSize : DEFAULT_MAX_POOL_SIZE;
+        minIdle = Math.min(Math.max(0, minIdle), maxPoolSize);
+        connectionTimeoutMs = connectionTimeoutMs > 0
+                ? Math.max(MIN_CONNECTION_TIMEOUT_MS, connectionTimeoutMs)
+                : DEFAULT_CONNECTION_TIMEOUT_MS;
+        fetchSize = fetchSize > 0 ? fetchSize : DEFAULT_FETCH_SIZE;
+        maxOpenCursors = maxOpenCursors > 0
+                ? Math.min(maxOpenCursors, maxPoolSize)
+                : defaultMaxOpenCursors(maxPoolSize);
+        cursorIdleTimeoutMs = cursorIdleTimeoutMs > 0 ? cursorIdleTimeoutMs : DEFAULT_CURSOR_IDLE_TIMEOUT_MS;
+    }
+
+    /**
+     * Half of {@code maxPoolSize}, at least one.
+     */
+    public static int defaultMaxOpenCursors(int maxPoolSize) {
+        return Math.max(1, maxPoolSize / 2);
+    }
+
+    /**
+     * Default pool settings: 10 connections, 2 idle, 1s connection wait, 500 rows per fetch, 5 open
+     * cursors closed after 30s without demand.
+     */
+    public static JdbcSettings defaults() {
+        return new JdbcSettings(
+                DEFAULT_MAX_POOL_SIZE,
+                DEFAULT_MIN_IDLE,
+                DEFAULT_CONNECTION_TIMEOUT_MS,
+                DEFAULT_FETCH_SIZE,
+                defaultMaxOpenCursors(DEFAULT_MAX_POOL_SIZE),
+                DEFAULT_CURSOR_IDLE_TIMEOUT_MS);
+    }
+}
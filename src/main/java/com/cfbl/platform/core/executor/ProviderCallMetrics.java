@@ -0,0 +1,257 @@
+package com.cfbl.platform.core.executor;
+
+import com.cfbl.platform.core.exception.core.CreditSummaryPlatformException;
+import com.cfbl.platform.core.exception.core.DataProviderContext;
+import com.cfbl.platform.core.exception.core.ErrorCode;
+import com.cfbl.platform.core.integration.model.ProviderResult;
+import com.cfbl.platform.core.retry.RetryInfo;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Micrometer meters for provider calls made through the executors.
+ *
+ * <p>Per call (all attempts and retry waits included) the following meters are recorded, tagged
+ * with {@code protocol}, {@code service} and {@code operation} taken from the call's
+ * {@link DataProviderContext}:
+ * <ul>
+ *   <li>{@code provider.calls} (timer, extra tag {@code outcome} = {@code success}/{@code failure}),
+ *       with a percentile histogram so quantiles can be aggregated across instances</li>
+ *   <li>{@code provider.call.attempts}, {@code provider.call.retries} and
+ *       {@code provider.call.exhausted} (counters, from {@link RetryInfo})</li>
+ *   <li>{@code provider.call.errors} (counter, extra tag {@code code} = {@link ErrorCode} name or
+ *       {@code UNKNOWN})</li>
+ * </ul>
+ * Per call name ({@code rest:<serviceId>}, ...) the gauge {@code provider.calls.in.flight}, tagged
+ * with {@code name} and {@code service}, counts calls started but not yet finished.
+ *
+ * <p>Meters are registered on the first call for a name/operation and then looked up by the
+ * strings the executors already hold, so recording a call builds no tags and allocates nothing.
+ */
+@Component
+public class ProviderCallMetrics {
+
+    private static final ErrorCode[] ERROR_CODES = ErrorCode.values();
+    private static final String UNKNOWN = "unknown";
+    private static final String UNKNOWN_CODE = "UNKNOWN";
+    private static final Duration MIN_EXPECTED_LATENCY = Duration.ofMillis(1);
+    private static final Duration MAX_EXPECTED_LATENCY = Duration.ofMinutes(1);
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, ServiceCalls> services = new ConcurrentHashMap<>();
+
+    /**
+     * Records into the global registry.
+     */
+    public ProviderCallMetrics() {
+        this(Metrics.globalRegistry);
+    }
+
+    public ProviderCallMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = Objects.requireNonNull(meterRegistry, "meterRegistry");
+    }
+
+    /**
+     * Uses the application's {@link MeterRegistry} when one is configured, else the global registry.
+     */
+    @Autowired
+    public ProviderCallMetrics(ObjectProvider<MeterRegistry> meterRegistry) {
+        this(meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+    }
+
+    /**
+     * Meters for one call name; the first call for a name fixes its service tag.
+     *
+     * @param name protocol-namespaced name, e.g. {@code rest:<serviceId>}
+     * @param serviceId service key used as the {@code service} tag
+     */
+    public ServiceCalls service(String name, String serviceId) {
+        ServiceCalls calls = services.get(name);
+        return calls != null
+                ? calls
+                : services.computeIfAbsent(name, key -> new ServiceCalls(key, serviceId, meterRegistry));
+    }
+
+    /**
+     * Number of calls in flight for a name, or {@code 0} when the name was never used.
+     */
+    public int inFlight(String name) {
+        ServiceCalls calls = services.get(name);
+        return calls == null ? 0 : calls.inFlight.get();
+    }
+
+    /**
+     * In-flight gauge and per-operation meters of one call name.
+     *
+     * <p>Each call runs {@link #start()}, then {@link #recordSuccess} or {@link #recordFailure}, and
+     * always {@link #finish()}.
+     */
+    public static final class ServiceCalls {
+
+        private final String service;
+        private final MeterRegistry meterRegistry;
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final Map<String, OperationMeters> operations = new ConcurrentHashMap<>();
+
+        private ServiceCalls(String name, String serviceId, MeterRegistry meterRegistry) {
+            this.service = serviceId == null ? UNKNOWN : serviceId;
+            this.meterRegistry = meterRegistry;
+            Gauge.builder("provider.calls.in.flight", inFlight, AtomicInteger::get)
+                    .description("Provider calls started and not yet finished")
+                    .tag("name", name)
+                    .tag("service", service)
+                    .register(meterRegistry);
+        }
+
+        /**
+         * Marks a call as in flight.
+         *
+         * @return start timestamp to pass to {@link #recordSuccess} or {@link #recordFailure}
+         */
+        public long start() {
+            inFlight.incrementAndGet();
+            return System.nanoTime();
+        }
+
+        public void recordSuccess(long startNanos, ProviderResult<?> result) {
+            long elapsedNanos = System.nanoTime() - startNanos;
+            meters(result == null ? null : result.metadata())
+                    .success(elapsedNanos, result == null ? null : result.retry());
+        }
+
+        /**
+         * Records a failed call; retry and error code details are read from a
+         * {@link CreditSummaryPlatformException}.
+         */
+        public void recordFailure(long startNanos, Throwable failure) {
+            long elapsedNanos = System.nanoTime() - startNanos;
+            if (failure instanceof CreditSummaryPlatformException platformException) {
+                meters(platformException.getProviderContext())
+                        .failure(elapsedNanos, platformException.getRetryInfo(), platformException.getCode());
+            } else {
+                meters(null).failure(elapsedNanos, null, null);
+            }
+        }
+
+        /**
+         * Marks the call as no longer in flight, whatever its outcome (including cancellation).
+         */
+        public void finish() {
+            inFlight.decrementAndGet();
+        }
+
+        private OperationMeters meters(DataProviderContext context) {
+            String operation = context == null || context.protocolAttributes() == null
+                    ? null
+                    : context.protocolAttributes().get("operation");
+            String key = operation == null ? UNKNOWN : operation;
+            OperationMeters meters = operations.get(key);
+            if (meters != null) {
+                return meters;
+            }
+            String protocol = context == null || context.protocol() == null
+                    ? UNKNOWN
+                    : context.protocol().name();
+            return operations.computeIfAbsent(key, op -> new OperationMeters(protocol, service, op, meterRegistry));
+        }
+    }
+
+    private static final class OperationMeters {
+
+        private final String protocol;
+        private final String service;
+        private final String operation;
+        private final MeterRegistry meterRegistry;
+        private final Timer success;
+        private final Timer failure;
+        private final Counter attempts;
+        private final Counter retries;
+        private final Counter exhausted;
+        private final AtomicReferenceArray<Counter> errors = new AtomicReferenceArray<>(ERROR_CODES.length + 1);
+
+        private OperationMeters(String protocol, String service, String operation, MeterRegistry meterRegistry) {
+            this.protocol = protocol;
+            this.service = service;
+            this.operation = operation;
+            this.meterRegistry = meterRegistry;
+            this.success = timer("success");
+            this.failure = timer("failure");
+            this.attempts = counter("provider.call.attempts", "Provider call attempts, first attempts included");
+            this.retries = counter("provider.call.retries", "Provider call attempts after the first");
+            this.exhausted = counter("provider.call.exhausted", "Provider calls that failed after using every attempt");
+        }
+
+        private void success(long elapsedNanos, RetryInfo retry) {
+            success.record(elapsedNanos, TimeUnit.NANOSECONDS);
+            countAttempts(retry);
+        }
+
+        private void failure(long elapsedNanos, RetryInfo retry, ErrorCode code) {
+            failure.record(elapsedNanos, TimeUnit.NANOSECONDS);
+            countAttempts(retry);
+            if (retry != null && retry.exhausted()) {
+                exhausted.increment();
+            }
+            errorCounter(code).increment();
+        }
+
+        private void countAttempts(RetryInfo retry) {
+            int attempted = retry == null ? 1 : Math.max(1, retry.attempted());
+            attempts.increment(attempted);
+            if (attempted > 1) {
+                retries.increment(attempted - 1);
+            }
+        }
+
+        private Counter errorCounter(ErrorCode code) {
+            int index = code == null ? ERROR_CODES.length : code.ordinal();
+            Counter counter = errors.get(index);
+            if (counter == null) {
+                counter = Counter.builder("provider.call.errors")
+                        .description("Failed provider calls by error code")
+                        .tag("protocol", protocol)
+                        .tag("service", service)
+                        .tag("operation", operation)
+                        .tag("code", code == null ? UNKNOWN_CODE : code.name())
+                        .register(meterRegistry);
+                errors.compareAndSet(index, null, counter);
+            }
+            return counter;
+        }
+
+        private Timer timer(String outcome) {
+            return Timer.builder("provider.calls")
+                    .description("Provider call latency, retries included")
+                    .tag("protocol", protocol)
+                    .tag("service", service)
+                    .tag("operation", operation)
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .minimumExpectedValue(MIN_EXPECTED_LATENCY)
+                    .maximumExpectedValue(MAX_EXPECTED_LATENCY)
+                    .register(meterRegistry);
+        }
+
+        private Counter counter(String name, String description) {
+            return Counter.builder(name)
+                    .description(description)
+                    .tag("protocol", protocol)
+                    .tag("service", service)
+                    .tag("operation", operation)
+                    .register(meterRegistry);
+        }
+    }
+}
@@ -5,33 +5,100 @@ import com.cfbl.platform.core.exception.core.CreditSummaryPlatformException;
 import com.cfbl.platform.core.exception.core.DataProviderContext;
 import com.cfbl.platform.core.exception.core.ErrorCode;
 import com.cfbl.platform.core.exception.core.UpstreamInfo;
+import com.cfbl.platform.core.hedge.HedgeSettings;
+import com.cfbl.platform.core.hedge.LatencyTracker;
 import com.cfbl.platform.core.integration.model.ProviderResult;
+import com.cfbl.platform.core.integration.model.RawJson;
+import com.cfbl.platform.core.resilience.BulkheadPolicyExecutor;
+import com.cfbl.platform.core.resilience.CircuitBreakerPolicyExecutor;
+import com.cfbl.platform.core.resilience.ConcurrencyLimitPolicyExecutor;
 import com.cfbl.platform.core.retry.RetryPolicyExecutor;
-import com.cfbl.platform.core.retry.RetrySettings;
+import com.cfbl.platform.core.timeout.TimeoutSettings;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientResponse;
 import org.springframework.web.reactive.function.client.WebClient.RequestHeadersSpec;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 /**
  * Executes outbound REST calls and maps results into {@link ApiResponse}.
+ *
+ * <p>Services with {@link HedgeSettings#enabled()} get hedged GET/HEAD attempts, except for
+ * streamed bodies; the hedge delay follows the latency percentile observed per service by this
+ * executor.
  */
 @Component
 public class RestCallExecutor extends ExecutorBase {
 
+    private static final ParameterizedTypeReference<String> STRING_BODY =
+            ParameterizedTypeReference.forType(String.class);
+    private static final ParameterizedTypeReference<byte[]> BYTE_BODY =
+            ParameterizedTypeReference.forType(byte[].class);
+
+    /**
+     * Protocol attribute set to {@code won} when the hedged request produced the result.
+     */
+    public static final String HEDGE_ATTRIBUTE = "hedge";
+
+    private static final int BODY_UNCLAIMED = 0;
+    private static final int BODY_SUBSCRIBED = 1;
+    private static final int BODY_EXPIRED = 2;
+
+    private final Map<String, LatencyTracker> latencyTrackers = new ConcurrentHashMap<>();
+
     public RestCallExecutor(RetryPolicyExecutor retryExecutor) {
         super(retryExecutor);
     }
 
+    public RestCallExecutor(RetryPolicyExecutor retryExecutor, CircuitBreakerPolicyExecutor circuitBreakerExecutor) {
+        this(retryExecutor, circuitBreakerExecutor, new BulkheadPolicyExecutor());
+    }
+
+    public RestCallExecutor(
+            RetryPolicyExecutor retryExecutor,
+            CircuitBreakerPolicyExecutor circuitBreakerExecutor,
+            BulkheadPolicyExecutor bulkheadExecutor) {
+        this(retryExecutor, circuitBreakerExecutor, bulkheadExecutor, new ConcurrencyLimitPolicyExecutor());
+    }
+
+    public RestCallExecutor(
+            RetryPolicyExecutor retryExecutor,
+            CircuitBreakerPolicyExecutor circuitBreakerExecutor,
+            BulkheadPolicyExecutor bulkheadExecutor,
+            ConcurrencyLimitPolicyExecutor concurrencyLimitExecutor) {
+        this(retryExecutor, circuitBreakerExecutor, bulkheadExecutor, concurrencyLimitExecutor,
+                new ProviderCallMetrics());
+    }
+
+    @Autowired
+    public RestCallExecutor(
+            RetryPolicyExecutor retryExecutor,
+            CircuitBreakerPolicyExecutor circuitBreakerExecutor,
+            BulkheadPolicyExecutor bulkheadExecutor,
+            ConcurrencyLimitPolicyExecutor concurrencyLimitExecutor,
+            ProviderCallMetrics callMetrics) {
+        super(retryExecutor, circuitBreakerExecutor, bulkheadExecutor, concurrencyLimitExecutor, callMetrics);
+    }
+
     /**
      * Executes a provider call and returns integration-layer result (no API
      * envelope coupling).
@@ -65,6 +132,200 @@ public class RestCallExecutor extends ExecutorBase {
             Supplier<RequestHeadersSpec<?>> requestFactory,
             String failureMessage,
             Predicate<Throwable> callerRetryablePredicate) {
+        return executeProvider(
+                holder,
+                httpMethod,
+                operation,
+                path,
+                requestFactory,
+                STRING_BODY,
+                failureMessage,
+                callerRetryablePredicate);
+    }
+
+    /**
+     * Executes a provider call and decodes the 2xx body directly into {@code bodyType}.
+     */
+    public <T> Mono<ProviderResult<T>> executeProvider(
+            WebClientHolder holder,
+            HttpMethod httpMethod,
+            String operation,
+            String path,
+            Supplier<RequestHeadersSpec<?>> requestFactory,
+            Class<T> bodyType,
+            String failureMessage,
+            Predicate<Throwable> callerRetryablePredicate) {
+        return executeProvider(
+                holder,
+                httpMethod,
+                operation,
+                path,
+                requestFactory,
+                ParameterizedTypeReference.forType(bodyType),
+                failureMessage,
+                callerRetryablePredicate);
+    }
+
+    /**
+     * Executes a provider call and decodes the 2xx body directly into {@code bodyType}.
+     *
+     * <p>The body is decoded from the response {@code DataBuffer}s by the configured codecs, so no
+     * intermediate {@code String} copy of the payload is created.
+     */
+    public <T> Mono<ProviderResult<T>> executeProvider(
+            WebClientHolder holder,
+            HttpMethod httpMethod,
+            String operation,
+            String path,
+            Supplier<RequestHeadersSpec<?>> requestFactory,
+            ParameterizedTypeReference<T> bodyType,
+            String failureMessage,
+            Predicate<Throwable> callerRetryablePredicate) {
+        return executeWithContext(
+                holder,
+                httpMethod,
+                operation,
+                path,
+                failureMessage,
+                callerRetryablePredicate,
+                (baseContext, start) -> executeAttempt(
+                        requestFactory,
+                        bodyType,
+                        holder.errorBodyMaxBytes(),
+                        baseContext,
+                        start));
+    }
+
+    /**
+     * Executes a provider call whose 2xx body is streamed element by element.
+     */
+    public <T> Mono<ProviderResult<Flux<T>>> executeProviderStream(
+            WebClientHolder holder,
+            HttpMethod httpMethod,
+            String operation,
+            String path,
+            Supplier<RequestHeadersSpec<?>> requestFactory,
+            Class<T> elementType,
+            String failureMessage,
+            Predicate<Throwable> callerRetryablePredicate) {
+        return executeProviderStream(
+                holder,
+                httpMethod,
+                operation,
+                path,
+                requestFactory,
+                ParameterizedTypeReference.forType(elementType),
+                failureMessage,
+                callerRetryablePredicate);
+    }
+
+    /**
+     * Executes a provider call whose 2xx body is streamed element by element.
+     *
+     * <p>JSON arrays and NDJSON ({@code application/x-ndjson}) bodies are decoded incrementally
+     * from {@code DataBuffer}s, so only one element is materialized at a time. Retry, timeout and
+     * {@link DataProviderContext} timing cover the exchange up to the response headers; the
+     * returned {@code Flux} is consumed once by the caller and is not retried. Failures while
+     * reading the body are mapped to {@link CreditSummaryDataCollectionException}. Streaming calls
+     * are never hedged: a losing response's unread body would hold its connection.
+     *
+     * <p>Until the returned {@code Flux} terminates it holds a pooled connection, so it should be
+     * consumed or cancelled. A body not subscribed within the holder's
+     * {@link TimeoutSettings#streamIdleTimeoutMs()} is cancelled, releasing the connection, and a
+     * later subscription fails with a {@link TimeoutException} cause. Once subscribed, a body that
+     * emits no element for that long (a stalled upstream or a subscriber requesting nothing) fails
+     * the same way.
+     */
+    public <T> Mono<ProviderResult<Flux<T>>> executeProviderStream(
+            WebClientHolder holder,
+            HttpMethod httpMethod,
+            String operation,
+            String path,
+            Supplier<RequestHeadersSpec<?>> requestFactory,
+            ParameterizedTypeReference<T> elementType,
+            String failureMessage,
+            Predicate<Throwable> callerRetryablePredicate) {
+        return executeWithContext(
+                holder,
+                httpMethod,
+                operation,
+                path,
+                failureMessage,
+                callerRetryablePredicate,
+                false,
+                (baseContext, start) -> executeStreamAttempt(
+                        requestFactory,
+                        elementType,
+                        holder.errorBodyMaxBytes(),
+                        holder.timeoutSettings().streamIdleTimeout(),
+                        failureMessage,
+                        baseContext,
+                        start));
+    }
+
+    /**
+     * Executes a provider call whose 2xx JSON body is passed through as {@link RawJson}.
+     *
+     * <p>The body is aggregated from the response {@code DataBuffer}s into one byte array and is
+     * never decoded into objects or a {@code String}, so API envelopes can splice it verbatim into
+     * their {@code data} field. With {@code validate}, the bytes are checked to be one well-formed
+     * JSON value; a malformed body fails the call with {@link CreditSummaryDataCollectionException}
+     * and is not retried. An empty body yields {@code null} data.
+     */
+    public Mono<ProviderResult<RawJson>> executeProviderRawJson(
+            WebClientHolder holder,
+            HttpMethod httpMethod,
+            String operation,
+            String path,
+            Supplier<RequestHeadersSpec<?>> requestFactory,
+            boolean validate,
+            String failureMessage,
+            Predicate<Throwable> callerRetryablePredicate) {
+        Function<byte[], RawJson> wrap = validate ? RawJson::validated : RawJson::of;
+        return executeWithContext(
+                holder,
+                httpMethod,
+                operation,
+                path,
+                failureMessage,
+                callerRetryablePredicate,
+                (baseContext, start) -> executeAttempt(
+                        requestFactory,
+                        BYTE_BODY,
+                        holder.errorBodyMaxBytes(),
+                        baseContext,
+                        start)
+                        .map(result -> result.map(body -> body == null ? null : wrap.apply(body))));
+    }
+
+    private <T> Mono<ProviderResult<T>> executeWithContext(
+            WebClientHolder holder,
+            HttpMethod httpMethod,
+            String operation,
+            String path,
+            String failureMessage,
+            Predicate<Throwable> callerRetryablePredicate,
+            AttemptFactory<T> attemptFactory) {
+        return executeWithContext(
+                holder,
+                httpMethod,
+                operation,
+                path,
+                failureMessage,
+                callerRetryablePredicate,
+                isHedgeable(holder, httpMethod),
+                attemptFactory);
+    }
+
+    private <T> Mono<ProviderResult<T>> executeWithContext(
+            WebClientHolder holder,
+            HttpMethod httpMethod,
+            String operation,
+            String path,
+            String failureMessage,
+            Predicate<Throwable> callerRetryablePredicate,
+            boolean hedged,
+            AttemptFactory<T> attemptFactory) {
 
         org.springframework.security.core.context.SecurityContext threadLocalSecurityContext = org.springframework.security.core.context.SecurityContextHolder
                 .getContext();
@@ -81,13 +342,17 @@ public class RestCallExecutor extends ExecutorBase {
                     0L,
                     collectedAt);
 
-            RetrySettings retrySettings = holder.retrySettings();
             Predicate<Throwable> effectiveRetryable = throwable -> isRetryableException(throwable)
                     || callerRetryablePredicate.test(throwable);
+            Supplier<Mono<ProviderResult<T>>> attempt = () -> attemptFactory.create(baseContext, start);
+            AttemptPlan<T> attemptPlan = hedged
+                    ? hedgedAttempt(holder, attempt, effectiveRetryable)
+                    : guard -> guard.guard(attempt);
             return executeWithRetry(
-                    "rest:" + holder.serviceId(),
-                    retrySettings,
-                    () -> executeAttempt(requestFactory, baseContext, start),
+                    holder.retryPolicy(),
+                    holder.serviceId(),
+                    holder.timeoutSettings(),
+                    attemptPlan,
                     effectiveRetryable,
                     ex -> toPlatformException(ex, failureMessage, baseContext, start));
         })
@@ -99,50 +364,183 @@ public class RestCallExecutor extends ExecutorBase {
                 });
     }
 
-    private Mono<ProviderResult<String>> executeAttempt(
+    private boolean isHedgeable(WebClientHolder holder, HttpMethod httpMethod) {
+        return holder.hedgeSettings().enabled()
+                && (HttpMethod.GET.equals(httpMethod) || HttpMethod.HEAD.equals(httpMethod));
+    }
+
+    /**
+     * Plans one attempt so a second, identical request is fired when the first has not completed
+     * within the service's observed latency percentile.
+     *
+     * <p>Each request takes its own circuit breaker permission, concurrency limit slot and bulkhead
+     * slot, so in-flight caps count both. When the guards reject the hedge, it is skipped and the
+     * first request decides the attempt alone. The first successful response wins and the other
+     * request is cancelled. A failure is only swallowed while the other request is still in flight
+     * and the failure is retryable; otherwise it is propagated immediately so the retry policy sees
+     * it.
+     */
+    private <T> AttemptPlan<T> hedgedAttempt(
+            WebClientHolder holder,
+            Supplier<Mono<ProviderResult<T>>> attempt,
+            Predicate<Throwable> retryable) {
+        HedgeSettings hedgeSettings = holder.hedgeSettings();
+        LatencyTracker tracker = latencyTrackers.computeIfAbsent(holder.serviceId(), key -> new LatencyTracker());
+        return guard -> {
+            AtomicInteger inFlight = new AtomicInteger(1);
+            Mono<ProviderResult<T>> primary = guard.guard(() -> trackedAttempt(attempt, tracker))
+                    .onErrorResume(ex -> yieldToPeer(ex, inFlight, retryable));
+            Mono<ProviderResult<T>> hedge = Mono.delay(hedgeSettings.hedgeDelay(tracker))
+                    .flatMap(tick -> {
+                        AtomicBoolean admitted = new AtomicBoolean();
+                        // Counted only once every guard has admitted the hedge.
+                        return guard.guard(() -> Mono.defer(() -> {
+                                    admitted.set(true);
+                                    inFlight.incrementAndGet();
+                                    return trackedAttempt(attempt, tracker);
+                                }))
+                                .map(this::markHedgeWon)
+                                .onErrorResume(ex -> admitted.get()
+                                        ? yieldToPeer(ex, inFlight, retryable)
+                                        : Mono.empty());
+                    });
+            return Flux.merge(primary, hedge).next();
+        };
+    }
+
+    private <T> Mono<ProviderResult<T>> trackedAttempt(
+            Supplier<Mono<ProviderResult<T>>> attempt,
+            LatencyTracker tracker) {
+        return Mono.defer(() -> {
+            long startNanos = System.nanoTime();
+            return attempt.get()
+                    .doOnNext(result -> tracker.record(
+                            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos)));
+        });
+    }
+
+    private <T> Mono<T> yieldToPeer(Throwable failure, AtomicInteger inFlight, Predicate<Throwable> retryable) {
+        if (inFlight.decrementAndGet() > 0 && retryable.test(failure)) {
+            return Mono.empty();
+        }
+        return Mono.error(failure);
+    }
+
+    private <T> ProviderResult<T> markHedgeWon(ProviderResult<T> result) {
+        DataProviderContext metadata = result.metadata();
+        Map<String, String> attributes = new LinkedHashMap<>(metadata.protocolAttributes());
+        attributes.put(HEDGE_ATTRIBUTE, "won");
+        return new ProviderResult<>(
+                result.status(),
+                result.data(),
+                new DataProviderContext(
+                        metadata.protocol(),
+                        metadata.serviceId(),
+                        metadata.endpoint(),
+                        Map.copyOf(attributes),
+                        metadata.responseTimeMs(),
+                        metadata.collectedAt()),
+                result.retry());
+    }
+
+    private <T> Mono<ProviderResult<T>> executeAttempt(
             Supplier<RequestHeadersSpec<?>> requestFactory,
+            ParameterizedTypeReference<T> bodyType,
+            int errorBodyMaxBytes,
             DataProviderContext baseContext,
             Instant start) {
         return requestFactory.get()
-                .exchangeToMono(response -> mapResponse(
-                        response.statusCode(),
-                        response.bodyToMono(String.class),
-                        baseContext,
-                        start))
-                .timeout(Duration.ofSeconds(3));
+                .exchangeToMono(response -> mapResponse(response, bodyType, errorBodyMaxBytes, baseContext, start));
     }
 
-    private Mono<ProviderResult<String>> mapResponse(
-            HttpStatusCode statusCode,
-            Mono<String> bodyMono,
+    private <T> Mono<ProviderResult<Flux<T>>> executeStreamAttempt(
+            Supplier<RequestHeadersSpec<?>> requestFactory,
+            ParameterizedTypeReference<T> elementType,
+            int errorBodyMaxBytes,
+            Duration idleTimeout,
+            String failureMessage,
             DataProviderContext baseContext,
             Instant start) {
+        return requestFactory.get()
+                .retrieve()
+                .onStatus(
+                        statusCode -> !statusCode.is2xxSuccessful(),
+                        response -> toUpstreamFailure(response, errorBodyMaxBytes, baseContext, start))
+                .toEntityFlux(elementType)
+                .map(entity -> ProviderResult.success(
+                        entity.getStatusCode().value(),
+                        streamBody(entity.getBody(), idleTimeout, failureMessage, baseContext, start),
+                        withResponseTime(baseContext, start)));
+    }
+
+    /**
+     * Body of a streamed response. Whoever first claims it, the subscriber or the idle timer of a
+     * body never subscribed, decides its fate; the timer cancels the body so the connection goes
+     * back to the pool.
+     */
+    private <T> Flux<T> streamBody(
+            Flux<T> body,
+            Duration idleTimeout,
+            String failureMessage,
+            DataProviderContext baseContext,
+            Instant start) {
+        Flux<T> elements = body == null ? Flux.empty() : body;
+        AtomicInteger claim = new AtomicInteger(BODY_UNCLAIMED);
+        Disposable unsubscribedTimeout = Schedulers.parallel().schedule(() -> {
+            if (claim.compareAndSet(BODY_UNCLAIMED, BODY_EXPIRED)) {
+                // take(0) subscribes and cancels at once, which releases the response.
+                elements.take(0).subscribe();
+            }
+        }, idleTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        return Flux.defer(() -> {
+                    if (claim.compareAndSet(BODY_UNCLAIMED, BODY_SUBSCRIBED)) {
+                        unsubscribedTimeout.dispose();
+                        return elements.timeout(idleTimeout);
+                    }
+                    return Flux.<T>error(claim.get() == BODY_EXPIRED
+                            ? new TimeoutException("REST body stream was not subscribed within "
+                                    + idleTimeout.toMillis() + "ms")
+                            : new IllegalStateException("REST body stream can only be consumed once"));
+                })
+                .onErrorMap(ex -> toPlatformException(ex, failureMessage, baseContext, start));
+    }
+
+    private <T> Mono<ProviderResult<T>> mapResponse(
+            ClientResponse response,
+            ParameterizedTypeReference<T> bodyType,
+            int errorBodyMaxBytes,
+            DataProviderContext baseContext,
+            Instant start) {
+        HttpStatusCode statusCode = response.statusCode();
         if (statusCode.is2xxSuccessful()) {
             DataProviderContext context = withResponseTime(baseContext, start);
             int responseStatus = statusCode.value();
-            return bodyMono
+            return response.bodyToMono(bodyType)
                     .map(body -> ProviderResult.success(responseStatus, body, context))
                     .switchIfEmpty(Mono.fromSupplier(() -> ProviderResult.success(responseStatus, null, context)));
         }
 
-        return bodyMono
-                .timeout(Duration.ofMillis(500))
-                .onErrorResume(e -> Mono.just("<unreadable or timeout>"))
-                .defaultIfEmpty("")
-                .flatMap(errorBody -> {
-                    String errorMessage = "Upstream returned HTTP " + statusCode.value();
-                    if (!errorBody.isEmpty()) {
-                        String truncated = errorBody.length() > 1000 ? errorBody.substring(0, 1000) + "..." : errorBody;
-                        errorMessage += " Response: " + truncated;
-                    }
+        return toUpstreamFailure(response, errorBodyMaxBytes, baseContext, start).flatMap(Mono::error);
+    }
 
-                    return Mono.error(new CreditSummaryDataCollectionException(
-                            ErrorCode.LAYER_DATA_COLLECTION_FAILURE,
-                            errorMessage,
-                            withResponseTime(baseContext, start),
-                            new UpstreamInfo(statusCode.value(), statusCode.toString(), elapsedMs(start)),
-                            null));
-                });
+    private Mono<CreditSummaryDataCollectionException> toUpstreamFailure(
+            ClientResponse response,
+            int errorBodyMaxBytes,
+            DataProviderContext baseContext,
+            Instant start) {
+        HttpStatusCode statusCode = response.statusCode();
+        return UpstreamErrorBody.read(response, errorBodyMaxBytes)
+                .map(errorBody -> new CreditSummaryDataCollectionException(
+                        ErrorCode.LAYER_DATA_COLLECTION_FAILURE,
+                        UpstreamErrorBody.describe(statusCode, errorBody),
+                        withResponseTime(baseContext, start),
+                        new UpstreamInfo(
+                                statusCode.value(),
+                                statusCode.toString(),
+                                elapsedMs(start),
+                                null,
+                                UpstreamErrorBody.retryAfterMs(statusCode, response.headers().asHttpHeaders())),
+                        null));
     }
 
     /**
@@ -215,4 +613,12 @@ public class RestCallExecutor extends ExecutorBase {
                 new UpstreamInfo(null, throwable.getMessage(), elapsedMs(start)),
                 throwable);
     }
+
+    /**
+     * Creates one outbound attempt for the shared call context.
+     */
+    @FunctionalInterface
+    private interface AttemptFactory<T> {
+        Mono<ProviderResult<T>> create(DataProviderContext baseContext, Instant start);
+    }
 }
@@ -6,12 +6,17 @@ import com.cfbl.platform.core.exception.core.DataProviderContext;
 import com.cfbl.platform.core.exception.core.ErrorCode;
 import com.cfbl.platform.core.exception.core.UpstreamInfo;
 import com.cfbl.platform.core.integration.model.ProviderResult;
+import com.cfbl.platform.core.timeout.Deadline;
+import com.cfbl.platform.core.timeout.TimeoutSettings;
 import java.lang.reflect.Type;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
 import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.stereotype.Component;
@@ -20,13 +25,28 @@ import reactor.core.publisher.Mono;
 
 /**
  * Lightweight REST executor for simple WebClient calls without retry orchestration.
+ *
+ * <p>Calls are recorded in {@link ProviderCallMetrics} under {@code rest-simple:<serviceId>}.
  */
 @Component
 public class SimpleRestExecutor {
 
-    private static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(3);
+    private static final TimeoutSettings DEFAULT_TIMEOUT_SETTINGS = TimeoutSettings.defaults();
     private static final String DEFAULT_OPERATION = "simpleRestCall";
     private static final String DEFAULT_FAILURE_MESSAGE = "REST call failed";
+    private static final String METRICS_NAME_PREFIX = "rest-simple:";
+
+    private final ProviderCallMetrics callMetrics;
+    private final Map<String, ProviderCallMetrics.ServiceCalls> callsByService = new ConcurrentHashMap<>();
+
+    public SimpleRestExecutor() {
+        this(new ProviderCallMetrics());
+    }
+
+    @Autowired
+    public SimpleRestExecutor(ProviderCallMetrics callMetrics) {
+        this.callMetrics = Objects.requireNonNull(callMetrics, "callMetrics");
+    }
 
     /**
      * Executes simple REST call and returns integration-layer result (no API envelope coupling).
@@ -39,6 +59,32 @@ public class SimpleRestExecutor {
             Function<WebClient, WebClient.RequestHeadersSpec<?>> requestFactory,
             Type responseType,
             String failureMessage) {
+        return executeProvider(
+                webClient,
+                serviceId,
+                uri,
+                operation,
+                requestFactory,
+                responseType,
+                failureMessage,
+                DEFAULT_TIMEOUT_SETTINGS);
+    }
+
+    /**
+     * Executes simple REST call with explicit timeout settings.
+     *
+     * <p>The call timeout is bounded by any {@link Deadline} in the subscriber context; an already
+     * expired deadline fails fast without calling the provider.
+     */
+    public <T> Mono<ProviderResult<T>> executeProvider(
+            WebClient webClient,
+            String serviceId,
+            String uri,
+            String operation,
+            Function<WebClient, WebClient.RequestHeadersSpec<?>> requestFactory,
+            Type responseType,
+            String failureMessage,
+            TimeoutSettings timeoutSettings) {
         Objects.requireNonNull(webClient, "webClient");
         Objects.requireNonNull(serviceId, "serviceId");
         Objects.requireNonNull(uri, "uri");
@@ -46,8 +92,11 @@ public class SimpleRestExecutor {
         Objects.requireNonNull(requestFactory, "requestFactory");
         Objects.requireNonNull(responseType, "responseType");
         Objects.requireNonNull(failureMessage, "failureMessage");
+        Objects.requireNonNull(timeoutSettings, "timeoutSettings");
 
-        return Mono.defer(() -> {
+        ProviderCallMetrics.ServiceCalls calls = calls(serviceId);
+        return Mono.deferContextual(ctx -> {
+            long startNanos = calls.start();
             @SuppressWarnings("unchecked")
             ParameterizedTypeReference<T> bodyType =
                     (ParameterizedTypeReference<T>) ParameterizedTypeReference.forType(responseType);
@@ -61,11 +110,24 @@ public class SimpleRestExecutor {
                     0L,
                     start);
 
-            return requestFactory.apply(webClient)
-                    .exchangeToMono(response ->
-                            mapResponse(response.statusCode(), response.bodyToMono(bodyType), baseContext, start))
-                    .timeout(DEFAULT_TIMEOUT)
-                    .onErrorMap(ex -> toPlatformException(ex, failureMessage, baseContext, start));
+            Deadline deadline = Deadline.fromContext(ctx);
+            Mono<ProviderResult<T>> call;
+            if (deadline != null && deadline.isExpired()) {
+                call = Mono.error(new TimeoutException("Request deadline exceeded before provider call"));
+            } else {
+                Duration timeout = deadline == null
+                        ? timeoutSettings.attemptTimeout()
+                        : deadline.boundAttemptTimeout(timeoutSettings.attemptTimeout());
+                call = requestFactory.apply(webClient)
+                        .exchangeToMono(response ->
+                                mapResponse(response.statusCode(), response.bodyToMono(bodyType), baseContext, start))
+                        .timeout(timeout);
+            }
+            return call
+                    .onErrorMap(ex -> toPlatformException(ex, failureMessage, baseContext, start))
+                    .doOnSuccess(result -> calls.recordSuccess(startNanos, result))
+                    .doOnError(failure -> calls.recordFailure(startNanos, failure))
+                    .doFinally(signal -> calls.finish());
         });
     }
 
@@ -88,6 +150,13 @@ public class SimpleRestExecutor {
                 DEFAULT_FAILURE_MESSAGE);
     }
 
+    private ProviderCallMetrics.ServiceCalls calls(String serviceId) {
+        ProviderCallMetrics.ServiceCalls calls = callsByService.get(serviceId);
+        return calls != null
+                ? calls
+                : callsByService.computeIfAbsent(serviceId, id -> callMetrics.service(METRICS_NAME_PREFIX + id, id));
+    }
+
     private <T> Mono<ProviderResult<T>> mapResponse(
             HttpStatusCode statusCode,
             Mono<T> bodyMono,
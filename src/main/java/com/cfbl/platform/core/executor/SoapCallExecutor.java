@@ -1,39 +1,122 @@
 package com.cfbl.platform.core.executor;
 
+import com.cfbl.platform.core.concurrent.BlockingCallOffloader;
 import com.cfbl.platform.core.exception.core.CreditSummaryDataCollectionException;
 import com.cfbl.platform.core.exception.core.CreditSummaryPlatformException;
 import com.cfbl.platform.core.exception.core.DataProviderContext;
 import com.cfbl.platform.core.exception.core.ErrorCode;
 import com.cfbl.platform.core.exception.core.UpstreamInfo;
 import com.cfbl.platform.core.integration.model.ProviderResult;
+import com.cfbl.platform.core.resilience.BulkheadPolicyExecutor;
+import com.cfbl.platform.core.resilience.CircuitBreakerPolicyExecutor;
+import com.cfbl.platform.core.resilience.ConcurrencyLimitPolicyExecutor;
+import com.cfbl.platform.core.retry.RetryPolicy;
 import com.cfbl.platform.core.retry.RetryPolicyExecutor;
+import com.cfbl.platform.core.retry.RetryPolicies;
 import com.cfbl.platform.core.retry.RetrySettings;
+import com.cfbl.platform.core.timeout.TimeoutSettings;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.ConnectException;
 import java.net.SocketTimeoutException;
-import java.time.Duration;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.Map;
 import java.util.concurrent.TimeoutException;
 import java.util.Objects;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import javax.xml.stream.XMLStreamException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 /**
  * Executes outbound SOAP port calls and maps results into integration-layer {@code ProviderResult}.
  *
- * <p>SOAP invocation is blocking. The supplier call executes on the caller/subscriber thread
- * (no internal scheduler offload), so thread-local request/security context is preserved.
+ * <p>SOAP invocation is blocking. By default the supplier call executes on the caller/subscriber
+ * thread, so thread-local request/security context is preserved. Services configured with
+ * {@code ServiceDefinition.offload} run the call on their own bounded-elastic or virtual-thread
+ * lane through {@link BlockingCallOffloader} instead, which carries the security context and MDC
+ * across explicitly; a saturated lane fails the attempt without retrying.
+ *
+ * <p>{@code executeProviderStream} bypasses the port supplier: it posts the envelope to the
+ * endpoint of a {@link SoapServiceHolder} and streams repeated body elements out of the response
+ * with {@link SoapEnvelopeReader}, so large reports are never materialized as a whole.
  */
 @Component
 public class SoapCallExecutor extends ExecutorBase {
 
     private static final RetrySettings DEFAULT_RETRY_SETTINGS = RetrySettings.defaults();
+    private static final TimeoutSettings DEFAULT_TIMEOUT_SETTINGS = TimeoutSettings.defaults();
+
+    private static final MediaType SOAP_11_CONTENT_TYPE = MediaType.parseMediaType("text/xml; charset=utf-8");
+    private static final String SOAP_ACTION_HEADER = "SOAPAction";
+    private static final String ENVELOPE_START = "<soapenv:Envelope xmlns:soapenv=\""
+            + SoapEnvelopeReader.SOAP_11_NAMESPACE + "\"><soapenv:Body>";
+    private static final String ENVELOPE_END = "</soapenv:Body></soapenv:Envelope>";
+    private static final int STREAM_BUFFER_DEMAND = 4;
+    // How far into a non-2xx body the fault parser looks for the start of a Fault element.
+    private static final int FAULT_SCAN_MAX_BYTES = 8192;
+
+    private final RetryPolicies retryPolicies = RetryPolicies.shared("soap:");
+    private final BlockingCallOffloader offloader;
 
     public SoapCallExecutor(RetryPolicyExecutor retryExecutor) {
         super(retryExecutor);
+        this.offloader = new BlockingCallOffloader();
+    }
+
+    public SoapCallExecutor(RetryPolicyExecutor retryExecutor, CircuitBreakerPolicyExecutor circuitBreakerExecutor) {
+        this(retryExecutor, circuitBreakerExecutor, new BulkheadPolicyExecutor());
+    }
+
+    public SoapCallExecutor(
+            RetryPolicyExecutor retryExecutor,
+            CircuitBreakerPolicyExecutor circuitBreakerExecutor,
+            BulkheadPolicyExecutor bulkheadExecutor) {
+        this(retryExecutor, circuitBreakerExecutor, bulkheadExecutor, new ConcurrencyLimitPolicyExecutor());
+    }
+
+    public SoapCallExecutor(
+            RetryPolicyExecutor retryExecutor,
+            CircuitBreakerPolicyExecutor circuitBreakerExecutor,
+            BulkheadPolicyExecutor bulkheadExecutor,
+            ConcurrencyLimitPolicyExecutor concurrencyLimitExecutor) {
+        this(retryExecutor, circuitBreakerExecutor, bulkheadExecutor, concurrencyLimitExecutor,
+                new BlockingCallOffloader());
+    }
+
+    public SoapCallExecutor(
+            RetryPolicyExecutor retryExecutor,
+            CircuitBreakerPolicyExecutor circuitBreakerExecutor,
+            BulkheadPolicyExecutor bulkheadExecutor,
+            ConcurrencyLimitPolicyExecutor concurrencyLimitExecutor,
+            BlockingCallOffloader offloader) {
+        this(retryExecutor, circuitBreakerExecutor, bulkheadExecutor, concurrencyLimitExecutor, offloader,
+                new ProviderCallMetrics());
+    }
+
+    @Autowired
+    public SoapCallExecutor(
+            RetryPolicyExecutor retryExecutor,
+            CircuitBreakerPolicyExecutor circuitBreakerExecutor,
+            BulkheadPolicyExecutor bulkheadExecutor,
+            ConcurrencyLimitPolicyExecutor concurrencyLimitExecutor,
+            BlockingCallOffloader offloader,
+            ProviderCallMetrics callMetrics) {
+        super(retryExecutor, circuitBreakerExecutor, bulkheadExecutor, concurrencyLimitExecutor, callMetrics);
+        this.offloader = Objects.requireNonNull(offloader, "offloader");
     }
 
     /**
@@ -47,6 +130,32 @@ public class SoapCallExecutor extends ExecutorBase {
             String failureMessage,
             RetrySettings retrySettings,
             Predicate<Throwable> callerRetryablePredicate) {
+        return executeProvider(
+                serviceId,
+                endpointUrl,
+                operation,
+                portCallSupplier,
+                failureMessage,
+                retrySettings,
+                DEFAULT_TIMEOUT_SETTINGS,
+                callerRetryablePredicate);
+    }
+
+    /**
+     * Executes a SOAP provider call with explicit per-service timeout settings.
+     *
+     * <p>The attempt timeout is further bounded by any {@link com.cfbl.platform.core.timeout.Deadline}
+     * in the subscriber context.
+     */
+    public <T> Mono<ProviderResult<T>> executeProvider(
+            String serviceId,
+            String endpointUrl,
+            String operation,
+            Supplier<T> portCallSupplier,
+            String failureMessage,
+            RetrySettings retrySettings,
+            TimeoutSettings timeoutSettings,
+            Predicate<Throwable> callerRetryablePredicate) {
         return Mono.defer(() -> {
             Objects.requireNonNull(serviceId, "serviceId");
             Objects.requireNonNull(endpointUrl, "endpointUrl");
@@ -54,6 +163,7 @@ public class SoapCallExecutor extends ExecutorBase {
             Objects.requireNonNull(portCallSupplier, "portCallSupplier");
             Objects.requireNonNull(failureMessage, "failureMessage");
             Objects.requireNonNull(retrySettings, "retrySettings");
+            Objects.requireNonNull(timeoutSettings, "timeoutSettings");
             Objects.requireNonNull(callerRetryablePredicate, "callerRetryablePredicate");
 
             Instant collectedAt = Instant.now();
@@ -69,10 +179,12 @@ public class SoapCallExecutor extends ExecutorBase {
 
             Predicate<Throwable> effectiveRetryable =
                     throwable -> isRetryableException(throwable) || callerRetryablePredicate.test(throwable);
+            RetryPolicy retryPolicy = retryPolicies.forService(serviceId, retrySettings);
             return executeWithRetry(
-                    "soap:" + serviceId,
-                    retrySettings,
-                    () -> executeAttempt(portCallSupplier, baseContext, start),
+                    retryPolicy,
+                    serviceId,
+                    timeoutSettings,
+                    () -> executeAttempt(retryPolicy.name(), portCallSupplier, baseContext, start),
                     effectiveRetryable,
                     ex -> toPlatformException(ex, failureMessage, baseContext, start));
         });
@@ -97,15 +209,261 @@ public class SoapCallExecutor extends ExecutorBase {
                 throwable -> false);
     }
 
+    /**
+     * Posts a SOAP 1.1 request to the holder's endpoint and streams the response elements named
+     * {@code elementName} (e.g. {@code tradeline}) as they are parsed.
+     *
+     * <p>{@code requestBody} is the body content; it is wrapped in an envelope and sent with the
+     * holder's {@code SOAPAction}. The response is pull-parsed on a bounded-elastic thread and an
+     * element is only read and mapped when requested downstream, so backpressure reaches the
+     * socket. Retry, timeout and {@link DataProviderContext} timing cover the exchange up to the
+     * response headers; the returned {@code Flux} is consumed once by the caller and is not
+     * retried.
+     *
+     * <p>SOAP faults, whether sent with a non-2xx status or inside a 2xx body, map to
+     * {@link CreditSummaryDataCollectionException} with the {@link SoapFaultException} as cause.
+     * Client/Sender faults are not retried. A fault's code and reason, like the message of a
+     * non-fault error body, are cut to the holder's {@code errorBodyMaxBytes}. A non-2xx body is
+     * read only until a fault is found within its first 8 KiB (or {@code errorBodyMaxBytes}, if
+     * larger); a fault starting there is read to its end, a body without one is not read further.
+     */
+    public <T> Mono<ProviderResult<Flux<T>>> executeProviderStream(
+            SoapServiceHolder holder,
+            String operation,
+            String requestBody,
+            String elementName,
+            SoapElementReader<T> elementReader,
+            String failureMessage,
+            Predicate<Throwable> callerRetryablePredicate) {
+        return Mono.defer(() -> {
+            Objects.requireNonNull(holder, "holder");
+            Objects.requireNonNull(operation, "operation");
+            Objects.requireNonNull(requestBody, "requestBody");
+            Objects.requireNonNull(elementName, "elementName");
+            Objects.requireNonNull(elementReader, "elementReader");
+            Objects.requireNonNull(failureMessage, "failureMessage");
+            Objects.requireNonNull(callerRetryablePredicate, "callerRetryablePredicate");
+
+            Instant collectedAt = Instant.now();
+            Instant start = collectedAt;
+
+            DataProviderContext baseContext = new DataProviderContext(
+                    DataProviderContext.Protocol.SOAP,
+                    holder.serviceId(),
+                    holder.endpointUrl(),
+                    Map.of("operation", operation, "soapAction", holder.soapAction()),
+                    0L,
+                    collectedAt);
+
+            Predicate<Throwable> effectiveRetryable =
+                    throwable -> isRetryableException(throwable) || callerRetryablePredicate.test(throwable);
+            String envelope = ENVELOPE_START + requestBody + ENVELOPE_END;
+            return executeWithRetry(
+                    holder.http().retryPolicy(),
+                    holder.serviceId(),
+                    holder.http().timeoutSettings(),
+                    () -> executeStreamAttempt(
+                            holder, envelope, elementName, elementReader, failureMessage, baseContext, start),
+                    effectiveRetryable,
+                    ex -> toPlatformException(ex, failureMessage, baseContext, start));
+        });
+    }
+
+    private <T> Mono<ProviderResult<Flux<T>>> executeStreamAttempt(
+            SoapServiceHolder holder,
+            String envelope,
+            String elementName,
+            SoapElementReader<T> elementReader,
+            String failureMessage,
+            DataProviderContext baseContext,
+            Instant start) {
+        return holder.http().webClient().post()
+                .contentType(SOAP_11_CONTENT_TYPE)
+                .header(SOAP_ACTION_HEADER, "\"" + holder.soapAction() + "\"")
+                .bodyValue(envelope)
+                .retrieve()
+                .onStatus(
+                        statusCode -> !statusCode.is2xxSuccessful(),
+                        response -> toUpstreamFailure(response, holder.http().errorBodyMaxBytes(), baseContext, start))
+                .toEntityFlux(DataBuffer.class)
+                .map(entity -> ProviderResult.success(
+                        entity.getStatusCode().value(),
+                        streamElements(
+                                entity.getBody(),
+                                elementName,
+                                elementReader,
+                                holder.http().errorBodyMaxBytes(),
+                                failureMessage,
+                                baseContext,
+                                start),
+                        withResponseTime(baseContext, start)));
+    }
+
+    private <T> Flux<T> streamElements(
+            Flux<DataBuffer> body,
+            String elementName,
+            SoapElementReader<T> elementReader,
+            int errorBodyMaxBytes,
+            String failureMessage,
+            DataProviderContext baseContext,
+            Instant start) {
+        Flux<DataBuffer> buffers = body == null ? Flux.empty() : body;
+        return Flux.<T, SoapEnvelopeReader>generate(
+                        () -> new SoapEnvelopeReader(
+                                DataBufferUtils.subscriberInputStream(buffers, STREAM_BUFFER_DEMAND), errorBodyMaxBytes),
+                        (envelope, sink) -> {
+                            try {
+                                T element = envelope.next(elementName, elementReader);
+                                if (element == null) {
+                                    sink.complete();
+                                } else {
+                                    sink.next(element);
+                                }
+                            } catch (XMLStreamException | SoapFaultException ex) {
+                                sink.error(ex);
+                            }
+                            return envelope;
+                        },
+                        SoapCallExecutor::closeQuietly)
+                .subscribeOn(Schedulers.boundedElastic())
+                .onErrorMap(ex -> ex instanceof SoapFaultException fault
+                        ? faultFailure(fault, HttpStatus.OK.value(), baseContext, start)
+                        : toPlatformException(ex, failureMessage, baseContext, start));
+    }
+
+    private Mono<CreditSummaryDataCollectionException> toUpstreamFailure(
+            ClientResponse response,
+            int errorBodyMaxBytes,
+            DataProviderContext baseContext,
+            Instant start) {
+        HttpStatusCode statusCode = response.statusCode();
+        return Mono.using(
+                        () -> new CapturingInputStream(
+                                DataBufferUtils.subscriberInputStream(
+                                        response.bodyToFlux(DataBuffer.class), STREAM_BUFFER_DEMAND),
+                                errorBodyMaxBytes),
+                        body -> Mono.fromCallable(() -> SoapEnvelopeReader.fault(
+                                        body, errorBodyMaxBytes, Math.max(errorBodyMaxBytes, FAULT_SCAN_MAX_BYTES))
+                                .map(fault -> faultFailure(fault, statusCode.value(), baseContext, start))
+                                .orElseGet(() -> new CreditSummaryDataCollectionException(
+                                        ErrorCode.LAYER_DATA_COLLECTION_FAILURE,
+                                        UpstreamErrorBody.describe(statusCode, body.captured()),
+                                        withResponseTime(baseContext, start),
+                                        new UpstreamInfo(
+                                                statusCode.value(),
+                                                statusCode.toString(),
+                                                elapsedMs(start),
+                                                null,
+                                                UpstreamErrorBody.retryAfterMs(
+                                                        statusCode, response.headers().asHttpHeaders())),
+                                        null))),
+                        SoapCallExecutor::closeBody)
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private CreditSummaryDataCollectionException faultFailure(
+            SoapFaultException fault,
+            int httpStatus,
+            DataProviderContext baseContext,
+            Instant start) {
+        return new CreditSummaryDataCollectionException(
+                ErrorCode.LAYER_DATA_COLLECTION_FAILURE,
+                fault.getMessage(),
+                withResponseTime(baseContext, start),
+                new UpstreamInfo(httpStatus, fault.getFaultString(), elapsedMs(start)),
+                fault);
+    }
+
+    private static void closeQuietly(SoapEnvelopeReader envelope) {
+        try {
+            envelope.close();
+        } catch (IOException ignored) {
+            // Nothing left to release once the response stream is gone.
+        }
+    }
+
+    private static void closeBody(CapturingInputStream body) {
+        try {
+            body.close();
+        } catch (IOException ignored) {
+            // Closing cancels the rest of the body; there is nothing else to release.
+        }
+    }
+
+    /**
+     * Keeps the first {@code maxBytes} bytes read from an error body, so a body that holds no
+     * fault can still be quoted in the failure message after the fault parser has scanned it.
+     */
+    private static final class CapturingInputStream extends FilterInputStream {
+
+        private static final String TRUNCATED_SUFFIX = "...";
+
+        private final ByteArrayOutputStream head = new ByteArrayOutputStream();
+        private final int maxBytes;
+        private boolean truncated;
+
+        private CapturingInputStream(InputStream body, int maxBytes) {
+            super(body);
+            this.maxBytes = Math.max(0, maxBytes);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int value = super.read();
+            if (value >= 0) {
+                keep(new byte[] {(byte) value}, 0, 1);
+            }
+            return value;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int count = super.read(buffer, offset, length);
+            if (count > 0) {
+                keep(buffer, offset, count);
+            }
+            return count;
+        }
+
+        /**
+         * Captured text, reading on up to the cap when the parser stopped short of it.
+         */
+        private String captured() {
+            if (maxBytes == 0) {
+                return "";
+            }
+            byte[] buffer = new byte[1024];
+            try {
+                while (!truncated && read(buffer, 0, buffer.length) >= 0) {
+                    // Bytes are kept by read.
+                }
+            } catch (IOException ignored) {
+                // Quote what was read before the failure.
+            }
+            String text = head.toString(StandardCharsets.UTF_8);
+            return truncated ? text + TRUNCATED_SUFFIX : text;
+        }
+
+        private void keep(byte[] buffer, int offset, int count) {
+            int room = maxBytes - head.size();
+            if (room > 0) {
+                head.write(buffer, offset, Math.min(room, count));
+            }
+            if (count > room) {
+                truncated = true;
+            }
+        }
+    }
+
     private <T> Mono<ProviderResult<T>> executeAttempt(
+            String laneName,
             Supplier<T> portCallSupplier,
             DataProviderContext baseContext,
             Instant start) {
         DataProviderContext responseContext = withResponseTime(baseContext, start);
-        return Mono.fromCallable(portCallSupplier::get)
+        return offloader.call(laneName, baseContext.serviceId(), portCallSupplier)
                 .map(body -> ProviderResult.success(HttpStatus.OK.value(), body, responseContext))
-                .switchIfEmpty(Mono.fromSupplier(() -> ProviderResult.success(HttpStatus.OK.value(), null, responseContext)))
-                .timeout(Duration.ofSeconds(3));
+                .switchIfEmpty(Mono.fromSupplier(() -> ProviderResult.success(HttpStatus.OK.value(), null, responseContext)));
     }
 
     /**
@@ -120,11 +478,15 @@ public class SoapCallExecutor extends ExecutorBase {
      *
      * <p>Non-retryable conditions:
      * <ul>
+     *   <li>SOAP {@code Client}/{@code Sender} faults anywhere in the cause chain</li>
      *   <li>business/presentation exceptions</li>
      *   <li>explicit non-transient SOAP contract/validation faults not mapped as transport failures</li>
      * </ul>
      */
     private boolean isRetryableException(Throwable throwable) {
+        if (isClientFault(throwable)) {
+            return false;
+        }
         return throwable instanceof TimeoutException
                 || throwable instanceof SocketTimeoutException
                 || throwable instanceof ConnectException
@@ -134,6 +496,17 @@ public class SoapCallExecutor extends ExecutorBase {
                 || throwable instanceof CreditSummaryDataCollectionException;
     }
 
+    private boolean isClientFault(Throwable throwable) {
+        Throwable current = throwable;
+        while (current != null) {
+            if (current instanceof SoapFaultException fault) {
+                return fault.isClientFault();
+            }
+            current = current.getCause();
+        }
+        return false;
+    }
+
     private boolean hasCause(Throwable throwable, Class<? extends Throwable> type) {
         Throwable current = throwable;
         while (current != null) {
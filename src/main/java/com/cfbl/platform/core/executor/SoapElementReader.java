@@ -0,0 +1,56 @@
+package com.cfbl.platform.core.executor;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * Maps one repeated element of a streamed SOAP body to a value.
+ *
+ * <p>{@link #read(XMLStreamReader)} is called with the reader positioned on the element's
+ * {@code START_ELEMENT} and must return with the reader positioned on the matching
+ * {@code END_ELEMENT}, so only the current element is ever held in memory.
+ *
+ * @param <T> mapped element type
+ */
+@FunctionalInterface
+public interface SoapElementReader<T> {
+
+    T read(XMLStreamReader reader) throws XMLStreamException;
+
+    /**
+     * Reads the text of each direct child element, keyed by local name. Nested grandchildren are
+     * skipped.
+     */
+    static SoapElementReader<Map<String, String>> childText() {
+        return reader -> {
+            Map<String, String> values = new LinkedHashMap<>();
+            StringBuilder text = new StringBuilder();
+            String child = null;
+            int depth = 0;
+            while (reader.hasNext()) {
+                int event = reader.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    if (++depth == 1) {
+                        child = reader.getLocalName();
+                        text.setLength(0);
+                    }
+                } else if (event == XMLStreamConstants.CHARACTERS || event == XMLStreamConstants.CDATA) {
+                    if (depth == 1) {
+                        text.append(reader.getText());
+                    }
+                } else if (event == XMLStreamConstants.END_ELEMENT) {
+                    if (depth == 0) {
+                        return values;
+                    }
+                    if (depth-- == 1) {
+                        values.put(child, text.toString());
+                    }
+                }
+            }
+            return values;
+        };
+    }
+}
@@ -0,0 +1,258 @@
+package com.cfbl.platform.core.executor;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.Optional;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * Pull-parses a SOAP envelope with StAX and hands out repeated body elements one at a time.
+ *
+ * <p>Only the element being mapped is held in memory, so a credit report with thousands of
+ * tradelines is never materialized as a whole. A {@code Fault} anywhere in the body (SOAP 1.1 or
+ * 1.2) raises {@link SoapFaultException}; its code and reason are cut to a byte cap, as error
+ * bodies are. DTDs and external entities are disabled.
+ */
+public final class SoapEnvelopeReader implements AutoCloseable {
+
+    static final String SOAP_11_NAMESPACE = "http://schemas.xmlsoap.org/soap/envelope/";
+    static final String SOAP_12_NAMESPACE = "http://www.w3.org/2003/05/soap-envelope";
+
+    // Fault codes are QNames; keep them whole below this length so Client/Sender faults are still
+    // recognized under a tiny error-body cap.
+    private static final int FAULT_CODE_MIN_BYTES = 256;
+    private static final String TRUNCATED_SUFFIX = "...";
+
+    private static final XMLInputFactory INPUT_FACTORY = newInputFactory(true);
+    // Not coalescing, so fault text arrives in parser-sized chunks and can be cut off while reading.
+    private static final XMLInputFactory FAULT_INPUT_FACTORY = newInputFactory(false);
+
+    private final InputStream input;
+    private final XMLStreamReader reader;
+    private final int faultTextMaxBytes;
+
+    public SoapEnvelopeReader(InputStream input) throws XMLStreamException {
+        this(input, UpstreamErrorBody.DEFAULT_MAX_BYTES);
+    }
+
+    /**
+     * @param faultTextMaxBytes cap on the code and reason of a fault found in the envelope
+     */
+    public SoapEnvelopeReader(InputStream input, int faultTextMaxBytes) throws XMLStreamException {
+        this.input = Objects.requireNonNull(input, "input");
+        this.reader = INPUT_FACTORY.createXMLStreamReader(input);
+        this.faultTextMaxBytes = faultTextMaxBytes;
+    }
+
+    /**
+     * Advances to the next element named {@code localName} (at any depth) and maps it.
+     *
+     * @return mapped element, or {@code null} when the envelope has no further such element
+     * @throws SoapFaultException if a SOAP fault is encountered first
+     */
+    public <T> T next(String localName, SoapElementReader<T> elementReader) throws XMLStreamException {
+        while (reader.hasNext()) {
+            if (reader.next() != XMLStreamConstants.START_ELEMENT) {
+                continue;
+            }
+            if (isFault(reader)) {
+                throw readFault(reader, faultTextMaxBytes);
+            }
+            if (localName.equals(reader.getLocalName())) {
+                return Objects.requireNonNull(elementReader.read(reader), "element reader returned null");
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            reader.close();
+        } catch (XMLStreamException ignored) {
+            // The stream is closed below either way.
+        } finally {
+            input.close();
+        }
+    }
+
+    /**
+     * Extracts the fault of a fully buffered envelope, e.g. an HTTP 500 error body.
+     *
+     * @return fault with code and reason cut to {@link UpstreamErrorBody#DEFAULT_MAX_BYTES}, or
+     *     empty when the body is not a well-formed envelope containing a fault
+     */
+    public static Optional<SoapFaultException> fault(String body) {
+        if (body == null || body.isEmpty()) {
+            return Optional.empty();
+        }
+        return fault(
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)),
+                UpstreamErrorBody.DEFAULT_MAX_BYTES,
+                Long.MAX_VALUE);
+    }
+
+    /**
+     * Extracts the fault of an envelope as it is read from {@code input}.
+     *
+     * <p>The {@code Fault} element must start within the first {@code scanMaxBytes} bytes;
+     * otherwise reading stops there and the body counts as holding no fault. Once inside the
+     * fault, reading goes on to its end, keeping at most {@code textMaxBytes} of its code and
+     * reason. {@code input} is left open for the caller.
+     *
+     * @param textMaxBytes cap on the fault code and reason, in UTF-8 bytes
+     * @param scanMaxBytes bytes read while looking for the start of the fault
+     * @return fault, or empty when no fault starts within {@code scanMaxBytes} of a well-formed
+     *     envelope
+     */
+    public static Optional<SoapFaultException> fault(InputStream input, int textMaxBytes, long scanMaxBytes) {
+        ScanLimitInputStream scanned = new ScanLimitInputStream(input, scanMaxBytes);
+        try {
+            XMLStreamReader reader = FAULT_INPUT_FACTORY.createXMLStreamReader(scanned);
+            try {
+                while (reader.hasNext()) {
+                    if (reader.next() == XMLStreamConstants.START_ELEMENT && isFault(reader)) {
+                        scanned.lift();
+                        return Optional.of(readFault(reader, textMaxBytes));
+                    }
+                }
+                return Optional.empty();
+            } finally {
+                reader.close();
+            }
+        } catch (XMLStreamException ex) {
+            return Optional.empty();
+        }
+    }
+
+    private static boolean isFault(XMLStreamReader reader) {
+        String namespace = reader.getNamespaceURI();
+        return "Fault".equals(reader.getLocalName())
+                && (SOAP_11_NAMESPACE.equals(namespace) || SOAP_12_NAMESPACE.equals(namespace));
+    }
+
+    /**
+     * Reads {@code faultcode}/{@code faultstring} (1.1) or {@code Code/Value}/{@code Reason/Text}
+     * (1.2), keeping the first value of each, cut to {@code textMaxBytes}.
+     */
+    private static SoapFaultException readFault(XMLStreamReader reader, int textMaxBytes) throws XMLStreamException {
+        String code = null;
+        String reason = null;
+        int depth = 0;
+        while (reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                String name = reader.getLocalName();
+                if (code == null && ("faultcode".equals(name) || "Value".equals(name))) {
+                    code = elementText(reader, Math.max(textMaxBytes, FAULT_CODE_MIN_BYTES));
+                } else if (reason == null && ("faultstring".equals(name) || "Text".equals(name))) {
+                    reason = elementText(reader, textMaxBytes);
+                } else {
+                    depth++;
+                }
+            } else if (event == XMLStreamConstants.END_ELEMENT && depth-- == 0) {
+                break;
+            }
+        }
+        return new SoapFaultException(code, reason);
+    }
+
+    /**
+     * Text of the current element up to its end tag, stripped and cut to {@code maxBytes} UTF-8
+     * bytes; text beyond the cap is skipped without being kept.
+     */
+    private static String elementText(XMLStreamReader reader, int maxBytes) throws XMLStreamException {
+        // One char is at least one byte, so one char over the cap is enough to detect truncation.
+        int maxChars = Math.max(0, maxBytes) + 1;
+        StringBuilder text = new StringBuilder();
+        boolean cut = false;
+        int depth = 0;
+        while (reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT && depth-- == 0) {
+                break;
+            } else if ((event == XMLStreamConstants.CHARACTERS || event == XMLStreamConstants.CDATA)
+                    && !cut
+                    && !(text.isEmpty() && reader.isWhiteSpace())) {
+                int room = maxChars - text.length();
+                int length = reader.getTextLength();
+                text.append(reader.getTextCharacters(), reader.getTextStart(), Math.min(room, length));
+                cut = length > room;
+            }
+        }
+        String value = UpstreamErrorBody.truncate(text.toString().strip(), maxBytes);
+        return cut && !value.isEmpty() && !value.endsWith(TRUNCATED_SUFFIX) ? value + TRUNCATED_SUFFIX : value;
+    }
+
+    private static XMLInputFactory newInputFactory(boolean coalescing) {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, coalescing);
+        return factory;
+    }
+
+    /**
+     * Ends the stream after {@code limit} bytes until {@link #lift()} is called.
+     */
+    private static final class ScanLimitInputStream extends FilterInputStream {
+
+        private final long limit;
+        private long count;
+        private boolean lifted;
+
+        private ScanLimitInputStream(InputStream input, long limit) {
+            super(input);
+            this.limit = limit;
+        }
+
+        private void lift() {
+            lifted = true;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (!lifted && count >= limit) {
+                return -1;
+            }
+            int value = super.read();
+            if (value >= 0) {
+                count++;
+            }
+            return value;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            if (!lifted && count >= limit) {
+                return -1;
+            }
+            int allowed = lifted ? length : (int) Math.min(length, limit - count);
+            int read = super.read(buffer, offset, allowed);
+            if (read > 0) {
+                count += read;
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            int length = (int) Math.min(Math.max(n, 0), 1024);
+            return Math.max(0, read(new byte[length], 0, length));
+        }
+
+        @Override
+        public void close() {
+            // The caller owns the underlying stream.
+        }
+    }
+}
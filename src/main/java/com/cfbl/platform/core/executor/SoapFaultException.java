@@ -0,0 +1,39 @@
+package com.cfbl.platform.core.executor;
+
+/**
+ * A SOAP {@code Fault} returned by the upstream, in either SOAP 1.1 or SOAP 1.2 form.
+ *
+ * <p>Raised by {@link SoapEnvelopeReader} and carried as the cause of the
+ * {@code CreditSummaryDataCollectionException} the executor maps it to.
+ */
+public class SoapFaultException extends RuntimeException {
+
+    private final String faultCode;
+    private final String faultString;
+
+    public SoapFaultException(String faultCode, String faultString) {
+        super("SOAP fault " + faultCode + ": " + faultString);
+        this.faultCode = faultCode;
+        this.faultString = faultString;
+    }
+
+    public String getFaultCode() {
+        return faultCode;
+    }
+
+    public String getFaultString() {
+        return faultString;
+    }
+
+    /**
+     * Whether the upstream blamed the request ({@code Client} in SOAP 1.1, {@code Sender} in
+     * SOAP 1.2); such faults are not worth retrying.
+     */
+    public boolean isClientFault() {
+        if (faultCode == null) {
+            return false;
+        }
+        String localPart = faultCode.substring(faultCode.indexOf(':') + 1);
+        return localPart.startsWith("Client") || localPart.startsWith("Sender");
+    }
+}
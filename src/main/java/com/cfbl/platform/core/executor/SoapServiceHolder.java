@@ -0,0 +1,29 @@
+package com.cfbl.platform.core.executor;
+
+import java.util.Objects;
+
+/**
+ * SOAP endpoint resolved from a service definition, for envelopes sent directly over HTTP.
+ *
+ * <p>{@code http} carries the WebClient, timeouts, error-body cap and the {@code soap:<serviceId>}
+ * retry policy, so streamed SOAP calls share retry, breaker and bulkhead state with the supplier
+ * path of {@link SoapCallExecutor}.
+ */
+public record SoapServiceHolder(
+    WebClientHolder http,
+    String soapAction
+) {
+
+    public SoapServiceHolder {
+        Objects.requireNonNull(http, "http");
+        soapAction = soapAction == null ? "" : soapAction;
+    }
+
+    public String serviceId() {
+        return http.serviceId();
+    }
+
+    public String endpointUrl() {
+        return http.endpointUrl();
+    }
+}
@@ -0,0 +1,79 @@
+package com.cfbl.platform.core.executor;
+
+import java.net.SocketTimeoutException;
+import java.sql.SQLException;
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTransientException;
+import java.util.concurrent.TimeoutException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+
+/**
+ * Classifies JDBC failures for the JDBC executors.
+ */
+public final class SqlFailures {
+
+    private SqlFailures() {
+    }
+
+    /**
+     * Determines whether a JDBC failure is transient and safe to retry.
+     *
+     * <p>Retryable conditions, anywhere in the cause chain:
+     * <ul>
+     *   <li>{@link SQLTransientException} (timeouts, transient connection loss, rollbacks) and
+     *       {@link SQLRecoverableException}</li>
+     *   <li>Spring's {@link TransientDataAccessException}, {@link RecoverableDataAccessException}
+     *       and {@link CannotGetJdbcConnectionException} (pool exhausted or database unreachable)</li>
+     *   <li>SQL states of class {@code 08} (connection), {@code 40001} (serialization failure),
+     *       {@code 40P01} (deadlock) and {@code HYT00}/{@code HYT01} (timeout)</li>
+     *   <li>{@link TimeoutException} and {@link SocketTimeoutException}</li>
+     * </ul>
+     *
+     * <p>Everything else (bad SQL, constraint violations, data errors) is not retryable.
+     */
+    public static boolean isTransient(Throwable throwable) {
+        Throwable current = throwable;
+        while (current != null) {
+            if (current instanceof SQLTransientException
+                    || current instanceof SQLRecoverableException
+                    || current instanceof TransientDataAccessException
+                    || current instanceof RecoverableDataAccessException
+                    || current instanceof CannotGetJdbcConnectionException
+                    || current instanceof TimeoutException
+                    || current instanceof SocketTimeoutException) {
+                return true;
+            }
+            if (current instanceof SQLException sqlException && isTransientState(sqlException.getSQLState())) {
+                return true;
+            }
+            current = current.getCause();
+        }
+        return false;
+    }
+
+    /**
+     * Short description of a failure for {@code UpstreamInfo#rawMessage()}, including the SQL state
+     * when one is present.
+     */
+    public static String describe(Throwable throwable) {
+        Throwable current = throwable;
+        while (current != null) {
+            if (current instanceof SQLException sqlException) {
+                return "SQLState " + sqlException.getSQLState() + ": " + sqlException.getMessage();
+            }
+            current = current.getCause();
+        }
+        return throwable.getMessage();
+    }
+
+    private static boolean isTransientState(String sqlState) {
+        return sqlState != null
+                && (sqlState.startsWith("08")
+                        || sqlState.equals("40001")
+                        || sqlState.equals("40P01")
+                        || sqlState.equals("HYT00")
+                        || sqlState.equals("HYT01"));
+    }
+}
@@ -0,0 +1,111 @@
+package com.cfbl.platform.core.executor;
+
+import com.cfbl.platform.core.retry.RetryBackoff;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.web.reactive.function.BodyExtractors;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import reactor.core.publisher.Mono;
+
+/**
+ * Bounded capture of upstream error bodies for diagnostic messages.
+ *
+ * <p>Also extracts the {@code Retry-After} hint of throttling responses, which retry policies use
+ * to delay the next attempt.
+ *
+ * <p>At most {@code maxBytes} are copied out of the response {@code DataBuffer} stream. Once the
+ * cap is reached the remaining body is cancelled and its buffers are released without being
+ * copied, so an oversized error page costs no more than the configured cap per attempt.
+ */
+public final class UpstreamErrorBody {
+
+    /**
+     * Default number of error-body bytes kept in exception messages.
+     */
+    public static final int DEFAULT_MAX_BYTES = 1000;
+
+    private static final Duration READ_TIMEOUT = Duration.ofMillis(500);
+    private static final String UNREADABLE = "<unreadable or timeout>";
+    private static final String TRUNCATED_SUFFIX = "...";
+
+    private UpstreamErrorBody() {
+    }
+
+    /**
+     * Reads at most {@code maxBytes} of the response body as UTF-8 text.
+     *
+     * @param response error response whose body has not been consumed yet
+     * @param maxBytes capture cap; {@code 0} skips capture and only releases the body
+     * @return captured text (suffixed with {@code ...} when truncated), or empty string
+     */
+    public static Mono<String> read(ClientResponse response, int maxBytes) {
+        if (maxBytes <= 0) {
+            return response.releaseBody().thenReturn("");
+        }
+
+        // Take one byte beyond the cap so truncation can be detected without reading further.
+        return DataBufferUtils.join(DataBufferUtils.takeUntilByteCount(
+                        response.body(BodyExtractors.toDataBuffers()),
+                        maxBytes + 1L))
+                .map(buffer -> toText(buffer, maxBytes))
+                .timeout(READ_TIMEOUT)
+                .onErrorResume(e -> Mono.just(UNREADABLE))
+                .defaultIfEmpty("");
+    }
+
+    /**
+     * Truncates an already materialized body to {@code maxBytes} UTF-8 bytes.
+     */
+    public static String truncate(String body, int maxBytes) {
+        if (body == null || body.isEmpty() || maxBytes <= 0) {
+            return "";
+        }
+
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length <= maxBytes) {
+            return body;
+        }
+        return new String(bytes, 0, maxBytes, StandardCharsets.UTF_8) + TRUNCATED_SUFFIX;
+    }
+
+    /**
+     * {@code Retry-After} delay of a {@code 429} or {@code 503} response.
+     *
+     * @return delay in milliseconds, or {@code null} for other statuses or a missing/malformed header
+     */
+    public static Long retryAfterMs(HttpStatusCode statusCode, HttpHeaders headers) {
+        if (headers == null
+                || (statusCode.value() != HttpStatus.TOO_MANY_REQUESTS.value()
+                        && statusCode.value() != HttpStatus.SERVICE_UNAVAILABLE.value())) {
+            return null;
+        }
+        return RetryBackoff.parseRetryAfterMs(headers.getFirst(HttpHeaders.RETRY_AFTER), Clock.systemUTC());
+    }
+
+    /**
+     * Builds the standard upstream HTTP failure message.
+     */
+    public static String describe(HttpStatusCode statusCode, String errorBody) {
+        String errorMessage = "Upstream returned HTTP " + statusCode.value();
+        if (errorBody != null && !errorBody.isEmpty()) {
+            errorMessage += " Response: " + errorBody;
+        }
+        return errorMessage;
+    }
+
+    private static String toText(DataBuffer buffer, int maxBytes) {
+        try {
+            int readable = buffer.readableByteCount();
+            String text = buffer.toString(buffer.readPosition(), Math.min(readable, maxBytes), StandardCharsets.UTF_8);
+            return readable > maxBytes ? text + TRUNCATED_SUFFIX : text;
+        } finally {
+            DataBufferUtils.release(buffer);
+        }
+    }
+}
@@ -1,6 +1,10 @@
 package com.cfbl.platform.core.executor;
 
+import com.cfbl.platform.core.hedge.HedgeSettings;
+import com.cfbl.platform.core.retry.RetryPolicies;
+import com.cfbl.platform.core.retry.RetryPolicy;
 import com.cfbl.platform.core.retry.RetrySettings;
+import com.cfbl.platform.core.timeout.TimeoutSettings;
 import java.util.Objects;
 import org.springframework.web.reactive.function.client.WebClient;
 
@@ -8,23 +12,72 @@ import org.springframework.web.reactive.function.client.WebClient;
  * Immutable holder for a preconfigured REST client and provider metadata.
  *
  * <p>Used by {@link RestCallExecutor} so execution logic stays independent from how the client
- * was created.
+ * was created. The {@code rest:<serviceId>} retry policy is resolved here through the shared
+ * {@link RetryPolicies}, so holders of the same service and settings share one compiled policy and
+ * calls do not rebuild retry names or configuration.
  */
 public record WebClientHolder(
     String serviceId,
     String endpointUrl,
     WebClient webClient,
-    RetrySettings retrySettings
+    RetrySettings retrySettings,
+    int errorBodyMaxBytes,
+    TimeoutSettings timeoutSettings,
+    HedgeSettings hedgeSettings,
+    RetryPolicy retryPolicy
 ) {
 
     public WebClientHolder(String serviceId, String endpointUrl, WebClient webClient) {
         this(serviceId, endpointUrl, webClient, RetrySettings.defaults());
     }
 
+    public WebClientHolder(String serviceId, String endpointUrl, WebClient webClient, RetrySettings retrySettings) {
+        this(serviceId, endpointUrl, webClient, retrySettings, UpstreamErrorBody.DEFAULT_MAX_BYTES);
+    }
+
+    public WebClientHolder(
+        String serviceId,
+        String endpointUrl,
+        WebClient webClient,
+        RetrySettings retrySettings,
+        int errorBodyMaxBytes
+    ) {
+        this(serviceId, endpointUrl, webClient, retrySettings, errorBodyMaxBytes, TimeoutSettings.defaults());
+    }
+
+    public WebClientHolder(
+        String serviceId,
+        String endpointUrl,
+        WebClient webClient,
+        RetrySettings retrySettings,
+        int errorBodyMaxBytes,
+        TimeoutSettings timeoutSettings
+    ) {
+        this(serviceId, endpointUrl, webClient, retrySettings, errorBodyMaxBytes, timeoutSettings, HedgeSettings.defaults());
+    }
+
+    public WebClientHolder(
+        String serviceId,
+        String endpointUrl,
+        WebClient webClient,
+        RetrySettings retrySettings,
+        int errorBodyMaxBytes,
+        TimeoutSettings timeoutSettings,
+        HedgeSettings hedgeSettings
+    ) {
+        this(serviceId, endpointUrl, webClient, retrySettings, errorBodyMaxBytes, timeoutSettings, hedgeSettings, null);
+    }
+
     public WebClientHolder {
         Objects.requireNonNull(serviceId, "serviceId");
         Objects.requireNonNull(endpointUrl, "endpointUrl");
         Objects.requireNonNull(webClient, "webClient");
         retrySettings = retrySettings == null ? RetrySettings.defaults() : retrySettings;
+        errorBodyMaxBytes = errorBodyMaxBytes < 0 ? UpstreamErrorBody.DEFAULT_MAX_BYTES : errorBodyMaxBytes;
+        timeoutSettings = timeoutSettings == null ? TimeoutSettings.defaults() : timeoutSettings;
+        hedgeSettings = hedgeSettings == null ? HedgeSettings.defaults() : hedgeSettings;
+        retryPolicy = retryPolicy != null && retryPolicy.compiledFrom(retrySettings)
+            ? retryPolicy
+            : RetryPolicies.shared("rest:").forService(serviceId, retrySettings);
     }
 }
@@ -2,26 +2,64 @@ package com.cfbl.platform.core.executor;
 
 import com.cfbl.platform.core.config.PlatformProperties;
 import com.cfbl.platform.core.config.PlatformProperties.ServiceDefinition;
+import com.cfbl.platform.core.hedge.HedgeSettings;
+import com.cfbl.platform.core.retry.RetryPolicies;
 import com.cfbl.platform.core.retry.RetrySettings;
+import com.cfbl.platform.core.timeout.TimeoutSettings;
+import java.time.Duration;
 import java.util.Objects;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.http.client.HttpClientSettings;
+import org.springframework.boot.http.client.reactive.ClientHttpConnectorBuilder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 
 /**
  * Builds {@link WebClientHolder} instances from {@link PlatformProperties} service definitions.
  *
- * <p>This is the single place where REST endpoint and retry policy are resolved from
- * configuration for outbound WebClient integrations.
+ * <p>This is the single place where REST endpoint, retry policy, timeouts and hedging are resolved from
+ * configuration for outbound WebClient integrations. When a service configures connect/response
+ * timeouts, its connector is built by the application's {@link ClientHttpConnectorBuilder} from the
+ * application's {@link HttpClientSettings} with only the timeouts overridden, so shared resources,
+ * SSL bundle and connector customizers are kept; other services use the injected builder's
+ * connector unchanged.
  */
 @Component
 public class WebClientHolderFactory {
 
     private final PlatformProperties platformProperties;
     private final WebClient.Builder webClientBuilder;
+    private final ClientHttpConnectorBuilder<?> connectorBuilder;
+    private final HttpClientSettings httpClientSettings;
 
-    public WebClientHolderFactory(PlatformProperties platformProperties, WebClient.Builder webClientBuilder) {
-        this.platformProperties = platformProperties;
-        this.webClientBuilder = webClientBuilder;
+    /**
+     * Uses the auto-configured connector builder and client settings when present.
+     */
+    @Autowired
+    public WebClientHolderFactory(
+        PlatformProperties platformProperties,
+        WebClient.Builder webClientBuilder,
+        ObjectProvider<ClientHttpConnectorBuilder<?>> connectorBuilder,
+        ObjectProvider<HttpClientSettings> httpClientSettings
+    ) {
+        this(
+            platformProperties,
+            webClientBuilder,
+            connectorBuilder.getIfAvailable(ClientHttpConnectorBuilder::detect),
+            httpClientSettings.getIfAvailable(HttpClientSettings::defaults));
+    }
+
+    WebClientHolderFactory(
+        PlatformProperties platformProperties,
+        WebClient.Builder webClientBuilder,
+        ClientHttpConnectorBuilder<?> connectorBuilder,
+        HttpClientSettings httpClientSettings
+    ) {
+        this.platformProperties = Objects.requireNonNull(platformProperties, "platformProperties");
+        this.webClientBuilder = Objects.requireNonNull(webClientBuilder, "webClientBuilder");
+        this.connectorBuilder = Objects.requireNonNull(connectorBuilder, "connectorBuilder");
+        this.httpClientSettings = Objects.requireNonNull(httpClientSettings, "httpClientSettings");
     }
 
     /**
@@ -29,18 +67,79 @@ public class WebClientHolderFactory {
      *
      * @param serviceId service key in {@code kxt.platform.services}
      * @param fallbackEndpoint endpoint used when the service entry is missing
-     * @return holder containing endpoint, WebClient and retry settings
+     * @return holder containing endpoint, WebClient, retry/timeout/hedge settings and error-body capture cap
      */
     public WebClientHolder create(String serviceId, String fallbackEndpoint) {
         Objects.requireNonNull(serviceId, "serviceId");
         ServiceDefinition service = platformProperties.getServices().get(serviceId);
-        String endpoint = resolveEndpoint(service, fallbackEndpoint, serviceId);
+        return build(serviceId, service, resolveEndpoint(service, fallbackEndpoint, serviceId), "rest:");
+    }
+
+    /**
+     * Creates a SOAP holder for the given service id.
+     *
+     * <p>The endpoint is {@code endpointUrl} when set, else {@code wsdlUrl} without its query
+     * string; the SOAP action comes from {@code soapAction}.
+     *
+     * @param serviceId service key in {@code kxt.platform.services}
+     * @return holder whose client targets the SOAP endpoint with a {@code soap:<serviceId>} retry policy
+     */
+    public SoapServiceHolder createSoap(String serviceId) {
+        Objects.requireNonNull(serviceId, "serviceId");
+        ServiceDefinition service = platformProperties.getServices().get(serviceId);
+        if (service == null) {
+            throw new IllegalStateException("No service configured for serviceId=" + serviceId);
+        }
+        String endpoint = service.getEndpointUrl();
+        if ((endpoint == null || endpoint.isBlank()) && service.getWsdlUrl() != null) {
+            int query = service.getWsdlUrl().indexOf('?');
+            endpoint = query < 0 ? service.getWsdlUrl() : service.getWsdlUrl().substring(0, query);
+        }
+        if (endpoint == null || endpoint.isBlank()) {
+            throw new IllegalStateException("No endpoint configured for serviceId=" + serviceId);
+        }
+        return new SoapServiceHolder(build(serviceId, service, endpoint, "soap:"), service.getSoapAction());
+    }
+
+    private WebClientHolder build(String serviceId, ServiceDefinition service, String endpoint, String policyPrefix) {
         RetrySettings retrySettings = service != null && service.getRetrySettings() != null
             ? service.getRetrySettings()
             : RetrySettings.defaults();
+        int errorBodyMaxBytes = service != null
+            ? service.getErrorBodyMaxBytes()
+            : UpstreamErrorBody.DEFAULT_MAX_BYTES;
 
-        WebClient webClient = webClientBuilder.clone().baseUrl(endpoint).build();
-        return new WebClientHolder(serviceId, endpoint, webClient, retrySettings);
+        TimeoutSettings timeoutSettings = service != null && service.getTimeouts() != null
+            ? service.getTimeouts()
+            : TimeoutSettings.defaults();
+        HedgeSettings hedgeSettings = service != null && service.getHedge() != null
+            ? service.getHedge()
+            : HedgeSettings.defaults();
+
+        WebClient.Builder builder = webClientBuilder.clone().baseUrl(endpoint);
+        if (timeoutSettings.connectTimeoutMs() > 0 || timeoutSettings.responseTimeoutMs() > 0) {
+            builder.clientConnector(connectorBuilder.build(withTimeouts(timeoutSettings)));
+        }
+        return new WebClientHolder(
+            serviceId,
+            endpoint,
+            builder.build(),
+            retrySettings,
+            errorBodyMaxBytes,
+            timeoutSettings,
+            hedgeSettings,
+            RetryPolicies.shared(policyPrefix).forService(serviceId, retrySettings));
+    }
+
+    private HttpClientSettings withTimeouts(TimeoutSettings timeoutSettings) {
+        HttpClientSettings settings = httpClientSettings;
+        if (timeoutSettings.connectTimeoutMs() > 0) {
+            settings = settings.withConnectTimeout(Duration.ofMillis(timeoutSettings.connectTimeoutMs()));
+        }
+        if (timeoutSettings.responseTimeoutMs() > 0) {
+            settings = settings.withReadTimeout(Duration.ofMillis(timeoutSettings.responseTimeoutMs()));
+        }
+        return settings;
     }
 
     private String resolveEndpoint(ServiceDefinition service, String fallbackEndpoint, String serviceId) {
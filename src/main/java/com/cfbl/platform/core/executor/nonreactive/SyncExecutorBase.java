@@ -1,15 +1,31 @@
 package com.cfbl.platform.core.executor.nonreactive;
 
+import com.cfbl.platform.core.exception.core.CreditSummaryDataCollectionException;
 import com.cfbl.platform.core.exception.core.CreditSummaryPlatformException;
 import com.cfbl.platform.core.exception.core.DataProviderContext;
+import com.cfbl.platform.core.exception.core.UpstreamInfo;
+import com.cfbl.platform.core.executor.ProviderCallMetrics;
 import com.cfbl.platform.core.integration.model.ProviderResult;
+import com.cfbl.platform.core.resilience.BulkheadFullException;
+import com.cfbl.platform.core.resilience.BulkheadPolicyExecutor;
+import com.cfbl.platform.core.resilience.CircuitBreakerPolicyExecutor;
+import com.cfbl.platform.core.resilience.ConcurrencyLimitExceededException;
+import com.cfbl.platform.core.resilience.ConcurrencyLimitPolicyExecutor;
 import com.cfbl.platform.core.retry.RetryInfo;
+import com.cfbl.platform.core.retry.RetryPolicy;
 import com.cfbl.platform.core.retry.RetrySettings;
+import com.cfbl.platform.core.retry.RetryStopReason;
+import com.cfbl.platform.core.retry.RetryStoppedException;
 import com.cfbl.platform.core.retry.SyncRetryPolicyExecutor;
+import com.cfbl.platform.core.timeout.Deadline;
+import com.cfbl.platform.core.timeout.TimeoutSettings;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.Objects;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
@@ -20,9 +36,37 @@ import java.util.function.Supplier;
 abstract class SyncExecutorBase {
 
     private final SyncRetryPolicyExecutor retryExecutor;
+    private final CircuitBreakerPolicyExecutor circuitBreakerExecutor;
+    private final BulkheadPolicyExecutor bulkheadExecutor;
+    private final ConcurrencyLimitPolicyExecutor concurrencyLimitExecutor;
+    private final ProviderCallMetrics callMetrics;
 
     protected SyncExecutorBase(SyncRetryPolicyExecutor retryExecutor) {
+        this(retryExecutor, new CircuitBreakerPolicyExecutor(),
+                new BulkheadPolicyExecutor(),
+                new ConcurrencyLimitPolicyExecutor());
+    }
+
+    protected SyncExecutorBase(
+            SyncRetryPolicyExecutor retryExecutor,
+            CircuitBreakerPolicyExecutor circuitBreakerExecutor,
+            BulkheadPolicyExecutor bulkheadExecutor,
+            ConcurrencyLimitPolicyExecutor concurrencyLimitExecutor) {
+        this(retryExecutor, circuitBreakerExecutor, bulkheadExecutor, concurrencyLimitExecutor,
+                new ProviderCallMetrics());
+    }
+
+    protected SyncExecutorBase(
+            SyncRetryPolicyExecutor retryExecutor,
+            CircuitBreakerPolicyExecutor circuitBreakerExecutor,
+            BulkheadPolicyExecutor bulkheadExecutor,
+            ConcurrencyLimitPolicyExecutor concurrencyLimitExecutor,
+            ProviderCallMetrics callMetrics) {
         this.retryExecutor = Objects.requireNonNull(retryExecutor, "retryExecutor");
+        this.circuitBreakerExecutor = Objects.requireNonNull(circuitBreakerExecutor, "circuitBreakerExecutor");
+        this.bulkheadExecutor = Objects.requireNonNull(bulkheadExecutor, "bulkheadExecutor");
+        this.concurrencyLimitExecutor = Objects.requireNonNull(concurrencyLimitExecutor, "concurrencyLimitExecutor");
+        this.callMetrics = Objects.requireNonNull(callMetrics, "callMetrics");
     }
 
     /**
@@ -30,47 +74,158 @@ abstract class SyncExecutorBase {
      * execution.
      * Takes care of incrementing attempt counts and attaching final retry metadata
      * to either the success result or the failure exception.
+     * <p>
+     * Each attempt receives its effective timeout: the configured attempt timeout
+     * shrunk to the {@link Deadline} bound to the calling thread (if any). The wait
+     * drawn before each retry is clamped so that
+     * {@link TimeoutSettings#minAttemptBudgetMs()} remain; retrying stops with
+     * {@link RetryStopReason#DEADLINE} once even the shortest wait does not fit.
+     * <p>
+     * Each attempt passes through the service's circuit breaker. While it is open,
+     * attempts fail fast with {@link RetryStopReason#CIRCUIT_OPEN} and the breaker
+     * state in {@link UpstreamInfo#circuitBreakerState()}. Inside the breaker, the
+     * service's adaptive concurrency limit and then its bulkhead cap in-flight
+     * attempts; a shed attempt stops retrying with
+     * {@link RetryStopReason#LIMIT_EXCEEDED} or {@link RetryStopReason#BULKHEAD_FULL}
+     * without counting against the breaker.
+     * <p>
+     * The call, all attempts included, is recorded in {@link ProviderCallMetrics}
+     * under the retry policy name.
      *
-     * @param retryName      Unique name for the retry instance (e.g.
-     *                       "rest:service-id")
-     * @param retrySettings  Configuration for max attempts and wait duration
-     * @param executeAttempt Supplier that executes a single isolated attempt
-     * @param retryable      Predicate to determine if an exception triggers a retry
-     * @param failureMapper  Function to map raw technical exceptions into platform
-     *                       exceptions
-     * @param <T>            Response payload type
+     * @param retryPolicy     Precompiled retry policy; its name (e.g.
+     *                        "rest:service-id") is also used as circuit breaker,
+     *                        limiter and bulkhead name
+     * @param serviceId       Service key used to resolve circuit breaker, limiter
+     *                        and bulkhead settings
+     * @param timeoutSettings Per-attempt timeout configuration
+     * @param executeAttempt  Function that executes a single isolated attempt
+     *                        within the given timeout
+     * @param retryable       Predicate to determine if an exception triggers a retry
+     * @param failureMapper   Function to map raw technical exceptions into platform
+     *                        exceptions
+     * @param <T>             Response payload type
      * @return enriched provider result including retry metadata
      * @throws CreditSummaryPlatformException if call fails or exhausts retries
      */
     protected <T> ProviderResult<T> executeWithRetry(
-            String retryName,
-            RetrySettings retrySettings,
-            Supplier<ProviderResult<T>> executeAttempt,
+            RetryPolicy retryPolicy,
+            String serviceId,
+            TimeoutSettings timeoutSettings,
+            Function<Duration, ProviderResult<T>> executeAttempt,
             Predicate<Throwable> retryable,
             FailureMapper failureMapper) {
+        String retryName = retryPolicy.name();
+        RetrySettings retrySettings = retryPolicy.settings();
+        Deadline deadline = Deadline.current();
         AtomicInteger attempts = new AtomicInteger();
         int maxAttempts = retrySettings.effectiveMaxAttempts();
+        ProviderCallMetrics.ServiceCalls calls = callMetrics.service(retryName, serviceId);
+        long startNanos = calls.start();
 
         try {
             ProviderResult<T> response = retryExecutor.executeSync(
-                    retryName,
-                    retrySettings,
+                    retryPolicy,
                     () -> {
+                        // Counted before the deadline check, as in ExecutorBase, so both paths
+                        // report the same attempt count when the deadline stops a call.
                         attempts.incrementAndGet();
-                        return executeAttempt.get();
+                        if (deadline != null && deadline.isExpired()) {
+                            throw new RetryStoppedException(
+                                    RetryStopReason.DEADLINE,
+                                    new TimeoutException("Request deadline exceeded before provider call"));
+                        }
+                        Duration attemptTimeout = deadline == null
+                                ? timeoutSettings.attemptTimeout()
+                                : deadline.boundAttemptTimeout(timeoutSettings.attemptTimeout());
+                        try {
+                            return circuitBreakerExecutor.executeSync(
+                                    retryName,
+                                    serviceId,
+                                    () -> limitedAttempt(
+                                            retryName,
+                                            serviceId,
+                                            () -> executeAttempt.apply(attemptTimeout),
+                                            retryable),
+                                    retryable);
+                        } catch (CallNotPermittedException ex) {
+                            throw new RetryStoppedException(RetryStopReason.CIRCUIT_OPEN, ex);
+                        }
                     },
-                    retryable);
-            return withRetryInfo(response, buildRetryInfo(attempts.get(), maxAttempts, false));
+                    retryable,
+                    deadline,
+                    timeoutSettings.minAttemptBudgetMs());
+            ProviderResult<T> result = withRetryInfo(response, buildRetryInfo(attempts.get(), maxAttempts, false, null));
+            calls.recordSuccess(startNanos, result);
+            return result;
         } catch (Throwable ex) {
+            RetryStopReason stopReason = ex instanceof RetryStoppedException stopped ? stopped.getReason() : null;
+            Throwable failure = stopReason != null ? ex.getCause() : ex;
             boolean exhausted = retrySettings.enabled()
                     && attempts.get() >= maxAttempts
-                    && retryable.test(ex);
-            CreditSummaryPlatformException mapped = failureMapper.map(ex);
-            mapped.attachRetryInfo(buildRetryInfo(attempts.get(), maxAttempts, exhausted));
+                    && retryable.test(failure);
+            CreditSummaryPlatformException mapped = mapFailure(failure, retryName, failureMapper);
+            mapped.attachRetryInfo(buildRetryInfo(attempts.get(), maxAttempts, exhausted, stopReason));
+            calls.recordFailure(startNanos, mapped);
             throw mapped;
+        } finally {
+            calls.finish();
+        }
+    }
+
+    private <T> T limitedAttempt(
+            String policyName,
+            String serviceId,
+            Supplier<T> attempt,
+            Predicate<Throwable> retryable) {
+        try {
+            return concurrencyLimitExecutor.executeSync(
+                    policyName,
+                    serviceId,
+                    () -> boundedAttempt(policyName, serviceId, attempt),
+                    retryable);
+        } catch (ConcurrencyLimitExceededException ex) {
+            throw new RetryStoppedException(RetryStopReason.LIMIT_EXCEEDED, ex);
+        }
+    }
+
+    private <T> T boundedAttempt(String bulkheadName, String serviceId, Supplier<T> attempt) {
+        try {
+            return bulkheadExecutor.executeSync(bulkheadName, serviceId, attempt);
+        } catch (BulkheadFullException ex) {
+            throw new RetryStoppedException(RetryStopReason.BULKHEAD_FULL, ex);
         }
     }
 
+    private CreditSummaryPlatformException mapFailure(
+            Throwable failure,
+            String policyName,
+            FailureMapper failureMapper) {
+        CreditSummaryPlatformException mapped = failureMapper.map(failure);
+        if (failure instanceof CallNotPermittedException) {
+            return rejectedFailure(mapped, "Circuit breaker is open for " + policyName, failure, policyName);
+        }
+        if (failure instanceof BulkheadFullException) {
+            return rejectedFailure(mapped, "Bulkhead is full for " + policyName, failure, policyName);
+        }
+        if (failure instanceof ConcurrencyLimitExceededException) {
+            return rejectedFailure(mapped, "Concurrency limit reached for " + policyName, failure, policyName);
+        }
+        return mapped;
+    }
+
+    private CreditSummaryPlatformException rejectedFailure(
+            CreditSummaryPlatformException mapped,
+            String message,
+            Throwable rejection,
+            String policyName) {
+        return new CreditSummaryDataCollectionException(
+                mapped.getCode(),
+                message,
+                mapped.getProviderContext(),
+                new UpstreamInfo(null, rejection.getMessage(), 0L, circuitBreakerExecutor.state(policyName)),
+                rejection);
+    }
+
     protected DataProviderContext withResponseTime(DataProviderContext base, Instant start) {
         return new DataProviderContext(
                 base.protocol(),
@@ -85,12 +240,17 @@ abstract class SyncExecutorBase {
         return Duration.between(start, Instant.now()).toMillis();
     }
 
-    private RetryInfo buildRetryInfo(int attempted, int maxAttempts, boolean exhausted) {
+    private RetryInfo buildRetryInfo(
+            int attempted,
+            int maxAttempts,
+            boolean exhausted,
+            RetryStopReason stopReason) {
         return new RetryInfo(
                 Math.max(1, attempted),
                 maxAttempts,
                 attempted > 1,
-                exhausted);
+                exhausted,
+                stopReason);
     }
 
     private <T> ProviderResult<T> withRetryInfo(ProviderResult<T> response, RetryInfo retryInfo) {
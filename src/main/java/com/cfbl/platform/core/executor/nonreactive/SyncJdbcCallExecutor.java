@@ -0,0 +1,277 @@
+package com.cfbl.platform.core.executor.nonreactive;
+
+import com.cfbl.platform.core.exception.core.CreditSummaryDataCollectionException;
+import com.cfbl.platform.core.exception.core.CreditSummaryPlatformException;
+import com.cfbl.platform.core.exception.core.DataProviderContext;
+import com.cfbl.platform.core.exception.core.ErrorCode;
+import com.cfbl.platform.core.exception.core.UpstreamInfo;
+import com.cfbl.platform.core.executor.DataSourceHolder;
+import com.cfbl.platform.core.executor.JdbcCursor;
+import com.cfbl.platform.core.executor.ProviderCallMetrics;
+import com.cfbl.platform.core.executor.SqlFailures;
+import com.cfbl.platform.core.integration.model.ProviderResult;
+import com.cfbl.platform.core.resilience.BulkheadPolicyExecutor;
+import com.cfbl.platform.core.resilience.CircuitBreakerPolicyExecutor;
+import com.cfbl.platform.core.resilience.ConcurrencyLimitPolicyExecutor;
+import com.cfbl.platform.core.retry.SyncRetryPolicyExecutor;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.stereotype.Component;
+
+/**
+ * Executes blocking JDBC provider calls and maps results into integration-layer
+ * {@code ProviderResult}.
+ * <p>
+ * Queries run on the calling thread against the bounded pool of the
+ * {@link DataSourceHolder}, so thread-local context needs no propagation. Each
+ * statement gets a query timeout equal to the effective attempt timeout (the
+ * configured timeout shrunk to the calling thread's
+ * {@link com.cfbl.platform.core.timeout.Deadline}), which the driver enforces on
+ * the database side.
+ * <p>
+ * Large results can be consumed as a lazily mapped {@link Stream} over a
+ * {@link JdbcCursor} with
+ * {@link #executeQueryStream(DataSourceHolder, String, String, Map, RowMapper, Function, String)}.
+ */
+@Component
+public class SyncJdbcCallExecutor extends SyncExecutorBase {
+
+    public SyncJdbcCallExecutor(SyncRetryPolicyExecutor retryExecutor) {
+        super(retryExecutor);
+    }
+
+    public SyncJdbcCallExecutor(
+            SyncRetryPolicyExecutor retryExecutor,
+            CircuitBreakerPolicyExecutor circuitBreakerExecutor,
+            BulkheadPolicyExecutor bulkheadExecutor,
+            ConcurrencyLimitPolicyExecutor concurrencyLimitExecutor) {
+        this(retryExecutor, circuitBreakerExecutor, bulkheadExecutor, concurrencyLimitExecutor,
+                new ProviderCallMetrics());
+    }
+
+    @Autowired
+    public SyncJdbcCallExecutor(
+            SyncRetryPolicyExecutor retryExecutor,
+            CircuitBreakerPolicyExecutor circuitBreakerExecutor,
+            BulkheadPolicyExecutor bulkheadExecutor,
+            ConcurrencyLimitPolicyExecutor concurrencyLimitExecutor,
+            ProviderCallMetrics callMetrics) {
+        super(retryExecutor, circuitBreakerExecutor, bulkheadExecutor, concurrencyLimitExecutor, callMetrics);
+    }
+
+    /**
+     * Runs a query and returns all mapped rows.
+     *
+     * @param holder         Pooled data source and service settings
+     * @param operation      Logical operation name for metrics/logging
+     * @param sql            SQL with named parameters
+     * @param parameters     Named parameter values
+     * @param rowMapper      Maps one row to a result element
+     * @param failureMessage Human-readable message to include if the call fails
+     * @param <T>            Row type
+     * @return result containing the mapped rows and context
+     * @throws CreditSummaryPlatformException if the call fails after retries
+     */
+    public <T> ProviderResult<List<T>> executeQuery(
+            DataSourceHolder holder,
+            String operation,
+            String sql,
+            Map<String, ?> parameters,
+            RowMapper<T> rowMapper,
+            String failureMessage) {
+        Objects.requireNonNull(sql, "sql");
+        Objects.requireNonNull(parameters, "parameters");
+        Objects.requireNonNull(rowMapper, "rowMapper");
+        return executeWithRetry(
+                holder,
+                operation,
+                jdbc -> jdbc.query(sql, parameters, rowMapper),
+                failureMessage,
+                throwable -> false);
+    }
+
+    /**
+     * Runs a query through a server-side cursor and hands the mapped rows to
+     * {@code consumer} as a sequential {@link Stream}.
+     * <p>
+     * Rows are fetched {@link DataSourceHolder#fetchSize()} at a time and mapped only
+     * as the stream is traversed; the cursor and its connection are released when
+     * {@code consumer} returns. The result context carries {@code rowsStreamed} and
+     * {@code timeToFirstRowMs}. A transient failure is retried only while no row has
+     * been handed to {@code consumer}, so a partially consumed result is never
+     * replayed.
+     *
+     * @param holder         Pooled data source and service settings
+     * @param operation      Logical operation name for metrics/logging
+     * @param sql            SQL with named parameters
+     * @param parameters     Named parameter values
+     * @param rowMapper      Maps one row to a stream element
+     * @param consumer       Consumes the row stream; must not keep it after returning
+     * @param failureMessage Human-readable message to include if the call fails
+     * @param <T>            Row type
+     * @param <R>            Result type of {@code consumer}
+     * @return result containing the consumer's result and context
+     * @throws CreditSummaryPlatformException if the call fails after retries
+     */
+    public <T, R> ProviderResult<R> executeQueryStream(
+            DataSourceHolder holder,
+            String operation,
+            String sql,
+            Map<String, ?> parameters,
+            RowMapper<T> rowMapper,
+            Function<Stream<T>, R> consumer,
+            String failureMessage) {
+        Objects.requireNonNull(holder, "holder");
+        Objects.requireNonNull(operation, "operation");
+        Objects.requireNonNull(sql, "sql");
+        Objects.requireNonNull(parameters, "parameters");
+        Objects.requireNonNull(rowMapper, "rowMapper");
+        Objects.requireNonNull(consumer, "consumer");
+        Objects.requireNonNull(failureMessage, "failureMessage");
+
+        Instant collectedAt = Instant.now();
+        Instant start = collectedAt;
+
+        DataProviderContext baseContext = new DataProviderContext(
+                DataProviderContext.Protocol.JDBC,
+                holder.serviceId(),
+                holder.jdbcUrl(),
+                holder.protocolAttributes(operation),
+                0L,
+                collectedAt);
+
+        AtomicReference<JdbcCursor<T>> lastCursor = new AtomicReference<>();
+        Predicate<Throwable> retryable = throwable -> SqlFailures.isTransient(throwable)
+                && (lastCursor.get() == null || lastCursor.get().rowsStreamed() == 0);
+
+        return executeWithRetry(
+                holder.retryPolicy(),
+                holder.serviceId(),
+                holder.timeoutSettings(),
+                attemptTimeout -> {
+                    lastCursor.set(null);
+                    try (JdbcCursor<T> cursor = JdbcCursor.open(holder, sql, parameters, rowMapper, attemptTimeout)) {
+                        lastCursor.set(cursor);
+                        R data = consumer.apply(rows(cursor));
+                        return ProviderResult.success(
+                                HttpStatus.OK.value(),
+                                data,
+                                withResponseTime(cursor.describe(baseContext), start));
+                    }
+                },
+                retryable,
+                ex -> toPlatformException(ex, failureMessage, streamContext(baseContext, lastCursor.get()), start));
+    }
+
+    /**
+     * Executes arbitrary JDBC work with full retry and failure handling.
+     * <p>
+     * {@code work} may run more than once when the failure is retryable (see
+     * {@link SqlFailures#isTransient(Throwable)}), so it should be idempotent.
+     *
+     * @param holder                   Pooled data source and service settings
+     * @param operation                Logical operation name for metrics/logging
+     * @param work                     JDBC work against a template bound to the pool
+     * @param failureMessage           Human-readable message to include if the
+     *                                 call fails
+     * @param callerRetryablePredicate Additional logic to determine if an error is
+     *                                 transient
+     * @param <T>                      Result type
+     * @return result containing the work's result and context
+     * @throws CreditSummaryPlatformException if the call fails after retries
+     */
+    public <T> ProviderResult<T> executeWithRetry(
+            DataSourceHolder holder,
+            String operation,
+            Function<NamedParameterJdbcOperations, T> work,
+            String failureMessage,
+            Predicate<Throwable> callerRetryablePredicate) {
+        Objects.requireNonNull(holder, "holder");
+        Objects.requireNonNull(operation, "operation");
+        Objects.requireNonNull(work, "work");
+        Objects.requireNonNull(failureMessage, "failureMessage");
+        Objects.requireNonNull(callerRetryablePredicate, "callerRetryablePredicate");
+
+        Instant collectedAt = Instant.now();
+        Instant start = collectedAt;
+
+        DataProviderContext baseContext = new DataProviderContext(
+                DataProviderContext.Protocol.JDBC,
+                holder.serviceId(),
+                holder.jdbcUrl(),
+                holder.protocolAttributes(operation),
+                0L,
+                collectedAt);
+
+        Predicate<Throwable> effectiveRetryable = throwable -> SqlFailures.isTransient(throwable)
+                || callerRetryablePredicate.test(throwable);
+
+        return executeWithRetry(
+                holder.retryPolicy(),
+                holder.serviceId(),
+                holder.timeoutSettings(),
+                attemptTimeout -> executeAttempt(holder, work, attemptTimeout, baseContext, start),
+                effectiveRetryable,
+                ex -> toPlatformException(ex, failureMessage, baseContext, start));
+    }
+
+    private <T> ProviderResult<T> executeAttempt(
+            DataSourceHolder holder,
+            Function<NamedParameterJdbcOperations, T> work,
+            Duration attemptTimeout,
+            DataProviderContext baseContext,
+            Instant start) {
+        T data = work.apply(holder.jdbcOperations(attemptTimeout));
+        return ProviderResult.success(HttpStatus.OK.value(), data, withResponseTime(baseContext, start));
+    }
+
+    private static <T> Stream<T> rows(JdbcCursor<T> cursor) {
+        return StreamSupport.stream(new Spliterators.AbstractSpliterator<T>(
+                Long.MAX_VALUE, Spliterator.ORDERED) {
+            @Override
+            public boolean tryAdvance(Consumer<? super T> action) {
+                if (!cursor.advance()) {
+                    return false;
+                }
+                action.accept(cursor.map());
+                return true;
+            }
+        }, false);
+    }
+
+    private static DataProviderContext streamContext(DataProviderContext baseContext, JdbcCursor<?> cursor) {
+        return cursor == null ? baseContext : cursor.describe(baseContext);
+    }
+
+    private CreditSummaryPlatformException toPlatformException(
+            Throwable throwable,
+            String failureMessage,
+            DataProviderContext baseContext,
+            Instant start) {
+        if (throwable instanceof CreditSummaryPlatformException platformException) {
+            return platformException;
+        }
+
+        return new CreditSummaryDataCollectionException(
+                ErrorCode.LAYER_DATA_COLLECTION_FAILURE,
+                failureMessage,
+                withResponseTime(baseContext, start),
+                new UpstreamInfo(null, SqlFailures.describe(throwable), elapsedMs(start)),
+                throwable);
+    }
+}
@@ -5,16 +5,23 @@ import com.cfbl.platform.core.exception.core.CreditSummaryPlatformException;
 import com.cfbl.platform.core.exception.core.DataProviderContext;
 import com.cfbl.platform.core.exception.core.ErrorCode;
 import com.cfbl.platform.core.exception.core.UpstreamInfo;
+import com.cfbl.platform.core.executor.ProviderCallMetrics;
+import com.cfbl.platform.core.executor.UpstreamErrorBody;
 import com.cfbl.platform.core.executor.WebClientHolder;
 import com.cfbl.platform.core.integration.model.ProviderResult;
-import com.cfbl.platform.core.retry.RetrySettings;
+import com.cfbl.platform.core.resilience.BulkheadPolicyExecutor;
+import com.cfbl.platform.core.resilience.CircuitBreakerPolicyExecutor;
+import com.cfbl.platform.core.resilience.ConcurrencyLimitPolicyExecutor;
 import com.cfbl.platform.core.retry.SyncRetryPolicyExecutor;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
@@ -22,6 +29,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient.RequestHeadersSpec;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
 
 /**
  * Executes outbound synchronous REST calls using WebClient.block() and maps
@@ -32,6 +40,11 @@ import org.springframework.web.reactive.function.client.WebClientResponseExcepti
  * on the calling thread. By calling .block(), we ensure the request happens
  * synchronously
  * and re-evaluates all WebClient filters/headers on every retry.
+ * <p>
+ * In virtual-thread mode ({@code spring.threads.virtual.enabled=true}) the
+ * calling servlet thread is virtual: {@code block()} and the retry waits park it
+ * instead of holding a platform thread, and thread-local context stays in place
+ * because no thread switch happens.
  */
 @Component
 public class SyncRestCallExecutor extends SyncExecutorBase {
@@ -40,6 +53,36 @@ public class SyncRestCallExecutor extends SyncExecutorBase {
         super(retryExecutor);
     }
 
+    public SyncRestCallExecutor(SyncRetryPolicyExecutor retryExecutor, CircuitBreakerPolicyExecutor circuitBreakerExecutor) {
+        this(retryExecutor, circuitBreakerExecutor, new BulkheadPolicyExecutor());
+    }
+
+    public SyncRestCallExecutor(
+            SyncRetryPolicyExecutor retryExecutor,
+            CircuitBreakerPolicyExecutor circuitBreakerExecutor,
+            BulkheadPolicyExecutor bulkheadExecutor) {
+        this(retryExecutor, circuitBreakerExecutor, bulkheadExecutor, new ConcurrencyLimitPolicyExecutor());
+    }
+
+    public SyncRestCallExecutor(
+            SyncRetryPolicyExecutor retryExecutor,
+            CircuitBreakerPolicyExecutor circuitBreakerExecutor,
+            BulkheadPolicyExecutor bulkheadExecutor,
+            ConcurrencyLimitPolicyExecutor concurrencyLimitExecutor) {
+        this(retryExecutor, circuitBreakerExecutor, bulkheadExecutor, concurrencyLimitExecutor,
+                new ProviderCallMetrics());
+    }
+
+    @Autowired
+    public SyncRestCallExecutor(
+            SyncRetryPolicyExecutor retryExecutor,
+            CircuitBreakerPolicyExecutor circuitBreakerExecutor,
+            BulkheadPolicyExecutor bulkheadExecutor,
+            ConcurrencyLimitPolicyExecutor concurrencyLimitExecutor,
+            ProviderCallMetrics callMetrics) {
+        super(retryExecutor, circuitBreakerExecutor, bulkheadExecutor, concurrencyLimitExecutor, callMetrics);
+    }
+
     /**
      * Executes a synchronous provider call using the provided request factory.
      * Default retry behavior is applied from the holder settings.
@@ -110,27 +153,38 @@ public class SyncRestCallExecutor extends SyncExecutorBase {
                 0L,
                 collectedAt);
 
-        RetrySettings retrySettings = holder.retrySettings();
         Predicate<Throwable> effectiveRetryable = throwable -> isRetryableException(throwable)
                 || callerRetryablePredicate.test(throwable);
 
         return executeWithRetry(
-                "rest:" + holder.serviceId(),
-                retrySettings,
-                () -> executeAttempt(requestFactory, baseContext, start),
+                holder.retryPolicy(),
+                holder.serviceId(),
+                holder.timeoutSettings(),
+                attemptTimeout -> executeAttempt(
+                        requestFactory, holder.errorBodyMaxBytes(), attemptTimeout, baseContext, start),
                 effectiveRetryable,
                 ex -> toPlatformException(ex, failureMessage, baseContext, start));
     }
 
     private ProviderResult<String> executeAttempt(
             Supplier<RequestHeadersSpec<?>> requestFactory,
+            int errorBodyMaxBytes,
+            Duration attemptTimeout,
             DataProviderContext baseContext,
             Instant start) {
         try {
             // Re-evaluating requestFactory.get() inside the loop ensures filters re-run
             ResponseEntity<String> response = requestFactory.get()
-                    .retrieve()
-                    .toEntity(String.class)
+                    .exchangeToMono(clientResponse -> clientResponse.statusCode().is2xxSuccessful()
+                            ? clientResponse.toEntity(String.class)
+                            : UpstreamErrorBody.read(clientResponse, errorBodyMaxBytes)
+                                    .flatMap(errorBody -> Mono.error(upstreamHttpFailure(
+                                            clientResponse.statusCode(),
+                                            clientResponse.headers().asHttpHeaders(),
+                                            errorBody,
+                                            baseContext,
+                                            start))))
+                    .timeout(attemptTimeout)
                     .block(); // Blocks the caller thread
 
             if (response == null) {
@@ -142,19 +196,12 @@ public class SyncRestCallExecutor extends SyncExecutorBase {
                         null);
             }
 
-            return mapResponse(response.getStatusCode(), response.getBody(), baseContext, start);
+            return mapResponse(response.getStatusCode(), response.getBody(), errorBodyMaxBytes, baseContext, start);
+        } catch (CreditSummaryPlatformException ex) {
+            throw ex;
         } catch (WebClientResponseException ex) {
-            String errorBody = ex.getResponseBodyAsString();
-            String truncated = errorBody.length() > 1000 ? errorBody.substring(0, 1000) + "..." : errorBody;
-            String errorMessage = "Upstream returned HTTP " + ex.getStatusCode().value() +
-                    (truncated.isEmpty() ? "" : " Response: " + truncated);
-
-            throw new CreditSummaryDataCollectionException(
-                    ErrorCode.LAYER_DATA_COLLECTION_FAILURE,
-                    errorMessage,
-                    withResponseTime(baseContext, start),
-                    new UpstreamInfo(ex.getStatusCode().value(), ex.getStatusCode().toString(), elapsedMs(start)),
-                    null);
+            String errorBody = UpstreamErrorBody.truncate(ex.getResponseBodyAsString(), errorBodyMaxBytes);
+            throw upstreamHttpFailure(ex.getStatusCode(), ex.getHeaders(), errorBody, baseContext, start);
         } catch (Exception ex) {
             // Unwrap ReactiveException from WebClient.block()
             Throwable actual = (ex.getClass().getName().contains("ReactiveException") && ex.getCause() != null)
@@ -173,6 +220,7 @@ public class SyncRestCallExecutor extends SyncExecutorBase {
     private ProviderResult<String> mapResponse(
             HttpStatusCode statusCode,
             String body,
+            int errorBodyMaxBytes,
             DataProviderContext baseContext,
             Instant start) {
         if (statusCode.is2xxSuccessful()) {
@@ -180,11 +228,26 @@ public class SyncRestCallExecutor extends SyncExecutorBase {
             return ProviderResult.success(statusCode.value(), body, context);
         }
 
-        throw new CreditSummaryDataCollectionException(
+        throw upstreamHttpFailure(
+                statusCode, null, UpstreamErrorBody.truncate(body, errorBodyMaxBytes), baseContext, start);
+    }
+
+    private CreditSummaryDataCollectionException upstreamHttpFailure(
+            HttpStatusCode statusCode,
+            HttpHeaders headers,
+            String errorBody,
+            DataProviderContext baseContext,
+            Instant start) {
+        return new CreditSummaryDataCollectionException(
                 ErrorCode.LAYER_DATA_COLLECTION_FAILURE,
-                "Upstream returned HTTP " + statusCode.value() + " Response: " + (body != null ? body : ""),
+                UpstreamErrorBody.describe(statusCode, errorBody),
                 withResponseTime(baseContext, start),
-                new UpstreamInfo(statusCode.value(), statusCode.toString(), elapsedMs(start)),
+                new UpstreamInfo(
+                        statusCode.value(),
+                        statusCode.toString(),
+                        elapsedMs(start),
+                        null,
+                        UpstreamErrorBody.retryAfterMs(statusCode, headers)),
                 null);
     }
 
@@ -1,21 +1,30 @@
 package com.cfbl.platform.core.executor.nonreactive;
 
+import com.cfbl.platform.core.concurrent.VirtualThreadCallRunner;
 import com.cfbl.platform.core.exception.core.CreditSummaryDataCollectionException;
 import com.cfbl.platform.core.exception.core.CreditSummaryPlatformException;
 import com.cfbl.platform.core.exception.core.DataProviderContext;
 import com.cfbl.platform.core.exception.core.ErrorCode;
 import com.cfbl.platform.core.exception.core.UpstreamInfo;
+import com.cfbl.platform.core.executor.ProviderCallMetrics;
 import com.cfbl.platform.core.integration.model.ProviderResult;
+import com.cfbl.platform.core.resilience.BulkheadPolicyExecutor;
+import com.cfbl.platform.core.resilience.CircuitBreakerPolicyExecutor;
+import com.cfbl.platform.core.resilience.ConcurrencyLimitPolicyExecutor;
+import com.cfbl.platform.core.retry.RetryPolicies;
 import com.cfbl.platform.core.retry.RetrySettings;
 import com.cfbl.platform.core.retry.SyncRetryPolicyExecutor;
+import com.cfbl.platform.core.timeout.TimeoutSettings;
 import java.net.ConnectException;
 import java.net.SocketTimeoutException;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 
@@ -27,14 +36,66 @@ import org.springframework.stereotype.Component;
  * strictly
  * on the calling thread, maintaining automatic access to ThreadLocal
  * SecurityContext variables.
+ * <p>
+ * In virtual-thread mode ({@link VirtualThreadCallRunner}) each port call runs on
+ * its own virtual thread with the caller's SecurityContext, MDC and deadline, so
+ * the attempt timeout is enforced even though the port call cannot be
+ * interrupted.
  */
 @Component
 public class SyncSoapCallExecutor extends SyncExecutorBase {
 
     private static final RetrySettings DEFAULT_RETRY_SETTINGS = RetrySettings.defaults();
+    private static final TimeoutSettings DEFAULT_TIMEOUT_SETTINGS = TimeoutSettings.defaults();
+
+    private final RetryPolicies retryPolicies = RetryPolicies.shared("soap:");
+    private final VirtualThreadCallRunner callRunner;
 
     public SyncSoapCallExecutor(SyncRetryPolicyExecutor retryExecutor) {
         super(retryExecutor);
+        this.callRunner = new VirtualThreadCallRunner();
+    }
+
+    public SyncSoapCallExecutor(SyncRetryPolicyExecutor retryExecutor, CircuitBreakerPolicyExecutor circuitBreakerExecutor) {
+        this(retryExecutor, circuitBreakerExecutor, new BulkheadPolicyExecutor());
+    }
+
+    public SyncSoapCallExecutor(
+            SyncRetryPolicyExecutor retryExecutor,
+            CircuitBreakerPolicyExecutor circuitBreakerExecutor,
+            BulkheadPolicyExecutor bulkheadExecutor) {
+        this(retryExecutor, circuitBreakerExecutor, bulkheadExecutor, new ConcurrencyLimitPolicyExecutor());
+    }
+
+    public SyncSoapCallExecutor(
+            SyncRetryPolicyExecutor retryExecutor,
+            CircuitBreakerPolicyExecutor circuitBreakerExecutor,
+            BulkheadPolicyExecutor bulkheadExecutor,
+            ConcurrencyLimitPolicyExecutor concurrencyLimitExecutor) {
+        this(retryExecutor, circuitBreakerExecutor, bulkheadExecutor, concurrencyLimitExecutor,
+                new VirtualThreadCallRunner());
+    }
+
+    public SyncSoapCallExecutor(
+            SyncRetryPolicyExecutor retryExecutor,
+            CircuitBreakerPolicyExecutor circuitBreakerExecutor,
+            BulkheadPolicyExecutor bulkheadExecutor,
+            ConcurrencyLimitPolicyExecutor concurrencyLimitExecutor,
+            VirtualThreadCallRunner callRunner) {
+        this(retryExecutor, circuitBreakerExecutor, bulkheadExecutor, concurrencyLimitExecutor, callRunner,
+                new ProviderCallMetrics());
+    }
+
+    @Autowired
+    public SyncSoapCallExecutor(
+            SyncRetryPolicyExecutor retryExecutor,
+            CircuitBreakerPolicyExecutor circuitBreakerExecutor,
+            BulkheadPolicyExecutor bulkheadExecutor,
+            ConcurrencyLimitPolicyExecutor concurrencyLimitExecutor,
+            VirtualThreadCallRunner callRunner,
+            ProviderCallMetrics callMetrics) {
+        super(retryExecutor, circuitBreakerExecutor, bulkheadExecutor, concurrencyLimitExecutor, callMetrics);
+        this.callRunner = Objects.requireNonNull(callRunner, "callRunner");
     }
 
     /**
@@ -65,6 +126,49 @@ public class SyncSoapCallExecutor extends SyncExecutorBase {
             String failureMessage,
             RetrySettings retrySettings,
             Predicate<Throwable> callerRetryablePredicate) {
+        return executeWithRetry(
+                serviceId,
+                endpointUrl,
+                operation,
+                portCallSupplier,
+                failureMessage,
+                retrySettings,
+                DEFAULT_TIMEOUT_SETTINGS,
+                callerRetryablePredicate);
+    }
+
+    /**
+     * Executes a synchronous SOAP provider call with explicit timeout settings.
+     * <p>
+     * A blocking JAX-WS port call cannot be interrupted from here, so outside
+     * virtual-thread mode the attempt timeout must also be configured on the port
+     * (request/connect timeout properties). The {@link com.cfbl.platform.core.timeout.Deadline} bound to the
+     * calling thread is still honored between attempts: no attempt starts after it
+     * expires and retrying stops once the remaining budget is too small.
+     *
+     * @param serviceId                Logical service identifier
+     * @param endpointUrl              Physical URL of the SOAP service
+     * @param operation                Name of the SOAP operation being called
+     * @param portCallSupplier         Lambda executing the actual JAX-WS port call
+     * @param failureMessage           Error message prefix if the call fails
+     * @param retrySettings            Configuration for retry behavior
+     * @param timeoutSettings          Per-attempt timeout configuration
+     * @param callerRetryablePredicate Additional logic to determine if an error is
+     *                                 transient
+     * @param <T>                      Type of the expected response object
+     * @return result containing the successful response payload and context
+     * @throws CreditSummaryPlatformException if the call fails after exhausting
+     *                                        retries
+     */
+    public <T> ProviderResult<T> executeWithRetry(
+            String serviceId,
+            String endpointUrl,
+            String operation,
+            Supplier<T> portCallSupplier,
+            String failureMessage,
+            RetrySettings retrySettings,
+            TimeoutSettings timeoutSettings,
+            Predicate<Throwable> callerRetryablePredicate) {
 
         Objects.requireNonNull(serviceId, "serviceId");
         Objects.requireNonNull(endpointUrl, "endpointUrl");
@@ -72,6 +176,7 @@ public class SyncSoapCallExecutor extends SyncExecutorBase {
         Objects.requireNonNull(portCallSupplier, "portCallSupplier");
         Objects.requireNonNull(failureMessage, "failureMessage");
         Objects.requireNonNull(retrySettings, "retrySettings");
+        Objects.requireNonNull(timeoutSettings, "timeoutSettings");
         Objects.requireNonNull(callerRetryablePredicate, "callerRetryablePredicate");
 
         Instant collectedAt = Instant.now();
@@ -89,9 +194,10 @@ public class SyncSoapCallExecutor extends SyncExecutorBase {
                 || callerRetryablePredicate.test(throwable);
 
         return executeWithRetry(
-                "soap:" + serviceId,
-                retrySettings,
-                () -> executeAttempt(portCallSupplier, baseContext, start),
+                retryPolicies.forService(serviceId, retrySettings),
+                serviceId,
+                timeoutSettings,
+                attemptTimeout -> executeAttempt(portCallSupplier, attemptTimeout, baseContext, start),
                 effectiveRetryable,
                 ex -> toPlatformException(ex, failureMessage, baseContext, start));
     }
@@ -125,9 +231,20 @@ public class SyncSoapCallExecutor extends SyncExecutorBase {
 
     private <T> ProviderResult<T> executeAttempt(
             Supplier<T> portCallSupplier,
+            Duration attemptTimeout,
             DataProviderContext baseContext,
             Instant start) {
-        T body = portCallSupplier.get(); // Call first
+        T body; // Call first
+        try {
+            body = callRunner.call(portCallSupplier, attemptTimeout);
+        } catch (TimeoutException ex) {
+            throw new CreditSummaryDataCollectionException(
+                    ErrorCode.LAYER_DATA_COLLECTION_FAILURE,
+                    "Provider transport or timeout error: " + ex.getMessage(),
+                    withResponseTime(baseContext, start),
+                    new UpstreamInfo(null, ex.getClass().getSimpleName(), elapsedMs(start)),
+                    ex);
+        }
         DataProviderContext responseContext = withResponseTime(baseContext, start); // Then calculate time
         return ProviderResult.success(HttpStatus.OK.value(), body, responseContext);
     }
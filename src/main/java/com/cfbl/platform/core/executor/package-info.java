@@ -4,9 +4,14 @@
  * <p>This package contains protocol-specific executors (REST and SOAP) that:
  * <ul>
  *   <li>execute outbound calls with {@code RetryPolicyExecutor}</li>
+ *   <li>bound each attempt by {@code TimeoutSettings} and the caller's {@code Deadline}</li>
+ *   <li>guard each attempt with the service's circuit breaker ({@code CircuitBreakerPolicyExecutor})</li>
+ *   <li>cap in-flight attempts per service with an adaptive limit ({@code ConcurrencyLimitPolicyExecutor}) and a bulkhead ({@code BulkheadPolicyExecutor})</li>
+ *   <li>optionally move blocking SOAP port calls off the subscriber thread ({@code BlockingCallOffloader})</li>
  *   <li>produce integration-layer {@code ProviderResult<T>} and optionally map to {@code ApiResponse<T>}</li>
  *   <li>map failures to {@code CreditSummaryPlatformException} hierarchy</li>
  *   <li>attach provider metadata ({@code DataProviderContext}) and retry metadata ({@code RetryInfo})</li>
+ *   <li>record latency, attempt, error and in-flight meters per service and operation ({@code ProviderCallMetrics})</li>
  * </ul>
  *
  * <p>Use {@code RestCallExecutor} for retry-enabled WebClient flows, {@code SimpleRestExecutor}
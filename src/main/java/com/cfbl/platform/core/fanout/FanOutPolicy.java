@@ -0,0 +1,39 @@
+package com.cfbl.platform.core.fanout;
+
+import com.cfbl.platform.core.exception.core.CreditSummaryPlatformException;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * How a {@link ProviderFanOut} reacts to failures.
+ *
+ * <p>A failure matching {@code fatalFailure} cancels every sibling still running; those end as
+ * {@link ProviderOutcome.Status#CANCELLED}. Other failures stay isolated to their own outcome.
+ * Calls still running at the deadline are cancelled and end as
+ * {@link ProviderOutcome.Status#TIMED_OUT}, so the results collected so far are always returned.
+ */
+public record FanOutPolicy(Predicate<CreditSummaryPlatformException> fatalFailure) {
+
+    public FanOutPolicy {
+        Objects.requireNonNull(fatalFailure, "fatalFailure");
+    }
+
+    /**
+     * Any failure cancels the remaining calls.
+     */
+    public static FanOutPolicy failFast() {
+        return new FanOutPolicy(failure -> true);
+    }
+
+    /**
+     * No failure is fatal: every call runs until it completes or the deadline is reached, and
+     * whatever completed by then is returned.
+     */
+    public static FanOutPolicy partialResultsAtDeadline() {
+        return new FanOutPolicy(failure -> false);
+    }
+
+    boolean isFatal(CreditSummaryPlatformException failure) {
+        return fatalFailure.test(failure);
+    }
+}
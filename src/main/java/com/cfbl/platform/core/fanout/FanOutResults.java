@@ -0,0 +1,48 @@
+package com.cfbl.platform.core.fanout;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Per-call outcomes of one fan-out, in the order the calls were given.
+ */
+public final class FanOutResults {
+
+    private final Map<String, ProviderOutcome<?>> outcomes;
+    private final long elapsedMs;
+
+    FanOutResults(Map<String, ProviderOutcome<?>> outcomes, long elapsedMs) {
+        this.outcomes = Collections.unmodifiableMap(outcomes);
+        this.elapsedMs = elapsedMs;
+    }
+
+    /**
+     * Outcome of {@code call}.
+     *
+     * @throws IllegalArgumentException if the call was not part of this fan-out
+     */
+    @SuppressWarnings("unchecked")
+    public <T> ProviderOutcome<T> get(ProviderCall<T> call) {
+        ProviderOutcome<?> outcome = outcomes.get(call.name());
+        if (outcome == null) {
+            throw new IllegalArgumentException("No provider call named " + call.name());
+        }
+        return (ProviderOutcome<T>) outcome;
+    }
+
+    public Collection<ProviderOutcome<?>> outcomes() {
+        return outcomes.values();
+    }
+
+    public boolean allSucceeded() {
+        return outcomes.values().stream().allMatch(ProviderOutcome::isSuccess);
+    }
+
+    /**
+     * Wall-clock time of the whole fan-out, i.e. roughly the slowest call rather than their sum.
+     */
+    public long elapsedMs() {
+        return elapsedMs;
+    }
+}
@@ -0,0 +1,53 @@
+package com.cfbl.platform.core.fanout;
+
+import com.cfbl.platform.core.integration.model.ProviderResult;
+import java.util.Objects;
+import java.util.function.Supplier;
+import reactor.core.publisher.Mono;
+
+/**
+ * One named provider call taking part in a {@link ProviderFanOut}.
+ *
+ * <p>The call usually delegates to an executor, e.g.
+ * {@code ProviderCall.blocking("credit-bureau", () -> syncRestCallExecutor.executeWithRetry(...))}.
+ * The same instance is the key for reading its outcome from {@link FanOutResults}.
+ *
+ * @param <T> provider payload type
+ */
+public sealed interface ProviderCall<T> permits ProviderCall.Blocking, ProviderCall.Reactive {
+
+    /**
+     * Name of the call, unique within one fan-out.
+     */
+    String name();
+
+    /**
+     * Blocking call for {@link ProviderFanOut#executeSync}.
+     */
+    static <T> Blocking<T> blocking(String name, Supplier<ProviderResult<T>> call) {
+        return new Blocking<>(name, call);
+    }
+
+    /**
+     * Reactive call for {@link ProviderFanOut#execute}.
+     */
+    static <T> Reactive<T> reactive(String name, Supplier<Mono<ProviderResult<T>>> call) {
+        return new Reactive<>(name, call);
+    }
+
+    record Blocking<T>(String name, Supplier<ProviderResult<T>> call) implements ProviderCall<T> {
+
+        public Blocking {
+            Objects.requireNonNull(name, "name");
+            Objects.requireNonNull(call, "call");
+        }
+    }
+
+    record Reactive<T>(String name, Supplier<Mono<ProviderResult<T>>> call) implements ProviderCall<T> {
+
+        public Reactive {
+            Objects.requireNonNull(name, "name");
+            Objects.requireNonNull(call, "call");
+        }
+    }
+}
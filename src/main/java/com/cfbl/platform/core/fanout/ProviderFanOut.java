@@ -0,0 +1,342 @@
+package com.cfbl.platform.core.fanout;
+
+import com.cfbl.platform.core.concurrent.ThreadContextSnapshot;
+import com.cfbl.platform.core.exception.core.CreditSummaryDataCollectionException;
+import com.cfbl.platform.core.exception.core.CreditSummaryPlatformException;
+import com.cfbl.platform.core.exception.core.ErrorCode;
+import com.cfbl.platform.core.integration.model.ProviderResult;
+import com.cfbl.platform.core.timeout.Deadline;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+/**
+ * Scatter-gather over several provider calls sharing one deadline.
+ *
+ * <p>All calls start together, so the fan-out takes as long as its slowest call instead of the
+ * sum of all calls. Each call's {@link ProviderResult} or platform exception is reported separately
+ * in {@link FanOutResults}; a failure never hides the other results. The {@link FanOutPolicy}
+ * decides which failures cancel the siblings still running. Calls still running at the deadline
+ * are cancelled and reported as timed out.
+ *
+ * <p>The fan-out deadline is the earlier of {@code budget} and the caller's {@link Deadline}. It is
+ * bound to every call, so executor attempt timeouts and retries stay within it.
+ *
+ * <p>Blocking calls each run on their own virtual thread with the caller's security context, MDC
+ * and deadline. Cancellation interrupts that thread and the fan-out returns only once every
+ * cancelled call has ended, so no call outlives the fan-out; a blocking port call that ignores the
+ * interrupt therefore delays the return until it completes, and its result is discarded. Reactive
+ * calls are subscribed together and cancelled by disposing their subscription.
+ *
+ * <p>The executor is closed with the application context, after in-flight calls finish.
+ */
+@Component
+public class ProviderFanOut implements DisposableBean {
+
+    private final ExecutorService executor =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("fan-out-", 0).factory());
+
+    /**
+     * Runs blocking calls in parallel and waits for them within {@code budget}; calls cancelled at
+     * the deadline or after a fatal failure are interrupted and awaited before returning. Calls
+     * that had already finished when the fan-out stopped keep their own outcome.
+     */
+    public FanOutResults executeSync(Duration budget, FanOutPolicy policy, List<? extends ProviderCall.Blocking<?>> calls) {
+        Objects.requireNonNull(budget, "budget");
+        Objects.requireNonNull(policy, "policy");
+        requireUniqueNames(calls);
+
+        long startNanos = System.nanoTime();
+        Deadline deadline = earliest(Deadline.after(budget), Deadline.current());
+        ThreadContextSnapshot context = ThreadContextSnapshot.capture();
+        CompletionService<ProviderOutcome<?>> completion = new ExecutorCompletionService<>(executor);
+        Map<String, Future<ProviderOutcome<?>>> running = new HashMap<>();
+        Map<String, BlockingRun> runs = new HashMap<>();
+        for (ProviderCall.Blocking<?> call : calls) {
+            BlockingRun run = new BlockingRun();
+            runs.put(call.name(), run);
+            running.put(call.name(), completion.submit(
+                    () -> run.run(() -> runBlocking(call, context, deadline, startNanos))));
+        }
+
+        Map<String, ProviderOutcome<?>> completed = new HashMap<>();
+        boolean cancelled = false;
+        try {
+            while (!running.isEmpty()) {
+                Future<ProviderOutcome<?>> done = completion.poll(Math.max(0L, deadline.remainingMillis()), TimeUnit.MILLISECONDS);
+                if (done == null) {
+                    break;
+                }
+                ProviderOutcome<?> outcome = take(done, running, completed);
+                if (outcome.status() == ProviderOutcome.Status.FAILED && policy.isFatal(outcome.failure())) {
+                    cancelled = true;
+                    break;
+                }
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            cancelled = true;
+        }
+        // Calls that finished while the loop was stopping keep their outcome instead of being
+        // reported as cancelled or timed out.
+        for (Future<ProviderOutcome<?>> done = completion.poll(); done != null; done = completion.poll()) {
+            take(done, running, completed);
+        }
+
+        ProviderOutcome.Status stoppedStatus = cancelled ? ProviderOutcome.Status.CANCELLED : ProviderOutcome.Status.TIMED_OUT;
+        List<BlockingRun> started = new ArrayList<>();
+        for (Map.Entry<String, Future<ProviderOutcome<?>>> entry : running.entrySet()) {
+            BlockingRun run = runs.get(entry.getKey());
+            if (run.preventStart()) {
+                started.add(run);
+            }
+            entry.getValue().cancel(true);
+            completed.put(entry.getKey(), stopped(entry.getKey(), stoppedStatus, startNanos));
+        }
+        started.forEach(BlockingRun::awaitEnd);
+        return results(calls, completed, startNanos);
+    }
+
+    /**
+     * Varargs form of {@link #executeSync(Duration, FanOutPolicy, List)}.
+     */
+    public FanOutResults executeSync(Duration budget, FanOutPolicy policy, ProviderCall.Blocking<?>... calls) {
+        return executeSync(budget, policy, List.of(calls));
+    }
+
+    /**
+     * Subscribes to reactive calls together and emits once all of them ended or the deadline is
+     * reached.
+     */
+    public Mono<FanOutResults> execute(Duration budget, FanOutPolicy policy, List<? extends ProviderCall.Reactive<?>> calls) {
+        Objects.requireNonNull(budget, "budget");
+        Objects.requireNonNull(policy, "policy");
+        requireUniqueNames(calls);
+
+        return Mono.deferContextual(ctx -> {
+            long startNanos = System.nanoTime();
+            if (calls.isEmpty()) {
+                return Mono.just(results(calls, Map.of(), startNanos));
+            }
+            Deadline deadline = earliest(Deadline.after(budget), Deadline.fromContext(ctx));
+            Sinks.One<Boolean> fatalFailure = Sinks.one();
+            AtomicBoolean cancelled = new AtomicBoolean();
+            Mono<Boolean> stop = Mono.firstWithSignal(
+                    fatalFailure.asMono(),
+                    Mono.delay(Duration.ofMillis(Math.max(0L, deadline.remainingMillis()))).thenReturn(false));
+
+            List<Mono<ProviderOutcome<?>>> outcomes = calls.stream()
+                    .<Mono<ProviderOutcome<?>>>map(call -> runReactive(
+                            call, policy, deadline, stop, fatalFailure, cancelled, startNanos))
+                    .toList();
+            return Mono.zip(outcomes, done -> {
+                Map<String, ProviderOutcome<?>> completed = new HashMap<>();
+                for (Object outcome : done) {
+                    ProviderOutcome<?> providerOutcome = (ProviderOutcome<?>) outcome;
+                    completed.put(providerOutcome.name(), providerOutcome);
+                }
+                return results(calls, completed, startNanos);
+            });
+        });
+    }
+
+    /**
+     * Varargs form of {@link #execute(Duration, FanOutPolicy, List)}.
+     */
+    public Mono<FanOutResults> execute(Duration budget, FanOutPolicy policy, ProviderCall.Reactive<?>... calls) {
+        return execute(budget, policy, List.of(calls));
+    }
+
+    @Override
+    public void destroy() {
+        executor.close();
+    }
+
+    private ProviderOutcome<?> runBlocking(
+            ProviderCall.Blocking<?> call,
+            ThreadContextSnapshot context,
+            Deadline deadline,
+            long startNanos) {
+        try {
+            return ProviderOutcome.succeeded(
+                    call.name(),
+                    context.call(() -> Deadline.callWithin(deadline, call.call())),
+                    elapsedMs(startNanos));
+        } catch (RuntimeException ex) {
+            return ProviderOutcome.failed(
+                    call.name(), ProviderOutcome.Status.FAILED, toPlatformException(call.name(), ex), elapsedMs(startNanos));
+        }
+    }
+
+    private <T> Mono<ProviderOutcome<?>> runReactive(
+            ProviderCall.Reactive<T> call,
+            FanOutPolicy policy,
+            Deadline deadline,
+            Mono<Boolean> stop,
+            Sinks.One<Boolean> fatalFailure,
+            AtomicBoolean cancelled,
+            long startNanos) {
+        // The stop signal is applied before failures are handled so that a call emitting the fatal
+        // signal still reports its own failure rather than being cut off by it.
+        return Mono.defer(call.call())
+                .contextWrite(deadline::putInto)
+                .takeUntilOther(stop)
+                .<ProviderOutcome<?>>map(result -> ProviderOutcome.succeeded(call.name(), result, elapsedMs(startNanos)))
+                .onErrorResume(ex -> {
+                    CreditSummaryPlatformException failure = toPlatformException(call.name(), ex);
+                    if (policy.isFatal(failure)) {
+                        cancelled.set(true);
+                        fatalFailure.tryEmitValue(true);
+                    }
+                    return Mono.just(ProviderOutcome.failed(
+                            call.name(), ProviderOutcome.Status.FAILED, failure, elapsedMs(startNanos)));
+                })
+                .switchIfEmpty(Mono.fromSupplier(() -> stopped(
+                        call.name(),
+                        cancelled.get() ? ProviderOutcome.Status.CANCELLED : ProviderOutcome.Status.TIMED_OUT,
+                        startNanos)));
+    }
+
+    /**
+     * Start and end of one blocking call, so a cancelled call can be kept from starting or awaited
+     * until it has ended.
+     */
+    private static final class BlockingRun {
+
+        private final AtomicBoolean claimed = new AtomicBoolean();
+        private final CountDownLatch ended = new CountDownLatch(1);
+
+        private ProviderOutcome<?> run(Supplier<ProviderOutcome<?>> call) {
+            if (!claimed.compareAndSet(false, true)) {
+                return null;
+            }
+            try {
+                return call.get();
+            } finally {
+                ended.countDown();
+            }
+        }
+
+        /**
+         * Keeps the call from starting.
+         *
+         * @return {@code true} if the call had already started and must be awaited
+         */
+        private boolean preventStart() {
+            return !claimed.compareAndSet(false, true);
+        }
+
+        /**
+         * Waits until the call has ended. An interrupt of the waiting thread is kept for the caller
+         * but does not cut the wait short.
+         */
+        private void awaitEnd() {
+            boolean interrupted = false;
+            while (true) {
+                try {
+                    ended.await();
+                    break;
+                } catch (InterruptedException ex) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static ProviderOutcome<?> take(
+            Future<ProviderOutcome<?>> done,
+            Map<String, Future<ProviderOutcome<?>>> running,
+            Map<String, ProviderOutcome<?>> completed) {
+        ProviderOutcome<?> outcome = resultOf(done);
+        running.remove(outcome.name());
+        completed.put(outcome.name(), outcome);
+        return outcome;
+    }
+
+    private static ProviderOutcome<?> resultOf(Future<ProviderOutcome<?>> done) {
+        try {
+            return done.get();
+        } catch (ExecutionException ex) {
+            // runBlocking turns every RuntimeException into an outcome; only errors get here.
+            if (ex.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(ex.getCause());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static ProviderOutcome<?> stopped(String name, ProviderOutcome.Status status, long startNanos) {
+        String message = status == ProviderOutcome.Status.CANCELLED
+                ? "Provider call " + name + " was cancelled after a sibling call failed"
+                : "Provider call " + name + " did not complete before the fan-out deadline";
+        return ProviderOutcome.failed(
+                name,
+                status,
+                new CreditSummaryDataCollectionException(ErrorCode.LAYER_DATA_COLLECTION_FAILURE, message),
+                elapsedMs(startNanos));
+    }
+
+    private static CreditSummaryPlatformException toPlatformException(String name, Throwable throwable) {
+        if (throwable instanceof CreditSummaryPlatformException platformException) {
+            return platformException;
+        }
+        return new CreditSummaryDataCollectionException(
+                ErrorCode.LAYER_DATA_COLLECTION_FAILURE,
+                "Provider call " + name + " failed: " + throwable.getMessage(),
+                null,
+                null,
+                throwable);
+    }
+
+    private static FanOutResults results(
+            List<? extends ProviderCall<?>> calls,
+            Map<String, ProviderOutcome<?>> completed,
+            long startNanos) {
+        Map<String, ProviderOutcome<?>> ordered = new LinkedHashMap<>();
+        for (ProviderCall<?> call : calls) {
+            ordered.put(call.name(), completed.get(call.name()));
+        }
+        return new FanOutResults(ordered, elapsedMs(startNanos));
+    }
+
+    private static void requireUniqueNames(List<? extends ProviderCall<?>> calls) {
+        Objects.requireNonNull(calls, "calls");
+        if (calls.stream().map(ProviderCall::name).distinct().count() != calls.size()) {
+            throw new IllegalArgumentException("Provider call names must be unique within a fan-out");
+        }
+    }
+
+    private static Deadline earliest(Deadline fanOutDeadline, Deadline callerDeadline) {
+        return callerDeadline != null && callerDeadline.remainingMillis() < fanOutDeadline.remainingMillis()
+                ? callerDeadline
+                : fanOutDeadline;
+    }
+
+    private static long elapsedMs(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+}
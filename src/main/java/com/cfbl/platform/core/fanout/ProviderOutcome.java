@@ -0,0 +1,46 @@
+package com.cfbl.platform.core.fanout;
+
+import com.cfbl.platform.core.exception.core.CreditSummaryPlatformException;
+import com.cfbl.platform.core.integration.model.ProviderResult;
+
+/**
+ * Outcome of one call in a fan-out: either its {@link ProviderResult} or the platform exception
+ * that ended it.
+ *
+ * @param <T> provider payload type
+ */
+public record ProviderOutcome<T>(
+        String name,
+        Status status,
+        ProviderResult<T> result,
+        CreditSummaryPlatformException failure,
+        long elapsedMs) {
+
+    /**
+     * How the call ended.
+     */
+    public enum Status {
+        SUCCEEDED,
+        FAILED,
+        /** Stopped because a sibling failed fatally. */
+        CANCELLED,
+        /** Still running when the fan-out deadline was reached. */
+        TIMED_OUT
+    }
+
+    static <T> ProviderOutcome<T> succeeded(String name, ProviderResult<T> result, long elapsedMs) {
+        return new ProviderOutcome<>(name, Status.SUCCEEDED, result, null, elapsedMs);
+    }
+
+    static <T> ProviderOutcome<T> failed(
+            String name,
+            Status status,
+            CreditSummaryPlatformException failure,
+            long elapsedMs) {
+        return new ProviderOutcome<>(name, status, null, failure, elapsedMs);
+    }
+
+    public boolean isSuccess() {
+        return status == Status.SUCCEEDED;
+    }
+}
@@ -0,0 +1,49 @@
+package com.cfbl.platform.core.hedge;
+
+import java.time.Duration;
+
+/**
+ * Per-service hedging settings for idempotent REST provider calls.
+ *
+ * <p>When enabled, a second attempt is fired if the first has not completed after the observed
+ * {@code percentile} latency of the service, clamped to {@code [minDelayMs, maxDelayMs]}. Until
+ * {@code minSamples} latencies have been observed, {@code maxDelayMs} is used.
+ */
+public record HedgeSettings(
+    boolean enabled,
+    double percentile,
+    long minDelayMs,
+    long maxDelayMs,
+    int minSamples
+) {
+
+    private static final double DEFAULT_PERCENTILE = 0.95d;
+    private static final long DEFAULT_MIN_DELAY_MS = 50L;
+    private static final long DEFAULT_MAX_DELAY_MS = 1000L;
+    private static final int DEFAULT_MIN_SAMPLES = 20;
+
+    public HedgeSettings {
+        percentile = percentile > 0d && percentile < 1d ? percentile : DEFAULT_PERCENTILE;
+        minDelayMs = minDelayMs > 0 ? minDelayMs : DEFAULT_MIN_DELAY_MS;
+        maxDelayMs = maxDelayMs > 0 ? Math.max(minDelayMs, maxDelayMs) : Math.max(minDelayMs, DEFAULT_MAX_DELAY_MS);
+        minSamples = minSamples > 0 ? minSamples : DEFAULT_MIN_SAMPLES;
+    }
+
+    /**
+     * Default hedge settings: disabled, p95 delay clamped to 50..1000ms.
+     */
+    public static HedgeSettings defaults() {
+        return new HedgeSettings(false, DEFAULT_PERCENTILE, DEFAULT_MIN_DELAY_MS, DEFAULT_MAX_DELAY_MS, DEFAULT_MIN_SAMPLES);
+    }
+
+    /**
+     * Hedge delay for the given tracker, clamped to the configured bounds.
+     */
+    public Duration hedgeDelay(LatencyTracker tracker) {
+        if (tracker.sampleCount() < minSamples) {
+            return Duration.ofMillis(maxDelayMs);
+        }
+        long observed = tracker.percentileMs(percentile);
+        return Duration.ofMillis(Math.min(maxDelayMs, Math.max(minDelayMs, observed)));
+    }
+}
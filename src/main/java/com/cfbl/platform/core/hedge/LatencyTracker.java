@@ -0,0 +1,50 @@
+package com.cfbl.platform.core.hedge;
+
+import java.util.Arrays;
+
+/**
+ * Sliding window of recent successful attempt latencies for one service.
+ *
+ * <p>Keeps the last {@link #WINDOW_SIZE} samples in a ring buffer. Percentiles are computed on
+ * demand from a sorted copy of the window, which is cheap at this size and only happens once per
+ * hedged call.
+ */
+public final class LatencyTracker {
+
+    static final int WINDOW_SIZE = 256;
+
+    private final long[] samples = new long[WINDOW_SIZE];
+    private int next;
+    private int count;
+
+    /**
+     * Records one observed latency.
+     */
+    public synchronized void record(long latencyMs) {
+        samples[next] = Math.max(0L, latencyMs);
+        next = (next + 1) % WINDOW_SIZE;
+        if (count < WINDOW_SIZE) {
+            count++;
+        }
+    }
+
+    public synchronized int sampleCount() {
+        return count;
+    }
+
+    /**
+     * Returns the latency at the given percentile ({@code 0 < percentile < 1}); {@code 0} when empty.
+     */
+    public long percentileMs(double percentile) {
+        long[] window;
+        synchronized (this) {
+            if (count == 0) {
+                return 0L;
+            }
+            window = Arrays.copyOf(samples, count);
+        }
+        Arrays.sort(window);
+        int index = (int) Math.ceil(percentile * window.length) - 1;
+        return window[Math.max(0, Math.min(window.length - 1, index))];
+    }
+}
@@ -0,0 +1,93 @@
+package com.cfbl.platform.core.integration.model;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Upstream JSON document carried as its original UTF-8 bytes.
+ *
+ * <p>Used as a {@link ProviderResult} payload when the provider's body is passed through to the
+ * client unchanged: the API envelope writers splice {@link #bytes()} verbatim into the
+ * {@code data} field instead of decoding the body into objects or escaping it as a string.
+ *
+ * <p>The byte array is shared, not copied; callers must not modify it after wrapping.
+ */
+public final class RawJson {
+
+    private static final JsonMapper VALIDATOR = JsonMapper.builder().build();
+
+    private final byte[] bytes;
+
+    private RawJson(byte[] bytes) {
+        this.bytes = bytes;
+    }
+
+    /**
+     * Wraps bytes that are trusted to hold exactly one JSON value.
+     */
+    public static RawJson of(byte[] bytes) {
+        return new RawJson(Objects.requireNonNull(bytes, "bytes"));
+    }
+
+    /**
+     * Wraps bytes after checking that they hold exactly one well-formed JSON value.
+     *
+     * <p>The check streams over the tokens without building a tree.
+     *
+     * @throws IllegalArgumentException if the bytes are not a single well-formed JSON value
+     */
+    public static RawJson validated(byte[] bytes) {
+        Objects.requireNonNull(bytes, "bytes");
+        try (JsonParser parser = VALIDATOR.createParser(bytes)) {
+            if (parser.nextToken() == null) {
+                throw new IllegalArgumentException("Upstream body is empty, expected a JSON value");
+            }
+            parser.skipChildren();
+            if (parser.nextToken() != null) {
+                throw new IllegalArgumentException("Upstream body has content after the first JSON value");
+            }
+        } catch (JacksonException ex) {
+            throw new IllegalArgumentException("Upstream body is not valid JSON: " + ex.getOriginalMessage(), ex);
+        }
+        return new RawJson(bytes);
+    }
+
+    /**
+     * The wrapped UTF-8 bytes; shared with this instance, do not modify.
+     */
+    public byte[] bytes() {
+        return bytes;
+    }
+
+    public int length() {
+        return bytes.length;
+    }
+
+    public void writeTo(OutputStream out) throws IOException {
+        out.write(bytes);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof RawJson that && Arrays.equals(bytes, that.bytes);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(bytes);
+    }
+
+    /**
+     * The JSON text, decoded as UTF-8.
+     */
+    @Override
+    public String toString() {
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,27 @@
+package com.cfbl.platform.core.resilience;
+
+/**
+ * Thrown when a provider attempt is rejected because the service's bulkhead has no free slot.
+ *
+ * <p>Stackless because rejection is a load-shedding signal on a hot path, not a diagnostic.
+ */
+public class BulkheadFullException extends RuntimeException {
+
+    private final String bulkheadName;
+    private final int maxConcurrentCalls;
+
+    public BulkheadFullException(String bulkheadName, int maxConcurrentCalls) {
+        super("Bulkhead '" + bulkheadName + "' is full and does not permit further calls (maxConcurrentCalls="
+                + maxConcurrentCalls + ")", null, false, false);
+        this.bulkheadName = bulkheadName;
+        this.maxConcurrentCalls = maxConcurrentCalls;
+    }
+
+    public String getBulkheadName() {
+        return bulkheadName;
+    }
+
+    public int getMaxConcurrentCalls() {
+        return maxConcurrentCalls;
+    }
+}
@@ -0,0 +1,211 @@
+package com.cfbl.platform.core.resilience;
+
+import com.cfbl.platform.core.config.PlatformProperties;
+import com.cfbl.platform.core.config.PlatformProperties.ServiceDefinition;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Caps the number of in-flight provider attempts per service.
+ *
+ * <p>Bulkheads are named like retry policies ({@code rest:<serviceId>}, {@code soap:<serviceId>})
+ * and sized from {@code ServiceDefinition.bulkhead}; the first call for a name fixes its size.
+ * Reactive and blocking executors share the bulkhead of a name.
+ *
+ * <p>Reactive attempts only take a free slot and are otherwise rejected at once, because waiting
+ * would park a Netty event-loop thread. Blocking attempts may queue for
+ * {@link BulkheadSettings#maxWaitMs()}. Rejections fail with {@link BulkheadFullException}.
+ *
+ * <p>Per bulkhead the following meters are registered, tagged with {@code name} and
+ * {@code service}: {@code provider.bulkhead.in.flight}, {@code provider.bulkhead.max.concurrent}
+ * (gauges) and {@code provider.bulkhead.rejected} (counter).
+ */
+@Component
+public class BulkheadPolicyExecutor {
+
+    private final PlatformProperties platformProperties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, ServiceBulkhead> bulkheads = new ConcurrentHashMap<>();
+
+    /**
+     * Creates an executor with no service configuration; every bulkhead is disabled.
+     */
+    public BulkheadPolicyExecutor() {
+        this(new PlatformProperties(), Metrics.globalRegistry);
+    }
+
+    public BulkheadPolicyExecutor(PlatformProperties platformProperties, MeterRegistry meterRegistry) {
+        this.platformProperties = Objects.requireNonNull(platformProperties, "platformProperties");
+        this.meterRegistry = Objects.requireNonNull(meterRegistry, "meterRegistry");
+    }
+
+    /**
+     * Uses the application's {@link MeterRegistry} when one is configured, else the global registry.
+     */
+    @Autowired
+    public BulkheadPolicyExecutor(PlatformProperties platformProperties, ObjectProvider<MeterRegistry> meterRegistry) {
+        this(platformProperties, meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+    }
+
+    /**
+     * Executes one reactive attempt inside the service's bulkhead when enabled.
+     *
+     * <p>The slot is released when the attempt completes, fails or is cancelled.
+     *
+     * @param bulkheadName protocol-namespaced name, e.g. {@code rest:<serviceId>}
+     * @param serviceId service key used to resolve {@link BulkheadSettings}
+     * @param supplier attempt supplier
+     * @param <T> payload type
+     * @return attempt publisher, or an error with {@link BulkheadFullException} when no slot is free
+     */
+    public <T> Mono<T> execute(String bulkheadName, String serviceId, Supplier<Mono<T>> supplier) {
+        Objects.requireNonNull(bulkheadName, "bulkheadName");
+        Objects.requireNonNull(supplier, "supplier");
+
+        BulkheadSettings settings = settingsFor(serviceId);
+        if (!settings.enabled()) {
+            return supplier.get();
+        }
+
+        return Mono.defer(() -> {
+            ServiceBulkhead bulkhead = bulkhead(bulkheadName, serviceId, settings);
+            if (!bulkhead.tryAcquire()) {
+                return Mono.error(bulkhead.rejected());
+            }
+            Mono<T> attempt;
+            try {
+                attempt = supplier.get();
+            } catch (RuntimeException ex) {
+                bulkhead.release();
+                throw ex;
+            }
+            return attempt.doFinally(signal -> bulkhead.release());
+        });
+    }
+
+    /**
+     * Executes one blocking attempt inside the service's bulkhead when enabled, queueing for up to
+     * {@link BulkheadSettings#maxWaitMs()} for a free slot.
+     *
+     * @see #execute(String, String, Supplier)
+     */
+    public <T> T executeSync(String bulkheadName, String serviceId, Supplier<T> supplier) {
+        Objects.requireNonNull(bulkheadName, "bulkheadName");
+        Objects.requireNonNull(supplier, "supplier");
+
+        BulkheadSettings settings = settingsFor(serviceId);
+        if (!settings.enabled()) {
+            return supplier.get();
+        }
+
+        ServiceBulkhead bulkhead = bulkhead(bulkheadName, serviceId, settings);
+        if (!bulkhead.acquire(settings.maxWaitMs())) {
+            throw bulkhead.rejected();
+        }
+        try {
+            return supplier.get();
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    /**
+     * Number of attempts currently holding a slot, or {@code 0} when the bulkhead was never used.
+     */
+    public int inFlight(String bulkheadName) {
+        ServiceBulkhead bulkhead = bulkheads.get(bulkheadName);
+        return bulkhead == null ? 0 : bulkhead.inFlight();
+    }
+
+    /**
+     * Total number of rejected attempts, or {@code 0} when the bulkhead was never used.
+     */
+    public long rejectedCount(String bulkheadName) {
+        ServiceBulkhead bulkhead = bulkheads.get(bulkheadName);
+        return bulkhead == null ? 0L : (long) bulkhead.rejections.count();
+    }
+
+    private ServiceBulkhead bulkhead(String bulkheadName, String serviceId, BulkheadSettings settings) {
+        return bulkheads.computeIfAbsent(
+                bulkheadName,
+                name -> new ServiceBulkhead(name, serviceId, settings.maxConcurrentCalls(), meterRegistry));
+    }
+
+    private BulkheadSettings settingsFor(String serviceId) {
+        ServiceDefinition service = serviceId == null ? null : platformProperties.getServices().get(serviceId);
+        return service != null && service.getBulkhead() != null
+                ? service.getBulkhead()
+                : BulkheadSettings.defaults();
+    }
+
+    private static final class ServiceBulkhead {
+
+        private final String name;
+        private final int maxConcurrentCalls;
+        private final Semaphore permits;
+        private final Counter rejections;
+
+        private ServiceBulkhead(String name, String serviceId, int maxConcurrentCalls, MeterRegistry meterRegistry) {
+            this.name = name;
+            this.maxConcurrentCalls = maxConcurrentCalls;
+            this.permits = new Semaphore(maxConcurrentCalls);
+            String service = serviceId == null ? "unknown" : serviceId;
+            Gauge.builder("provider.bulkhead.in.flight", this, ServiceBulkhead::inFlight)
+                    .description("Provider attempts currently holding a bulkhead slot")
+                    .tag("name", name)
+                    .tag("service", service)
+                    .register(meterRegistry);
+            Gauge.builder("provider.bulkhead.max.concurrent", this, bulkhead -> bulkhead.maxConcurrentCalls)
+                    .description("Configured bulkhead size")
+                    .tag("name", name)
+                    .tag("service", service)
+                    .register(meterRegistry);
+            this.rejections = Counter.builder("provider.bulkhead.rejected")
+                    .description("Provider attempts rejected because the bulkhead was full")
+                    .tag("name", name)
+                    .tag("service", service)
+                    .register(meterRegistry);
+        }
+
+        private boolean tryAcquire() {
+            return permits.tryAcquire();
+        }
+
+        private boolean acquire(long maxWaitMs) {
+            if (maxWaitMs <= 0) {
+                return permits.tryAcquire();
+            }
+            try {
+                return permits.tryAcquire(maxWaitMs, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+
+        private void release() {
+            permits.release();
+        }
+
+        private int inFlight() {
+            return maxConcurrentCalls - permits.availablePermits();
+        }
+
+        private BulkheadFullException rejected() {
+            rejections.increment();
+            return new BulkheadFullException(name, maxConcurrentCalls);
+        }
+    }
+}
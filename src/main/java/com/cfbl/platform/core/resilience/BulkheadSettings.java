@@ -0,0 +1,30 @@
+package com.cfbl.platform.core.resilience;
+
+/**
+ * Per-service bulkhead settings used by {@link BulkheadPolicyExecutor}.
+ *
+ * <p>At most {@code maxConcurrentCalls} attempts of a service may be in flight at once. Blocking
+ * callers queue for a free slot for up to {@code maxWaitMs}; reactive callers never queue, so the
+ * event loop is not parked. A caller that cannot get a slot is rejected immediately.
+ */
+public record BulkheadSettings(
+    boolean enabled,
+    int maxConcurrentCalls,
+    long maxWaitMs
+) {
+
+    private static final int DEFAULT_MAX_CONCURRENT_CALLS = 25;
+    private static final long DEFAULT_MAX_WAIT_MS = 0L;
+
+    public BulkheadSettings {
+        maxConcurrentCalls = maxConcurrentCalls > 0 ? maxConcurrentCalls : DEFAULT_MAX_CONCURRENT_CALLS;
+        maxWaitMs = Math.max(0L, maxWaitMs);
+    }
+
+    /**
+     * Default bulkhead settings: disabled.
+     */
+    public static BulkheadSettings defaults() {
+        return new BulkheadSettings(false, DEFAULT_MAX_CONCURRENT_CALLS, DEFAULT_MAX_WAIT_MS);
+    }
+}
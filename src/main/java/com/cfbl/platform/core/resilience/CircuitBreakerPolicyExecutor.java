@@ -0,0 +1,178 @@
+package com.cfbl.platform.core.resilience;
+
+import com.cfbl.platform.core.config.PlatformProperties;
+import com.cfbl.platform.core.config.PlatformProperties.ServiceDefinition;
+import com.cfbl.platform.core.retry.RetryStoppedException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Applies per-service Resilience4j circuit breakers to single provider attempts.
+ *
+ * <p>Breakers are named like retry policies ({@code rest:<serviceId>}, {@code soap:<serviceId>}) and
+ * configured from {@code ServiceDefinition.circuitBreaker}; the first call for a name fixes its
+ * configuration. Reactive and blocking executors share the breaker of a name.
+ *
+ * <p>Whether a failure counts against the breaker is decided per call by the caller's predicate
+ * (normally the executor's transient-failure predicate), so client errors such as {@code 404} do
+ * not open the breaker. {@link RetryStoppedException} is neither a success nor a failure.
+ * When the breaker is open, calls fail immediately with {@link CallNotPermittedException}.
+ */
+@Slf4j
+@Component
+public class CircuitBreakerPolicyExecutor {
+
+    private final PlatformProperties platformProperties;
+    private final CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+    private final Set<String> stateLoggersRegistered = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Creates an executor with no service configuration; every breaker is disabled.
+     */
+    public CircuitBreakerPolicyExecutor() {
+        this(new PlatformProperties());
+    }
+
+    @Autowired
+    public CircuitBreakerPolicyExecutor(PlatformProperties platformProperties) {
+        this.platformProperties = Objects.requireNonNull(platformProperties, "platformProperties");
+    }
+
+    /**
+     * Executes one reactive attempt through the service's circuit breaker when enabled.
+     *
+     * @param breakerName protocol-namespaced name, e.g. {@code rest:<serviceId>}
+     * @param serviceId service key used to resolve {@link CircuitBreakerSettings}
+     * @param supplier attempt supplier
+     * @param recordFailure predicate selecting failures that count against the breaker
+     * @param <T> payload type
+     * @return attempt publisher guarded by the breaker
+     */
+    public <T> Mono<T> execute(
+            String breakerName,
+            String serviceId,
+            Supplier<Mono<T>> supplier,
+            Predicate<Throwable> recordFailure) {
+        Objects.requireNonNull(breakerName, "breakerName");
+        Objects.requireNonNull(supplier, "supplier");
+        Objects.requireNonNull(recordFailure, "recordFailure");
+
+        CircuitBreakerSettings settings = settingsFor(serviceId);
+        if (!settings.enabled()) {
+            return supplier.get();
+        }
+
+        return Mono.defer(() -> {
+            CircuitBreaker circuitBreaker = circuitBreaker(breakerName, settings);
+            if (!circuitBreaker.tryAcquirePermission()) {
+                return Mono.error(CallNotPermittedException.createCallNotPermittedException(circuitBreaker));
+            }
+            long startNanos = System.nanoTime();
+            return supplier.get()
+                    .doOnSuccess(value -> circuitBreaker.onSuccess(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS))
+                    .doOnError(ex -> onError(circuitBreaker, startNanos, ex, recordFailure))
+                    .doOnCancel(circuitBreaker::releasePermission);
+        });
+    }
+
+    /**
+     * Executes one blocking attempt through the service's circuit breaker when enabled.
+     *
+     * @see #execute(String, String, Supplier, Predicate)
+     */
+    public <T> T executeSync(
+            String breakerName,
+            String serviceId,
+            Supplier<T> supplier,
+            Predicate<Throwable> recordFailure) {
+        Objects.requireNonNull(breakerName, "breakerName");
+        Objects.requireNonNull(supplier, "supplier");
+        Objects.requireNonNull(recordFailure, "recordFailure");
+
+        CircuitBreakerSettings settings = settingsFor(serviceId);
+        if (!settings.enabled()) {
+            return supplier.get();
+        }
+
+        CircuitBreaker circuitBreaker = circuitBreaker(breakerName, settings);
+        if (!circuitBreaker.tryAcquirePermission()) {
+            throw CallNotPermittedException.createCallNotPermittedException(circuitBreaker);
+        }
+        long startNanos = System.nanoTime();
+        try {
+            T result = supplier.get();
+            circuitBreaker.onSuccess(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+            return result;
+        } catch (RuntimeException ex) {
+            onError(circuitBreaker, startNanos, ex, recordFailure);
+            throw ex;
+        }
+    }
+
+    /**
+     * Current state name of the breaker ({@code CLOSED}, {@code OPEN}, {@code HALF_OPEN}, ...), or
+     * {@code null} when it was never used.
+     */
+    public String state(String breakerName) {
+        return circuitBreakerRegistry.find(breakerName)
+                .map(circuitBreaker -> circuitBreaker.getState().name())
+                .orElse(null);
+    }
+
+    private void onError(
+            CircuitBreaker circuitBreaker,
+            long startNanos,
+            Throwable throwable,
+            Predicate<Throwable> recordFailure) {
+        long durationNanos = System.nanoTime() - startNanos;
+        if (throwable instanceof RetryStoppedException) {
+            circuitBreaker.releasePermission();
+        } else if (recordFailure.test(throwable)) {
+            circuitBreaker.onError(durationNanos, TimeUnit.NANOSECONDS, throwable);
+        } else {
+            circuitBreaker.onSuccess(durationNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private CircuitBreaker circuitBreaker(String breakerName, CircuitBreakerSettings settings) {
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(breakerName, () -> buildConfig(settings));
+        if (stateLoggersRegistered.add(breakerName)) {
+            circuitBreaker.getEventPublisher().onStateTransition(event -> log.warn(
+                    "Circuit breaker state change name={}, transition={}",
+                    breakerName,
+                    event.getStateTransition()));
+        }
+        return circuitBreaker;
+    }
+
+    private CircuitBreakerConfig buildConfig(CircuitBreakerSettings settings) {
+        return CircuitBreakerConfig.custom()
+                .failureRateThreshold(settings.failureRateThreshold())
+                .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+                .slidingWindowSize(settings.slidingWindowSize())
+                .minimumNumberOfCalls(settings.minimumNumberOfCalls())
+                .waitDurationInOpenState(Duration.ofMillis(settings.waitDurationInOpenStateMs()))
+                .permittedNumberOfCallsInHalfOpenState(settings.permittedCallsInHalfOpenState())
+                .build();
+    }
+
+    private CircuitBreakerSettings settingsFor(String serviceId) {
+        ServiceDefinition service = serviceId == null ? null : platformProperties.getServices().get(serviceId);
+        return service != null && service.getCircuitBreaker() != null
+                ? service.getCircuitBreaker()
+                : CircuitBreakerSettings.defaults();
+    }
+}
@@ -0,0 +1,52 @@
+package com.cfbl.platform.core.resilience;
+
+/**
+ * Per-service circuit breaker settings used by {@link CircuitBreakerPolicyExecutor}.
+ *
+ * <p>The breaker opens when at least {@code failureRateThreshold} percent of the last
+ * {@code slidingWindowSize} calls failed with a transient failure (after
+ * {@code minimumNumberOfCalls}). It stays open for {@code waitDurationInOpenStateMs}, then lets
+ * {@code permittedCallsInHalfOpenState} probe calls through to decide whether to close again.
+ */
+public record CircuitBreakerSettings(
+    boolean enabled,
+    float failureRateThreshold,
+    int slidingWindowSize,
+    int minimumNumberOfCalls,
+    long waitDurationInOpenStateMs,
+    int permittedCallsInHalfOpenState
+) {
+
+    private static final float DEFAULT_FAILURE_RATE_THRESHOLD = 50f;
+    private static final int DEFAULT_SLIDING_WINDOW_SIZE = 20;
+    private static final int DEFAULT_MINIMUM_NUMBER_OF_CALLS = 10;
+    private static final long DEFAULT_WAIT_DURATION_IN_OPEN_STATE_MS = 30_000L;
+    private static final int DEFAULT_PERMITTED_CALLS_IN_HALF_OPEN_STATE = 3;
+
+    public CircuitBreakerSettings {
+        failureRateThreshold = failureRateThreshold > 0f && failureRateThreshold <= 100f
+            ? failureRateThreshold
+            : DEFAULT_FAILURE_RATE_THRESHOLD;
+        slidingWindowSize = slidingWindowSize > 0 ? slidingWindowSize : DEFAULT_SLIDING_WINDOW_SIZE;
+        minimumNumberOfCalls = minimumNumberOfCalls > 0 ? minimumNumberOfCalls : DEFAULT_MINIMUM_NUMBER_OF_CALLS;
+        waitDurationInOpenStateMs = waitDurationInOpenStateMs > 0
+            ? waitDurationInOpenStateMs
+            : DEFAULT_WAIT_DURATION_IN_OPEN_STATE_MS;
+        permittedCallsInHalfOpenState = permittedCallsInHalfOpenState > 0
+            ? permittedCallsInHalfOpenState
+            : DEFAULT_PERMITTED_CALLS_IN_HALF_OPEN_STATE;
+    }
+
+    /**
+     * Default circuit breaker settings: disabled.
+     */
+    public static CircuitBreakerSettings defaults() {
+        return new CircuitBreakerSettings(
+            false,
+            DEFAULT_FAILURE_RATE_THRESHOLD,
+            DEFAULT_SLIDING_WINDOW_SIZE,
+            DEFAULT_MINIMUM_NUMBER_OF_CALLS,
+            DEFAULT_WAIT_DURATION_IN_OPEN_STATE_MS,
+            DEFAULT_PERMITTED_CALLS_IN_HALF_OPEN_STATE);
+    }
+}
@@ -0,0 +1,27 @@
+package com.cfbl.platform.core.resilience;
+
+/**
+ * Thrown when a provider attempt is shed because the service's adaptive concurrency limit is
+ * reached.
+ *
+ * <p>Stackless because shedding is a load-control signal on a hot path, not a diagnostic.
+ */
+public class ConcurrencyLimitExceededException extends RuntimeException {
+
+    private final String limiterName;
+    private final int limit;
+
+    public ConcurrencyLimitExceededException(String limiterName, int limit) {
+        super("Concurrency limit of '" + limiterName + "' reached (limit=" + limit + ")", null, false, false);
+        this.limiterName = limiterName;
+        this.limit = limit;
+    }
+
+    public String getLimiterName() {
+        return limiterName;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+}
@@ -0,0 +1,293 @@
+package com.cfbl.platform.core.resilience;
+
+import com.cfbl.platform.core.config.PlatformProperties;
+import com.cfbl.platform.core.config.PlatformProperties.ServiceDefinition;
+import com.cfbl.platform.core.retry.RetryStoppedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Adapts the number of in-flight provider attempts per service to the provider's observed health.
+ *
+ * <p>Limiters are named like retry policies ({@code rest:<serviceId>}, {@code soap:<serviceId>})
+ * and configured from {@code ServiceDefinition.concurrencyLimit}; the first call for a name fixes
+ * its configuration. Reactive and blocking executors share the limiter of a name.
+ *
+ * <p>The limit follows an additive-increase/multiplicative-decrease rule driven by each attempt's
+ * round-trip time and outcome (see {@link ConcurrencyLimitSettings}). The round-trip baseline is
+ * the fastest healthy attempt seen in the current window of {@value #RTT_WINDOW_SAMPLES} samples,
+ * so it follows a provider whose normal latency shifts. Attempts above the limit are shed at once
+ * with {@link ConcurrencyLimitExceededException} instead of queueing into timeouts.
+ *
+ * <p>Per limiter the following meters are registered, tagged with {@code name} and
+ * {@code service}: {@code provider.limiter.limit}, {@code provider.limiter.in.flight} (gauges) and
+ * {@code provider.limiter.rejected} (counter).
+ */
+@Component
+public class ConcurrencyLimitPolicyExecutor {
+
+    static final int RTT_WINDOW_SAMPLES = 500;
+
+    private final PlatformProperties platformProperties;
+    private final MeterRegistry meterRegistry;
+    private final LongSupplier nanoClock;
+    private final Map<String, ServiceLimit> limits = new ConcurrentHashMap<>();
+
+    /**
+     * Creates an executor with no service configuration; every limiter is disabled.
+     */
+    public ConcurrencyLimitPolicyExecutor() {
+        this(new PlatformProperties(), Metrics.globalRegistry);
+    }
+
+    public ConcurrencyLimitPolicyExecutor(PlatformProperties platformProperties, MeterRegistry meterRegistry) {
+        this(platformProperties, meterRegistry, System::nanoTime);
+    }
+
+    /**
+     * Uses the application's {@link MeterRegistry} when one is configured, else the global registry.
+     */
+    @Autowired
+    public ConcurrencyLimitPolicyExecutor(
+            PlatformProperties platformProperties,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        this(platformProperties, meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+    }
+
+    ConcurrencyLimitPolicyExecutor(
+            PlatformProperties platformProperties,
+            MeterRegistry meterRegistry,
+            LongSupplier nanoClock) {
+        this.platformProperties = Objects.requireNonNull(platformProperties, "platformProperties");
+        this.meterRegistry = Objects.requireNonNull(meterRegistry, "meterRegistry");
+        this.nanoClock = Objects.requireNonNull(nanoClock, "nanoClock");
+    }
+
+    /**
+     * Executes one reactive attempt under the service's adaptive limit when enabled.
+     *
+     * <p>The attempt's round-trip time and outcome update the limit when it terminates. Cancelled
+     * attempts and {@link RetryStoppedException} only free their slot.
+     *
+     * @param limiterName protocol-namespaced name, e.g. {@code rest:<serviceId>}
+     * @param serviceId service key used to resolve {@link ConcurrencyLimitSettings}
+     * @param supplier attempt supplier
+     * @param dropped predicate selecting failures that signal an overloaded provider
+     * @param <T> payload type
+     * @return attempt publisher, or an error with {@link ConcurrencyLimitExceededException} when
+     *     the limit is reached
+     */
+    public <T> Mono<T> execute(
+            String limiterName,
+            String serviceId,
+            Supplier<Mono<T>> supplier,
+            Predicate<Throwable> dropped) {
+        Objects.requireNonNull(limiterName, "limiterName");
+        Objects.requireNonNull(supplier, "supplier");
+        Objects.requireNonNull(dropped, "dropped");
+
+        ConcurrencyLimitSettings settings = settingsFor(serviceId);
+        if (!settings.enabled()) {
+            return supplier.get();
+        }
+
+        return Mono.defer(() -> {
+            ServiceLimit limit = limit(limiterName, serviceId, settings);
+            int inFlightAtStart = limit.tryAcquire();
+            if (inFlightAtStart < 0) {
+                return Mono.error(limit.rejected());
+            }
+            long startNanos = nanoClock.getAsLong();
+            AtomicBoolean sampled = new AtomicBoolean();
+            Consumer<Outcome> sample = outcome -> {
+                if (sampled.compareAndSet(false, true)) {
+                    limit.onSample(nanoClock.getAsLong() - startNanos, inFlightAtStart, outcome);
+                }
+            };
+            Mono<T> attempt;
+            try {
+                attempt = supplier.get();
+            } catch (RuntimeException ex) {
+                sample.accept(classify(ex, dropped));
+                throw ex;
+            }
+            return attempt
+                    .doOnSuccess(value -> sample.accept(Outcome.SUCCESS))
+                    .doOnError(ex -> sample.accept(classify(ex, dropped)))
+                    .doOnCancel(() -> sample.accept(Outcome.IGNORED));
+        });
+    }
+
+    /**
+     * Executes one blocking attempt under the service's adaptive limit when enabled.
+     *
+     * @see #execute(String, String, Supplier, Predicate)
+     */
+    public <T> T executeSync(
+            String limiterName,
+            String serviceId,
+            Supplier<T> supplier,
+            Predicate<Throwable> dropped) {
+        Objects.requireNonNull(limiterName, "limiterName");
+        Objects.requireNonNull(supplier, "supplier");
+        Objects.requireNonNull(dropped, "dropped");
+
+        ConcurrencyLimitSettings settings = settingsFor(serviceId);
+        if (!settings.enabled()) {
+            return supplier.get();
+        }
+
+        ServiceLimit limit = limit(limiterName, serviceId, settings);
+        int inFlightAtStart = limit.tryAcquire();
+        if (inFlightAtStart < 0) {
+            throw limit.rejected();
+        }
+        long startNanos = nanoClock.getAsLong();
+        try {
+            T result = supplier.get();
+            limit.onSample(nanoClock.getAsLong() - startNanos, inFlightAtStart, Outcome.SUCCESS);
+            return result;
+        } catch (RuntimeException ex) {
+            limit.onSample(nanoClock.getAsLong() - startNanos, inFlightAtStart, classify(ex, dropped));
+            throw ex;
+        }
+    }
+
+    /**
+     * Current limit, or {@code -1} when the limiter was never used.
+     */
+    public int currentLimit(String limiterName) {
+        ServiceLimit limit = limits.get(limiterName);
+        return limit == null ? -1 : limit.currentLimit();
+    }
+
+    /**
+     * Total number of shed attempts, or {@code 0} when the limiter was never used.
+     */
+    public long rejectedCount(String limiterName) {
+        ServiceLimit limit = limits.get(limiterName);
+        return limit == null ? 0L : (long) limit.rejections.count();
+    }
+
+    private Outcome classify(Throwable throwable, Predicate<Throwable> dropped) {
+        if (throwable instanceof RetryStoppedException) {
+            return Outcome.IGNORED;
+        }
+        return dropped.test(throwable) ? Outcome.DROPPED : Outcome.SUCCESS;
+    }
+
+    private ServiceLimit limit(String limiterName, String serviceId, ConcurrencyLimitSettings settings) {
+        return limits.computeIfAbsent(limiterName, name -> new ServiceLimit(name, serviceId, settings, meterRegistry));
+    }
+
+    private ConcurrencyLimitSettings settingsFor(String serviceId) {
+        ServiceDefinition service = serviceId == null ? null : platformProperties.getServices().get(serviceId);
+        return service != null && service.getConcurrencyLimit() != null
+                ? service.getConcurrencyLimit()
+                : ConcurrencyLimitSettings.defaults();
+    }
+
+    private enum Outcome {
+        SUCCESS,
+        DROPPED,
+        IGNORED
+    }
+
+    private static final class ServiceLimit {
+
+        private final String name;
+        private final ConcurrencyLimitSettings settings;
+        private final Counter rejections;
+        private double limit;
+        private int inFlight;
+        private long minRttNanos = Long.MAX_VALUE;
+        private long nextMinRttNanos = Long.MAX_VALUE;
+        private int windowSamples;
+
+        private ServiceLimit(String name, String serviceId, ConcurrencyLimitSettings settings, MeterRegistry meterRegistry) {
+            this.name = name;
+            this.settings = settings;
+            this.limit = settings.initialLimit();
+            String service = serviceId == null ? "unknown" : serviceId;
+            Gauge.builder("provider.limiter.limit", this, ServiceLimit::currentLimit)
+                    .description("Current adaptive concurrency limit")
+                    .tag("name", name)
+                    .tag("service", service)
+                    .register(meterRegistry);
+            Gauge.builder("provider.limiter.in.flight", this, ServiceLimit::inFlight)
+                    .description("Provider attempts currently admitted by the limiter")
+                    .tag("name", name)
+                    .tag("service", service)
+                    .register(meterRegistry);
+            this.rejections = Counter.builder("provider.limiter.rejected")
+                    .description("Provider attempts shed because the concurrency limit was reached")
+                    .tag("name", name)
+                    .tag("service", service)
+                    .register(meterRegistry);
+        }
+
+        /**
+         * Admits an attempt and returns the in-flight count before it, or {@code -1} when full.
+         */
+        private synchronized int tryAcquire() {
+            if (inFlight >= (int) limit) {
+                return -1;
+            }
+            return inFlight++;
+        }
+
+        private synchronized void onSample(long rttNanos, int inFlightAtStart, Outcome outcome) {
+            inFlight--;
+            if (outcome == Outcome.IGNORED) {
+                return;
+            }
+            if (outcome == Outcome.SUCCESS) {
+                trackRtt(rttNanos);
+            }
+            boolean congested = outcome == Outcome.DROPPED
+                    || (minRttNanos != Long.MAX_VALUE && rttNanos > minRttNanos * settings.rttTolerance());
+            if (congested) {
+                limit = Math.max(settings.minLimit(), limit * settings.backoffRatio());
+            } else if ((inFlightAtStart + 1) * 2 >= limit) {
+                limit = Math.min(settings.maxLimit(), limit + 1);
+            }
+        }
+
+        private void trackRtt(long rttNanos) {
+            minRttNanos = Math.min(minRttNanos, rttNanos);
+            nextMinRttNanos = Math.min(nextMinRttNanos, rttNanos);
+            if (++windowSamples >= RTT_WINDOW_SAMPLES) {
+                minRttNanos = nextMinRttNanos;
+                nextMinRttNanos = Long.MAX_VALUE;
+                windowSamples = 0;
+            }
+        }
+
+        private synchronized int currentLimit() {
+            return (int) limit;
+        }
+
+        private synchronized int inFlight() {
+            return inFlight;
+        }
+
+        private ConcurrencyLimitExceededException rejected() {
+            rejections.increment();
+            return new ConcurrencyLimitExceededException(name, currentLimit());
+        }
+    }
+}
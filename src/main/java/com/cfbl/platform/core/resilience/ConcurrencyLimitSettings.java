@@ -0,0 +1,47 @@
+package com.cfbl.platform.core.resilience;
+
+/**
+ * Per-service adaptive concurrency limit settings used by {@link ConcurrencyLimitPolicyExecutor}.
+ *
+ * <p>The limit starts at {@code initialLimit} and moves between {@code minLimit} and
+ * {@code maxLimit}: it grows by one for each healthy attempt completed while the limit was at
+ * least half used, and is multiplied by {@code backoffRatio} when an attempt fails with a
+ * transient failure or its round-trip time exceeds {@code rttTolerance} times the best recently
+ * observed round-trip time.
+ */
+public record ConcurrencyLimitSettings(
+    boolean enabled,
+    int initialLimit,
+    int minLimit,
+    int maxLimit,
+    double rttTolerance,
+    double backoffRatio
+) {
+
+    private static final int DEFAULT_INITIAL_LIMIT = 20;
+    private static final int DEFAULT_MIN_LIMIT = 2;
+    private static final int DEFAULT_MAX_LIMIT = 200;
+    private static final double DEFAULT_RTT_TOLERANCE = 2.0d;
+    private static final double DEFAULT_BACKOFF_RATIO = 0.9d;
+
+    public ConcurrencyLimitSettings {
+        minLimit = minLimit > 0 ? minLimit : DEFAULT_MIN_LIMIT;
+        maxLimit = maxLimit >= minLimit ? maxLimit : Math.max(minLimit, DEFAULT_MAX_LIMIT);
+        initialLimit = Math.clamp(initialLimit > 0 ? initialLimit : DEFAULT_INITIAL_LIMIT, minLimit, maxLimit);
+        rttTolerance = rttTolerance >= 1.0d ? rttTolerance : DEFAULT_RTT_TOLERANCE;
+        backoffRatio = backoffRatio > 0d && backoffRatio < 1.0d ? backoffRatio : DEFAULT_BACKOFF_RATIO;
+    }
+
+    /**
+     * Default adaptive concurrency limit settings: disabled.
+     */
+    public static ConcurrencyLimitSettings defaults() {
+        return new ConcurrencyLimitSettings(
+            false,
+            DEFAULT_INITIAL_LIMIT,
+            DEFAULT_MIN_LIMIT,
+            DEFAULT_MAX_LIMIT,
+            DEFAULT_RTT_TOLERANCE,
+            DEFAULT_BACKOFF_RATIO);
+    }
+}
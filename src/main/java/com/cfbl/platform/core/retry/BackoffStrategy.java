@@ -0,0 +1,21 @@
+package com.cfbl.platform.core.retry;
+
+/**
+ * How the wait between retry attempts grows; see {@link RetryBackoff}.
+ */
+public enum BackoffStrategy {
+    /**
+     * Always wait {@code waitDurationMs}.
+     */
+    FIXED,
+    /**
+     * Wait {@code waitDurationMs * multiplier^(n-1)} before retry {@code n}.
+     */
+    EXPONENTIAL,
+    /**
+     * Wait a random time between {@code waitDurationMs} and three times the previous wait of the
+     * same call ({@code min(cap, random(base, previous * 3))}), so callers that failed together do
+     * not retry in lockstep.
+     */
+    DECORRELATED_JITTER
+}
@@ -0,0 +1,12 @@
+package com.cfbl.platform.core.retry;
+
+/**
+ * Carries a failure the caller's predicate marked as not retryable through a compiled
+ * {@link RetryPolicy}; the retry executors unwrap it before returning. Stackless.
+ */
+final class NonRetryableException extends RuntimeException {
+
+    NonRetryableException(Throwable cause) {
+        super(cause.getMessage(), cause, false, false);
+    }
+}
@@ -0,0 +1,125 @@
+package com.cfbl.platform.core.retry;
+
+import com.cfbl.platform.core.exception.core.CreditSummaryPlatformException;
+import com.cfbl.platform.core.exception.core.UpstreamInfo;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Computes waits between retry attempts from {@link RetrySettings}.
+ *
+ * <p>Used by both retry executors, so reactive and blocking calls back off identically, and by
+ * {@link RetryPolicy} to check whether the next wait still fits the request deadline.
+ */
+public final class RetryBackoff {
+
+    private static final double DECORRELATED_GROWTH = 3.0d;
+
+    private RetryBackoff() {
+    }
+
+    /**
+     * Wait before the attempt following {@code failedAttempts} failed ones, for a call without an
+     * earlier wait; decorrelated jitter then starts from {@code waitDurationMs}.
+     *
+     * @param settings retry settings
+     * @param failedAttempts attempts made so far (1 before the first retry)
+     * @param failure last failure, used for its {@code Retry-After} hint; may be {@code null}
+     * @return wait in milliseconds, never above {@link RetrySettings#maxWaitDurationMs()}
+     */
+    public static long waitMillis(RetrySettings settings, int failedAttempts, Throwable failure) {
+        return waitMillis(settings, failedAttempts, 0L, failure);
+    }
+
+    /**
+     * Wait before the attempt following {@code failedAttempts} failed ones.
+     *
+     * <p>With {@link BackoffStrategy#DECORRELATED_JITTER} the wait is drawn from
+     * {@code [waitDurationMs, 3 * previousWaitMillis]}, capped at {@code maxWaitDurationMs}, so each
+     * call's sequence of waits is a random walk of its own rather than a fixed curve.
+     *
+     * @param settings retry settings
+     * @param failedAttempts attempts made so far (1 before the first retry)
+     * @param previousWaitMillis wait before the previous attempt of the same call, {@code 0} if none
+     * @param failure last failure, used for its {@code Retry-After} hint; may be {@code null}
+     * @return wait in milliseconds, never above {@link RetrySettings#maxWaitDurationMs()}
+     */
+    public static long waitMillis(
+            RetrySettings settings,
+            int failedAttempts,
+            long previousWaitMillis,
+            Throwable failure) {
+        long computed = switch (settings.backoff()) {
+            case FIXED -> settings.waitDurationMs();
+            case EXPONENTIAL -> growth(settings, settings.multiplier(), failedAttempts);
+            case DECORRELATED_JITTER -> decorrelated(settings, previousWaitMillis);
+        };
+        return withRetryAfter(settings, computed, failure);
+    }
+
+    /**
+     * Shortest wait {@link #waitMillis} can return for the next attempt; jitter never goes below it.
+     */
+    public static long minimumWaitMillis(RetrySettings settings, int failedAttempts, Throwable failure) {
+        long computed = settings.backoff() == BackoffStrategy.EXPONENTIAL
+                ? growth(settings, settings.multiplier(), failedAttempts)
+                : settings.waitDurationMs();
+        return withRetryAfter(settings, computed, failure);
+    }
+
+    /**
+     * Parses a {@code Retry-After} header value (delay seconds or HTTP-date) into milliseconds.
+     *
+     * @return non-negative delay, or {@code null} when absent or malformed
+     */
+    public static Long parseRetryAfterMs(String headerValue, Clock clock) {
+        if (headerValue == null || headerValue.isBlank()) {
+            return null;
+        }
+        String value = headerValue.trim();
+        try {
+            if (value.chars().allMatch(Character::isDigit)) {
+                return Duration.ofSeconds(Long.parseLong(value)).toMillis();
+            }
+            ZonedDateTime retryAt = ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME);
+            return Math.max(0L, Duration.between(clock.instant(), retryAt.toInstant()).toMillis());
+        } catch (NumberFormatException | ArithmeticException | DateTimeParseException ex) {
+            return null;
+        }
+    }
+
+    /**
+     * {@code Retry-After} delay carried by the failure's {@link UpstreamInfo}, if any.
+     */
+    static Long retryAfterMs(Throwable failure) {
+        for (Throwable current = failure; current != null; current = current.getCause()) {
+            if (current instanceof CreditSummaryPlatformException platformException) {
+                UpstreamInfo upstream = platformException.getUpstream();
+                return upstream == null ? null : upstream.retryAfterMs();
+            }
+        }
+        return null;
+    }
+
+    private static long withRetryAfter(RetrySettings settings, long computed, Throwable failure) {
+        Long retryAfterMs = settings.ignoreRetryAfter() ? null : retryAfterMs(failure);
+        long wait = retryAfterMs == null ? computed : Math.max(computed, retryAfterMs);
+        return Math.min(wait, settings.maxWaitDurationMs());
+    }
+
+    private static long decorrelated(RetrySettings settings, long previousWaitMillis) {
+        long base = settings.waitDurationMs();
+        long previous = Math.max(base, previousWaitMillis);
+        double upper = Math.min(previous * DECORRELATED_GROWTH, settings.maxWaitDurationMs());
+        return upper <= base ? (long) upper : ThreadLocalRandom.current().nextLong(base, (long) upper + 1);
+    }
+
+    private static long growth(RetrySettings settings, double factor, int failedAttempts) {
+        double wait = settings.waitDurationMs() * Math.pow(factor, Math.max(0, failedAttempts - 1));
+        return wait >= settings.maxWaitDurationMs() ? settings.maxWaitDurationMs() : (long) wait;
+    }
+}
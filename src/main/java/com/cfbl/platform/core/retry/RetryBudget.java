@@ -0,0 +1,97 @@
+package com.cfbl.platform.core.retry;
+
+import java.util.Arrays;
+import java.util.function.LongSupplier;
+
+/**
+ * Sliding-window retry budget for one service.
+ *
+ * <p>Every first attempt deposits {@code retryRatio} of a token and every retry withdraws a whole
+ * one; tokens older than the window expire. The window is split into {@value #BUCKETS} buckets so
+ * expiry is gradual and recording stays O(1).
+ *
+ * <p>Budgets are shared per service id through {@link RetryBudgets}, so the counts outlive the
+ * policies that use them.
+ */
+final class RetryBudget {
+
+    private static final int BUCKETS = 10;
+
+    private final LongSupplier nanoClock;
+    private final long[] attempts = new long[BUCKETS];
+    private final long[] retries = new long[BUCKETS];
+    private RetryBudgetSettings settings;
+    private long bucketNanos;
+    private long currentBucket;
+
+    RetryBudget(RetryBudgetSettings settings, LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+        applyWindow(settings);
+    }
+
+    /**
+     * Switches to {@code newSettings}. Counts in the window are kept unless the window length
+     * changes, in which case the budget starts over.
+     */
+    synchronized void reconfigure(RetryBudgetSettings newSettings) {
+        if (settings.equals(newSettings)) {
+            return;
+        }
+        if (settings.windowMs() == newSettings.windowMs()) {
+            settings = newSettings;
+            return;
+        }
+        Arrays.fill(attempts, 0L);
+        Arrays.fill(retries, 0L);
+        applyWindow(newSettings);
+    }
+
+    /**
+     * Records a first attempt.
+     */
+    synchronized void deposit() {
+        attempts[advance()]++;
+    }
+
+    /**
+     * Takes one retry from the budget.
+     *
+     * @return {@code false} when the budget is exhausted and the retry must not be made
+     */
+    synchronized boolean tryWithdraw() {
+        int bucket = advance();
+        long attemptsInWindow = 0;
+        long retriesInWindow = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            attemptsInWindow += attempts[i];
+            retriesInWindow += retries[i];
+        }
+        double allowance = settings.retryRatio() * attemptsInWindow
+                + settings.minRetriesPerSecond() * (settings.windowMs() / 1_000d);
+        if (retriesInWindow + 1 > allowance) {
+            return false;
+        }
+        retries[bucket]++;
+        return true;
+    }
+
+    private void applyWindow(RetryBudgetSettings newSettings) {
+        settings = newSettings;
+        bucketNanos = newSettings.windowMs() * 1_000_000L / BUCKETS;
+        currentBucket = Math.floorDiv(nanoClock.getAsLong(), bucketNanos);
+    }
+
+    private int advance() {
+        long bucket = Math.floorDiv(nanoClock.getAsLong(), bucketNanos);
+        long expired = Math.min(BUCKETS, bucket - currentBucket);
+        for (long i = 1; i <= expired; i++) {
+            int index = (int) Math.floorMod(currentBucket + i, (long) BUCKETS);
+            attempts[index] = 0;
+            retries[index] = 0;
+        }
+        if (bucket > currentBucket) {
+            currentBucket = bucket;
+        }
+        return (int) Math.floorMod(currentBucket, (long) BUCKETS);
+    }
+}
@@ -0,0 +1,33 @@
+package com.cfbl.platform.core.retry;
+
+/**
+ * Retry budget settings, nested in {@link RetrySettings#budget()}.
+ *
+ * <p>Within a sliding window of {@code windowMs}, retries are allowed while their count stays
+ * below {@code retryRatio} times the number of first attempts plus a floor of
+ * {@code minRetriesPerSecond} per second of window, so low-traffic services can still retry.
+ */
+public record RetryBudgetSettings(
+    boolean enabled,
+    double retryRatio,
+    int minRetriesPerSecond,
+    long windowMs
+) {
+
+    private static final double DEFAULT_RETRY_RATIO = 0.1d;
+    private static final int DEFAULT_MIN_RETRIES_PER_SECOND = 3;
+    private static final long DEFAULT_WINDOW_MS = 10_000L;
+
+    public RetryBudgetSettings {
+        retryRatio = retryRatio >= 0d ? retryRatio : DEFAULT_RETRY_RATIO;
+        minRetriesPerSecond = Math.max(0, minRetriesPerSecond);
+        windowMs = windowMs >= 1_000L ? windowMs : DEFAULT_WINDOW_MS;
+    }
+
+    /**
+     * Default retry budget settings: disabled.
+     */
+    public static RetryBudgetSettings defaults() {
+        return new RetryBudgetSettings(false, DEFAULT_RETRY_RATIO, DEFAULT_MIN_RETRIES_PER_SECOND, DEFAULT_WINDOW_MS);
+    }
+}
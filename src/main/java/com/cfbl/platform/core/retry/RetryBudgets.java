@@ -0,0 +1,32 @@
+package com.cfbl.platform.core.retry;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of {@link RetryBudget}s keyed by service id.
+ *
+ * <p>Every {@link RetryPolicy} of a service draws on the same budget, whatever the protocol
+ * namespace or execution model: the reactive and blocking executors, SOAP, REST and JDBC holders,
+ * and policies recompiled with new settings. Recompiling reconfigures the existing budget instead
+ * of starting from a full one.
+ *
+ * <p>The scope is one JVM. Pods do not share counts; since the budget is a ratio of each pod's own
+ * first attempts, retries across the cluster stay within the same ratio of its total traffic.
+ */
+final class RetryBudgets {
+
+    private static final Map<String, RetryBudget> BUDGETS = new ConcurrentHashMap<>();
+
+    private RetryBudgets() {
+    }
+
+    /**
+     * Budget of {@code serviceId}, created on first use and switched to {@code settings} otherwise.
+     */
+    static RetryBudget forService(String serviceId, RetryBudgetSettings settings) {
+        RetryBudget budget = BUDGETS.computeIfAbsent(serviceId, id -> new RetryBudget(settings, System::nanoTime));
+        budget.reconfigure(settings);
+        return budget;
+    }
+}
@@ -1,12 +1,23 @@
 package com.cfbl.platform.core.retry;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 /**
  * Retry execution metadata attached to API responses and platform exceptions.
+ *
+ * <p>{@code stopReason} is set only when retrying ended early for a reason other than a
+ * non-retryable failure or exhausted attempts.
  */
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public record RetryInfo(
     int attempted,
     int maxAttempts,
     boolean retried,
-    boolean exhausted
+    boolean exhausted,
+    RetryStopReason stopReason
 ) {
+
+    public RetryInfo(int attempted, int maxAttempts, boolean retried, boolean exhausted) {
+        this(attempted, maxAttempts, retried, exhausted, null);
+    }
 }
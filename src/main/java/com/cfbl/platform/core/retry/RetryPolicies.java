@@ -0,0 +1,55 @@
+package com.cfbl.platform.core.retry;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Compiled {@link RetryPolicy} cache for one protocol namespace, keyed by service id and
+ * {@link RetrySettings}.
+ *
+ * <p>A policy is compiled on first use of a (service, settings) pair and reused for equal settings
+ * after that. Callers passing different settings for one service, e.g. YAML settings and
+ * {@link RetrySettings#defaults()}, each keep their own policy instead of recompiling it back and
+ * forth. Settings come from configuration, so a service has only a few entries. The lookup builds
+ * no strings.
+ *
+ * <p>Holders and executors resolve their policies through {@link #shared(String)}, so every holder
+ * and executor of a service uses the same compiled policy.
+ */
+public final class RetryPolicies {
+
+    private static final Map<String, RetryPolicies> SHARED = new ConcurrentHashMap<>();
+
+    private final String namePrefix;
+    private final Map<String, Map<RetrySettings, RetryPolicy>> policies = new ConcurrentHashMap<>();
+
+    /**
+     * @param namePrefix prefix of compiled policy names, e.g. {@code "soap:"}
+     */
+    public RetryPolicies(String namePrefix) {
+        this.namePrefix = Objects.requireNonNull(namePrefix, "namePrefix");
+    }
+
+    /**
+     * JVM-wide cache of a protocol namespace.
+     *
+     * @param namePrefix prefix of compiled policy names, e.g. {@code "soap:"}
+     */
+    public static RetryPolicies shared(String namePrefix) {
+        return SHARED.computeIfAbsent(namePrefix, RetryPolicies::new);
+    }
+
+    /**
+     * Compiled policy for {@code serviceId} and {@code settings}.
+     */
+    public RetryPolicy forService(String serviceId, RetrySettings settings) {
+        Map<RetrySettings, RetryPolicy> bySettings = policies.get(serviceId);
+        RetryPolicy policy = bySettings == null ? null : bySettings.get(settings);
+        if (policy != null) {
+            return policy;
+        }
+        return policies.computeIfAbsent(serviceId, id -> new ConcurrentHashMap<>())
+                .computeIfAbsent(settings, compiled -> RetryPolicy.compile(namePrefix + serviceId, compiled));
+    }
+}
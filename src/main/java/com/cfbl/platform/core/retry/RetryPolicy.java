@@ -0,0 +1,165 @@
+package com.cfbl.platform.core.retry;
+
+import com.cfbl.platform.core.timeout.Deadline;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryConfig;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Precompiled retry policy for one retry name ({@code rest:<serviceId>}, {@code soap:<serviceId>}).
+ *
+ * <p>Holds the Resilience4j {@link Retry}, its retry logger and the optional {@link RetryBudget}, all
+ * resolved once by {@link #compile(String, RetrySettings)}. Executing a call through a
+ * compiled policy builds no names and no configuration. The budget is not owned by the policy: it
+ * is the service's budget from {@link RetryBudgets}, shared by every policy of that service in this
+ * JVM.
+ *
+ * <p>The compiled configuration retries every failure; which failures are retryable is decided per
+ * call by {@link #classify(Throwable, int, Predicate, AtomicLong, Deadline, long)}, so callers can pass
+ * different predicates for the same policy.
+ */
+@Slf4j
+public final class RetryPolicy {
+
+    private final String name;
+    private final RetrySettings settings;
+    private final Retry retry;
+    private final RetryBudget budget;
+
+    private RetryPolicy(String name, String serviceId, RetrySettings settings) {
+        this.name = name;
+        this.settings = settings;
+        this.retry = Retry.of(name, buildRetryConfig(settings));
+        this.budget = settings.budget().enabled() ? RetryBudgets.forService(serviceId, settings.budget()) : null;
+        retry.getEventPublisher().onRetry(event -> log.warn(
+                "Retrying provider call name={}, attempt={}, maxAttempts={}, cause={}",
+                name,
+                event.getNumberOfRetryAttempts(),
+                settings.maxAttempts(),
+                event.getLastThrowable() == null ? "N/A" : unwrap(event.getLastThrowable()).getMessage()));
+    }
+
+    /**
+     * Compiles the policy for a retry name.
+     *
+     * <p>The retry budget is the one of the service id after the protocol namespace, so
+     * {@code rest:bureau}, {@code soap:bureau} and a plain {@code bureau} draw on the same budget.
+     *
+     * @param name protocol-namespaced retry name, also used for circuit breaker and bulkhead names
+     * @param settings retry settings
+     * @return compiled policy
+     */
+    public static RetryPolicy compile(String name, RetrySettings settings) {
+        Objects.requireNonNull(name, "name");
+        Objects.requireNonNull(settings, "settings");
+        return new RetryPolicy(name, name.substring(name.indexOf(':') + 1), settings);
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public RetrySettings settings() {
+        return settings;
+    }
+
+    /**
+     * Whether this policy was compiled from {@code candidate}; record equality, no allocation.
+     */
+    public boolean compiledFrom(RetrySettings candidate) {
+        return settings.equals(candidate);
+    }
+
+    Retry retry() {
+        return retry;
+    }
+
+    void recordFirstAttempt() {
+        if (budget != null) {
+            budget.deposit();
+        }
+    }
+
+    /**
+     * Maps the failure of attempt {@code attempt} to what the compiled retry should see, without a
+     * deadline.
+     */
+    Throwable classify(
+            Throwable failure,
+            int attempt,
+            Predicate<Throwable> retryPredicate,
+            AtomicLong previousWait) {
+        return classify(failure, attempt, retryPredicate, previousWait, null, 0L);
+    }
+
+    /**
+     * Maps the failure of attempt {@code attempt} to what the compiled retry should see: failures
+     * the caller does not retry are wrapped in {@link NonRetryableException}, and a retry the
+     * budget cannot cover becomes {@link RetryStoppedException} with {@link RetryStopReason#BUDGET}.
+     * A failure that will be retried is wrapped in {@link ScheduledRetryException} with the wait
+     * before the next attempt, which is also stored in {@code previousWait}.
+     *
+     * <p>With a {@code deadline}, the wait actually drawn is clamped so that at least
+     * {@code minAttemptBudgetMs} remain for the next attempt. When even the shortest possible wait
+     * (the base wait, or a {@code Retry-After} delay) does not fit, retrying stops with
+     * {@link RetryStopReason#DEADLINE} and no budget is withdrawn.
+     *
+     * @param previousWait per-call wait before the latest attempt, {@code 0} before the first retry
+     * @param deadline request deadline of the call, or {@code null}
+     * @param minAttemptBudgetMs budget an attempt needs to be worth starting
+     */
+    Throwable classify(
+            Throwable failure,
+            int attempt,
+            Predicate<Throwable> retryPredicate,
+            AtomicLong previousWait,
+            Deadline deadline,
+            long minAttemptBudgetMs) {
+        if (failure instanceof RetryStoppedException) {
+            return failure;
+        }
+        if (!retryPredicate.test(failure)) {
+            return new NonRetryableException(failure);
+        }
+        if (attempt >= settings.maxAttempts()) {
+            return failure;
+        }
+        long waitMillis = RetryBackoff.waitMillis(settings, attempt, previousWait.get(), failure);
+        if (deadline != null) {
+            long available = deadline.remainingMillis() - minAttemptBudgetMs;
+            if (available < RetryBackoff.minimumWaitMillis(settings, attempt, failure)) {
+                return new RetryStoppedException(RetryStopReason.DEADLINE, failure);
+            }
+            waitMillis = Math.min(waitMillis, available);
+        }
+        if (budget != null && !budget.tryWithdraw()) {
+            return new RetryStoppedException(RetryStopReason.BUDGET, failure);
+        }
+        previousWait.set(waitMillis);
+        return new ScheduledRetryException(failure, waitMillis);
+    }
+
+    /**
+     * Unwraps the failure a call through this policy ended with.
+     */
+    static Throwable unwrap(Throwable failure) {
+        return failure instanceof NonRetryableException || failure instanceof ScheduledRetryException
+                ? failure.getCause()
+                : failure;
+    }
+
+    private static RetryConfig buildRetryConfig(RetrySettings settings) {
+        return RetryConfig.custom()
+                .maxAttempts(settings.maxAttempts())
+                .intervalBiFunction((attempt, outcome) -> outcome.isLeft()
+                                && outcome.getLeft() instanceof ScheduledRetryException scheduled
+                        ? scheduled.waitMillis()
+                        : RetryBackoff.waitMillis(settings, attempt, outcome.isLeft() ? outcome.getLeft() : null))
+                .ignoreExceptions(RetryStoppedException.class, NonRetryableException.class)
+                .failAfterMaxAttempts(true)
+                .build();
+    }
+}
@@ -1,33 +1,35 @@
 package com.cfbl.platform.core.retry;
 
+import com.cfbl.platform.core.timeout.Deadline;
 import io.github.resilience4j.reactor.retry.RetryOperator;
-import io.github.resilience4j.retry.Retry;
-import io.github.resilience4j.retry.RetryConfig;
-import io.github.resilience4j.retry.RetryRegistry;
-import java.time.Duration;
 import java.util.Objects;
-import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
-import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
 
 /**
- * Applies named Resilience4j retry policies to reactive provider calls.
+ * Applies compiled Resilience4j retry policies to reactive provider calls.
  *
  * <p>Usage: wrap an existing {@code Supplier<Mono<T>>} without changing WebClient request construction.
  * Retry key is service-level: use {@code serviceId} as the retry name to keep retry instances stable
  * and low-cardinality across operations.
+ *
+ * <p>Executors pass a {@link RetryPolicy} compiled once per service (see {@link RetryPolicies} and
+ * {@code WebClientHolder}); the name-based overloads compile and cache policies by name. The retry
+ * predicate is evaluated per call.
+ *
+ * <p>When {@link RetrySettings#budget()} is enabled, a retry the policy's {@link RetryBudget}
+ * cannot cover fails with {@link RetryStoppedException} and {@link RetryStopReason#BUDGET} instead
+ * of being made.
  */
-@Slf4j
 @Component
 public class RetryPolicyExecutor {
 
     private final RetrySettings defaultSettings;
-    private final RetryRegistry retryRegistry;
-    private final Set<String> retryLoggersRegistered = ConcurrentHashMap.newKeySet();
+    private final RetryPolicies namedPolicies = new RetryPolicies("");
 
     public RetryPolicyExecutor() {
         this(RetrySettings.defaults());
@@ -35,7 +37,6 @@ public class RetryPolicyExecutor {
 
     public RetryPolicyExecutor(RetrySettings settings) {
         this.defaultSettings = Objects.requireNonNull(settings, "settings");
-        this.retryRegistry = RetryRegistry.ofDefaults();
     }
 
     /**
@@ -64,47 +65,67 @@ public class RetryPolicyExecutor {
             Predicate<Throwable> retryPredicate) {
         Objects.requireNonNull(retryName, "retryName");
         Objects.requireNonNull(settings, "settings");
-        Objects.requireNonNull(supplier, "supplier");
-        Objects.requireNonNull(retryPredicate, "retryPredicate");
 
         if (!settings.enabled()) {
-            return supplier.get();
+            return Objects.requireNonNull(supplier, "supplier").get();
         }
-
-        String retryKey = toRetryKey(retryName, settings);
-        Retry retry = retryRegistry.retry(retryKey, buildRetryConfig(settings, retryPredicate));
-        registerRetryLoggingOnce(retryKey, retryName, settings, retry);
-        return supplier.get().transformDeferred(RetryOperator.of(retry));
+        return execute(namedPolicies.forService(retryName, settings), supplier, retryPredicate);
     }
 
-    private RetryConfig buildRetryConfig(RetrySettings settings, Predicate<Throwable> retryPredicate) {
-        return RetryConfig.custom()
-            .maxAttempts(settings.maxAttempts())
-            .waitDuration(Duration.ofMillis(settings.waitDurationMs()))
-            .retryOnException(retryPredicate::test)
-            .failAfterMaxAttempts(true)
-            .build();
+    /**
+     * Executes the supplied reactive call with a compiled retry policy.
+     *
+     * @param policy compiled policy of the service
+     * @param supplier call supplier returning a fresh publisher per subscription
+     * @param retryPredicate predicate that marks which exceptions are retryable for this call
+     * @param <T> payload type
+     * @return publisher decorated with the policy
+     */
+    public <T> Mono<T> execute(
+            RetryPolicy policy,
+            Supplier<Mono<T>> supplier,
+            Predicate<Throwable> retryPredicate) {
+        return execute(policy, supplier, retryPredicate, null, 0L);
     }
 
-    private String toRetryKey(String retryName, RetrySettings settings) {
-        return retryName + "|" + settings.maxAttempts() + "|" + settings.waitDurationMs() + "|" + settings.enabled();
-    }
+    /**
+     * Executes the supplied reactive call with a compiled retry policy within a request deadline.
+     *
+     * <p>Each wait is drawn first and then clamped to the remaining budget minus
+     * {@code minAttemptBudgetMs}; when even the shortest wait does not fit, the call fails with
+     * {@link RetryStoppedException} and {@link RetryStopReason#DEADLINE}.
+     *
+     * @param deadline request deadline, or {@code null} for none
+     * @param minAttemptBudgetMs budget an attempt needs to be worth starting
+     */
+    public <T> Mono<T> execute(
+            RetryPolicy policy,
+            Supplier<Mono<T>> supplier,
+            Predicate<Throwable> retryPredicate,
+            Deadline deadline,
+            long minAttemptBudgetMs) {
+        Objects.requireNonNull(policy, "policy");
+        Objects.requireNonNull(supplier, "supplier");
+        Objects.requireNonNull(retryPredicate, "retryPredicate");
 
-    private void registerRetryLoggingOnce(
-        String retryKey,
-        String retryName,
-        RetrySettings settings,
-        Retry retry
-    ) {
-        if (!retryLoggersRegistered.add(retryKey)) {
-            return;
+        if (!policy.settings().enabled()) {
+            return supplier.get();
         }
 
-        retry.getEventPublisher().onRetry(event -> log.warn(
-                "Retrying provider call name={}, attempt={}, maxAttempts={}, cause={}",
-                retryName,
-                event.getNumberOfRetryAttempts(),
-                settings.maxAttempts(),
-                event.getLastThrowable() == null ? "N/A" : event.getLastThrowable().getMessage()));
+        Mono<T> call = supplier.get();
+        return Mono.defer(() -> {
+            AtomicInteger attempts = new AtomicInteger();
+            AtomicLong previousWait = new AtomicLong();
+            return Mono.defer(() -> {
+                        int attempt = attempts.incrementAndGet();
+                        if (attempt == 1) {
+                            policy.recordFirstAttempt();
+                        }
+                        return call.onErrorMap(ex -> policy.classify(
+                                ex, attempt, retryPredicate, previousWait, deadline, minAttemptBudgetMs));
+                    })
+                    .transformDeferred(RetryOperator.of(policy.retry()))
+                    .onErrorMap(RetryPolicy::unwrap);
+        });
     }
 }
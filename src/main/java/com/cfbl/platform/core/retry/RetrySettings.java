@@ -2,13 +2,60 @@ package com.cfbl.platform.core.retry;
 
 /**
  * Basic retry settings used by {@link RetryPolicyExecutor}.
+ *
+ * <p>{@code waitDurationMs} is the base wait between attempts. {@code backoff} selects how it grows
+ * (see {@link BackoffStrategy}); {@code multiplier} applies to {@link BackoffStrategy#EXPONENTIAL}
+ * and every computed wait is capped at {@code maxWaitDurationMs}. Unless {@code ignoreRetryAfter}
+ * is set, a {@code Retry-After} delay captured from a {@code 429}/{@code 503} response raises the
+ * next wait to that delay, still within the cap. {@code budget} caps retries to a ratio of first
+ * attempts (see {@link RetryBudgetSettings}).
  */
 public record RetrySettings(
     boolean enabled,
     int maxAttempts,
-    long waitDurationMs
+    long waitDurationMs,
+    BackoffStrategy backoff,
+    double multiplier,
+    long maxWaitDurationMs,
+    boolean ignoreRetryAfter,
+    RetryBudgetSettings budget
 ) {
 
+    private static final double DEFAULT_MULTIPLIER = 2.0d;
+    private static final long DEFAULT_MAX_WAIT_DURATION_MS = 10_000L;
+
+    public RetrySettings {
+        waitDurationMs = Math.max(0L, waitDurationMs);
+        backoff = backoff == null ? BackoffStrategy.FIXED : backoff;
+        multiplier = multiplier >= 1.0d ? multiplier : DEFAULT_MULTIPLIER;
+        maxWaitDurationMs = maxWaitDurationMs > 0
+            ? Math.max(maxWaitDurationMs, waitDurationMs)
+            : Math.max(DEFAULT_MAX_WAIT_DURATION_MS, waitDurationMs);
+        budget = budget == null ? RetryBudgetSettings.defaults() : budget;
+    }
+
+    /**
+     * Fixed-wait settings that honor {@code Retry-After}, without a retry budget.
+     */
+    public RetrySettings(boolean enabled, int maxAttempts, long waitDurationMs) {
+        this(enabled, maxAttempts, waitDurationMs, BackoffStrategy.FIXED, DEFAULT_MULTIPLIER, 0L, false);
+    }
+
+    /**
+     * Settings without a retry budget.
+     */
+    public RetrySettings(
+        boolean enabled,
+        int maxAttempts,
+        long waitDurationMs,
+        BackoffStrategy backoff,
+        double multiplier,
+        long maxWaitDurationMs,
+        boolean ignoreRetryAfter
+    ) {
+        this(enabled, maxAttempts, waitDurationMs, backoff, multiplier, maxWaitDurationMs, ignoreRetryAfter, null);
+    }
+
     /**
      * Default retry settings for provider calls.
      */
@@ -0,0 +1,27 @@
+package com.cfbl.platform.core.retry;
+
+/**
+ * Reason why retrying stopped before the configured max attempts were used.
+ */
+public enum RetryStopReason {
+    /**
+     * The remaining request deadline could not fit another attempt.
+     */
+    DEADLINE,
+    /**
+     * The provider's circuit breaker rejected the attempt.
+     */
+    CIRCUIT_OPEN,
+    /**
+     * The provider's bulkhead had no free slot for the attempt.
+     */
+    BULKHEAD_FULL,
+    /**
+     * The provider's adaptive concurrency limit was reached and the attempt was shed.
+     */
+    LIMIT_EXCEEDED,
+    /**
+     * The service's retry budget was exhausted, so the retry would have amplified upstream load.
+     */
+    BUDGET
+}
@@ -0,0 +1,24 @@
+package com.cfbl.platform.core.retry;
+
+import java.util.Objects;
+
+/**
+ * Signals that a retryable failure must not be retried any further.
+ *
+ * <p>Retry policies ignore this type, so wrapping the last failure in it ends the retry loop
+ * immediately. Callers unwrap {@link #getCause()} to surface the original failure and use
+ * {@link #getReason()} for {@link RetryInfo#stopReason()}. No stack trace is captured.
+ */
+public class RetryStoppedException extends RuntimeException {
+
+    private final RetryStopReason reason;
+
+    public RetryStoppedException(RetryStopReason reason, Throwable cause) {
+        super("Retry stopped: " + reason, Objects.requireNonNull(cause, "cause"), false, false);
+        this.reason = Objects.requireNonNull(reason, "reason");
+    }
+
+    public RetryStopReason getReason() {
+        return reason;
+    }
+}
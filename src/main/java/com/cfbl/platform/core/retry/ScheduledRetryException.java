@@ -0,0 +1,21 @@
+package com.cfbl.platform.core.retry;
+
+/**
+ * Carries a retryable failure through a compiled {@link RetryPolicy} together with the wait the
+ * policy computed for the next attempt of that call; the retry executors unwrap it before
+ * returning. Lets the policy's interval function use per-call state (the previous wait, for
+ * decorrelated jitter) although Resilience4j only hands it the attempt number. Stackless.
+ */
+final class ScheduledRetryException extends RuntimeException {
+
+    private final long waitMillis;
+
+    ScheduledRetryException(Throwable cause, long waitMillis) {
+        super(cause.getMessage(), cause, false, false);
+        this.waitMillis = waitMillis;
+    }
+
+    long waitMillis() {
+        return waitMillis;
+    }
+}
@@ -1,19 +1,15 @@
 package com.cfbl.platform.core.retry;
 
-import io.github.resilience4j.retry.Retry;
-import io.github.resilience4j.retry.RetryConfig;
-import io.github.resilience4j.retry.RetryRegistry;
-import java.time.Duration;
+import com.cfbl.platform.core.timeout.Deadline;
 import java.util.Objects;
-import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
-import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 /**
- * Applies named Resilience4j retry policies to blocking, synchronous provider
+ * Applies compiled Resilience4j retry policies to blocking, synchronous provider
  * calls.
  *
  * <p>
@@ -22,14 +18,19 @@ import org.springframework.stereotype.Component;
  * Retry key is service-level: use {@code serviceId} as the retry name to keep
  * retry instances stable
  * and low-cardinality across operations.
+ *
+ * <p>
+ * Executors pass a {@link RetryPolicy} compiled once per service; the
+ * name-based overloads compile and cache policies by name. The retry predicate
+ * is evaluated per call, and a retry the policy's {@link RetryBudget} cannot
+ * cover fails with {@link RetryStoppedException} and
+ * {@link RetryStopReason#BUDGET}.
  */
-@Slf4j
 @Component
 public class SyncRetryPolicyExecutor {
 
     private final RetrySettings defaultSettings;
-    private final RetryRegistry retryRegistry;
-    private final Set<String> retryLoggersRegistered = ConcurrentHashMap.newKeySet();
+    private final RetryPolicies namedPolicies = new RetryPolicies("");
 
     public SyncRetryPolicyExecutor() {
         this(RetrySettings.defaults());
@@ -37,7 +38,6 @@ public class SyncRetryPolicyExecutor {
 
     public SyncRetryPolicyExecutor(RetrySettings settings) {
         this.defaultSettings = Objects.requireNonNull(settings, "settings");
-        this.retryRegistry = RetryRegistry.ofDefaults();
     }
 
     /**
@@ -79,46 +79,78 @@ public class SyncRetryPolicyExecutor {
             Predicate<Throwable> retryPredicate) {
         Objects.requireNonNull(retryName, "retryName");
         Objects.requireNonNull(settings, "settings");
-        Objects.requireNonNull(supplier, "supplier");
-        Objects.requireNonNull(retryPredicate, "retryPredicate");
 
         if (!settings.enabled()) {
-            return supplier.get();
+            return Objects.requireNonNull(supplier, "supplier").get();
         }
-
-        String retryKey = toRetryKey(retryName, settings);
-        Retry retry = retryRegistry.retry(retryKey, buildRetryConfig(settings, retryPredicate));
-        registerRetryLoggingOnce(retryKey, retryName, settings, retry);
-        return Retry.decorateSupplier(retry, supplier).get();
+        return executeSync(namedPolicies.forService(retryName, settings), supplier, retryPredicate);
     }
 
-    private RetryConfig buildRetryConfig(RetrySettings settings, Predicate<Throwable> retryPredicate) {
-        return RetryConfig.custom()
-                .maxAttempts(settings.maxAttempts())
-                .waitDuration(Duration.ofMillis(settings.waitDurationMs()))
-                .retryOnException(retryPredicate::test)
-                .failAfterMaxAttempts(true)
-                .build();
+    /**
+     * Executes a supplier synchronously with a compiled retry policy.
+     *
+     * @param policy         Compiled policy of the service
+     * @param supplier       The operation to execute and potentially retry
+     * @param retryPredicate Predicate to determine if an exception should
+     *                       trigger a retry for this call
+     * @param <T>            Response type
+     * @return result from the successful execution
+     * @throws RuntimeException the last encountered exception if all retries fail
+     */
+    public <T> T executeSync(
+            RetryPolicy policy,
+            Supplier<T> supplier,
+            Predicate<Throwable> retryPredicate) {
+        return executeSync(policy, supplier, retryPredicate, null, 0L);
     }
 
-    private String toRetryKey(String retryName, RetrySettings settings) {
-        return retryName + "|" + settings.maxAttempts() + "|" + settings.waitDurationMs() + "|" + settings.enabled();
-    }
+    /**
+     * Executes a supplier synchronously with a compiled retry policy within a
+     * request deadline. Each wait is clamped to the remaining budget minus
+     * {@code minAttemptBudgetMs}; when even the shortest wait does not fit, the
+     * call fails with {@link RetryStoppedException} and
+     * {@link RetryStopReason#DEADLINE}.
+     *
+     * @param policy             Compiled policy of the service
+     * @param supplier           The operation to execute and potentially retry
+     * @param retryPredicate     Predicate to determine if an exception should
+     *                           trigger a retry for this call
+     * @param deadline           Request deadline, or {@code null} for none
+     * @param minAttemptBudgetMs Budget an attempt needs to be worth starting
+     * @param <T>                Response type
+     * @return result from the successful execution
+     */
+    public <T> T executeSync(
+            RetryPolicy policy,
+            Supplier<T> supplier,
+            Predicate<Throwable> retryPredicate,
+            Deadline deadline,
+            long minAttemptBudgetMs) {
+        Objects.requireNonNull(policy, "policy");
+        Objects.requireNonNull(supplier, "supplier");
+        Objects.requireNonNull(retryPredicate, "retryPredicate");
 
-    private void registerRetryLoggingOnce(
-            String retryKey,
-            String retryName,
-            RetrySettings settings,
-            Retry retry) {
-        if (!retryLoggersRegistered.add(retryKey)) {
-            return;
+        if (!policy.settings().enabled()) {
+            return supplier.get();
         }
 
-        retry.getEventPublisher().onRetry(event -> log.warn(
-                "Retrying provider call name={}, attempt={}, maxAttempts={}, cause={}",
-                retryName,
-                event.getNumberOfRetryAttempts(),
-                settings.maxAttempts(),
-                event.getLastThrowable() == null ? "N/A" : event.getLastThrowable().getMessage()));
+        AtomicInteger attempts = new AtomicInteger();
+        AtomicLong previousWait = new AtomicLong();
+        try {
+            return policy.retry().executeSupplier(() -> {
+                int attempt = attempts.incrementAndGet();
+                if (attempt == 1) {
+                    policy.recordFirstAttempt();
+                }
+                try {
+                    return supplier.get();
+                } catch (RuntimeException ex) {
+                    throw (RuntimeException) policy.classify(
+                            ex, attempt, retryPredicate, previousWait, deadline, minAttemptBudgetMs);
+                }
+            });
+        } catch (NonRetryableException | ScheduledRetryException ex) {
+            throw (RuntimeException) ex.getCause();
+        }
     }
 }
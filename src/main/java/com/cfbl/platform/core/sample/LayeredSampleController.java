@@ -2,6 +2,7 @@ package com.cfbl.platform.core.sample;
 
 import com.cfbl.platform.core.exception.api.ApiResponse;
 import com.cfbl.platform.core.integration.model.ProviderResult;
+import com.cfbl.platform.core.integration.model.RawJson;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -12,6 +13,9 @@ import reactor.core.publisher.Mono;
 
 /**
  * Demonstrates clean layering: controller maps {@link ProviderResult} to {@link ApiResponse}.
+ *
+ * <p>The upstream JSON is carried as {@link RawJson}, so it lands in {@code data} as a JSON value
+ * rather than an escaped string.
  */
 @RestController
 @RequestMapping("/demo/layered")
@@ -27,7 +31,7 @@ public class LayeredSampleController {
      * Demo GET endpoint using service-layer {@code ProviderResult} mapping at controller boundary.
      */
     @GetMapping("/sample")
-    public Mono<ResponseEntity<ApiResponse<String>>> fetchSample() {
+    public Mono<ResponseEntity<ApiResponse<RawJson>>> fetchSample() {
         return layeredSampleService.fetchSample().map(this::toApiResponseEntity);
     }
 
@@ -35,7 +39,7 @@ public class LayeredSampleController {
      * Demo POST endpoint using service-layer {@code ProviderResult} mapping at controller boundary.
      */
     @PostMapping("/sample")
-    public Mono<ResponseEntity<ApiResponse<String>>> createSample(@RequestBody CreateSampleInput request) {
+    public Mono<ResponseEntity<ApiResponse<RawJson>>> createSample(@RequestBody CreateSampleInput request) {
         return layeredSampleService.createSample(request.customerId()).map(this::toApiResponseEntity);
     }
 
@@ -7,6 +7,7 @@ import com.cfbl.platform.core.executor.RestCallExecutor;
 import com.cfbl.platform.core.executor.WebClientHolder;
 import com.cfbl.platform.core.executor.WebClientHolderFactory;
 import com.cfbl.platform.core.integration.model.ProviderResult;
+import com.cfbl.platform.core.integration.model.RawJson;
 import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
@@ -37,35 +38,37 @@ public class LayeredSampleService {
     }
 
     /**
-     * Calls sample provider GET endpoint and returns provider-layer result.
+     * Calls sample provider GET endpoint and returns its JSON body as-is in a provider-layer result.
      */
-    public Mono<ProviderResult<String>> fetchSample() {
-        return restCallExecutor.executeProvider(
+    public Mono<ProviderResult<RawJson>> fetchSample() {
+        return restCallExecutor.executeProviderRawJson(
                 holder,
                 HttpMethod.GET,
                 "fetchSample",
                 SAMPLE_PATH,
                 () -> holder.webClient().get().uri(SAMPLE_PATH),
+                true,
                 "Sample API GET failed",
                 throwable -> false);
     }
 
     /**
-     * Calls sample provider POST endpoint and returns provider-layer result.
+     * Calls sample provider POST endpoint and returns its JSON body as-is in a provider-layer result.
      */
-    public Mono<ProviderResult<String>> createSample(String customerId) {
+    public Mono<ProviderResult<RawJson>> createSample(String customerId) {
         if (isBlank(customerId)) {
             return Mono.error(new CreditSummaryBusinessException(
                     ErrorCode.LAYER_BUSINESS_FAILURE,
                     "customerId is required"));
         }
 
-        return restCallExecutor.executeProvider(
+        return restCallExecutor.executeProviderRawJson(
                 holder,
                 HttpMethod.POST,
                 "createSample",
                 SAMPLE_PATH,
                 () -> holder.webClient().post().uri(SAMPLE_PATH).bodyValue(new CreateSampleRequest(customerId)),
+                true,
                 "Sample API POST failed",
                 throwable -> false);
     }
@@ -0,0 +1,111 @@
+package com.cfbl.platform.core.timeout;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.function.Supplier;
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+/**
+ * End-to-end time budget for an inbound request, shared by all provider calls made on its behalf.
+ *
+ * <p>Reactive callers carry the deadline in the Reactor {@link Context} under {@link #CONTEXT_KEY}
+ * (see {@link #putInto(Context)}); blocking callers bind it to the current thread with
+ * {@link #callWithin(Deadline, Supplier)}. Executors shrink per-attempt timeouts to the remaining
+ * budget and stop retrying once the budget cannot fit another attempt.
+ */
+public final class Deadline {
+
+    /**
+     * Reactor Context key holding the active {@link Deadline}.
+     */
+    public static final Object CONTEXT_KEY = Deadline.class;
+
+    private static final ThreadLocal<Deadline> CURRENT = new ThreadLocal<>();
+
+    private final long deadlineNanos;
+
+    private Deadline(long deadlineNanos) {
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    /**
+     * Creates a deadline that expires after the given budget, measured from now.
+     */
+    public static Deadline after(Duration budget) {
+        Objects.requireNonNull(budget, "budget");
+        return new Deadline(System.nanoTime() + budget.toNanos());
+    }
+
+    /**
+     * Returns the deadline carried in the given Reactor context, or {@code null} when absent.
+     */
+    public static Deadline fromContext(ContextView context) {
+        return context.getOrDefault(CONTEXT_KEY, null);
+    }
+
+    /**
+     * Returns the deadline bound to the current thread, or {@code null} when absent.
+     */
+    public static Deadline current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Runs the supplier with the deadline bound to the current thread, restoring the previous
+     * binding afterwards. Nested calls keep the earlier of the two deadlines.
+     */
+    public static <T> T callWithin(Deadline deadline, Supplier<T> supplier) {
+        Objects.requireNonNull(deadline, "deadline");
+        Objects.requireNonNull(supplier, "supplier");
+        Deadline previous = CURRENT.get();
+        CURRENT.set(previous == null ? deadline : earliest(previous, deadline));
+        try {
+            return supplier.get();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    /**
+     * Adds this deadline to the Reactor context, keeping an earlier deadline already present.
+     */
+    public Context putInto(Context context) {
+        Deadline existing = fromContext(context);
+        return context.put(CONTEXT_KEY, existing == null ? this : earliest(existing, this));
+    }
+
+    /**
+     * Remaining budget in milliseconds; zero or negative once expired.
+     */
+    public long remainingMillis() {
+        return Duration.ofNanos(deadlineNanos - System.nanoTime()).toMillis();
+    }
+
+    public boolean isExpired() {
+        return deadlineNanos - System.nanoTime() <= 0;
+    }
+
+    /**
+     * Shrinks the configured attempt timeout to the remaining budget.
+     */
+    public Duration boundAttemptTimeout(Duration attemptTimeout) {
+        long remainingMs = Math.max(0L, remainingMillis());
+        return attemptTimeout.toMillis() <= remainingMs ? attemptTimeout : Duration.ofMillis(remainingMs);
+    }
+
+    /**
+     * Whether the remaining budget still covers a retry wait plus a minimal useful attempt.
+     */
+    public boolean allowsRetry(long waitMs, long minAttemptBudgetMs) {
+        return remainingMillis() >= waitMs + minAttemptBudgetMs;
+    }
+
+    private static Deadline earliest(Deadline left, Deadline right) {
+        return left.deadlineNanos - right.deadlineNanos <= 0 ? left : right;
+    }
+}
@@ -0,0 +1,63 @@
+package com.cfbl.platform.core.timeout;
+
+import java.time.Duration;
+
+/**
+ * Per-service timeout settings for outbound provider calls.
+ *
+ * <p>{@code connectTimeoutMs} and {@code responseTimeoutMs} configure the underlying HTTP client
+ * ({@code 0} keeps the client default). {@code attemptTimeoutMs} bounds a single attempt and is
+ * shrunk further by any {@link Deadline} in scope. {@code minAttemptBudgetMs} is the smallest
+ * remaining budget for which another retry attempt is still started.
+ *
+ * <p>{@code streamIdleTimeoutMs} bounds a streamed response body once the call has returned: a
+ * body not subscribed within it is cancelled, releasing its connection, and a subscribed body that
+ * emits no element for that long fails.
+ */
+public record TimeoutSettings(
+    long connectTimeoutMs,
+    long responseTimeoutMs,
+    long attemptTimeoutMs,
+    long minAttemptBudgetMs,
+    long streamIdleTimeoutMs
+) {
+
+    private static final long DEFAULT_ATTEMPT_TIMEOUT_MS = 3000L;
+    private static final long DEFAULT_MIN_ATTEMPT_BUDGET_MS = 50L;
+    private static final long DEFAULT_STREAM_IDLE_TIMEOUT_MS = 30_000L;
+
+    public TimeoutSettings(long connectTimeoutMs, long responseTimeoutMs, long attemptTimeoutMs, long minAttemptBudgetMs) {
+        this(connectTimeoutMs, responseTimeoutMs, attemptTimeoutMs, minAttemptBudgetMs, DEFAULT_STREAM_IDLE_TIMEOUT_MS);
+    }
+
+    public TimeoutSettings {
+        connectTimeoutMs = Math.max(0L, connectTimeoutMs);
+        responseTimeoutMs = Math.max(0L, responseTimeoutMs);
+        attemptTimeoutMs = attemptTimeoutMs > 0 ? attemptTimeoutMs : DEFAULT_ATTEMPT_TIMEOUT_MS;
+        minAttemptBudgetMs = minAttemptBudgetMs > 0 ? minAttemptBudgetMs : DEFAULT_MIN_ATTEMPT_BUDGET_MS;
+        streamIdleTimeoutMs = streamIdleTimeoutMs > 0 ? streamIdleTimeoutMs : DEFAULT_STREAM_IDLE_TIMEOUT_MS;
+    }
+
+    /**
+     * Default timeout settings: client defaults for connect/response, a 3s attempt timeout and a
+     * 30s stream idle timeout.
+     */
+    public static TimeoutSettings defaults() {
+        return new TimeoutSettings(
+                0L, 0L, DEFAULT_ATTEMPT_TIMEOUT_MS, DEFAULT_MIN_ATTEMPT_BUDGET_MS, DEFAULT_STREAM_IDLE_TIMEOUT_MS);
+    }
+
+    /**
+     * Per-attempt timeout as a {@link Duration}.
+     */
+    public Duration attemptTimeout() {
+        return Duration.ofMillis(attemptTimeoutMs);
+    }
+
+    /**
+     * Stream idle timeout as a {@link Duration}.
+     */
+    public Duration streamIdleTimeout() {
+        return Duration.ofMillis(streamIdleTimeoutMs);
+    }
+}
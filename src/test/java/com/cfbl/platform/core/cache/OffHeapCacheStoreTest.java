@@ -0,0 +1,101 @@
+package com.cfbl.platform.core.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.cfbl.platform.core.integration.model.RawJson;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class OffHeapCacheStoreTest {
+
+    private final OffHeapCacheStore store = new OffHeapCacheStore(4096, 1024, new DefaultPayloadCodec());
+
+    @Test
+    void shouldRoundTripPayloadSpanningSeveralBlocks() {
+        String payload = "x".repeat(2500) + "é";
+        CacheKey key = key("customer-1");
+
+        store.put(key, entry(payload));
+
+        CacheEntry entry = store.get(key);
+        assertThat(entry.payload().get()).isEqualTo(payload);
+        assertThat(entry.weight()).isEqualTo(3072);
+        assertThat(store.offHeapBytesInUse()).isEqualTo(3072);
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedEntriesWhenBlocksRunOut() {
+        store.put(key("customer-1"), entry("a".repeat(2000)));
+        store.put(key("customer-2"), entry("b".repeat(1000)));
+        store.get(key("customer-1"));
+
+        store.put(key("customer-3"), entry("c".repeat(1500)));
+
+        assertThat(store.get(key("customer-2"))).isNull();
+        assertThat(store.get(key("customer-1")).payload().get()).isEqualTo("a".repeat(2000));
+        assertThat(store.get(key("customer-3")).payload().get()).isEqualTo("c".repeat(1500));
+        assertThat(store.evictions()).isEqualTo(1);
+        assertThat(store.offHeapBytesInUse()).isEqualTo(4096);
+    }
+
+    @Test
+    void shouldRejectReadOfEntryEvictedBeforeDecode() {
+        CacheKey key = key("customer-1");
+        store.put(key, entry("summary"));
+        CacheEntry entry = store.get(key);
+
+        store.invalidate(key);
+
+        assertThrows(EvictedEntryException.class, () -> entry.payload().get());
+        assertThat(store.offHeapBytesInUse()).isZero();
+    }
+
+    @Test
+    void shouldStoreRawJsonOffHeap() {
+        RawJson payload = RawJson.of("{\"score\":710}".getBytes(StandardCharsets.UTF_8));
+        CacheKey key = key("customer-1");
+
+        store.put(key, entry(payload));
+
+        assertThat(store.get(key).payload().get()).isEqualTo(payload);
+        assertThat(store.offHeapBytesInUse()).isEqualTo(1024);
+        assertThat(store.heapFallbacks()).isZero();
+    }
+
+    @Test
+    void shouldKeepUnsupportedPayloadsOnHeapAndCountThem() {
+        List<String> payload = List.of("not", "serializable", "raw");
+        CacheKey key = key("typed");
+
+        store.put(key, entry(payload));
+
+        assertThat(store.get(key).payload().get()).isSameAs(payload);
+        assertThat(store.size()).isEqualTo(1);
+        assertThat(store.offHeapBytesInUse()).isZero();
+        assertThat(store.heapFallbacks()).isEqualTo(1);
+
+        store.put(key, entry("summary"));
+
+        assertThat(store.get(key).payload().get()).isEqualTo("summary");
+        assertThat(store.size()).isEqualTo(1);
+        assertThat(store.offHeapBytesInUse()).isEqualTo(1024);
+    }
+
+    @Test
+    void shouldSkipOversizedPayloads() {
+        store.put(key("oversized"), entry("z".repeat(5000)));
+
+        assertThat(store.size()).isZero();
+        assertThat(store.offHeapBytesInUse()).isZero();
+    }
+
+    private CacheKey key(String customerId) {
+        return new CacheKey("credit-bureau", "fetchSummary", customerId);
+    }
+
+    private CacheEntry entry(Object payload) {
+        return new CacheEntry(200, () -> payload, null, 0L, 0L);
+    }
+}
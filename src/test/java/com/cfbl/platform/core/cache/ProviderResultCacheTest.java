@@ -0,0 +1,170 @@
+package com.cfbl.platform.core.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.cfbl.platform.core.config.PlatformProperties;
+import com.cfbl.platform.core.config.PlatformProperties.ServiceDefinition;
+import com.cfbl.platform.core.exception.core.DataProviderContext;
+import com.cfbl.platform.core.integration.model.ProviderResult;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+class ProviderResultCacheTest {
+
+    private static final String SERVICE_ID = "credit-bureau";
+
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+
+    @Test
+    void shouldServeHitWithinTtl() {
+        ProviderResultCache cache = cacheWith(new CacheSettings(true, 1000, 0, 10_000));
+        CacheKey key = new CacheKey(SERVICE_ID, "fetchSummary", "customer-1");
+
+        StepVerifier.create(cache.getOrLoad(key, loader(200)))
+            .assertNext(result -> {
+                assertThat(result.data()).isEqualTo("summary-1");
+                assertThat(result.metadata().protocolAttributes()).containsEntry(ProviderResultCache.CACHE_ATTRIBUTE, "MISS");
+            })
+            .verifyComplete();
+
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+        StepVerifier.create(cache.getOrLoad(key, loader(200)))
+            .assertNext(result -> {
+                assertThat(result.data()).isEqualTo("summary-1");
+                assertThat(result.metadata().protocolAttributes())
+                    .containsEntry(ProviderResultCache.CACHE_ATTRIBUTE, "HIT")
+                    .containsEntry("operation", "fetchSummary");
+                assertThat(result.retry()).isNull();
+            })
+            .verifyComplete();
+        assertThat(upstreamCalls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldServeStaleAndRefreshOnceInBackground() {
+        ProviderResultCache cache = cacheWith(new CacheSettings(true, 1000, 5000, 10_000));
+        CacheKey key = new CacheKey(SERVICE_ID, "fetchSummary", "customer-1");
+        cache.getOrLoad(key, loader(200)).block();
+
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(2000));
+        StepVerifier.create(cache.getOrLoad(key, slowLoader()))
+            .assertNext(result -> assertThat(result.metadata().protocolAttributes())
+                .containsEntry(ProviderResultCache.CACHE_ATTRIBUTE, "STALE"))
+            .verifyComplete();
+        StepVerifier.create(cache.getOrLoad(key, slowLoader()))
+            .assertNext(result -> assertThat(result.data()).isEqualTo("summary-1"))
+            .verifyComplete();
+
+        StepVerifier.create(Mono.defer(() -> cache.getOrLoad(key, loader(200)))
+                .filter(result -> "HIT".equals(result.metadata().protocolAttributes().get(ProviderResultCache.CACHE_ATTRIBUTE)))
+                .repeatWhenEmpty(50, ticks -> ticks.delayElements(Duration.ofMillis(10))))
+            .assertNext(result -> assertThat(result.data()).isEqualTo("summary-2"))
+            .verifyComplete();
+        assertThat(upstreamCalls.get()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldReloadAfterStaleWindowAndSkipNonSuccessResults() {
+        ProviderResultCache cache = cacheWith(new CacheSettings(true, 1000, 1000, 10_000));
+        CacheKey key = new CacheKey(SERVICE_ID, "fetchSummary", "customer-1");
+
+        cache.getOrLoad(key, loader(202)).block();
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(2500));
+        StepVerifier.create(cache.getOrLoad(key, loader(200)))
+            .assertNext(result -> assertThat(result.metadata().protocolAttributes())
+                .containsEntry(ProviderResultCache.CACHE_ATTRIBUTE, "MISS"))
+            .verifyComplete();
+
+        CacheKey otherKey = new CacheKey(SERVICE_ID, "fetchSummary", "customer-2");
+        cache.getOrLoad(otherKey, loader(404)).block();
+        cache.getOrLoad(otherKey, loader(200)).block();
+        assertThat(upstreamCalls.get()).isEqualTo(4);
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedEntriesBeyondMaxWeight() {
+        long entryWeight = ProviderResultCache.estimateWeight("summary-1");
+        ProviderResultCache cache = cacheWith(new CacheSettings(true, 60_000, 0, entryWeight * 2));
+        CacheKey first = new CacheKey(SERVICE_ID, "fetchSummary", "customer-1");
+        CacheKey second = new CacheKey(SERVICE_ID, "fetchSummary", "customer-2");
+        CacheKey third = new CacheKey(SERVICE_ID, "fetchSummary", "customer-3");
+
+        cache.getOrLoad(first, loader(200)).block();
+        cache.getOrLoad(second, loader(200)).block();
+        cache.getOrLoad(first, loader(200)).block();
+        cache.getOrLoad(third, loader(200)).block();
+
+        assertThat(outcome(cache, first)).isEqualTo("HIT");
+        assertThat(outcome(cache, second)).isEqualTo("MISS");
+    }
+
+    @Test
+    void shouldCallThroughWhenCachingDisabled() {
+        ProviderResultCache cache = cacheWith(CacheSettings.defaults());
+        CacheKey key = new CacheKey(SERVICE_ID, "fetchSummary", "customer-1");
+
+        cache.getOrLoad(key, loader(200)).block();
+        ProviderResult<String> result = cache.getOrLoad(key, loader(200)).block();
+
+        assertThat(upstreamCalls.get()).isEqualTo(2);
+        assertThat(result.metadata().protocolAttributes()).doesNotContainKey(ProviderResultCache.CACHE_ATTRIBUTE);
+    }
+
+    @Test
+    void shouldServeOffHeapEntriesAndReportStats() {
+        ProviderResultCache cache = cacheWith(new CacheSettings(true, 60_000, 0, 8192, CacheStorage.OFF_HEAP, 1024));
+        CacheKey key = new CacheKey(SERVICE_ID, "fetchSummary", "customer-1");
+
+        cache.getOrLoad(key, loader(200)).block();
+        ProviderResult<String> hit = cache.getOrLoad(key, loader(200)).block();
+
+        assertThat(hit.data()).isEqualTo("summary-1");
+        assertThat(hit.metadata().protocolAttributes()).containsEntry(ProviderResultCache.CACHE_ATTRIBUTE, "HIT");
+        CacheStats stats = cache.stats(SERVICE_ID);
+        assertThat(stats.hits()).isEqualTo(1);
+        assertThat(stats.misses()).isEqualTo(1);
+        assertThat(stats.hitRatio()).isEqualTo(0.5);
+        assertThat(stats.entries()).isEqualTo(1);
+        assertThat(stats.offHeapBytesInUse()).isEqualTo(1024);
+        assertThat(stats.offHeapCapacityBytes()).isEqualTo(8192);
+        assertThat(stats.heapFallbacks()).isZero();
+    }
+
+    private String outcome(ProviderResultCache cache, CacheKey key) {
+        return cache.getOrLoad(key, loader(200)).block().metadata().protocolAttributes().get(ProviderResultCache.CACHE_ATTRIBUTE);
+    }
+
+    private ProviderResultCache cacheWith(CacheSettings settings) {
+        ServiceDefinition service = new ServiceDefinition();
+        service.setCache(settings);
+        PlatformProperties properties = new PlatformProperties();
+        properties.getServices().put(SERVICE_ID, service);
+        return new ProviderResultCache(properties, new DefaultPayloadCodec(), clock::get);
+    }
+
+    private Supplier<Mono<ProviderResult<String>>> loader(int status) {
+        return () -> Mono.fromSupplier(() -> ProviderResult.success(
+            status,
+            "summary-" + upstreamCalls.incrementAndGet(),
+            new DataProviderContext(
+                DataProviderContext.Protocol.REST,
+                SERVICE_ID,
+                "https://api.creditbureau.com/v2/summary",
+                Map.of("operation", "fetchSummary"),
+                5L,
+                Instant.now())));
+    }
+
+    private Supplier<Mono<ProviderResult<String>>> slowLoader() {
+        return () -> loader(200).get().delayElement(Duration.ofMillis(100));
+    }
+}
@@ -0,0 +1,128 @@
+package com.cfbl.platform.core.coalescing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.cfbl.platform.core.exception.core.CreditSummaryDataCollectionException;
+import com.cfbl.platform.core.exception.core.ErrorCode;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+class ProviderCallCoalescerTest {
+
+    private final ProviderCallCoalescer coalescer = new ProviderCallCoalescer();
+    private final CoalescingKey key = new CoalescingKey("credit-bureau", HttpMethod.GET, "/summary", "customer-1");
+
+    @Test
+    void shouldShareOneUpstreamCallAmongConcurrentSubscribers() {
+        AtomicInteger upstreamCalls = new AtomicInteger();
+        Mono<String> call = coalescer.execute(key, () -> Mono.delay(Duration.ofMillis(50))
+            .map(tick -> "summary-" + upstreamCalls.incrementAndGet()));
+
+        StepVerifier.create(Flux.merge(call, call, call).collectList())
+            .assertNext(results -> assertThat(results).containsExactly("summary-1", "summary-1", "summary-1"))
+            .verifyComplete();
+        assertThat(upstreamCalls.get()).isEqualTo(1);
+        assertThat(coalescer.inFlightCount()).isZero();
+
+        StepVerifier.create(call).expectNext("summary-2").verifyComplete();
+    }
+
+    @Test
+    void shouldNotCoalesceDifferentRequestKeys() {
+        AtomicInteger upstreamCalls = new AtomicInteger();
+        CoalescingKey otherKey = new CoalescingKey("credit-bureau", HttpMethod.GET, "/summary", "customer-2");
+
+        Mono<Integer> first = coalescer.execute(key, () -> Mono.fromSupplier(upstreamCalls::incrementAndGet)
+            .delayElement(Duration.ofMillis(20)));
+        Mono<Integer> second = coalescer.execute(otherKey, () -> Mono.fromSupplier(upstreamCalls::incrementAndGet)
+            .delayElement(Duration.ofMillis(20)));
+
+        StepVerifier.create(Flux.merge(first, second).collectList())
+            .assertNext(results -> assertThat(results).hasSize(2))
+            .verifyComplete();
+        assertThat(upstreamCalls.get()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldFanOutFailureToConcurrentSubscribers() {
+        CreditSummaryDataCollectionException failure = new CreditSummaryDataCollectionException(
+            ErrorCode.LAYER_DATA_COLLECTION_FAILURE,
+            "bureau down");
+        Mono<String> call = coalescer.execute(key, () -> Mono.delay(Duration.ofMillis(20))
+            .then(Mono.error(failure)));
+
+        StepVerifier.create(Flux.mergeDelayError(2, call, call))
+            .expectErrorSatisfies(ex -> assertThat(ex.getSuppressed()).allSatisfy(
+                suppressed -> assertThat(suppressed).isSameAs(failure)))
+            .verify();
+        assertThat(coalescer.inFlightCount()).isZero();
+    }
+
+    @Test
+    void shouldRunOneBlockingCallForConcurrentCallers() throws Exception {
+        AtomicInteger upstreamCalls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<String>> futures = List.of(
+                pool.submit(() -> coalescer.executeSync(key, () -> blockingCall(upstreamCalls, release))),
+                pool.submit(() -> coalescer.executeSync(key, () -> blockingCall(upstreamCalls, release))),
+                pool.submit(() -> coalescer.executeSync(key, () -> blockingCall(upstreamCalls, release))));
+
+            waitUntilInFlight();
+            Thread.sleep(50);
+            release.countDown();
+
+            for (Future<String> future : futures) {
+                assertThat(future.get(1, TimeUnit.SECONDS)).isEqualTo("summary-1");
+            }
+            assertThat(upstreamCalls.get()).isEqualTo(1);
+            assertThat(coalescer.inFlightCount()).isZero();
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldRethrowBlockingFailureToCaller() {
+        IllegalStateException failure = new IllegalStateException("boom");
+
+        IllegalStateException thrown = assertThrows(
+            IllegalStateException.class,
+            () -> coalescer.executeSync(key, () -> {
+                throw failure;
+            }));
+
+        assertThat(thrown).isSameAs(failure);
+        assertThat(coalescer.inFlightCount()).isZero();
+    }
+
+    private String blockingCall(AtomicInteger upstreamCalls, CountDownLatch release) {
+        int call = upstreamCalls.incrementAndGet();
+        try {
+            release.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        return "summary-" + call;
+    }
+
+    private void waitUntilInFlight() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+        while (coalescer.inFlightCount() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.cfbl.platform.core.coalescing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.cfbl.platform.core.exception.core.CreditSummaryDataCollectionException;
+import com.cfbl.platform.core.exception.core.DataProviderContext;
+import com.cfbl.platform.core.exception.core.ErrorCode;
+import com.cfbl.platform.core.exception.core.UpstreamInfo;
+import com.cfbl.platform.core.integration.model.ProviderResult;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.scheduler.VirtualTimeScheduler;
+
+class ProviderLookupBatcherTest {
+
+    private final VirtualTimeScheduler timer = VirtualTimeScheduler.create();
+    private final List<List<String>> batches = new CopyOnWriteArrayList<>();
+
+    @Test
+    void shouldSendOneBatchWhenWindowElapses() throws Exception {
+        ProviderLookupBatcher<String, Integer> batcher = batcher(new BatchSettings(10, 5), keys -> Mono.just(
+                ProviderResult.success(200, Map.of("C-1", 710, "C-2", 655), context())));
+
+        CompletableFuture<ProviderResult<Integer>> first = batcher.lookup("C-1").toFuture();
+        CompletableFuture<ProviderResult<Integer>> second = batcher.lookup("C-2").toFuture();
+        CompletableFuture<ProviderResult<Integer>> duplicate = batcher.lookup("C-1").toFuture();
+        CompletableFuture<ProviderResult<Integer>> missing = batcher.lookup("C-3").toFuture();
+
+        assertThat(batches).isEmpty();
+        assertThat(batcher.pendingKeys()).isEqualTo(3);
+
+        timer.advanceTimeBy(Duration.ofMillis(5));
+
+        assertThat(batches).containsExactly(List.of("C-1", "C-2", "C-3"));
+        assertThat(first.get().data()).isEqualTo(710);
+        assertThat(second.get().data()).isEqualTo(655);
+        assertThat(duplicate.get().data()).isEqualTo(710);
+        assertThat(missing.get().data()).isNull();
+        assertThat(first.get().metadata().protocolAttributes())
+                .containsEntry("operation", "findScores")
+                .containsEntry(ProviderLookupBatcher.BATCH_SIZE_ATTRIBUTE, "3");
+        assertThat(first.get().metadata()).isNotSameAs(second.get().metadata());
+        assertThat(batcher.pendingKeys()).isZero();
+    }
+
+    @Test
+    void shouldSendImmediatelyWhenBatchIsFull() throws Exception {
+        ProviderLookupBatcher<String, Integer> batcher = batcher(new BatchSettings(2, 1000), keys -> Mono.just(
+                ProviderResult.success(200, Map.of("C-1", 710, "C-2", 655), context())));
+
+        CompletableFuture<ProviderResult<Integer>> first = batcher.lookup("C-1").toFuture();
+        CompletableFuture<ProviderResult<Integer>> second = batcher.lookup("C-2").toFuture();
+
+        assertThat(batches).containsExactly(List.of("C-1", "C-2"));
+        assertThat(first.get().data()).isEqualTo(710);
+        assertThat(second.get().data()).isEqualTo(655);
+
+        timer.advanceTimeBy(Duration.ofSeconds(1));
+        assertThat(batches).hasSize(1);
+    }
+
+    @Test
+    void shouldLeaveCancelledCallersOutOfTheBatch() {
+        ProviderLookupBatcher<String, Integer> batcher = batcher(new BatchSettings(10, 5), keys -> Mono.just(
+                ProviderResult.success(200, Map.of(), context())));
+
+        batcher.lookup("C-1").subscribe().dispose();
+        CompletableFuture<ProviderResult<Integer>> kept = batcher.lookup("C-2").toFuture();
+
+        timer.advanceTimeBy(Duration.ofMillis(5));
+
+        assertThat(batches).containsExactly(List.of("C-2"));
+        assertThat(kept).isCompleted();
+    }
+
+    @Test
+    void shouldGiveEachCallerItsOwnFailure() {
+        CreditSummaryDataCollectionException shared = new CreditSummaryDataCollectionException(
+                ErrorCode.LAYER_DATA_COLLECTION_FAILURE,
+                "Score lookup failed",
+                context(),
+                new UpstreamInfo(null, "SQLState 08006: connection reset", 12L),
+                new IllegalStateException("reset"));
+        ProviderLookupBatcher<String, Integer> batcher = batcher(new BatchSettings(10, 5), keys -> Mono.error(shared));
+
+        CompletableFuture<ProviderResult<Integer>> first = batcher.lookup("C-1").toFuture();
+        CompletableFuture<ProviderResult<Integer>> second = batcher.lookup("C-2").toFuture();
+        timer.advanceTimeBy(Duration.ofMillis(5));
+
+        CreditSummaryDataCollectionException firstFailure = failure(first);
+        CreditSummaryDataCollectionException secondFailure = failure(second);
+        assertThat(firstFailure).isNotSameAs(secondFailure).isNotSameAs(shared);
+        assertThat(firstFailure.getMessage()).isEqualTo("Score lookup failed");
+        assertThat(firstFailure.getUpstream()).isSameAs(shared.getUpstream());
+        assertThat(firstFailure.getCause()).isSameAs(shared.getCause());
+        assertThat(firstFailure.getProviderContext().protocolAttributes())
+                .containsEntry(ProviderLookupBatcher.BATCH_SIZE_ATTRIBUTE, "2");
+    }
+
+    @Test
+    void shouldFailEveryCallerWhenBatchCallCompletesEmpty() {
+        ProviderLookupBatcher<String, Integer> batcher = batcher(new BatchSettings(10, 5), keys -> Mono.empty());
+
+        CompletableFuture<ProviderResult<Integer>> first = batcher.lookup("C-1").toFuture();
+        CompletableFuture<ProviderResult<Integer>> second = batcher.lookup("C-2").toFuture();
+        timer.advanceTimeBy(Duration.ofMillis(5));
+
+        assertThat(failure(first).getMessage()).isEqualTo("Batch call completed with no result for key C-1");
+        assertThat(failure(second).getMessage()).isEqualTo("Batch call completed with no result for key C-2");
+        assertThat(failure(first).getCode()).isEqualTo(ErrorCode.LAYER_DATA_COLLECTION_FAILURE);
+    }
+
+    private ProviderLookupBatcher<String, Integer> batcher(
+            BatchSettings settings,
+            Function<List<String>, Mono<ProviderResult<Map<String, Integer>>>> batchCall) {
+        return new ProviderLookupBatcher<>(settings, keys -> {
+            batches.add(keys);
+            return batchCall.apply(keys);
+        }, timer);
+    }
+
+    private static DataProviderContext context() {
+        return new DataProviderContext(
+                DataProviderContext.Protocol.JDBC,
+                "core-db",
+                "jdbc:h2:mem:core-db",
+                Map.of("operation", "findScores"),
+                12L,
+                Instant.now());
+    }
+
+    private static CreditSummaryDataCollectionException failure(CompletableFuture<?> future) {
+        try {
+            future.get();
+        } catch (ExecutionException ex) {
+            return (CreditSummaryDataCollectionException) ex.getCause();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        throw new AssertionError("Expected lookup to fail");
+    }
+}
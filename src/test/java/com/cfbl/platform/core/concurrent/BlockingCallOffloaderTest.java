@@ -0,0 +1,116 @@
+package com.cfbl.platform.core.concurrent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.cfbl.platform.core.config.PlatformProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+class BlockingCallOffloaderTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void shouldRunInlineByDefault() {
+        BlockingCallOffloader offloader = new BlockingCallOffloader();
+        Thread caller = Thread.currentThread();
+
+        StepVerifier.create(offloader.call("soap:inline", "inline", () -> Thread.currentThread() == caller))
+            .expectNext(true)
+            .verifyComplete();
+    }
+
+    @Test
+    void shouldOffloadAndPropagateSecurityContextAndMdc() {
+        BlockingCallOffloader offloader = offloader("bureau-soap", new OffloadSettings(OffloadMode.BOUNDED_ELASTIC, 2, 2));
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("analyst", "token"));
+        MDC.put("traceId", "trace-123");
+        try {
+            StepVerifier.create(offloader.call("soap:bureau-soap", "bureau-soap", () ->
+                    Thread.currentThread().getName().startsWith("offload-soap:bureau-soap-") + ":"
+                        + SecurityContextHolder.getContext().getAuthentication().getName() + ":"
+                        + MDC.get("traceId")))
+                .expectNext("true:analyst:trace-123")
+                .verifyComplete();
+        } finally {
+            SecurityContextHolder.clearContext();
+            MDC.clear();
+        }
+    }
+
+    @Test
+    void shouldRunOnVirtualThreadsInVirtualMode() {
+        BlockingCallOffloader offloader = offloader("bureau-soap", new OffloadSettings(OffloadMode.VIRTUAL, 2, 0));
+
+        StepVerifier.create(offloader.call("soap:bureau-soap", "bureau-soap", () -> Thread.currentThread().isVirtual()))
+            .expectNext(true)
+            .verifyComplete();
+    }
+
+    @Test
+    void shouldReportQueueDepthAndRejectWhenSaturated() throws InterruptedException {
+        for (OffloadMode mode : new OffloadMode[] {OffloadMode.BOUNDED_ELASTIC, OffloadMode.VIRTUAL}) {
+            String lane = "soap:" + mode;
+            BlockingCallOffloader offloader = offloader(mode.name(), new OffloadSettings(mode, 1, 1));
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+
+            Disposable running = offloader.call(lane, mode.name(), () -> {
+                started.countDown();
+                awaitQuietly(release);
+                return "first";
+            }).subscribe();
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            Disposable queued = offloader.call(lane, mode.name(), () -> "second").subscribe();
+            awaitQueueDepth(offloader, lane, 1);
+
+            StepVerifier.create(offloader.call(lane, mode.name(), () -> "third"))
+                .expectError(OffloadRejectedException.class)
+                .verify();
+            assertThat(offloader.activeCount(lane)).isEqualTo(1);
+            assertThat(offloader.rejectedCount(lane)).isEqualTo(1);
+            assertThat(meterRegistry.get("provider.offload.rejected").tag("name", lane).counter().count())
+                .isEqualTo(1.0);
+            assertThat(meterRegistry.get("provider.offload.queue.depth").tag("name", lane).gauge().value())
+                .isEqualTo(1.0);
+
+            release.countDown();
+            awaitQueueDepth(offloader, lane, 0);
+            running.dispose();
+            queued.dispose();
+        }
+    }
+
+    private BlockingCallOffloader offloader(String serviceId, OffloadSettings settings) {
+        PlatformProperties.ServiceDefinition service = new PlatformProperties.ServiceDefinition();
+        service.setOffload(settings);
+        PlatformProperties properties = new PlatformProperties();
+        properties.getServices().put(serviceId, service);
+        return new BlockingCallOffloader(properties, meterRegistry);
+    }
+
+    private static void awaitQueueDepth(BlockingCallOffloader offloader, String lane, int expected) {
+        StepVerifier.create(Mono.fromSupplier(() -> offloader.queueDepth(lane))
+                .filter(depth -> depth == expected)
+                .repeatWhenEmpty(100, repeat -> repeat.delayElements(Duration.ofMillis(10))))
+            .expectNext(expected)
+            .verifyComplete();
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.cfbl.platform.core.concurrent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class VirtualThreadCallRunnerTest {
+
+    private final VirtualThreadCallRunner runner = new VirtualThreadCallRunner(true);
+
+    @AfterEach
+    void closeRunner() {
+        runner.destroy();
+    }
+
+    @Test
+    void shouldRunCallOnVirtualThread() throws TimeoutException {
+        assertThat(runner.call(() -> Thread.currentThread().isVirtual(), Duration.ofSeconds(1))).isTrue();
+    }
+
+    @Test
+    void shouldReturnFromTimeoutOnlyAfterCallHasEnded() {
+        AtomicBoolean ended = new AtomicBoolean();
+
+        assertThrows(TimeoutException.class, () -> runner.call(() -> {
+            // Ignores interrupts, like a port call stuck outside interruptible I/O.
+            long until = System.nanoTime() + Duration.ofMillis(300).toNanos();
+            while (System.nanoTime() < until) {
+                try {
+                    Thread.sleep(10);
+                } catch (InterruptedException ex) {
+                    // keep running
+                }
+            }
+            ended.set(true);
+            return "late";
+        }, Duration.ofMillis(50)));
+
+        assertThat(ended).isTrue();
+    }
+
+    @Test
+    void shouldInterruptTimedOutCall() {
+        AtomicBoolean interrupted = new AtomicBoolean();
+
+        assertThrows(TimeoutException.class, () -> runner.call(() -> {
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException ex) {
+                interrupted.set(true);
+            }
+            return "interrupted";
+        }, Duration.ofMillis(50)));
+
+        assertThat(interrupted).isTrue();
+    }
+}
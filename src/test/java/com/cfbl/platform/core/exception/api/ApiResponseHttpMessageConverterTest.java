@@ -0,0 +1,45 @@
+package com.cfbl.platform.core.exception.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.cfbl.platform.core.exception.core.ErrorCode;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpOutputMessage;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+class ApiResponseHttpMessageConverterTest {
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+    private final ApiResponseMapper apiResponseMapper = new ApiResponseMapper();
+    private final ApiResponseHttpMessageConverter converter =
+        new ApiResponseHttpMessageConverter(apiResponseMapper, jsonMapper);
+
+    @Test
+    void shouldWriteErrorEnvelopeFromTemplates() throws Exception {
+        ApiResponse<Void> body = apiResponseMapper.fromCode(ErrorCode.METHOD_NOT_ALLOWED, "POST not supported");
+        MockHttpOutputMessage message = new MockHttpOutputMessage();
+
+        assertThat(converter.canWrite(ApiResponse.class, MediaType.APPLICATION_JSON)).isTrue();
+        assertThat(converter.canRead(ApiResponse.class, MediaType.APPLICATION_JSON)).isFalse();
+        converter.write(body, MediaType.APPLICATION_JSON, message);
+
+        JsonNode json = jsonMapper.readTree(message.getBodyAsBytes());
+        assertThat(json.path("status").asInt()).isEqualTo(405);
+        assertThat(json.path("error").path("code").asString()).isEqualTo("METHOD_NOT_ALLOWED");
+        assertThat(json.path("error").path("layer").asString()).isEqualTo("PLATFORM");
+        assertThat(json.path("error").path("message").asString()).isEqualTo("POST not supported");
+        assertThat(message.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+    }
+
+    @Test
+    void shouldHandEnvelopesWithDataToJackson() throws Exception {
+        MockHttpOutputMessage message = new MockHttpOutputMessage();
+
+        converter.write(ApiResponse.success(Map.of("score", 710), null), MediaType.APPLICATION_JSON, message);
+
+        assertThat(jsonMapper.readTree(message.getBodyAsBytes()).path("data").path("score").asInt()).isEqualTo(710);
+    }
+}
@@ -0,0 +1,83 @@
+package com.cfbl.platform.core.exception.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.cfbl.platform.core.exception.core.DataProviderContext;
+import com.cfbl.platform.core.retry.RetryInfo;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.time.Instant;
+import java.util.Map;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Writes the same success envelope with reflective record serialization and with
+ * {@link ApiResponseJsonModule}, in alternating rounds, and compares the best round of each by this
+ * thread's CPU time and allocated bytes per envelope.
+ *
+ * <p>Excluded from the default build; run with {@code mvn test -Pload-tests}.
+ */
+@Tag("load")
+class ApiResponseJsonModuleLoadTest {
+
+    private static final int ROUNDS = 5;
+    private static final int ENVELOPES_PER_ROUND = 200_000;
+
+    private static final ApiResponse<Map<String, Object>> RESPONSE = ApiResponse.success(
+            Map.of("score", 710, "band", "A"),
+            200,
+            new DataProviderContext(
+                    DataProviderContext.Protocol.REST,
+                    "credit-bureau",
+                    "https://bureau.example.com/summary",
+                    Map.of("method", "GET", "operation", "fetchSummary", "status", "200"),
+                    1_250L,
+                    Instant.now()),
+            new RetryInfo(2, 3, true, false));
+
+    @Test
+    void shouldWriteEnvelopeWithLessCpuAndNoMoreAllocationThanReflectiveSerialization() {
+        ObjectWriter reflective = JsonMapper.builder().build().writerFor(ApiResponse.class);
+        ObjectWriter streaming = JsonMapper.builder().addModule(new ApiResponseJsonModule()).build()
+                .writerFor(ApiResponse.class);
+        assertThat(streaming.writeValueAsString(RESPONSE)).isEqualTo(reflective.writeValueAsString(RESPONSE));
+
+        Round bestReflective = Round.WORST;
+        Round bestStreaming = Round.WORST;
+        for (int round = 0; round < ROUNDS; round++) {
+            bestReflective = bestReflective.min(write(reflective));
+            bestStreaming = bestStreaming.min(write(streaming));
+        }
+
+        // Boxed accessor results and per-property dispatch are what the module removes.
+        assertThat(bestStreaming.cpuNanos()).isLessThan(bestReflective.cpuNanos());
+        assertThat(bestStreaming.allocatedBytes()).isLessThanOrEqualTo(bestReflective.allocatedBytes());
+    }
+
+    private static Round write(ObjectWriter writer) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long cpuBefore = threads.getCurrentThreadCpuTime();
+        long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < ENVELOPES_PER_ROUND; i++) {
+            writer.writeValue(OutputStream.nullOutputStream(), RESPONSE);
+        }
+        return new Round(
+                (threads.getCurrentThreadCpuTime() - cpuBefore) / ENVELOPES_PER_ROUND,
+                (threads.getCurrentThreadAllocatedBytes() - allocatedBefore) / ENVELOPES_PER_ROUND);
+    }
+
+    /**
+     * Per-envelope cost of one round.
+     */
+    private record Round(long cpuNanos, long allocatedBytes) {
+
+        static final Round WORST = new Round(Long.MAX_VALUE, Long.MAX_VALUE);
+
+        Round min(Round other) {
+            return new Round(Math.min(cpuNanos, other.cpuNanos), Math.min(allocatedBytes, other.allocatedBytes));
+        }
+    }
+}
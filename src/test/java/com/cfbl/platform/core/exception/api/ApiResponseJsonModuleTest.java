@@ -0,0 +1,145 @@
+package com.cfbl.platform.core.exception.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.cfbl.platform.core.exception.core.CreditSummaryPlatformException;
+import com.cfbl.platform.core.exception.core.DataProviderContext;
+import com.cfbl.platform.core.exception.core.ErrorCode;
+import com.cfbl.platform.core.exception.core.LayerType;
+import com.cfbl.platform.core.exception.core.UpstreamInfo;
+import com.cfbl.platform.core.integration.model.ProviderResult;
+import com.cfbl.platform.core.integration.model.RawJson;
+import com.cfbl.platform.core.retry.RetryInfo;
+import com.cfbl.platform.core.retry.RetryStopReason;
+import java.lang.reflect.RecordComponent;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+class ApiResponseJsonModuleTest {
+
+    private final JsonMapper reflective = JsonMapper.builder().build();
+    private final JsonMapper streaming = JsonMapper.builder().addModule(new ApiResponseJsonModule()).build();
+
+    @Test
+    void shouldWriteSuccessEnvelopeLikeReflectiveSerialization() {
+        ApiResponse<Map<String, Object>> response = ApiResponse.success(
+            Map.of("score", 710, "bands", List.of("A", "B")),
+            200,
+            context(),
+            new RetryInfo(2, 3, true, false));
+
+        assertSameJson(response);
+    }
+
+    @Test
+    void shouldWriteErrorEnvelopeLikeReflectiveSerialization() {
+        CreditSummaryPlatformException ex = new CreditSummaryPlatformException(
+            LayerType.DATA_COLLECTION,
+            ErrorCode.LAYER_DATA_COLLECTION_FAILURE,
+            "Bureau said \"busy\"\n",
+            context(),
+            new UpstreamInfo(503, "Service Unavailable", 40L),
+            null);
+        ex.attachRetryInfo(new RetryInfo(3, 3, true, true, RetryStopReason.DEADLINE));
+
+        assertSameJson(new ApiResponseMapper().fromPlatformException(ex));
+        assertSameJson(ApiResponse.error(
+            ErrorCode.LAYER_PRESENTATION_FAILURE.httpStatus(),
+            "LAYER_PRESENTATION_FAILURE",
+            "PRESENTATION",
+            null,
+            "Invalid request",
+            null,
+            null,
+            new ApiResponse.Upstream(null, null, 5L),
+            List.of(new ApiResponse.ValidationError("customerId", null))));
+    }
+
+    @Test
+    void shouldWriteProviderResultAndUpstreamLikeReflectiveSerialization() {
+        assertSameJson(ProviderResult.success(200, List.of(1, 2, 3), context()));
+        assertSameJson(new ProviderResult<>(204, null, null, null));
+        assertSameJson(new UpstreamInfo(null, null, null));
+        assertSameJson(new UpstreamInfo(429, "slow down", 3L, "OPEN", 1500L));
+    }
+
+    @Test
+    void shouldWriteRawJsonPayloadAsJsonValue() {
+        String upstream = "{\"score\":710,\"bands\":[\"A\"]}";
+        ProviderResult<RawJson> result = ProviderResult.success(
+            200, RawJson.of(upstream.getBytes(StandardCharsets.UTF_8)), context());
+
+        assertThat(streaming.readTree(streaming.writeValueAsString(ApiResponse.fromProviderResult(result)))
+            .path("data")).isEqualTo(reflective.readTree(upstream));
+    }
+
+    @Test
+    void shouldWriteEveryRecordFieldIdenticallyOnAllPaths() {
+        ApiResponseMapper mapper = new ApiResponseMapper();
+        RetryInfo retry = new RetryInfo(3, 3, true, true, RetryStopReason.DEADLINE);
+        Instant timestamp = Instant.parse("2026-03-04T05:06:08.123Z");
+        ApiResponse<Void> templated = new ApiResponse<>(timestamp, "trace-1", 502, null, context(), retry,
+            new ApiResponse.Error(
+                ErrorCode.LAYER_DATA_COLLECTION_FAILURE.name(),
+                LayerType.DATA_COLLECTION.name(),
+                ErrorCode.LAYER_DATA_COLLECTION_FAILURE.httpStatus().getReasonPhrase(),
+                "Bureau said \"busy\"\n",
+                new ApiResponse.Upstream(503, "Service Unavailable", 40L),
+                List.of(new ApiResponse.ValidationError("customerId", "must not be blank"))));
+        ApiResponse<Void> freeForm = new ApiResponse<>(timestamp, "trace-2", 418, null, context(), retry,
+            new ApiResponse.Error(
+                "CUSTOM",
+                "EDGE",
+                "I'm a teapot",
+                "caf\u00e9 \u2713 \ud83d\ude00",
+                new ApiResponse.Upstream(null, "x", null),
+                List.of(new ApiResponse.ValidationError(null, "missing"))));
+
+        for (ApiResponse<Void> response : List.of(templated, freeForm)) {
+            JsonNode expected = reflective.readTree(reflective.writeValueAsString(response));
+            assertThat(streaming.readTree(streaming.writeValueAsString(response))).isEqualTo(expected);
+            assertThat(reflective.readTree(mapper.toJson(response))).isEqualTo(expected);
+        }
+
+        // A record component that one writer forgets is missing here.
+        JsonNode full = reflective.readTree(mapper.toJson(templated));
+        assertHasComponents(full, ApiResponse.class, "data");
+        assertHasComponents(full.path("metadata"), DataProviderContext.class);
+        assertHasComponents(full.path("retry"), RetryInfo.class);
+        assertHasComponents(full.path("error"), ApiResponse.Error.class);
+        assertHasComponents(full.path("error").path("upstream"), ApiResponse.Upstream.class);
+        assertHasComponents(full.path("error").path("validationErrors").path(0), ApiResponse.ValidationError.class);
+    }
+
+    private static void assertHasComponents(JsonNode node, Class<? extends Record> type, String... absent) {
+        for (RecordComponent component : type.getRecordComponents()) {
+            if (!List.of(absent).contains(component.getName())) {
+                assertThat(node.has(component.getName())).as(type.getSimpleName() + "." + component.getName()).isTrue();
+            }
+        }
+    }
+
+    private void assertSameJson(Object value) {
+        assertThat(streaming.readTree(streaming.writeValueAsString(value)))
+            .isEqualTo(reflective.readTree(reflective.writeValueAsString(value)));
+    }
+
+    private static DataProviderContext context() {
+        Map<String, String> attributes = new LinkedHashMap<>();
+        attributes.put("operation", "getCreditScore");
+        attributes.put("cache", null);
+        return new DataProviderContext(
+            DataProviderContext.Protocol.REST,
+            "credit-bureau",
+            "https://api.creditbureau.com/v2/score",
+            attributes,
+            123,
+            Instant.parse("2026-03-04T05:06:07.890Z"));
+    }
+}
@@ -5,10 +5,20 @@ import static org.assertj.core.api.Assertions.assertThat;
 import com.cfbl.platform.core.exception.core.CreditSummaryPlatformException;
 import com.cfbl.platform.core.exception.core.DataProviderContext;
 import com.cfbl.platform.core.exception.core.ErrorCode;
+import com.cfbl.platform.core.exception.core.LayerType;
+import com.cfbl.platform.core.exception.core.UpstreamInfo;
+import com.cfbl.platform.core.integration.model.ProviderResult;
+import com.cfbl.platform.core.integration.model.RawJson;
 import com.cfbl.platform.core.retry.RetryInfo;
+import com.cfbl.platform.core.retry.RetryStopReason;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
+import java.util.List;
 import java.util.Map;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import tools.jackson.databind.json.JsonMapper;
 
 class ApiResponseMapperTest {
 
@@ -44,4 +54,82 @@ class ApiResponseMapperTest {
         assertThat(response.retry()).isNotNull();
         assertThat(response.retry().attempted()).isEqualTo(2);
     }
+
+    @Test
+    void shouldWriteSameJsonAsJackson() throws Exception {
+        ApiResponseMapper mapper = new ApiResponseMapper();
+        DataProviderContext source = new DataProviderContext(
+            DataProviderContext.Protocol.SOAP,
+            "legacy-scoring",
+            null,
+            Map.of("operation", "getScore", "note", "tab\there"),
+            87,
+            Instant.parse("2026-01-02T03:04:05.123456Z")
+        );
+        CreditSummaryPlatformException ex = new CreditSummaryPlatformException(
+            LayerType.DATA_COLLECTION,
+            ErrorCode.LAYER_DATA_COLLECTION_FAILURE,
+            "Upstream said \"no\" \\ \u0001 – Ünïcødé 🚀",
+            source,
+            new UpstreamInfo(503, "<fault>busy</fault>\n", 80L),
+            null
+        );
+        ex.attachRetryInfo(new RetryInfo(3, 3, true, true, RetryStopReason.DEADLINE));
+
+        ApiResponse<Void> response = mapper.fromPlatformException(ex);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        mapper.writeJson(response, out);
+
+        JsonMapper jackson = JsonMapper.builder().build();
+        assertThat(jackson.readTree(out.toString(StandardCharsets.UTF_8)))
+            .isEqualTo(jackson.readTree(jackson.writeValueAsString(response)));
+    }
+
+    @Test
+    void shouldWriteFieldsOneByOneWhenErrorDoesNotMatchTemplate() {
+        ApiResponseMapper mapper = new ApiResponseMapper();
+        ApiResponse<Void> response = ApiResponse.error(
+            HttpStatus.BAD_REQUEST,
+            "VALIDATION_FAILED",
+            LayerType.PRESENTATION.name(),
+            "Bad Request",
+            null,
+            null,
+            null,
+            new ApiResponse.Upstream(null, "missing field", null),
+            List.of(new ApiResponse.ValidationError("customerId", "must not be blank"))
+        );
+
+        JsonMapper jackson = JsonMapper.builder().build();
+        assertThat(jackson.readTree(new String(mapper.toJson(response), StandardCharsets.UTF_8)))
+            .isEqualTo(jackson.readTree(jackson.writeValueAsString(response)));
+        assertThat(jackson.readTree(new String(mapper.toJson(mapper.fromCode(ErrorCode.NOT_FOUND, null)),
+            StandardCharsets.UTF_8)).path("error").path("reason").asString()).isEqualTo("Not Found");
+    }
+
+    @Test
+    void shouldSpliceRawJsonIntoDataVerbatim() throws Exception {
+        ApiResponseMapper mapper = new ApiResponseMapper();
+        String upstream = "{\"score\":710,\"bands\":[\"A\",\"B\"],\"note\":\"caf\u00e9\"}";
+        DataProviderContext metadata = new DataProviderContext(
+            DataProviderContext.Protocol.REST,
+            "credit-bureau",
+            "https://api.creditbureau.com/v2/score",
+            Map.of("operation", "getCreditScore"),
+            42,
+            Instant.parse("2026-01-02T03:04:05Z")
+        );
+        ApiResponse<RawJson> response = ApiResponse.fromProviderResult(ProviderResult.success(
+            200, RawJson.validated(upstream.getBytes(StandardCharsets.UTF_8)), metadata, new RetryInfo(1, 3, false, false)));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        mapper.writeRawJson(response, out);
+        String json = out.toString(StandardCharsets.UTF_8);
+
+        JsonMapper jackson = JsonMapper.builder().build();
+        assertThat(json).contains("\"data\":" + upstream + ",");
+        assertThat(jackson.readTree(json)).isEqualTo(jackson.readTree(jackson.writeValueAsString(
+            new ApiResponse<>(response.timestamp(), response.traceId(), response.status(),
+                jackson.readTree(upstream), response.metadata(), response.retry(), response.error()))));
+    }
 }
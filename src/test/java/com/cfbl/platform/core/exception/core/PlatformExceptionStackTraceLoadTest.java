@@ -0,0 +1,91 @@
+package com.cfbl.platform.core.exception.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.management.ManagementFactory;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * An upstream outage as the executors see it: every attempt, deep in a Reactor stack, maps an
+ * attempt timeout to a data-collection failure. Compares the CPU time and heap allocated by that
+ * burst with the stack trace captured and in stackless mode.
+ *
+ * <p>Excluded from the default build; run with {@code mvn test -Pload-tests}.
+ */
+@Tag("load")
+class PlatformExceptionStackTraceLoadTest {
+
+    private static final int REACTOR_STACK_DEPTH = 150;
+    private static final int FAILED_ATTEMPTS = 200_000;
+
+    private static final DataProviderContext CONTEXT = new DataProviderContext(
+            DataProviderContext.Protocol.REST,
+            "credit-bureau",
+            "https://bureau.example.com/summary",
+            Map.of("method", "GET", "operation", "fetchSummary"),
+            12L,
+            Instant.now());
+    private static final UpstreamInfo UPSTREAM = new UpstreamInfo(null, "Did not observe any item", 2000L);
+    private static final TimeoutException ATTEMPT_TIMEOUT = new TimeoutException("Did not observe any item");
+
+    // Published so the JIT cannot elide the allocations being measured.
+    private static volatile Throwable lastMapped;
+
+    @AfterEach
+    void uninstall() {
+        StackTracePolicy.uninstall();
+    }
+
+    @Test
+    void shouldMapOutageFailuresWithLessCpuAndAllocationWhenStackless() {
+        Burst full = outage();
+        StackTracePolicy.install(new StackTracePolicy(StackTraceMode.STACKLESS_EXPECTED, List.of()));
+        Burst stackless = outage();
+
+        assertThat(full.traceFrames()).isGreaterThan(REACTOR_STACK_DEPTH);
+        assertThat(stackless.traceFrames()).isZero();
+        // The captured backtrace dominates both costs at this depth.
+        assertThat(stackless.cpuNanos() * 3).isLessThan(full.cpuNanos());
+        assertThat(stackless.allocatedBytes() * 3).isLessThan(full.allocatedBytes());
+    }
+
+    /**
+     * Runs the burst once to warm up, then again measuring this thread's CPU time and allocation.
+     */
+    private static Burst outage() {
+        atDepth(REACTOR_STACK_DEPTH);
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long cpuBefore = threads.getCurrentThreadCpuTime();
+        long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+        int traceFrames = atDepth(REACTOR_STACK_DEPTH);
+        return new Burst(
+                traceFrames,
+                threads.getCurrentThreadCpuTime() - cpuBefore,
+                threads.getCurrentThreadAllocatedBytes() - allocatedBefore);
+    }
+
+    /**
+     * Recurses to {@code depth} frames, then maps {@link #FAILED_ATTEMPTS} attempt timeouts there.
+     *
+     * @return stack trace length of the mapped failures
+     */
+    private static int atDepth(int depth) {
+        if (depth > 0) {
+            return atDepth(depth - 1);
+        }
+        for (int i = 0; i < FAILED_ATTEMPTS; i++) {
+            lastMapped = new CreditSummaryDataCollectionException(
+                    ErrorCode.LAYER_DATA_COLLECTION_FAILURE, "Bureau call failed", CONTEXT, UPSTREAM, ATTEMPT_TIMEOUT);
+        }
+        return lastMapped.getStackTrace().length;
+    }
+
+    private record Burst(int traceFrames, long cpuNanos, long allocatedBytes) {
+    }
+}
@@ -0,0 +1,108 @@
+package com.cfbl.platform.core.exception.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.net.ConnectException;
+import java.net.SocketException;
+import java.sql.SQLSyntaxErrorException;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.BadSqlGrammarException;
+
+class StackTracePolicyTest {
+
+    private final StackTracePolicy stackless = new StackTracePolicy(StackTraceMode.STACKLESS_EXPECTED, List.of());
+
+    @AfterEach
+    void uninstall() {
+        StackTracePolicy.uninstall();
+    }
+
+    @Test
+    void shouldCaptureStackTracesInFullMode() {
+        StackTracePolicy full = new StackTracePolicy(StackTraceMode.FULL, List.of());
+
+        assertThat(full.captureStackTrace(ErrorCode.LAYER_DATA_COLLECTION_FAILURE, new ConnectException("refused")))
+                .isTrue();
+        assertThat(upstreamFailure(new ConnectException("refused")).getStackTrace()).isNotEmpty();
+    }
+
+    @Test
+    void shouldSkipStackTraceForTransientUpstreamFailures() {
+        StackTracePolicy.install(stackless);
+
+        CreditSummaryDataCollectionException refused = upstreamFailure(new ConnectException("refused"));
+        CreditSummaryDataCollectionException reset = upstreamFailure(new SocketException("Connection reset"));
+        CreditSummaryDataCollectionException wrapped = upstreamFailure(
+                new RuntimeException(new TimeoutException("no response")));
+        CreditSummaryDataCollectionException jdbc = upstreamFailure(new QueryTimeoutException("slow"));
+
+        assertThat(refused.getStackTrace()).isEmpty();
+        assertThat(reset.getStackTrace()).isEmpty();
+        assertThat(wrapped.getStackTrace()).isEmpty();
+        assertThat(jdbc.getStackTrace()).isEmpty();
+        assertThat(refused.getCause()).isInstanceOf(ConnectException.class);
+        assertThat(refused.getMessage()).isEqualTo("Bureau call failed");
+
+        refused.addSuppressed(new IllegalStateException("cleanup failed"));
+        assertThat(refused.getSuppressed()).hasSize(1);
+    }
+
+    @Test
+    void shouldKeepStackTraceForOtherCodesMissingCausesAndProgrammingErrors() {
+        StackTracePolicy.install(stackless);
+
+        CreditSummaryPlatformException internal = new CreditSummaryPlatformException(
+                ErrorCode.INTERNAL_ERROR, "Unexpected", new ConnectException("refused"));
+        CreditSummaryPlatformException business = new CreditSummaryPlatformException(
+                ErrorCode.LAYER_BUSINESS_FAILURE, "Score below threshold");
+        CreditSummaryDataCollectionException noCause = new CreditSummaryDataCollectionException(
+                ErrorCode.LAYER_DATA_COLLECTION_FAILURE, "Bureau unavailable");
+        CreditSummaryDataCollectionException badSql = upstreamFailure(new BadSqlGrammarException(
+                "findScores", "SELECT scroe FROM customer", new SQLSyntaxErrorException("unknown column")));
+        CreditSummaryDataCollectionException unknown = upstreamFailure(new IllegalStateException("bug"));
+
+        assertThat(internal.getStackTrace()).isNotEmpty();
+        assertThat(business.getStackTrace()).isNotEmpty();
+        assertThat(noCause.getStackTrace()).isNotEmpty();
+        assertThat(badSql.getStackTrace()).isNotEmpty();
+        assertThat(unknown.getStackTrace()).isNotEmpty();
+    }
+
+    @Test
+    void shouldTreatAdditionalTypesAsTransient() {
+        StackTracePolicy policy = new StackTracePolicy(
+                StackTraceMode.STACKLESS_EXPECTED, List.of(ProviderRejectedException.class));
+
+        assertThat(policy.captureStackTrace(ErrorCode.LAYER_DATA_COLLECTION_FAILURE, new ProviderRejectedException()))
+                .isFalse();
+        assertThat(stackless.captureStackTrace(ErrorCode.LAYER_DATA_COLLECTION_FAILURE, new ProviderRejectedException()))
+                .isTrue();
+    }
+
+    @Test
+    void shouldInstallPolicyOnlyOnce() {
+        StackTracePolicy.install(stackless);
+        StackTracePolicy.install(new StackTracePolicy(StackTraceMode.STACKLESS_EXPECTED, List.of()));
+
+        assertThat(StackTracePolicy.current()).isSameAs(stackless);
+        assertThrows(IllegalStateException.class,
+                () -> StackTracePolicy.install(new StackTracePolicy(StackTraceMode.FULL, List.of())));
+    }
+
+    private static CreditSummaryDataCollectionException upstreamFailure(Throwable cause) {
+        return new CreditSummaryDataCollectionException(
+                ErrorCode.LAYER_DATA_COLLECTION_FAILURE,
+                "Bureau call failed",
+                null,
+                new UpstreamInfo(503, "unavailable", 12L),
+                cause);
+    }
+
+    private static final class ProviderRejectedException extends RuntimeException {
+    }
+}
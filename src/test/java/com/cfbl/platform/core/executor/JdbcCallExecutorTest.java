@@ -0,0 +1,284 @@
+package com.cfbl.platform.core.executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.cfbl.platform.core.coalescing.ProviderLookupBatcher;
+import com.cfbl.platform.core.exception.core.CreditSummaryDataCollectionException;
+import com.cfbl.platform.core.exception.core.DataProviderContext;
+import com.cfbl.platform.core.integration.model.ProviderResult;
+import com.cfbl.platform.core.resilience.BulkheadFullException;
+import com.cfbl.platform.core.retry.RetryPolicyExecutor;
+import com.cfbl.platform.core.retry.RetrySettings;
+import com.cfbl.platform.core.timeout.TimeoutSettings;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.jdbc.BadSqlGrammarException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+class JdbcCallExecutorTest {
+
+    private final JdbcCallExecutor executor = new JdbcCallExecutor(new RetryPolicyExecutor());
+    private DataSourceHolder holder;
+
+    @BeforeEach
+    void setUp() {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:core-db-reactive;DB_CLOSE_DELAY=-1");
+        holder = new DataSourceHolder(
+            "core-db",
+            "jdbc:h2:mem:core-db-reactive",
+            dataSource,
+            null,
+            "CORE_DB",
+            new RetrySettings(true, 3, 1),
+            TimeoutSettings.defaults(),
+            2,
+            2,
+            1000L,
+            null,
+            null
+        );
+        holder.jdbcOperations(holder.timeoutSettings().attemptTimeout()).getJdbcOperations().execute(
+            "CREATE TABLE IF NOT EXISTS customer (id VARCHAR(16) PRIMARY KEY, score INT);"
+                + "MERGE INTO customer KEY (id) VALUES ('C-1', 710), ('C-2', 655)");
+    }
+
+    @Test
+    void shouldQueryOffTheSubscriberThread() {
+        Thread caller = Thread.currentThread();
+
+        Mono<ProviderResult<List<String>>> result = executor.executeQuery(
+            holder,
+            "findScores",
+            "SELECT id, score FROM customer WHERE score > :minScore ORDER BY id",
+            Map.of("minScore", 600),
+            (rs, rowNum) -> rs.getString("id") + "=" + rs.getInt("score")
+                + (Thread.currentThread() == caller ? ":caller" : ":offloaded"),
+            "Score lookup failed"
+        );
+
+        StepVerifier.create(result)
+            .assertNext(response -> {
+                assertThat(response.status()).isEqualTo(200);
+                assertThat(response.data()).containsExactly("C-1=710:offloaded", "C-2=655:offloaded");
+                assertThat(response.metadata().protocol()).isEqualTo(DataProviderContext.Protocol.JDBC);
+                assertThat(response.metadata().serviceId()).isEqualTo("core-db");
+                assertThat(response.metadata().protocolAttributes())
+                    .containsEntry("operation", "findScores")
+                    .containsEntry("catalog", "CORE_DB");
+                assertThat(response.retry().attempted()).isEqualTo(1);
+            })
+            .verifyComplete();
+    }
+
+    @Test
+    void shouldRetryTransientSqlFailures() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        StepVerifier.create(executor.executeProvider(
+                holder,
+                "countCustomers",
+                jdbc -> {
+                    if (attempts.incrementAndGet() == 1) {
+                        throw new TransientDataAccessResourceException(
+                            "connection reset", new SQLTransientConnectionException("reset", "08006"));
+                    }
+                    return jdbc.getJdbcOperations().queryForObject("SELECT COUNT(*) FROM customer", Integer.class);
+                },
+                "Count failed",
+                throwable -> false))
+            .assertNext(response -> {
+                assertThat(response.data()).isEqualTo(2);
+                assertThat(response.retry().attempted()).isEqualTo(2);
+                assertThat(response.retry().retried()).isTrue();
+            })
+            .verifyComplete();
+    }
+
+    @Test
+    void shouldNotRetryBadSql() {
+        StepVerifier.create(executor.executeQuery(
+                holder,
+                "findScores",
+                "SELECT missing_column FROM customer",
+                Map.of(),
+                (rs, rowNum) -> rs.getString(1),
+                "Score lookup failed"))
+            .expectErrorSatisfies(ex -> {
+                CreditSummaryDataCollectionException cse = (CreditSummaryDataCollectionException) ex;
+                assertThat(cse.getMessage()).isEqualTo("Score lookup failed");
+                assertThat(cse.getCause()).isInstanceOf(BadSqlGrammarException.class);
+                assertThat(cse.getUpstream().rawMessage()).startsWith("SQLState 42");
+                assertThat(cse.getProviderContext().protocol()).isEqualTo(DataProviderContext.Protocol.JDBC);
+                assertThat(cse.getRetryInfo().attempted()).isEqualTo(1);
+                assertThat(cse.getRetryInfo().exhausted()).isFalse();
+            })
+            .verify();
+    }
+
+    @Test
+    void shouldAnswerConcurrentLookupsWithOneInQuery() {
+        ProviderLookupBatcher<String, List<Score>> scores = executor.batchedLookup(
+            holder,
+            "findScores",
+            "SELECT id, score FROM customer WHERE id IN (:ids)",
+            "ids",
+            (rs, rowNum) -> new Score(rs.getString("id"), rs.getInt("score")),
+            Score::id,
+            "Score lookup failed"
+        );
+
+        StepVerifier.create(Mono.zip(scores.lookup("C-1"), scores.lookup("C-2"), scores.lookup("C-9")))
+            .assertNext(results -> {
+                assertThat(results.getT1().data()).containsExactly(new Score("C-1", 710));
+                assertThat(results.getT2().data()).containsExactly(new Score("C-2", 655));
+                assertThat(results.getT3().data()).isEmpty();
+                assertThat(results.getT1().metadata().protocolAttributes())
+                    .containsEntry("operation", "findScores")
+                    .containsEntry(ProviderLookupBatcher.BATCH_SIZE_ATTRIBUTE, "3");
+                assertThat(results.getT1().retry().attempted()).isEqualTo(1);
+            })
+            .verifyComplete();
+    }
+
+    @Test
+    void shouldStreamRowsOnlyAsFarAsRequested() {
+        AtomicInteger mapped = new AtomicInteger();
+        AtomicReference<DataProviderContext> completed = new AtomicReference<>();
+
+        ProviderResult<Flux<Long>> result = executor.executeQueryStream(
+                holder,
+                "scanRange",
+                "SELECT X FROM SYSTEM_RANGE(1, :last)",
+                Map.of("last", 10),
+                (rs, rowNum) -> {
+                    mapped.incrementAndGet();
+                    return rs.getLong(1);
+                },
+                "Range scan failed",
+                completed::set)
+            .block();
+
+        assertThat(result.status()).isEqualTo(200);
+        assertThat(result.metadata().protocolAttributes())
+            .containsEntry("operation", "scanRange")
+            .containsEntry(JdbcCursor.ROWS_STREAMED_ATTRIBUTE, "0")
+            .containsKey(JdbcCursor.TIME_TO_FIRST_ROW_ATTRIBUTE);
+        assertThat(mapped.get()).isZero();
+
+        StepVerifier.create(result.data(), 3)
+            .expectNext(1L, 2L, 3L)
+            .then(() -> assertThat(mapped.get()).isEqualTo(3))
+            .thenRequest(Long.MAX_VALUE)
+            .expectNextCount(7)
+            .verifyComplete();
+
+        assertThat(completed.get().protocolAttributes())
+            .containsEntry(JdbcCursor.ROWS_STREAMED_ATTRIBUTE, "10")
+            .containsKey(JdbcCursor.TIME_TO_FIRST_ROW_ATTRIBUTE);
+    }
+
+    @Test
+    void shouldMapFailureWhileStreamingWithRowsStreamedSoFar() {
+        ProviderResult<Flux<Long>> result = executor.executeQueryStream(
+                holder,
+                "scanRange",
+                "SELECT X FROM SYSTEM_RANGE(1, 10)",
+                Map.of(),
+                (rs, rowNum) -> {
+                    if (rs.getLong(1) == 4) {
+                        throw new SQLException("corrupt row", "22018");
+                    }
+                    return rs.getLong(1);
+                },
+                "Range scan failed")
+            .block();
+
+        StepVerifier.create(result.data())
+            .expectNext(1L, 2L, 3L)
+            .expectErrorSatisfies(ex -> {
+                CreditSummaryDataCollectionException cse = (CreditSummaryDataCollectionException) ex;
+                assertThat(cse.getMessage()).isEqualTo("Range scan failed");
+                assertThat(cse.getUpstream().rawMessage()).startsWith("SQLState 22018");
+                assertThat(cse.getProviderContext().protocolAttributes())
+                    .containsEntry(JdbcCursor.ROWS_STREAMED_ATTRIBUTE, "3");
+            })
+            .verify();
+    }
+
+    @Test
+    void shouldCapOpenCursorsPerService() {
+        ProviderResult<Flux<Long>> first = scanRange().block();
+        ProviderResult<Flux<Long>> second = scanRange().block();
+
+        StepVerifier.create(scanRange())
+            .expectErrorSatisfies(ex -> {
+                assertThat(ex).isInstanceOf(CreditSummaryDataCollectionException.class);
+                assertThat(ex.getCause()).isInstanceOf(BulkheadFullException.class);
+                assertThat(((CreditSummaryDataCollectionException) ex).getRetryInfo().attempted()).isEqualTo(1);
+            })
+            .verify();
+
+        first.data().subscribe().dispose();
+        StepVerifier.create(scanRange().flatMapMany(ProviderResult::data))
+            .expectNextCount(10)
+            .verifyComplete();
+        StepVerifier.create(second.data())
+            .expectNextCount(10)
+            .verifyComplete();
+    }
+
+    @Test
+    void shouldFailIdleStreamAndReleaseItsCursor() {
+        ProviderResult<Flux<Long>> idle = scanRange().block();
+        ProviderResult<Flux<Long>> neverSubscribed = scanRange().block();
+
+        StepVerifier.create(idle.data(), 1)
+            .expectNext(1L)
+            .expectErrorSatisfies(ex -> assertThat(ex.getCause()).isInstanceOf(TimeoutException.class))
+            .verify(Duration.ofSeconds(5));
+        StepVerifier.create(neverSubscribed.data())
+            .expectErrorSatisfies(ex -> assertThat(ex.getCause()).isInstanceOf(TimeoutException.class))
+            .verify(Duration.ofSeconds(5));
+
+        StepVerifier.create(Flux.merge(
+                scanRange().flatMapMany(ProviderResult::data),
+                scanRange().flatMapMany(ProviderResult::data)))
+            .expectNextCount(20)
+            .verifyComplete();
+    }
+
+    @Test
+    void shouldClassifyTransientSqlStates() {
+        assertThat(SqlFailures.isTransient(new java.sql.SQLException("lost", "08S01"))).isTrue();
+        assertThat(SqlFailures.isTransient(new java.sql.SQLException("serialization", "40001"))).isTrue();
+        assertThat(SqlFailures.isTransient(new RuntimeException(new java.sql.SQLTimeoutException("slow")))).isTrue();
+        assertThat(SqlFailures.isTransient(new java.sql.SQLException("unique", "23505"))).isFalse();
+        assertThat(SqlFailures.isTransient(new IllegalStateException("bug"))).isFalse();
+    }
+
+    private Mono<ProviderResult<Flux<Long>>> scanRange() {
+        return executor.executeQueryStream(
+            holder,
+            "scanRange",
+            "SELECT X FROM SYSTEM_RANGE(1, 10)",
+            Map.of(),
+            (rs, rowNum) -> rs.getLong(1),
+            "Range scan failed");
+    }
+
+    private record Score(String id, int score) {
+    }
+}
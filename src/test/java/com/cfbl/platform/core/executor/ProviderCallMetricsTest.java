@@ -0,0 +1,71 @@
+package com.cfbl.platform.core.executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.cfbl.platform.core.exception.core.CreditSummaryBusinessException;
+import com.cfbl.platform.core.exception.core.DataProviderContext;
+import com.cfbl.platform.core.exception.core.ErrorCode;
+import com.cfbl.platform.core.integration.model.ProviderResult;
+import com.cfbl.platform.core.retry.RetryInfo;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class ProviderCallMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final ProviderCallMetrics metrics = new ProviderCallMetrics(registry);
+
+    @Test
+    void shouldTrackInFlightCallsPerName() {
+        ProviderCallMetrics.ServiceCalls calls = metrics.service("jdbc:core-db", "core-db");
+
+        long first = calls.start();
+        calls.start();
+        assertThat(metrics.inFlight("jdbc:core-db")).isEqualTo(2);
+        assertThat(registry.get("provider.calls.in.flight").tag("service", "core-db").gauge().value()).isEqualTo(2.0);
+
+        calls.recordSuccess(first, ProviderResult.success(200, "row", context(), new RetryInfo(1, 3, false, false)));
+        calls.finish();
+        calls.finish();
+
+        assertThat(metrics.inFlight("jdbc:core-db")).isZero();
+        assertThat(metrics.service("jdbc:core-db", "core-db")).isSameAs(calls);
+        assertThat(metrics.inFlight("jdbc:never-called")).isZero();
+    }
+
+    @Test
+    void shouldTagMetersFromProviderContext() {
+        ProviderCallMetrics.ServiceCalls calls = metrics.service("jdbc:core-db", "core-db");
+
+        calls.recordSuccess(calls.start(), ProviderResult.success(200, "row", context(), new RetryInfo(3, 3, true, false)));
+        calls.finish();
+        calls.recordFailure(calls.start(), new CreditSummaryBusinessException(ErrorCode.LAYER_BUSINESS_FAILURE, "bad input"));
+        calls.finish();
+        calls.recordFailure(calls.start(), new IllegalStateException("boom"));
+        calls.finish();
+
+        assertThat(registry.get("provider.calls")
+            .tags("protocol", "JDBC", "service", "core-db", "operation", "findScores", "outcome", "success")
+            .timer().count()).isEqualTo(1);
+        assertThat(registry.get("provider.call.retries").tag("operation", "findScores").counter().count())
+            .isEqualTo(2.0);
+        assertThat(registry.get("provider.call.errors")
+            .tags("operation", "unknown", "code", "LAYER_BUSINESS_FAILURE").counter().count()).isEqualTo(1.0);
+        assertThat(registry.get("provider.call.errors")
+            .tags("operation", "unknown", "code", "UNKNOWN").counter().count()).isEqualTo(1.0);
+        assertThat(registry.get("provider.calls").tags("operation", "unknown", "outcome", "failure")
+            .timer().count()).isEqualTo(2);
+    }
+
+    private static DataProviderContext context() {
+        return new DataProviderContext(
+            DataProviderContext.Protocol.JDBC,
+            "core-db",
+            "jdbc:h2:mem:core-db",
+            Map.of("operation", "findScores"),
+            12L,
+            Instant.now());
+    }
+}
@@ -2,20 +2,38 @@ package com.cfbl.platform.core.executor;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.cfbl.platform.core.config.PlatformProperties;
 import com.cfbl.platform.core.exception.core.CreditSummaryDataCollectionException;
 import com.cfbl.platform.core.exception.core.CreditSummaryPlatformException;
 import com.cfbl.platform.core.exception.core.ErrorCode;
+import com.cfbl.platform.core.hedge.HedgeSettings;
 import com.cfbl.platform.core.integration.model.ProviderResult;
+import com.cfbl.platform.core.integration.model.RawJson;
+import com.cfbl.platform.core.resilience.BulkheadPolicyExecutor;
+import com.cfbl.platform.core.resilience.BulkheadSettings;
+import com.cfbl.platform.core.resilience.CircuitBreakerPolicyExecutor;
+import com.cfbl.platform.core.resilience.ConcurrencyLimitPolicyExecutor;
+import com.cfbl.platform.core.retry.BackoffStrategy;
 import com.cfbl.platform.core.retry.RetryPolicyExecutor;
 import com.cfbl.platform.core.retry.RetrySettings;
+import com.cfbl.platform.core.retry.RetryStopReason;
+import com.cfbl.platform.core.timeout.Deadline;
+import com.cfbl.platform.core.timeout.TimeoutSettings;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.TimeoutException;
 import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.web.reactive.function.client.ClientResponse;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
@@ -156,6 +174,72 @@ class RestCallExecutorTest {
             .verify();
     }
 
+    @Test
+    void shouldCapCapturedErrorBodyAtConfiguredBytes() {
+        WebClient client = clientReturning(
+            ClientResponse.create(HttpStatus.BAD_REQUEST)
+                .header("Content-Type", MediaType.TEXT_HTML_VALUE)
+                .body("<html>" + "x".repeat(20_000) + "</html>")
+                .build()
+        );
+
+        WebClientHolder holder = new WebClientHolder(
+            "sample-api",
+            "https://example.com",
+            client,
+            new RetrySettings(false, 1, 0),
+            64
+        );
+
+        Mono<ProviderResult<String>> result = executor.executeProvider(
+            holder,
+            HttpMethod.GET,
+            "fetchSample",
+            "/sample",
+            () -> holder.webClient().get().uri("/sample"),
+            "GET failed"
+        );
+
+        StepVerifier.create(result)
+            .expectErrorSatisfies(ex -> {
+                assertThat(ex).isInstanceOf(CreditSummaryDataCollectionException.class);
+                assertThat(ex.getMessage())
+                    .isEqualTo("Upstream returned HTTP 400 Response: <html>" + "x".repeat(58) + "...");
+            })
+            .verify();
+    }
+
+    @Test
+    void shouldSkipErrorBodyCaptureWhenCapIsZero() {
+        WebClient client = clientReturning(
+            ClientResponse.create(HttpStatus.BAD_REQUEST)
+                .header("Content-Type", MediaType.TEXT_PLAIN_VALUE)
+                .body("bad request details")
+                .build()
+        );
+
+        WebClientHolder holder = new WebClientHolder(
+            "sample-api",
+            "https://example.com",
+            client,
+            new RetrySettings(false, 1, 0),
+            0
+        );
+
+        Mono<ProviderResult<String>> result = executor.executeProvider(
+            holder,
+            HttpMethod.GET,
+            "fetchSample",
+            "/sample",
+            () -> holder.webClient().get().uri("/sample"),
+            "GET failed"
+        );
+
+        StepVerifier.create(result)
+            .expectErrorSatisfies(ex -> assertThat(ex.getMessage()).isEqualTo("Upstream returned HTTP 400"))
+            .verify();
+    }
+
     @Test
     void shouldNotRetryForNotFoundStatus() {
         WebClient client = clientReturning(
@@ -324,6 +408,706 @@ class RestCallExecutorTest {
             .verify();
     }
 
+    @Test
+    void shouldDecodeTypedBodyWithoutStringBuffering() {
+        WebClient client = clientReturning(
+            ClientResponse.create(HttpStatus.OK)
+                .header("Content-Type", MediaType.APPLICATION_JSON_VALUE)
+                .body("{\"accountId\":\"A-1\",\"balance\":125}")
+                .build()
+        );
+
+        WebClientHolder holder = new WebClientHolder("credit-bureau", "https://example.com", client);
+
+        Mono<ProviderResult<Tradeline>> result = executor.executeProvider(
+            holder,
+            HttpMethod.GET,
+            "fetchTradeline",
+            "/tradelines/A-1",
+            () -> holder.webClient().get().uri("/tradelines/A-1"),
+            Tradeline.class,
+            "GET failed",
+            throwable -> false
+        );
+
+        StepVerifier.create(result)
+            .assertNext(response -> {
+                assertThat(response.status()).isEqualTo(200);
+                assertThat(response.data()).isEqualTo(new Tradeline("A-1", 125));
+                assertThat(response.metadata().protocolAttributes().get("operation")).isEqualTo("fetchTradeline");
+                assertThat(response.retry().attempted()).isEqualTo(1);
+            })
+            .verifyComplete();
+    }
+
+    @Test
+    void shouldPassJsonBodyThroughAsRawBytes() {
+        String body = "{\"accountId\":\"A-1\",\"note\":\"caf\u00e9\",\"balance\":125}";
+        WebClient client = clientReturning(
+            ClientResponse.create(HttpStatus.OK)
+                .header("Content-Type", MediaType.APPLICATION_JSON_VALUE)
+                .body(body)
+                .build()
+        );
+
+        WebClientHolder holder = new WebClientHolder("credit-bureau", "https://example.com", client);
+
+        Mono<ProviderResult<RawJson>> result = executor.executeProviderRawJson(
+            holder,
+            HttpMethod.GET,
+            "fetchTradeline",
+            "/tradelines/A-1",
+            () -> holder.webClient().get().uri("/tradelines/A-1"),
+            true,
+            "GET failed",
+            throwable -> false
+        );
+
+        StepVerifier.create(result)
+            .assertNext(response -> {
+                assertThat(response.status()).isEqualTo(200);
+                assertThat(response.data().toString()).isEqualTo(body);
+                assertThat(response.metadata().protocolAttributes().get("operation")).isEqualTo("fetchTradeline");
+            })
+            .verifyComplete();
+    }
+
+    @Test
+    void shouldFailWithoutRetryWhenRawJsonBodyIsMalformed() {
+        AtomicInteger attempts = new AtomicInteger();
+        WebClient client = WebClient.builder()
+            .exchangeFunction(request -> {
+                attempts.incrementAndGet();
+                return Mono.just(ClientResponse.create(HttpStatus.OK)
+                    .header("Content-Type", MediaType.APPLICATION_JSON_VALUE)
+                    .body("{\"accountId\":\"A-1\"")
+                    .build());
+            })
+            .build();
+
+        WebClientHolder holder = new WebClientHolder("credit-bureau", "https://example.com", client);
+
+        Mono<ProviderResult<RawJson>> result = retryingExecutor.executeProviderRawJson(
+            holder,
+            HttpMethod.GET,
+            "fetchTradeline",
+            "/tradelines/A-1",
+            () -> holder.webClient().get().uri("/tradelines/A-1"),
+            true,
+            "GET failed",
+            throwable -> false
+        );
+
+        StepVerifier.create(result)
+            .expectErrorSatisfies(error -> {
+                assertThat(error).isInstanceOf(CreditSummaryDataCollectionException.class);
+                assertThat(error.getMessage()).isEqualTo("GET failed");
+                assertThat(error.getCause()).isInstanceOf(IllegalArgumentException.class);
+            })
+            .verify();
+        assertThat(attempts).hasValue(1);
+    }
+
+    @Test
+    void shouldStreamJsonArrayElements() {
+        WebClient client = clientReturning(
+            ClientResponse.create(HttpStatus.OK)
+                .header("Content-Type", MediaType.APPLICATION_JSON_VALUE)
+                .body("[{\"accountId\":\"A-1\",\"balance\":125},{\"accountId\":\"A-2\",\"balance\":40}]")
+                .build()
+        );
+
+        WebClientHolder holder = new WebClientHolder("credit-bureau", "https://example.com", client);
+
+        Mono<ProviderResult<Flux<Tradeline>>> result = executor.executeProviderStream(
+            holder,
+            HttpMethod.GET,
+            "streamTradelines",
+            "/tradelines",
+            () -> holder.webClient().get().uri("/tradelines"),
+            Tradeline.class,
+            "GET failed",
+            throwable -> false
+        );
+
+        StepVerifier.create(result.flatMapMany(response -> {
+                assertThat(response.status()).isEqualTo(200);
+                assertThat(response.metadata().endpoint()).isEqualTo("https://example.com/tradelines");
+                assertThat(response.retry().attempted()).isEqualTo(1);
+                return response.data();
+            }))
+            .expectNext(new Tradeline("A-1", 125))
+            .expectNext(new Tradeline("A-2", 40))
+            .verifyComplete();
+    }
+
+    @Test
+    void shouldStreamNdjsonElements() {
+        WebClient client = clientReturning(
+            ClientResponse.create(HttpStatus.OK)
+                .header("Content-Type", MediaType.APPLICATION_NDJSON_VALUE)
+                .body("{\"accountId\":\"A-1\",\"balance\":125}\n{\"accountId\":\"A-2\",\"balance\":40}\n")
+                .build()
+        );
+
+        WebClientHolder holder = new WebClientHolder("credit-bureau", "https://example.com", client);
+
+        Flux<Tradeline> result = executor.executeProviderStream(
+            holder,
+            HttpMethod.GET,
+            "streamTradelines",
+            "/tradelines",
+            () -> holder.webClient().get().uri("/tradelines"),
+            Tradeline.class,
+            "GET failed",
+            throwable -> false
+        ).flatMapMany(ProviderResult::data);
+
+        StepVerifier.create(result)
+            .expectNext(new Tradeline("A-1", 125), new Tradeline("A-2", 40))
+            .verifyComplete();
+    }
+
+    @Test
+    void shouldCancelStreamBodyNotSubscribedWithinIdleTimeout() throws InterruptedException {
+        CountDownLatch bodyCancelled = new CountDownLatch(1);
+        WebClientHolder holder = idleStreamHolder(Flux.<DataBuffer>never().doOnCancel(bodyCancelled::countDown));
+
+        ProviderResult<Flux<Tradeline>> result = streamTradelines(holder).block(Duration.ofSeconds(1));
+
+        assertThat(bodyCancelled.await(1, TimeUnit.SECONDS)).isTrue();
+        StepVerifier.create(result.data())
+            .expectErrorSatisfies(ex -> {
+                assertThat(ex).isInstanceOf(CreditSummaryDataCollectionException.class);
+                assertThat(ex.getCause()).isInstanceOf(TimeoutException.class);
+            })
+            .verify(Duration.ofSeconds(1));
+    }
+
+    @Test
+    void shouldFailSubscribedStreamIdleForTimeout() {
+        AtomicBoolean bodyCancelled = new AtomicBoolean();
+        WebClientHolder holder = idleStreamHolder(Flux.<DataBuffer>never().doOnCancel(() -> bodyCancelled.set(true)));
+
+        StepVerifier.create(streamTradelines(holder).flatMapMany(ProviderResult::data))
+            .expectErrorSatisfies(ex -> {
+                assertThat(ex).isInstanceOf(CreditSummaryDataCollectionException.class);
+                assertThat(ex.getCause()).isInstanceOf(TimeoutException.class);
+            })
+            .verify(Duration.ofSeconds(1));
+        assertThat(bodyCancelled).isTrue();
+    }
+
+    @Test
+    void shouldMapNon200StreamToDataCollectionExceptionWithRetry() {
+        WebClient client = clientReturning(
+            ClientResponse.create(HttpStatus.SERVICE_UNAVAILABLE)
+                .header("Content-Type", MediaType.TEXT_PLAIN_VALUE)
+                .body("downstream unavailable")
+                .build()
+        );
+
+        WebClientHolder holder = new WebClientHolder(
+            "credit-bureau",
+            "https://example.com",
+            client,
+            new RetrySettings(true, 3, 1)
+        );
+
+        Mono<ProviderResult<Flux<Tradeline>>> result = retryingExecutor.executeProviderStream(
+            holder,
+            HttpMethod.GET,
+            "streamTradelines",
+            "/tradelines",
+            () -> holder.webClient().get().uri("/tradelines"),
+            Tradeline.class,
+            "GET failed",
+            throwable -> false
+        );
+
+        StepVerifier.create(result)
+            .expectErrorSatisfies(ex -> {
+                assertThat(ex).isInstanceOf(CreditSummaryDataCollectionException.class);
+                CreditSummaryDataCollectionException cse = (CreditSummaryDataCollectionException) ex;
+                assertThat(cse.getMessage()).contains("HTTP 503");
+                assertThat(cse.getUpstream().httpStatus()).isEqualTo(503);
+                assertThat(cse.getRetryInfo().attempted()).isEqualTo(3);
+                assertThat(cse.getRetryInfo().exhausted()).isTrue();
+            })
+            .verify();
+    }
+
+    @Test
+    void shouldApplyAttemptTimeoutFromHolder() {
+        WebClient client = WebClient.builder()
+            .baseUrl("https://example.com")
+            .exchangeFunction(request -> Mono.never())
+            .build();
+        WebClientHolder holder = new WebClientHolder(
+            "sample-api",
+            "https://example.com",
+            client,
+            new RetrySettings(false, 1, 0),
+            UpstreamErrorBody.DEFAULT_MAX_BYTES,
+            new TimeoutSettings(0, 0, 50, 0)
+        );
+
+        Mono<ProviderResult<String>> result = executor.executeProvider(
+            holder,
+            HttpMethod.GET,
+            "fetchSample",
+            "/sample",
+            () -> holder.webClient().get().uri("/sample"),
+            "GET failed"
+        );
+
+        StepVerifier.create(result)
+            .expectErrorSatisfies(ex -> {
+                assertThat(ex).isInstanceOf(CreditSummaryDataCollectionException.class);
+                assertThat(ex.getCause()).isInstanceOf(TimeoutException.class);
+            })
+            .verify(Duration.ofSeconds(1));
+    }
+
+    @Test
+    void shouldStopRetryingWhenDeadlineBudgetIsTooSmall() {
+        AtomicInteger attempts = new AtomicInteger();
+        WebClient client = WebClient.builder()
+            .baseUrl("https://example.com")
+            .exchangeFunction(request -> {
+                attempts.incrementAndGet();
+                return Mono.just(ClientResponse.create(HttpStatus.SERVICE_UNAVAILABLE).build());
+            })
+            .build();
+        WebClientHolder holder = new WebClientHolder(
+            "sample-api",
+            "https://example.com",
+            client,
+            new RetrySettings(true, 5, 500)
+        );
+
+        Mono<ProviderResult<String>> result = executor.executeProvider(
+                holder,
+                HttpMethod.GET,
+                "fetchSample",
+                "/sample",
+                () -> holder.webClient().get().uri("/sample"),
+                "GET failed"
+            )
+            .contextWrite(Deadline.after(Duration.ofMillis(200))::putInto);
+
+        StepVerifier.create(result)
+            .expectErrorSatisfies(ex -> {
+                assertThat(ex).isInstanceOf(CreditSummaryDataCollectionException.class);
+                CreditSummaryDataCollectionException cse = (CreditSummaryDataCollectionException) ex;
+                assertThat(cse.getUpstream().httpStatus()).isEqualTo(503);
+                assertThat(cse.getRetryInfo().attempted()).isEqualTo(1);
+                assertThat(cse.getRetryInfo().exhausted()).isFalse();
+                assertThat(cse.getRetryInfo().stopReason()).isEqualTo(RetryStopReason.DEADLINE);
+            })
+            .verify(Duration.ofSeconds(1));
+        assertThat(attempts.get()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldCaptureRetryAfterAndStopWhenItExceedsDeadline() {
+        AtomicInteger attempts = new AtomicInteger();
+        WebClient client = WebClient.builder()
+            .baseUrl("https://example.com")
+            .exchangeFunction(request -> {
+                attempts.incrementAndGet();
+                return Mono.just(ClientResponse.create(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header("Retry-After", "5")
+                    .build());
+            })
+            .build();
+        WebClientHolder holder = new WebClientHolder(
+            "sample-api",
+            "https://example.com",
+            client,
+            new RetrySettings(true, 3, 1)
+        );
+
+        Mono<ProviderResult<String>> result = executor.executeProvider(
+                holder,
+                HttpMethod.GET,
+                "fetchSample",
+                "/sample",
+                () -> holder.webClient().get().uri("/sample"),
+                "GET failed"
+            )
+            .contextWrite(Deadline.after(Duration.ofSeconds(1))::putInto);
+
+        StepVerifier.create(result)
+            .expectErrorSatisfies(ex -> {
+                CreditSummaryDataCollectionException cse = (CreditSummaryDataCollectionException) ex;
+                assertThat(cse.getUpstream().retryAfterMs()).isEqualTo(5000L);
+                assertThat(cse.getRetryInfo().attempted()).isEqualTo(1);
+                assertThat(cse.getRetryInfo().stopReason()).isEqualTo(RetryStopReason.DEADLINE);
+            })
+            .verify(Duration.ofSeconds(2));
+        assertThat(attempts.get()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotSleepPastDeadlineOnJitteredWait() {
+        AtomicInteger attempts = new AtomicInteger();
+        WebClient client = WebClient.builder()
+            .baseUrl("https://example.com")
+            .exchangeFunction(request -> {
+                attempts.incrementAndGet();
+                return Mono.just(ClientResponse.create(HttpStatus.SERVICE_UNAVAILABLE).build());
+            })
+            .build();
+        // Waits grow by up to 3x per retry, so the drawn waits soon exceed the remaining budget.
+        WebClientHolder holder = new WebClientHolder(
+            "sample-api",
+            "https://example.com",
+            client,
+            new RetrySettings(true, 20, 100, BackoffStrategy.DECORRELATED_JITTER, 2.0, 10_000, false)
+        );
+
+        Mono<ProviderResult<String>> result = executor.executeProvider(
+                holder,
+                HttpMethod.GET,
+                "fetchSample",
+                "/sample",
+                () -> holder.webClient().get().uri("/sample"),
+                "GET failed"
+            )
+            .contextWrite(Deadline.after(Duration.ofMillis(700))::putInto);
+
+        Duration elapsed = StepVerifier.create(result)
+            .expectErrorSatisfies(ex -> {
+                CreditSummaryDataCollectionException cse = (CreditSummaryDataCollectionException) ex;
+                assertThat(cse.getUpstream().httpStatus()).isEqualTo(503);
+                assertThat(cse.getRetryInfo().stopReason()).isEqualTo(RetryStopReason.DEADLINE);
+            })
+            .verify(Duration.ofSeconds(2));
+
+        assertThat(elapsed).isLessThan(Duration.ofMillis(700));
+        assertThat(attempts.get()).isGreaterThan(1);
+    }
+
+    @Test
+    void shouldFailFastWhenDeadlineAlreadyExpired() {
+        AtomicInteger attempts = new AtomicInteger();
+        WebClient client = WebClient.builder()
+            .baseUrl("https://example.com")
+            .exchangeFunction(request -> {
+                attempts.incrementAndGet();
+                return Mono.just(ClientResponse.create(HttpStatus.OK).build());
+            })
+            .build();
+        WebClientHolder holder = new WebClientHolder("sample-api", "https://example.com", client);
+
+        Mono<ProviderResult<String>> result = executor.executeProvider(
+                holder,
+                HttpMethod.GET,
+                "fetchSample",
+                "/sample",
+                () -> holder.webClient().get().uri("/sample"),
+                "GET failed"
+            )
+            .contextWrite(Deadline.after(Duration.ZERO)::putInto);
+
+        StepVerifier.create(result)
+            .expectErrorSatisfies(ex -> {
+                assertThat(ex).isInstanceOf(CreditSummaryDataCollectionException.class);
+                assertThat(ex.getCause()).isInstanceOf(TimeoutException.class);
+                CreditSummaryDataCollectionException cse = (CreditSummaryDataCollectionException) ex;
+                assertThat(cse.getRetryInfo().stopReason()).isEqualTo(RetryStopReason.DEADLINE);
+                assertThat(cse.getRetryInfo().attempted()).isEqualTo(1);
+            })
+            .verify();
+        assertThat(attempts.get()).isZero();
+    }
+
+    @Test
+    void shouldReturnHedgedResponseAndCancelSlowPrimary() {
+        AtomicInteger attempts = new AtomicInteger();
+        AtomicBoolean primaryCancelled = new AtomicBoolean();
+        WebClient client = WebClient.builder()
+            .baseUrl("https://example.com")
+            .exchangeFunction(request -> {
+                if (attempts.incrementAndGet() == 1) {
+                    return Mono.delay(Duration.ofSeconds(2))
+                        .map(tick -> ClientResponse.create(HttpStatus.OK).body("slow").build())
+                        .doOnCancel(() -> primaryCancelled.set(true));
+                }
+                return Mono.just(
+                    ClientResponse.create(HttpStatus.OK)
+                        .header("Content-Type", MediaType.TEXT_PLAIN_VALUE)
+                        .body("hedged")
+                        .build()
+                );
+            })
+            .build();
+        WebClientHolder holder = hedgingHolder(client);
+
+        Mono<ProviderResult<String>> result = executor.executeProvider(
+            holder,
+            HttpMethod.GET,
+            "fetchSample",
+            "/sample",
+            () -> holder.webClient().get().uri("/sample"),
+            "GET failed"
+        );
+
+        StepVerifier.create(result)
+            .assertNext(response -> {
+                assertThat(response.data()).isEqualTo("hedged");
+                assertThat(response.metadata().protocolAttributes())
+                    .containsEntry(RestCallExecutor.HEDGE_ATTRIBUTE, "won");
+                assertThat(response.retry().attempted()).isEqualTo(1);
+            })
+            .verifyComplete();
+        assertThat(attempts.get()).isEqualTo(2);
+        // Cancellation of the loser may complete on another thread just after the winner is emitted.
+        StepVerifier.create(Mono.fromSupplier(primaryCancelled::get)
+                .filter(Boolean::booleanValue)
+                .repeatWhenEmpty(50, ticks -> ticks.delayElements(Duration.ofMillis(10))))
+            .expectNext(true)
+            .verifyComplete();
+    }
+
+    @Test
+    void shouldNotHedgeFastResponsesOrNonIdempotentMethods() {
+        AtomicInteger attempts = new AtomicInteger();
+        WebClient client = WebClient.builder()
+            .baseUrl("https://example.com")
+            .exchangeFunction(request -> {
+                attempts.incrementAndGet();
+                Mono<ClientResponse> response = Mono.just(ClientResponse.create(HttpStatus.OK).body("ok").build());
+                return request.method() == HttpMethod.POST ? response.delayElement(Duration.ofMillis(100)) : response;
+            })
+            .build();
+        WebClientHolder holder = hedgingHolder(client);
+
+        StepVerifier.create(executor.executeProvider(
+                holder,
+                HttpMethod.GET,
+                "fetchSample",
+                "/sample",
+                () -> holder.webClient().get().uri("/sample"),
+                "GET failed"
+            ))
+            .assertNext(response -> assertThat(response.metadata().protocolAttributes())
+                .doesNotContainKey(RestCallExecutor.HEDGE_ATTRIBUTE))
+            .verifyComplete();
+        StepVerifier.create(executor.executeProvider(
+                holder,
+                HttpMethod.POST,
+                "createSample",
+                "/sample",
+                () -> holder.webClient().post().uri("/sample").bodyValue("{}"),
+                "POST failed"
+            ))
+            .expectNextCount(1)
+            .verifyComplete();
+
+        assertThat(attempts.get()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldWaitForHedgeWhenPrimaryFailsWithRetryableStatus() {
+        AtomicInteger attempts = new AtomicInteger();
+        WebClient client = WebClient.builder()
+            .baseUrl("https://example.com")
+            .exchangeFunction(request -> {
+                if (attempts.incrementAndGet() == 1) {
+                    return Mono.delay(Duration.ofMillis(60))
+                        .map(tick -> ClientResponse.create(HttpStatus.SERVICE_UNAVAILABLE).build());
+                }
+                return Mono.delay(Duration.ofMillis(80))
+                    .map(tick -> ClientResponse.create(HttpStatus.OK).body("hedged").build());
+            })
+            .build();
+        WebClientHolder holder = hedgingHolder(client);
+
+        StepVerifier.create(executor.executeProvider(
+                holder,
+                HttpMethod.GET,
+                "fetchSample",
+                "/sample",
+                () -> holder.webClient().get().uri("/sample"),
+                "GET failed"
+            ))
+            .assertNext(response -> {
+                assertThat(response.data()).isEqualTo("hedged");
+                assertThat(response.retry().attempted()).isEqualTo(1);
+            })
+            .verifyComplete();
+        assertThat(attempts.get()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldTakeOwnBulkheadSlotForHedge() {
+        BulkheadPolicyExecutor bulkheadExecutor = bulkheadFor("sample-api", 2);
+        RestCallExecutor boundedExecutor = new RestCallExecutor(
+            new RetryPolicyExecutor(), new CircuitBreakerPolicyExecutor(), bulkheadExecutor);
+        AtomicInteger attempts = new AtomicInteger();
+        AtomicInteger inFlightAtHedge = new AtomicInteger();
+        WebClient client = WebClient.builder()
+            .baseUrl("https://example.com")
+            .exchangeFunction(request -> {
+                if (attempts.incrementAndGet() == 1) {
+                    return Mono.delay(Duration.ofSeconds(2))
+                        .map(tick -> ClientResponse.create(HttpStatus.OK).body("slow").build());
+                }
+                inFlightAtHedge.set(bulkheadExecutor.inFlight("rest:sample-api"));
+                return Mono.just(ClientResponse.create(HttpStatus.OK).body("hedged").build());
+            })
+            .build();
+        WebClientHolder holder = hedgingHolder(client);
+
+        StepVerifier.create(boundedExecutor.executeProvider(
+                holder,
+                HttpMethod.GET,
+                "fetchSample",
+                "/sample",
+                () -> holder.webClient().get().uri("/sample"),
+                "GET failed"
+            ))
+            .assertNext(response -> assertThat(response.data()).isEqualTo("hedged"))
+            .verifyComplete();
+        assertThat(inFlightAtHedge.get()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldSkipHedgeWhenBulkheadIsFull() {
+        BulkheadPolicyExecutor bulkheadExecutor = bulkheadFor("sample-api", 1);
+        RestCallExecutor boundedExecutor = new RestCallExecutor(
+            new RetryPolicyExecutor(), new CircuitBreakerPolicyExecutor(), bulkheadExecutor);
+        AtomicInteger attempts = new AtomicInteger();
+        WebClient client = WebClient.builder()
+            .baseUrl("https://example.com")
+            .exchangeFunction(request -> {
+                attempts.incrementAndGet();
+                return Mono.delay(Duration.ofMillis(150))
+                    .map(tick -> ClientResponse.create(HttpStatus.OK).body("primary").build());
+            })
+            .build();
+        WebClientHolder holder = hedgingHolder(client);
+
+        StepVerifier.create(boundedExecutor.executeProvider(
+                holder,
+                HttpMethod.GET,
+                "fetchSample",
+                "/sample",
+                () -> holder.webClient().get().uri("/sample"),
+                "GET failed"
+            ))
+            .assertNext(response -> {
+                assertThat(response.data()).isEqualTo("primary");
+                assertThat(response.metadata().protocolAttributes())
+                    .doesNotContainKey(RestCallExecutor.HEDGE_ATTRIBUTE);
+            })
+            .verifyComplete();
+        assertThat(attempts.get()).isEqualTo(1);
+        assertThat(bulkheadExecutor.inFlight("rest:sample-api")).isZero();
+    }
+
+    @Test
+    void shouldNotHedgeStreamingCalls() {
+        AtomicInteger attempts = new AtomicInteger();
+        WebClient client = WebClient.builder()
+            .baseUrl("https://example.com")
+            .exchangeFunction(request -> {
+                attempts.incrementAndGet();
+                return Mono.delay(Duration.ofMillis(100))
+                    .map(tick -> ClientResponse.create(HttpStatus.OK)
+                        .header("Content-Type", MediaType.APPLICATION_JSON_VALUE)
+                        .body("[{\"accountId\":\"A-1\",\"balance\":125}]")
+                        .build());
+            })
+            .build();
+        WebClientHolder holder = hedgingHolder(client);
+
+        StepVerifier.create(executor.executeProviderStream(
+                    holder,
+                    HttpMethod.GET,
+                    "streamTradelines",
+                    "/tradelines",
+                    () -> holder.webClient().get().uri("/tradelines"),
+                    Tradeline.class,
+                    "GET failed",
+                    throwable -> false
+                ).flatMapMany(ProviderResult::data))
+            .expectNext(new Tradeline("A-1", 125))
+            .verifyComplete();
+        assertThat(attempts.get()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRecordCallMetricsPerServiceAndOperation() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        RestCallExecutor meteredExecutor = new RestCallExecutor(
+            new RetryPolicyExecutor(),
+            new CircuitBreakerPolicyExecutor(),
+            new BulkheadPolicyExecutor(),
+            new ConcurrencyLimitPolicyExecutor(),
+            new ProviderCallMetrics(registry)
+        );
+        AtomicInteger attempts = new AtomicInteger();
+        WebClient client = WebClient.builder()
+            .baseUrl("https://example.com")
+            .exchangeFunction(request -> Mono.just(attempts.incrementAndGet() == 2
+                ? ClientResponse.create(HttpStatus.OK).body("ok").build()
+                : ClientResponse.create(HttpStatus.SERVICE_UNAVAILABLE).build()))
+            .build();
+        WebClientHolder holder = new WebClientHolder(
+            "metrics-api", "https://example.com", client, new RetrySettings(true, 2, 1));
+
+        StepVerifier.create(meteredExecutor.executeProvider(
+                holder, HttpMethod.GET, "fetchScore", "/score", () -> holder.webClient().get().uri("/score"), "GET failed"))
+            .expectNextCount(1)
+            .verifyComplete();
+        StepVerifier.create(meteredExecutor.executeProvider(
+                holder, HttpMethod.GET, "fetchScore", "/score", () -> holder.webClient().get().uri("/score"), "GET failed"))
+            .expectError(CreditSummaryDataCollectionException.class)
+            .verify();
+
+        assertThat(registry.get("provider.calls")
+            .tags("protocol", "REST", "service", "metrics-api", "operation", "fetchScore", "outcome", "success")
+            .timer().count()).isEqualTo(1);
+        assertThat(registry.get("provider.calls").tag("outcome", "failure").timer().count()).isEqualTo(1);
+        assertThat(registry.get("provider.call.attempts").counter().count()).isEqualTo(4.0);
+        assertThat(registry.get("provider.call.retries").counter().count()).isEqualTo(2.0);
+        assertThat(registry.get("provider.call.exhausted").counter().count()).isEqualTo(1.0);
+        assertThat(registry.get("provider.call.errors").tag("code", "LAYER_DATA_COLLECTION_FAILURE")
+            .counter().count()).isEqualTo(1.0);
+        assertThat(registry.get("provider.calls.in.flight").tags("name", "rest:metrics-api").gauge().value())
+            .isZero();
+    }
+
+    private WebClientHolder idleStreamHolder(Flux<DataBuffer> body) {
+        return new WebClientHolder(
+            "credit-bureau",
+            "https://example.com",
+            clientReturning(ClientResponse.create(HttpStatus.OK)
+                .header("Content-Type", MediaType.APPLICATION_NDJSON_VALUE)
+                .body(body)
+                .build()),
+            new RetrySettings(false, 1, 0),
+            UpstreamErrorBody.DEFAULT_MAX_BYTES,
+            new TimeoutSettings(0, 0, 0, 0, 100)
+        );
+    }
+
+    private Mono<ProviderResult<Flux<Tradeline>>> streamTradelines(WebClientHolder holder) {
+        return executor.executeProviderStream(
+            holder,
+            HttpMethod.GET,
+            "streamTradelines",
+            "/tradelines",
+            () -> holder.webClient().get().uri("/tradelines"),
+            Tradeline.class,
+            "GET failed",
+            throwable -> false
+        );
+    }
+
     private WebClient clientReturning(ClientResponse response) {
         return WebClient.builder()
             .baseUrl("https://example.com")
@@ -331,10 +1115,33 @@ class RestCallExecutorTest {
             .build();
     }
 
+    private WebClientHolder hedgingHolder(WebClient client) {
+        return new WebClientHolder(
+            "sample-api",
+            "https://example.com",
+            client,
+            new RetrySettings(false, 1, 0),
+            UpstreamErrorBody.DEFAULT_MAX_BYTES,
+            TimeoutSettings.defaults(),
+            new HedgeSettings(true, 0.95, 20, 20, 20)
+        );
+    }
+
+    private BulkheadPolicyExecutor bulkheadFor(String serviceId, int maxConcurrentCalls) {
+        PlatformProperties.ServiceDefinition service = new PlatformProperties.ServiceDefinition();
+        service.setBulkhead(new BulkheadSettings(true, maxConcurrentCalls, 0));
+        PlatformProperties properties = new PlatformProperties();
+        properties.getServices().put(serviceId, service);
+        return new BulkheadPolicyExecutor(properties, new SimpleMeterRegistry());
+    }
+
     private WebClient clientFailing(Throwable throwable) {
         return WebClient.builder()
             .baseUrl("https://example.com")
             .exchangeFunction(request -> Mono.error(throwable))
             .build();
     }
+
+    private record Tradeline(String accountId, int balance) {
+    }
 }
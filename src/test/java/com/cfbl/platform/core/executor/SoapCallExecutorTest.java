@@ -2,13 +2,42 @@ package com.cfbl.platform.core.executor;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.cfbl.platform.core.concurrent.BlockingCallOffloader;
+import com.cfbl.platform.core.concurrent.OffloadMode;
+import com.cfbl.platform.core.concurrent.OffloadSettings;
+import com.cfbl.platform.core.config.PlatformProperties;
 import com.cfbl.platform.core.exception.core.CreditSummaryDataCollectionException;
 import com.cfbl.platform.core.integration.model.ProviderResult;
+import com.cfbl.platform.core.resilience.BulkheadPolicyExecutor;
+import com.cfbl.platform.core.resilience.BulkheadSettings;
+import com.cfbl.platform.core.resilience.CircuitBreakerPolicyExecutor;
+import com.cfbl.platform.core.resilience.CircuitBreakerSettings;
+import com.cfbl.platform.core.resilience.ConcurrencyLimitPolicyExecutor;
+import com.cfbl.platform.core.retry.BackoffStrategy;
+import com.cfbl.platform.core.retry.RetryBudgetSettings;
+import com.cfbl.platform.core.retry.RetryPolicies;
 import com.cfbl.platform.core.retry.RetryPolicyExecutor;
 import com.cfbl.platform.core.retry.RetrySettings;
+import com.cfbl.platform.core.retry.RetryStopReason;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.Test;
+import org.springframework.boot.http.client.HttpClientSettings;
+import org.springframework.boot.http.client.reactive.ClientHttpConnectorBuilder;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
@@ -128,4 +157,442 @@ class SoapCallExecutorTest {
             })
             .verify();
     }
+
+    @Test
+    void shouldMarkRetryInfoWhenRetryBudgetIsExhausted() {
+        AtomicInteger attempts = new AtomicInteger();
+        RetrySettings budgeted = new RetrySettings(
+            true, 3, 1, BackoffStrategy.FIXED, 2.0, 0, false, new RetryBudgetSettings(true, 0.1, 0, 10_000)
+        );
+
+        StepVerifier.create(executor.executeProvider(
+                "budget-soap",
+                "https://soap.example.com/service",
+                "getCreditScore",
+                () -> {
+                    attempts.incrementAndGet();
+                    throw new RuntimeException(new TimeoutException("soap timeout"));
+                },
+                "SOAP call failed",
+                budgeted,
+                throwable -> false))
+            .expectErrorSatisfies(ex -> {
+                CreditSummaryDataCollectionException cse = (CreditSummaryDataCollectionException) ex;
+                assertThat(cse.getMessage()).isEqualTo("SOAP call failed");
+                assertThat(cse.getRetryInfo().attempted()).isEqualTo(1);
+                assertThat(cse.getRetryInfo().exhausted()).isFalse();
+                assertThat(cse.getRetryInfo().stopReason()).isEqualTo(RetryStopReason.BUDGET);
+            })
+            .verify();
+        assertThat(attempts.get()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldFailFastWhenCircuitBreakerIsOpenAndCloseAfterHalfOpenProbe() throws InterruptedException {
+        SoapCallExecutor breakingExecutor = new SoapCallExecutor(
+            new RetryPolicyExecutor(),
+            new CircuitBreakerPolicyExecutor(propertiesWithBreaker("bureau-soap"))
+        );
+        AtomicInteger calls = new AtomicInteger();
+        AtomicBoolean upstreamDown = new AtomicBoolean(true);
+        RetrySettings retrySettings = new RetrySettings(true, 3, 1);
+
+        for (int i = 0; i < 2; i++) {
+            StepVerifier.create(breakingExecutor.executeProvider(
+                    "bureau-soap",
+                    "https://soap.example.com/service",
+                    "getCreditScore",
+                    () -> flakyCall(calls, upstreamDown),
+                    "SOAP call failed",
+                    retrySettings,
+                    throwable -> false))
+                .expectError(CreditSummaryDataCollectionException.class)
+                .verify();
+        }
+        int callsWhenOpened = calls.get();
+
+        StepVerifier.create(breakingExecutor.executeProvider(
+                "bureau-soap",
+                "https://soap.example.com/service",
+                "getCreditScore",
+                () -> flakyCall(calls, upstreamDown),
+                "SOAP call failed",
+                retrySettings,
+                throwable -> false))
+            .expectErrorSatisfies(ex -> {
+                CreditSummaryDataCollectionException cse = (CreditSummaryDataCollectionException) ex;
+                assertThat(cse.getMessage()).isEqualTo("Circuit breaker is open for soap:bureau-soap");
+                assertThat(cse.getUpstream().circuitBreakerState()).isEqualTo("OPEN");
+                assertThat(cse.getProviderContext().serviceId()).isEqualTo("bureau-soap");
+                assertThat(cse.getRetryInfo().attempted()).isEqualTo(1);
+                assertThat(cse.getRetryInfo().stopReason()).isEqualTo(RetryStopReason.CIRCUIT_OPEN);
+            })
+            .verify();
+        assertThat(calls.get()).isEqualTo(callsWhenOpened);
+
+        upstreamDown.set(false);
+        Thread.sleep(150);
+        StepVerifier.create(breakingExecutor.executeProvider(
+                "bureau-soap",
+                "https://soap.example.com/service",
+                "getCreditScore",
+                () -> flakyCall(calls, upstreamDown),
+                "SOAP call failed",
+                retrySettings,
+                throwable -> false))
+            .assertNext(response -> assertThat(response.data()).isEqualTo("score-ok"))
+            .verifyComplete();
+        StepVerifier.create(breakingExecutor.executeProvider(
+                "bureau-soap",
+                "https://soap.example.com/service",
+                "getCreditScore",
+                () -> flakyCall(calls, upstreamDown),
+                "SOAP call failed",
+                retrySettings,
+                throwable -> false))
+            .expectNextCount(1)
+            .verifyComplete();
+    }
+
+    @Test
+    void shouldRejectImmediatelyWhenBulkheadIsFull() throws InterruptedException {
+        PlatformProperties.ServiceDefinition service = new PlatformProperties.ServiceDefinition();
+        service.setBulkhead(new BulkheadSettings(true, 1, 0));
+        PlatformProperties properties = new PlatformProperties();
+        properties.getServices().put("bureau-soap", service);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        BulkheadPolicyExecutor bulkheadExecutor = new BulkheadPolicyExecutor(properties, meterRegistry);
+        SoapCallExecutor boundedExecutor = new SoapCallExecutor(
+            new RetryPolicyExecutor(),
+            new CircuitBreakerPolicyExecutor(properties),
+            bulkheadExecutor
+        );
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+
+        Disposable slow = boundedExecutor.executeProvider(
+                "bureau-soap",
+                "https://soap.example.com/service",
+                "getCreditScore",
+                () -> {
+                    started.countDown();
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return "slow";
+                },
+                "SOAP call failed",
+                new RetrySettings(true, 3, 1),
+                throwable -> true)
+            .subscribe();
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(bulkheadExecutor.inFlight("soap:bureau-soap")).isEqualTo(1);
+
+        StepVerifier.create(boundedExecutor.executeProvider(
+                "bureau-soap",
+                "https://soap.example.com/service",
+                "getCreditScore",
+                () -> calls.incrementAndGet(),
+                "SOAP call failed",
+                new RetrySettings(true, 3, 1),
+                throwable -> true))
+            .expectErrorSatisfies(ex -> {
+                CreditSummaryDataCollectionException cse = (CreditSummaryDataCollectionException) ex;
+                assertThat(cse.getMessage()).isEqualTo("Bulkhead is full for soap:bureau-soap");
+                assertThat(cse.getRetryInfo().attempted()).isEqualTo(1);
+                assertThat(cse.getRetryInfo().stopReason()).isEqualTo(RetryStopReason.BULKHEAD_FULL);
+            })
+            .verify();
+        assertThat(calls.get()).isZero();
+        assertThat(meterRegistry.get("provider.bulkhead.rejected").tag("name", "soap:bureau-soap").counter().count())
+            .isEqualTo(1.0);
+
+        release.countDown();
+        StepVerifier.create(Mono.fromSupplier(() -> bulkheadExecutor.inFlight("soap:bureau-soap"))
+                .filter(inFlight -> inFlight == 0)
+                .repeatWhenEmpty(50, repeat -> repeat.delayElements(Duration.ofMillis(10))))
+            .expectNext(0)
+            .verifyComplete();
+        slow.dispose();
+    }
+
+    @Test
+    void shouldOffloadPortCallAndFailFastWhenOffloadLaneIsSaturated() throws InterruptedException {
+        PlatformProperties.ServiceDefinition service = new PlatformProperties.ServiceDefinition();
+        service.setOffload(new OffloadSettings(OffloadMode.BOUNDED_ELASTIC, 1, 0));
+        PlatformProperties properties = new PlatformProperties();
+        properties.getServices().put("bureau-soap", service);
+        BlockingCallOffloader offloader = new BlockingCallOffloader(properties, new SimpleMeterRegistry());
+        SoapCallExecutor offloadingExecutor = new SoapCallExecutor(
+            new RetryPolicyExecutor(),
+            new CircuitBreakerPolicyExecutor(properties),
+            new BulkheadPolicyExecutor(properties, new SimpleMeterRegistry()),
+            new ConcurrencyLimitPolicyExecutor(),
+            offloader
+        );
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        Thread caller = Thread.currentThread();
+
+        Disposable slow = offloadingExecutor.executeProvider(
+                "bureau-soap",
+                "https://soap.example.com/service",
+                "getCreditScore",
+                () -> {
+                    started.countDown();
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return Thread.currentThread() != caller;
+                },
+                "SOAP call failed")
+            .subscribe();
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(offloader.activeCount("soap:bureau-soap")).isEqualTo(1);
+
+        StepVerifier.create(offloadingExecutor.executeProvider(
+                "bureau-soap",
+                "https://soap.example.com/service",
+                "getCreditScore",
+                () -> calls.incrementAndGet(),
+                "SOAP call failed",
+                new RetrySettings(true, 3, 1),
+                throwable -> false))
+            .expectErrorSatisfies(ex -> {
+                CreditSummaryDataCollectionException cse = (CreditSummaryDataCollectionException) ex;
+                assertThat(cse.getMessage()).isEqualTo("Offload queue is full for soap:bureau-soap");
+                assertThat(cse.getRetryInfo().attempted()).isEqualTo(1);
+                assertThat(cse.getRetryInfo().exhausted()).isFalse();
+            })
+            .verify();
+        assertThat(calls.get()).isZero();
+        assertThat(offloader.rejectedCount("soap:bureau-soap")).isEqualTo(1);
+
+        release.countDown();
+        slow.dispose();
+    }
+
+    @Test
+    void shouldStreamRepeatedBodyElementsFromEnvelope() {
+        AtomicInteger requests = new AtomicInteger();
+        SoapServiceHolder holder = soapHolder(requests, HttpStatus.OK,
+            "<soap:Envelope xmlns:soap=\"http://schemas.xmlsoap.org/soap/envelope/\"><soap:Body>"
+                + "<report><tradelines>"
+                + "<tradeline><accountId>A-1</accountId><balance>125</balance></tradeline>"
+                + "<tradeline><accountId>A-2</accountId><balance>40</balance></tradeline>"
+                + "</tradelines></report></soap:Body></soap:Envelope>");
+
+        Mono<ProviderResult<Flux<Map<String, String>>>> result = executor.executeProviderStream(
+            holder,
+            "getCreditReport",
+            "<getCreditReport><customerId>C-1</customerId></getCreditReport>",
+            "tradeline",
+            SoapElementReader.childText(),
+            "SOAP call failed",
+            throwable -> false
+        );
+
+        StepVerifier.create(result.flatMapMany(response -> {
+                assertThat(response.status()).isEqualTo(200);
+                assertThat(response.metadata().endpoint()).isEqualTo("https://soap.example.com/service");
+                assertThat(response.metadata().protocolAttributes().get("soapAction")).isEqualTo("urn:getCreditReport");
+                assertThat(response.retry().attempted()).isEqualTo(1);
+                return response.data();
+            }))
+            .expectNext(Map.of("accountId", "A-1", "balance", "125"))
+            .expectNext(Map.of("accountId", "A-2", "balance", "40"))
+            .verifyComplete();
+        assertThat(requests.get()).isEqualTo(1);
+        assertThat(holder.http().retryPolicy())
+            .isSameAs(RetryPolicies.shared("soap:").forService("bureau-soap", new RetrySettings(true, 3, 1)));
+    }
+
+    @Test
+    void shouldMapClientFaultResponseWithoutRetrying() {
+        AtomicInteger requests = new AtomicInteger();
+        SoapServiceHolder holder = soapHolder(requests, HttpStatus.INTERNAL_SERVER_ERROR,
+            "<soap:Envelope xmlns:soap=\"http://schemas.xmlsoap.org/soap/envelope/\"><soap:Body><soap:Fault>"
+                + "<faultcode>soap:Client</faultcode><faultstring>Unknown customer</faultstring>"
+                + "</soap:Fault></soap:Body></soap:Envelope>");
+
+        StepVerifier.create(retryingExecutor.executeProviderStream(
+                holder,
+                "getCreditReport",
+                "<getCreditReport/>",
+                "tradeline",
+                SoapElementReader.childText(),
+                "SOAP call failed",
+                throwable -> false))
+            .expectErrorSatisfies(ex -> {
+                CreditSummaryDataCollectionException cse = (CreditSummaryDataCollectionException) ex;
+                assertThat(cse.getMessage()).isEqualTo("SOAP fault soap:Client: Unknown customer");
+                assertThat(cse.getUpstream().httpStatus()).isEqualTo(500);
+                assertThat(cse.getCause()).isInstanceOf(SoapFaultException.class);
+                assertThat(cse.getRetryInfo().attempted()).isEqualTo(1);
+            })
+            .verify();
+        assertThat(requests.get()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldMapFaultLargerThanErrorBodyCap() {
+        SoapServiceHolder holder = soapHolder(new AtomicInteger(), HttpStatus.INTERNAL_SERVER_ERROR,
+            "<soap:Envelope xmlns:soap=\"http://schemas.xmlsoap.org/soap/envelope/\"><soap:Body><soap:Fault>"
+                + "<faultcode>soap:Client</faultcode><faultstring>Invalid request</faultstring>"
+                + "<detail><trace>" + "x".repeat(64 * 1024) + "</trace></detail>"
+                + "</soap:Fault></soap:Body></soap:Envelope>");
+
+        StepVerifier.create(retryingExecutor.executeProviderStream(
+                holder,
+                "getCreditReport",
+                "<getCreditReport/>",
+                "tradeline",
+                SoapElementReader.childText(),
+                "SOAP call failed",
+                throwable -> false))
+            .expectErrorSatisfies(ex -> {
+                assertThat(ex.getMessage()).isEqualTo("SOAP fault soap:Client: Invalid request");
+                assertThat(ex.getCause()).isInstanceOf(SoapFaultException.class);
+            })
+            .verify();
+    }
+
+    @Test
+    void shouldCutFaultReasonToErrorBodyCap() {
+        AtomicInteger requests = new AtomicInteger();
+        SoapServiceHolder holder = soapHolder(requests, HttpStatus.INTERNAL_SERVER_ERROR,
+            "<soap:Envelope xmlns:soap=\"http://schemas.xmlsoap.org/soap/envelope/\"><soap:Body><soap:Fault>"
+                + "<faultcode>soap:Client</faultcode><faultstring>" + "y".repeat(64 * 1024) + "</faultstring>"
+                + "</soap:Fault></soap:Body></soap:Envelope>");
+
+        StepVerifier.create(retryingExecutor.executeProviderStream(
+                holder,
+                "getCreditReport",
+                "<getCreditReport/>",
+                "tradeline",
+                SoapElementReader.childText(),
+                "SOAP call failed",
+                throwable -> false))
+            .expectErrorSatisfies(ex -> {
+                SoapFaultException fault = (SoapFaultException) ex.getCause();
+                assertThat(fault.isClientFault()).isTrue();
+                assertThat(fault.getFaultString())
+                    .hasSize(UpstreamErrorBody.DEFAULT_MAX_BYTES + "...".length())
+                    .startsWith("yyy")
+                    .endsWith("...");
+                assertThat(ex.getMessage()).hasSizeLessThan(UpstreamErrorBody.DEFAULT_MAX_BYTES + 64);
+            })
+            .verify();
+        assertThat(requests).hasValue(1);
+    }
+
+    @Test
+    void shouldStopScanningErrorBodyWithoutFault() {
+        byte[] body = ("<report>" + "<tradeline>open</tradeline>".repeat(40_000) + "</report>")
+            .getBytes(StandardCharsets.UTF_8);
+        ByteArrayInputStream input = new ByteArrayInputStream(body);
+
+        assertThat(SoapEnvelopeReader.fault(input, UpstreamErrorBody.DEFAULT_MAX_BYTES, 8192)).isEmpty();
+        assertThat(body.length - input.available()).isLessThanOrEqualTo(8192);
+    }
+
+    @Test
+    void shouldReadFaultStartingWithinScanLimitToItsEnd() {
+        String envelope = "<soap:Envelope xmlns:soap=\"http://schemas.xmlsoap.org/soap/envelope/\"><soap:Body>"
+            + "<soap:Fault><detail>" + "x".repeat(64 * 1024) + "</detail>"
+            + "<faultcode>soap:Server</faultcode><faultstring>Backend unavailable</faultstring>"
+            + "</soap:Fault></soap:Body></soap:Envelope>";
+
+        assertThat(SoapEnvelopeReader.fault(
+                new ByteArrayInputStream(envelope.getBytes(StandardCharsets.UTF_8)), 1000, 8192))
+            .hasValueSatisfying(fault -> assertThat(fault.getMessage())
+                .isEqualTo("SOAP fault soap:Server: Backend unavailable"));
+    }
+
+    @Test
+    void shouldQuoteCappedNonFaultErrorBody() {
+        SoapServiceHolder holder = soapHolder(new AtomicInteger(), HttpStatus.BAD_REQUEST,
+            "<html>" + "x".repeat(4 * UpstreamErrorBody.DEFAULT_MAX_BYTES) + "</html>");
+
+        StepVerifier.create(executor.executeProviderStream(
+                holder,
+                "getCreditReport",
+                "<getCreditReport/>",
+                "tradeline",
+                SoapElementReader.childText(),
+                "SOAP call failed",
+                throwable -> false))
+            .expectErrorSatisfies(ex -> {
+                assertThat(ex.getMessage()).startsWith("Upstream returned HTTP 400 Response: <html>xxx").endsWith("...");
+                assertThat(((CreditSummaryDataCollectionException) ex).getUpstream().httpStatus()).isEqualTo(400);
+            })
+            .verify();
+    }
+
+    @Test
+    void shouldFailStreamWhenFaultAppearsInSuccessfulBody() {
+        SoapServiceHolder holder = soapHolder(new AtomicInteger(), HttpStatus.OK,
+            "<env:Envelope xmlns:env=\"http://www.w3.org/2003/05/soap-envelope\"><env:Body><env:Fault>"
+                + "<env:Code><env:Value>env:Receiver</env:Value></env:Code>"
+                + "<env:Reason><env:Text xml:lang=\"en\">Bureau backend unavailable</env:Text></env:Reason>"
+                + "</env:Fault></env:Body></env:Envelope>");
+
+        StepVerifier.create(executor.executeProviderStream(
+                    holder,
+                    "getCreditReport",
+                    "<getCreditReport/>",
+                    "tradeline",
+                    SoapElementReader.childText(),
+                    "SOAP call failed",
+                    throwable -> false)
+                .flatMapMany(ProviderResult::data))
+            .expectErrorSatisfies(ex -> {
+                assertThat(ex).isInstanceOf(CreditSummaryDataCollectionException.class);
+                assertThat(ex.getMessage()).isEqualTo("SOAP fault env:Receiver: Bureau backend unavailable");
+                assertThat(((SoapFaultException) ex.getCause()).isClientFault()).isFalse();
+            })
+            .verify();
+    }
+
+    private SoapServiceHolder soapHolder(AtomicInteger requests, HttpStatus status, String responseBody) {
+        PlatformProperties.ServiceDefinition service = new PlatformProperties.ServiceDefinition();
+        service.setWsdlUrl("https://soap.example.com/service?wsdl");
+        service.setSoapAction("urn:getCreditReport");
+        service.setRetrySettings(new RetrySettings(true, 3, 1));
+        PlatformProperties properties = new PlatformProperties();
+        properties.getServices().put("bureau-soap", service);
+        WebClient.Builder builder = WebClient.builder()
+            .exchangeFunction(request -> {
+                requests.incrementAndGet();
+                return Mono.just(ClientResponse.create(status)
+                    .header("Content-Type", MediaType.TEXT_XML_VALUE)
+                    .body(responseBody)
+                    .build());
+            });
+        return new WebClientHolderFactory(
+            properties, builder, ClientHttpConnectorBuilder.detect(), HttpClientSettings.defaults())
+            .createSoap("bureau-soap");
+    }
+
+    private String flakyCall(AtomicInteger calls, AtomicBoolean upstreamDown) {
+        calls.incrementAndGet();
+        if (upstreamDown.get()) {
+            throw new RuntimeException(new TimeoutException("soap timeout"));
+        }
+        return "score-ok";
+    }
+
+    static PlatformProperties propertiesWithBreaker(String serviceId) {
+        PlatformProperties.ServiceDefinition service = new PlatformProperties.ServiceDefinition();
+        service.setCircuitBreaker(new CircuitBreakerSettings(true, 50f, 4, 4, 100, 1));
+        PlatformProperties properties = new PlatformProperties();
+        properties.getServices().put(serviceId, service);
+        return properties;
+    }
 }
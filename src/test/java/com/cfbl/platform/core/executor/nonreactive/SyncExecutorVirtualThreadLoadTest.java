@@ -0,0 +1,123 @@
+package com.cfbl.platform.core.executor.nonreactive;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.cfbl.platform.core.concurrent.VirtualThreadCallRunner;
+import com.cfbl.platform.core.integration.model.ProviderResult;
+import com.cfbl.platform.core.resilience.BulkheadPolicyExecutor;
+import com.cfbl.platform.core.resilience.CircuitBreakerPolicyExecutor;
+import com.cfbl.platform.core.resilience.ConcurrencyLimitPolicyExecutor;
+import com.cfbl.platform.core.retry.RetrySettings;
+import com.cfbl.platform.core.retry.SyncRetryPolicyExecutor;
+import com.cfbl.platform.core.timeout.TimeoutSettings;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.ConnectException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * 5k concurrent slow upstream calls through the blocking executor in virtual-thread mode.
+ *
+ * <p>Excluded from the default build; run with {@code mvn test -Pload-tests}.
+ */
+@Tag("load")
+class SyncExecutorVirtualThreadLoadTest {
+
+    private static final int CONCURRENT_CALLS = 5_000;
+    private static final long UPSTREAM_LATENCY_MS = 200;
+    // Tomcat's default maximum of request threads, the platform-thread setup this mode replaces.
+    private static final int PLATFORM_POOL_THREADS = 200;
+
+    @Test
+    void shouldServeFiveThousandSlowCallsOnVirtualThreads() throws Exception {
+        SyncSoapCallExecutor executor = new SyncSoapCallExecutor(
+                new SyncRetryPolicyExecutor(),
+                new CircuitBreakerPolicyExecutor(),
+                new BulkheadPolicyExecutor(),
+                new ConcurrencyLimitPolicyExecutor(),
+                new VirtualThreadCallRunner(true));
+        RetrySettings retrySettings = new RetrySettings(true, 2, 50);
+        TimeoutSettings timeoutSettings = new TimeoutSettings(0L, 0L, 5000L, 0L);
+        AtomicInteger contextMismatches = new AtomicInteger();
+        AtomicInteger retried = new AtomicInteger();
+
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        threads.resetPeakThreadCount();
+        int platformThreadsBefore = threads.getThreadCount();
+        long startNanos = System.nanoTime();
+
+        // Stands in for Tomcat's virtual-thread executor: one virtual thread per inbound request.
+        List<Future<ProviderResult<String>>> results = new ArrayList<>(CONCURRENT_CALLS);
+        try (ExecutorService requests = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < CONCURRENT_CALLS; i++) {
+                String principal = "user-" + i;
+                boolean failFirstAttempt = i % 10 == 0;
+                results.add(requests.submit(() -> {
+                    SecurityContextHolder.getContext().setAuthentication(
+                            new TestingAuthenticationToken(principal, "token"));
+                    MDC.put("traceId", principal);
+                    AtomicInteger attempts = new AtomicInteger();
+                    return executor.executeWithRetry(
+                            "load-soap",
+                            "https://soap.example.com/service",
+                            "getCreditScore",
+                            () -> {
+                                if (!principal.equals(SecurityContextHolder.getContext().getAuthentication().getName())
+                                        || !principal.equals(MDC.get("traceId"))) {
+                                    contextMismatches.incrementAndGet();
+                                }
+                                sleep(UPSTREAM_LATENCY_MS);
+                                if (failFirstAttempt && attempts.incrementAndGet() == 1) {
+                                    retried.incrementAndGet();
+                                    throw new RuntimeException(new ConnectException("connection reset"));
+                                }
+                                return principal;
+                            },
+                            "SOAP call failed",
+                            retrySettings,
+                            timeoutSettings,
+                            throwable -> false);
+                }));
+            }
+        }
+
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startNanos);
+        for (Future<ProviderResult<String>> result : results) {
+            assertThat(result.get(0, TimeUnit.SECONDS).status()).isEqualTo(200);
+        }
+        int platformThreadsAdded = threads.getPeakThreadCount() - platformThreadsBefore;
+        // A pool of platform threads runs the calls in waves of its size.
+        Duration platformPoolElapsed = Duration.ofMillis(
+                CONCURRENT_CALLS / PLATFORM_POOL_THREADS * UPSTREAM_LATENCY_MS);
+
+        assertThat(contextMismatches).hasValue(0);
+        assertThat(retried).hasValue(CONCURRENT_CALLS / 10);
+        // Carriers number one per core; the margin covers carrier compensation and JVM housekeeping
+        // threads, and stays far below the one thread per call that blocking would otherwise need.
+        assertThat(platformThreadsAdded).isLessThan(Runtime.getRuntime().availableProcessors() * 4 + 32);
+        // Ideally every call overlaps: 200ms, plus 250ms for the retried tenth. Half of what the
+        // platform pool needs (2.5s of 5s) leaves a 5x margin over that for slow machines.
+        assertThat(elapsed).isLessThan(platformPoolElapsed.dividedBy(2));
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.cfbl.platform.core.executor.nonreactive;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.cfbl.platform.core.exception.core.CreditSummaryDataCollectionException;
+import com.cfbl.platform.core.executor.DataSourceHolder;
+import com.cfbl.platform.core.executor.JdbcCursor;
+import com.cfbl.platform.core.integration.model.ProviderResult;
+import com.cfbl.platform.core.retry.RetrySettings;
+import com.cfbl.platform.core.retry.SyncRetryPolicyExecutor;
+import com.cfbl.platform.core.timeout.TimeoutSettings;
+import java.sql.SQLTransientConnectionException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+
+class SyncJdbcCallExecutorTest {
+
+    private final SyncJdbcCallExecutor executor = new SyncJdbcCallExecutor(new SyncRetryPolicyExecutor());
+    private DataSourceHolder holder;
+
+    @BeforeEach
+    void setUp() {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:core-db-sync;DB_CLOSE_DELAY=-1");
+        holder = new DataSourceHolder(
+                "core-db",
+                "jdbc:h2:mem:core-db-sync",
+                dataSource,
+                null,
+                null,
+                new RetrySettings(true, 3, 1),
+                TimeoutSettings.defaults(),
+                2,
+                0,
+                0L,
+                null,
+                null);
+        holder.jdbcOperations(holder.timeoutSettings().attemptTimeout()).getJdbcOperations().execute(
+                "CREATE TABLE IF NOT EXISTS customer (id VARCHAR(16) PRIMARY KEY, score INT);"
+                        + "MERGE INTO customer KEY (id) VALUES ('C-1', 710), ('C-2', 655)");
+    }
+
+    @Test
+    void shouldQueryOnCallingThread() {
+        Thread caller = Thread.currentThread();
+
+        ProviderResult<List<String>> result = executor.executeQuery(
+                holder,
+                "findScore",
+                "SELECT score FROM customer WHERE id = :id",
+                Map.of("id", "C-1"),
+                (rs, rowNum) -> rs.getInt("score") + (Thread.currentThread() == caller ? ":caller" : ":other"),
+                "Score lookup failed");
+
+        assertThat(result.data()).containsExactly("710:caller");
+        assertThat(result.metadata().endpoint()).isEqualTo("jdbc:h2:mem:core-db-sync");
+        assertThat(result.metadata().protocolAttributes()).containsOnlyKeys("operation");
+        assertThat(result.retry().attempted()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRetryConnectionFailuresUntilExhausted() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        CreditSummaryDataCollectionException ex = assertThrows(
+                CreditSummaryDataCollectionException.class,
+                () -> executor.executeWithRetry(
+                        holder,
+                        "findScore",
+                        jdbc -> {
+                            attempts.incrementAndGet();
+                            throw new CannotGetJdbcConnectionException(
+                                    "pool exhausted", new SQLTransientConnectionException("timeout"));
+                        },
+                        "Score lookup failed",
+                        throwable -> false));
+
+        assertThat(attempts.get()).isEqualTo(3);
+        assertThat(ex.getMessage()).isEqualTo("Score lookup failed");
+        assertThat(ex.getRetryInfo().attempted()).isEqualTo(3);
+        assertThat(ex.getRetryInfo().exhausted()).isTrue();
+    }
+
+    @Test
+    void shouldStreamRowsLazilyToConsumer() {
+        AtomicInteger mapped = new AtomicInteger();
+
+        ProviderResult<String> result = executor.executeQueryStream(
+                holder,
+                "scanRange",
+                "SELECT X FROM SYSTEM_RANGE(1, 1000)",
+                Map.of(),
+                (rs, rowNum) -> {
+                    mapped.incrementAndGet();
+                    return rs.getLong(1);
+                },
+                rows -> rows.limit(5).map(String::valueOf).collect(Collectors.joining(",")),
+                "Range scan failed");
+
+        assertThat(result.data()).isEqualTo("1,2,3,4,5");
+        assertThat(mapped.get()).isEqualTo(5);
+        assertThat(result.metadata().protocolAttributes())
+                .containsEntry(JdbcCursor.ROWS_STREAMED_ATTRIBUTE, "5")
+                .containsKey(JdbcCursor.TIME_TO_FIRST_ROW_ATTRIBUTE);
+    }
+
+    @Test
+    void shouldNotReplayPartiallyConsumedStream() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        CreditSummaryDataCollectionException ex = assertThrows(
+                CreditSummaryDataCollectionException.class,
+                () -> executor.executeQueryStream(
+                        holder,
+                        "scanRange",
+                        "SELECT X FROM SYSTEM_RANGE(1, 10)",
+                        Map.of(),
+                        (rs, rowNum) -> rs.getLong(1),
+                        rows -> {
+                            attempts.incrementAndGet();
+                            return rows.peek(row -> {
+                                if (row == 3L) {
+                                    throw new CannotGetJdbcConnectionException(
+                                            "connection lost", new SQLTransientConnectionException("reset"));
+                                }
+                            }).count();
+                        },
+                        "Range scan failed"));
+
+        assertThat(attempts.get()).isEqualTo(1);
+        assertThat(ex.getRetryInfo().attempted()).isEqualTo(1);
+        assertThat(ex.getProviderContext().protocolAttributes())
+                .containsEntry(JdbcCursor.ROWS_STREAMED_ATTRIBUTE, "3");
+    }
+}
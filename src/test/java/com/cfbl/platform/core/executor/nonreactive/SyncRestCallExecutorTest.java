@@ -8,7 +8,10 @@ import com.cfbl.platform.core.exception.core.ErrorCode;
 import com.cfbl.platform.core.executor.WebClientHolder;
 import com.cfbl.platform.core.integration.model.ProviderResult;
 import com.cfbl.platform.core.retry.RetrySettings;
+import com.cfbl.platform.core.retry.RetryStopReason;
 import com.cfbl.platform.core.retry.SyncRetryPolicyExecutor;
+import com.cfbl.platform.core.timeout.Deadline;
+import java.time.Duration;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.Test;
@@ -113,6 +116,36 @@ class SyncRestCallExecutorTest {
         assertThat(ex.getUpstream().httpStatus()).isEqualTo(503);
     }
 
+    @Test
+    void shouldCapCapturedErrorBodyAtConfiguredBytes() {
+        WebClient client = clientReturning(
+                ClientResponse.create(HttpStatus.BAD_REQUEST)
+                        .header("Content-Type", MediaType.TEXT_HTML_VALUE)
+                        .body("<html>" + "x".repeat(20_000) + "</html>")
+                        .build());
+
+        WebClientHolder holder = new WebClientHolder(
+                "sample-api",
+                "https://example.com",
+                client,
+                new RetrySettings(false, 1, 0),
+                64);
+
+        CreditSummaryDataCollectionException ex = assertThrows(CreditSummaryDataCollectionException.class,
+                () -> executor.executeWithRetry(
+                        holder,
+                        HttpMethod.GET,
+                        "cappedErrorBody",
+                        "/sample",
+                        () -> holder.webClient().get().uri("/sample"),
+                        "GET failed"));
+
+        assertThat(ex.getMessage())
+                .isEqualTo("Upstream returned HTTP 400 Response: <html>" + "x".repeat(58) + "...");
+        assertThat(ex.getUpstream().httpStatus()).isEqualTo(400);
+        assertThat(ex.getRetryInfo().attempted()).isEqualTo(1);
+    }
+
     @Test
     void shouldRetryOnTimeout() {
         // Mocking a timeout by creating a WebClient that fails with TimeoutException
@@ -136,6 +169,67 @@ class SyncRestCallExecutorTest {
         assertThat(ex.getCause()).isInstanceOf(TimeoutException.class);
     }
 
+    @Test
+    void shouldStopRetryingWhenThreadDeadlineBudgetIsTooSmall() {
+        AtomicInteger attempts = new AtomicInteger();
+        WebClient client = WebClient.builder()
+                .baseUrl("https://example.com")
+                .exchangeFunction(request -> {
+                    attempts.incrementAndGet();
+                    return Mono.just(ClientResponse.create(HttpStatus.SERVICE_UNAVAILABLE).build());
+                })
+                .build();
+        WebClientHolder holder = new WebClientHolder(
+                "sample-api",
+                "https://example.com",
+                client,
+                new RetrySettings(true, 5, 500));
+
+        CreditSummaryDataCollectionException ex = assertThrows(
+                CreditSummaryDataCollectionException.class,
+                () -> Deadline.callWithin(Deadline.after(Duration.ofMillis(200)), () -> executor.executeWithRetry(
+                        holder,
+                        HttpMethod.GET,
+                        "fetchSample",
+                        "/sample",
+                        () -> holder.webClient().get().uri("/sample"),
+                        "GET failed")));
+
+        assertThat(attempts.get()).isEqualTo(1);
+        assertThat(ex.getUpstream().httpStatus()).isEqualTo(503);
+        assertThat(ex.getRetryInfo().exhausted()).isFalse();
+        assertThat(ex.getRetryInfo().stopReason()).isEqualTo(RetryStopReason.DEADLINE);
+        assertThat(Deadline.current()).isNull();
+    }
+
+    @Test
+    void shouldFailFastWhenThreadDeadlineAlreadyExpired() {
+        AtomicInteger attempts = new AtomicInteger();
+        WebClient client = WebClient.builder()
+                .baseUrl("https://example.com")
+                .exchangeFunction(request -> {
+                    attempts.incrementAndGet();
+                    return Mono.just(ClientResponse.create(HttpStatus.OK).build());
+                })
+                .build();
+        WebClientHolder holder = new WebClientHolder("sample-api", "https://example.com", client);
+
+        CreditSummaryDataCollectionException ex = assertThrows(
+                CreditSummaryDataCollectionException.class,
+                () -> Deadline.callWithin(Deadline.after(Duration.ZERO), () -> executor.executeWithRetry(
+                        holder,
+                        HttpMethod.GET,
+                        "fetchSample",
+                        "/sample",
+                        () -> holder.webClient().get().uri("/sample"),
+                        "GET failed")));
+
+        assertThat(attempts.get()).isZero();
+        assertThat(ex.getCause()).isInstanceOf(TimeoutException.class);
+        assertThat(ex.getRetryInfo().stopReason()).isEqualTo(RetryStopReason.DEADLINE);
+        assertThat(ex.getRetryInfo().attempted()).isEqualTo(1);
+    }
+
     private WebClient clientReturning(ClientResponse response) {
         return WebClient.builder()
                 .baseUrl("https://example.com")
@@ -3,13 +3,29 @@ package com.cfbl.platform.core.executor.nonreactive;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import com.cfbl.platform.core.concurrent.VirtualThreadCallRunner;
+import com.cfbl.platform.core.config.PlatformProperties;
 import com.cfbl.platform.core.exception.core.CreditSummaryDataCollectionException;
 import com.cfbl.platform.core.integration.model.ProviderResult;
+import com.cfbl.platform.core.resilience.BulkheadPolicyExecutor;
+import com.cfbl.platform.core.resilience.BulkheadSettings;
+import com.cfbl.platform.core.resilience.CircuitBreakerPolicyExecutor;
+import com.cfbl.platform.core.resilience.CircuitBreakerSettings;
+import com.cfbl.platform.core.resilience.ConcurrencyLimitPolicyExecutor;
 import com.cfbl.platform.core.retry.RetrySettings;
+import com.cfbl.platform.core.retry.RetryStopReason;
 import com.cfbl.platform.core.retry.SyncRetryPolicyExecutor;
+import com.cfbl.platform.core.timeout.TimeoutSettings;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
 
 class SyncSoapCallExecutorTest {
 
@@ -78,4 +94,147 @@ class SyncSoapCallExecutorTest {
         assertThat(ex.getRetryInfo().exhausted()).isTrue();
         assertThat(ex.getProviderContext().responseTimeMs()).isGreaterThanOrEqualTo(0);
     }
+
+    @Test
+    void shouldFailFastWhenCircuitBreakerIsOpen() {
+        PlatformProperties.ServiceDefinition service = new PlatformProperties.ServiceDefinition();
+        service.setCircuitBreaker(new CircuitBreakerSettings(true, 50f, 4, 4, 60_000, 1));
+        PlatformProperties properties = new PlatformProperties();
+        properties.getServices().put("core-soap", service);
+        SyncSoapCallExecutor breakingExecutor = new SyncSoapCallExecutor(
+                new SyncRetryPolicyExecutor(),
+                new CircuitBreakerPolicyExecutor(properties));
+        AtomicInteger calls = new AtomicInteger();
+        RetrySettings retrySettings = new RetrySettings(true, 2, 1);
+
+        for (int i = 0; i < 2; i++) {
+            assertThrows(CreditSummaryDataCollectionException.class, () -> breakingExecutor.executeWithRetry(
+                    "core-soap",
+                    "https://soap.example.com/service",
+                    "getCreditScore",
+                    () -> {
+                        calls.incrementAndGet();
+                        throw new RuntimeException(new TimeoutException("soap timeout"));
+                    },
+                    "SOAP call failed",
+                    retrySettings,
+                    throwable -> false));
+        }
+
+        CreditSummaryDataCollectionException ex = assertThrows(
+                CreditSummaryDataCollectionException.class,
+                () -> breakingExecutor.executeWithRetry(
+                        "core-soap",
+                        "https://soap.example.com/service",
+                        "getCreditScore",
+                        () -> {
+                            calls.incrementAndGet();
+                            return "unreachable";
+                        },
+                        "SOAP call failed",
+                        retrySettings,
+                        throwable -> false));
+
+        assertThat(calls.get()).isEqualTo(4);
+        assertThat(ex.getUpstream().circuitBreakerState()).isEqualTo("OPEN");
+        assertThat(ex.getRetryInfo().stopReason()).isEqualTo(RetryStopReason.CIRCUIT_OPEN);
+        assertThat(ex.getRetryInfo().exhausted()).isFalse();
+    }
+
+    @Test
+    void shouldRejectAfterQueueWaitWhenBulkheadIsFull() throws Exception {
+        PlatformProperties.ServiceDefinition service = new PlatformProperties.ServiceDefinition();
+        service.setBulkhead(new BulkheadSettings(true, 1, 20));
+        PlatformProperties properties = new PlatformProperties();
+        properties.getServices().put("core-soap", service);
+        BulkheadPolicyExecutor bulkheadExecutor = new BulkheadPolicyExecutor(properties, new SimpleMeterRegistry());
+        SyncSoapCallExecutor boundedExecutor = new SyncSoapCallExecutor(
+                new SyncRetryPolicyExecutor(),
+                new CircuitBreakerPolicyExecutor(properties),
+                bulkheadExecutor);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<ProviderResult<String>> slow = CompletableFuture.supplyAsync(() -> boundedExecutor.executeWithRetry(
+                "core-soap",
+                "https://soap.example.com/service",
+                "getCreditScore",
+                () -> {
+                    started.countDown();
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return "slow";
+                },
+                "SOAP call failed"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        CreditSummaryDataCollectionException ex = assertThrows(
+                CreditSummaryDataCollectionException.class,
+                () -> boundedExecutor.executeWithRetry(
+                        "core-soap",
+                        "https://soap.example.com/service",
+                        "getCreditScore",
+                        () -> "unreachable",
+                        "SOAP call failed"));
+
+        assertThat(ex.getMessage()).isEqualTo("Bulkhead is full for soap:core-soap");
+        assertThat(ex.getRetryInfo().stopReason()).isEqualTo(RetryStopReason.BULKHEAD_FULL);
+        assertThat(bulkheadExecutor.rejectedCount("soap:core-soap")).isEqualTo(1);
+
+        release.countDown();
+        assertThat(slow.get(5, TimeUnit.SECONDS).data()).isEqualTo("slow");
+        assertThat(bulkheadExecutor.inFlight("soap:core-soap")).isZero();
+    }
+
+    @Test
+    void shouldTimeOutPortCallAndPropagateContextInVirtualThreadMode() {
+        SyncSoapCallExecutor virtualExecutor = new SyncSoapCallExecutor(
+                new SyncRetryPolicyExecutor(),
+                new CircuitBreakerPolicyExecutor(),
+                new BulkheadPolicyExecutor(),
+                new ConcurrencyLimitPolicyExecutor(),
+                new VirtualThreadCallRunner(true));
+        AtomicInteger attempts = new AtomicInteger();
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("analyst", "token"));
+        MDC.put("traceId", "trace-123");
+        try {
+            ProviderResult<String> result = virtualExecutor.executeWithRetry(
+                    "core-soap",
+                    "https://soap.example.com/service",
+                    "getCreditScore",
+                    () -> {
+                        if (attempts.incrementAndGet() == 1) {
+                            sleepUninterruptibly(2000);
+                        }
+                        return Thread.currentThread().isVirtual() + ":"
+                                + SecurityContextHolder.getContext().getAuthentication().getName() + ":"
+                                + MDC.get("traceId");
+                    },
+                    "SOAP call failed",
+                    new RetrySettings(true, 2, 1),
+                    new TimeoutSettings(0L, 0L, 100L, 0L),
+                    throwable -> false);
+
+            assertThat(result.data()).isEqualTo("true:analyst:trace-123");
+            assertThat(result.retry().attempted()).isEqualTo(2);
+            assertThat(result.metadata().responseTimeMs()).isLessThan(2000);
+        } finally {
+            SecurityContextHolder.clearContext();
+            MDC.clear();
+        }
+    }
+
+    private static void sleepUninterruptibly(long millis) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(millis);
+        while (System.nanoTime() < deadline) {
+            try {
+                Thread.sleep(Math.max(1L, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime())));
+            } catch (InterruptedException ignored) {
+                // Mimics a port call that does not react to interruption.
+            }
+        }
+    }
 }
@@ -0,0 +1,151 @@
+package com.cfbl.platform.core.fanout;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.cfbl.platform.core.exception.core.CreditSummaryDataCollectionException;
+import com.cfbl.platform.core.exception.core.ErrorCode;
+import com.cfbl.platform.core.integration.model.ProviderResult;
+import com.cfbl.platform.core.timeout.Deadline;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+class ProviderFanOutTest {
+
+    private final ProviderFanOut fanOut = new ProviderFanOut();
+
+    @Test
+    void shouldRunBlockingCallsInParallelWithCallerContextAndDeadline() {
+        ProviderCall.Blocking<String> bureau = ProviderCall.blocking("credit-bureau", () -> slow("bureau", 300));
+        ProviderCall.Blocking<String> soap = ProviderCall.blocking("bureau-soap", () -> slow("soap", 300));
+        ProviderCall.Blocking<String> db = ProviderCall.blocking("core-db", () -> ProviderResult.success(
+                200, MDC.get("traceId") + ":" + (Deadline.current() != null), null));
+
+        MDC.put("traceId", "trace-1");
+        FanOutResults results;
+        try {
+            results = fanOut.executeSync(Duration.ofSeconds(2), FanOutPolicy.failFast(), bureau, soap, db);
+        } finally {
+            MDC.clear();
+        }
+
+        assertThat(results.allSucceeded()).isTrue();
+        assertThat(results.get(bureau).result().data()).isEqualTo("bureau");
+        assertThat(results.get(db).result().data()).isEqualTo("trace-1:true");
+        assertThat(results.elapsedMs()).isLessThan(550);
+        assertThat(results.outcomes()).extracting(ProviderOutcome::name)
+                .containsExactly("credit-bureau", "bureau-soap", "core-db");
+    }
+
+    @Test
+    void shouldCancelBlockingSiblingsOnFatalFailure() {
+        AtomicBoolean interrupted = new AtomicBoolean();
+        AtomicBoolean ended = new AtomicBoolean();
+        ProviderCall.Blocking<String> failing = ProviderCall.blocking("credit-bureau", () -> {
+            throw new CreditSummaryDataCollectionException(ErrorCode.LAYER_DATA_COLLECTION_FAILURE, "bureau down");
+        });
+        ProviderCall.Blocking<String> slow = ProviderCall.blocking("bureau-soap", () -> {
+            try {
+                Thread.sleep(5000);
+            } catch (InterruptedException e) {
+                interrupted.set(true);
+            } finally {
+                ended.set(true);
+            }
+            return ProviderResult.success(200, "late", null);
+        });
+
+        FanOutResults results = fanOut.executeSync(Duration.ofSeconds(2), FanOutPolicy.failFast(), failing, slow);
+
+        assertThat(results.get(failing).status()).isEqualTo(ProviderOutcome.Status.FAILED);
+        assertThat(results.get(failing).failure().getMessage()).isEqualTo("bureau down");
+        assertThat(results.get(slow).status()).isEqualTo(ProviderOutcome.Status.CANCELLED);
+        assertThat(results.elapsedMs()).isLessThan(1000);
+        assertThat(interrupted).isTrue();
+        assertThat(ended).isTrue();
+    }
+
+    @Test
+    void shouldKeepOutcomesFinishedAlongsideFatalFailure() {
+        ProviderCall.Blocking<String> failing = ProviderCall.blocking("credit-bureau", () -> {
+            throw new CreditSummaryDataCollectionException(ErrorCode.LAYER_DATA_COLLECTION_FAILURE, "bureau down");
+        });
+        ProviderCall.Blocking<String> fast = ProviderCall.blocking("core-db", () -> slow("db", 50));
+        ProviderCall.Blocking<String> slow = ProviderCall.blocking("bureau-soap", () -> slow("soap", 5000));
+        // Deciding on the failure takes long enough for the fast call to finish meanwhile, so both
+        // are waiting in the completion queue when the fan-out stops.
+        FanOutPolicy slowToDecide = new FanOutPolicy(failure -> {
+            slow("decision", 300);
+            return true;
+        });
+
+        FanOutResults results = fanOut.executeSync(Duration.ofSeconds(2), slowToDecide, failing, fast, slow);
+
+        assertThat(results.get(failing).status()).isEqualTo(ProviderOutcome.Status.FAILED);
+        assertThat(results.get(fast).status()).isEqualTo(ProviderOutcome.Status.SUCCEEDED);
+        assertThat(results.get(fast).result().data()).isEqualTo("db");
+        assertThat(results.get(slow).status()).isEqualTo(ProviderOutcome.Status.CANCELLED);
+        assertThat(results.elapsedMs()).isLessThan(1000);
+    }
+
+    @Test
+    void shouldReturnPartialBlockingResultsAtDeadline() {
+        ProviderCall.Blocking<String> failing = ProviderCall.blocking("credit-bureau", () -> {
+            throw new IllegalStateException("boom");
+        });
+        ProviderCall.Blocking<String> fast = ProviderCall.blocking("core-db", () -> slow("db", 10));
+        ProviderCall.Blocking<String> slow = ProviderCall.blocking("bureau-soap", () -> slow("soap", 5000));
+
+        FanOutResults results = fanOut.executeSync(
+                Duration.ofMillis(300), FanOutPolicy.partialResultsAtDeadline(), failing, fast, slow);
+
+        assertThat(results.get(failing).status()).isEqualTo(ProviderOutcome.Status.FAILED);
+        assertThat(results.get(failing).failure()).isInstanceOf(CreditSummaryDataCollectionException.class)
+                .hasMessage("Provider call credit-bureau failed: boom");
+        assertThat(results.get(fast).result().data()).isEqualTo("db");
+        assertThat(results.get(slow).status()).isEqualTo(ProviderOutcome.Status.TIMED_OUT);
+        assertThat(results.elapsedMs()).isLessThan(1000);
+    }
+
+    @Test
+    void shouldFanOutReactiveCallsWithPartialResultsAndCancellation() {
+        ProviderCall.Reactive<String> fast = ProviderCall.reactive("credit-bureau",
+                () -> Mono.deferContextual(ctx -> Mono.just(ProviderResult.success(
+                                200, String.valueOf(Deadline.fromContext(ctx) != null), null)))
+                        .delayElement(Duration.ofMillis(50)));
+        ProviderCall.Reactive<String> slow = ProviderCall.reactive("bureau-soap",
+                () -> Mono.just(ProviderResult.success(200, "late", null)).delayElement(Duration.ofSeconds(5)));
+        ProviderCall.Reactive<String> failing = ProviderCall.reactive("core-db",
+                () -> Mono.<ProviderResult<String>>error(new IllegalStateException("db down"))
+                        .delaySubscription(Duration.ofMillis(100)));
+
+        StepVerifier.create(fanOut.execute(Duration.ofMillis(300), FanOutPolicy.partialResultsAtDeadline(), fast, slow))
+                .assertNext(results -> {
+                    assertThat(results.get(fast).result().data()).isEqualTo("true");
+                    assertThat(results.get(slow).status()).isEqualTo(ProviderOutcome.Status.TIMED_OUT);
+                })
+                .verifyComplete();
+
+        StepVerifier.create(fanOut.execute(Duration.ofSeconds(2), FanOutPolicy.failFast(), fast, slow, failing))
+                .assertNext(results -> {
+                    assertThat(results.get(fast).isSuccess()).isTrue();
+                    assertThat(results.get(failing).status()).isEqualTo(ProviderOutcome.Status.FAILED);
+                    assertThat(results.get(slow).status()).isEqualTo(ProviderOutcome.Status.CANCELLED);
+                    assertThat(results.elapsedMs()).isLessThan(1000);
+                })
+                .verifyComplete();
+    }
+
+    private static ProviderResult<String> slow(String data, long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+        return ProviderResult.success(200, data, null);
+    }
+}
@@ -0,0 +1,35 @@
+package com.cfbl.platform.core.hedge;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+class HedgeSettingsTest {
+
+    @Test
+    void shouldUseMaxDelayUntilEnoughSamplesAreObserved() {
+        HedgeSettings settings = new HedgeSettings(true, 0.95, 10, 500, 5);
+        LatencyTracker tracker = new LatencyTracker();
+        tracker.record(40);
+
+        assertThat(settings.hedgeDelay(tracker)).isEqualTo(Duration.ofMillis(500));
+    }
+
+    @Test
+    void shouldDeriveDelayFromObservedPercentileWithinBounds() {
+        HedgeSettings settings = new HedgeSettings(true, 0.95, 10, 500, 5);
+        LatencyTracker tracker = new LatencyTracker();
+        for (int i = 1; i <= 100; i++) {
+            tracker.record(i);
+        }
+
+        assertThat(tracker.percentileMs(0.95)).isEqualTo(95);
+        assertThat(settings.hedgeDelay(tracker)).isEqualTo(Duration.ofMillis(95));
+
+        for (int i = 0; i < LatencyTracker.WINDOW_SIZE; i++) {
+            tracker.record(2);
+        }
+        assertThat(settings.hedgeDelay(tracker)).isEqualTo(Duration.ofMillis(10));
+    }
+}
@@ -0,0 +1,99 @@
+package com.cfbl.platform.core.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.cfbl.platform.core.config.PlatformProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+class ConcurrencyLimitPolicyExecutorTest {
+
+    private static final String NAME = "rest:bureau";
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void shouldGrowLimitWhileUsedAndShrinkOnTransientFailures() {
+        ConcurrencyLimitPolicyExecutor limiter = limiter(new ConcurrencyLimitSettings(true, 2, 1, 10, 2.0, 0.5));
+
+        for (int i = 0; i < 20; i++) {
+            limiter.executeSync(NAME, "bureau", () -> timedCall(10), throwable -> true);
+        }
+        int grownLimit = limiter.currentLimit(NAME);
+
+        for (int i = 0; i < 3; i++) {
+            assertThrows(IllegalStateException.class, () -> limiter.executeSync(NAME, "bureau", () -> {
+                throw new IllegalStateException(new TimeoutException("slow"));
+            }, throwable -> true));
+        }
+
+        assertThat(grownLimit).isEqualTo(3);
+        assertThat(limiter.currentLimit(NAME)).isEqualTo(1);
+        assertThat(meterRegistry.get("provider.limiter.limit").tag("name", NAME).gauge().value())
+                .isEqualTo(limiter.currentLimit(NAME));
+    }
+
+    @Test
+    void shouldShrinkLimitWhenRoundTripTimeInflates() {
+        ConcurrencyLimitPolicyExecutor limiter = limiter(new ConcurrencyLimitSettings(true, 8, 2, 10, 2.0, 0.5));
+
+        limiter.executeSync(NAME, "bureau", () -> timedCall(10), throwable -> true);
+        int limitBefore = limiter.currentLimit(NAME);
+        limiter.executeSync(NAME, "bureau", () -> timedCall(50), throwable -> true);
+
+        assertThat(limiter.currentLimit(NAME)).isEqualTo(limitBefore / 2);
+    }
+
+    @Test
+    void shouldShedAttemptsAboveLimitWithoutQueueing() {
+        ConcurrencyLimitPolicyExecutor limiter = limiter(new ConcurrencyLimitSettings(true, 2, 2, 10, 2.0, 0.5));
+        Sinks.One<String> first = Sinks.one();
+        Sinks.One<String> second = Sinks.one();
+        Disposable firstCall = limiter.execute(NAME, "bureau", first::asMono, throwable -> true).subscribe();
+        Disposable secondCall = limiter.execute(NAME, "bureau", second::asMono, throwable -> true).subscribe();
+
+        StepVerifier.create(limiter.execute(NAME, "bureau", () -> Mono.just("third"), throwable -> true))
+                .expectError(ConcurrencyLimitExceededException.class)
+                .verify();
+        assertThat(limiter.rejectedCount(NAME)).isEqualTo(1);
+        assertThat(meterRegistry.get("provider.limiter.in.flight").tag("name", NAME).gauge().value()).isEqualTo(2.0);
+
+        first.tryEmitValue("first");
+        secondCall.dispose();
+        firstCall.dispose();
+
+        assertThat(meterRegistry.get("provider.limiter.in.flight").tag("name", NAME).gauge().value()).isZero();
+        StepVerifier.create(limiter.execute(NAME, "bureau", () -> Mono.just("fourth"), throwable -> true))
+                .expectNext("fourth")
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldPassThroughWhenDisabled() {
+        ConcurrencyLimitPolicyExecutor limiter = new ConcurrencyLimitPolicyExecutor();
+
+        assertThat(limiter.executeSync(NAME, "bureau", () -> "ok", throwable -> true)).isEqualTo("ok");
+        assertThat(limiter.currentLimit(NAME)).isEqualTo(-1);
+    }
+
+    private String timedCall(long millis) {
+        nanos.addAndGet(millis * 1_000_000L);
+        return "ok";
+    }
+
+    private ConcurrencyLimitPolicyExecutor limiter(ConcurrencyLimitSettings settings) {
+        PlatformProperties.ServiceDefinition service = new PlatformProperties.ServiceDefinition();
+        service.setConcurrencyLimit(settings);
+        PlatformProperties properties = new PlatformProperties();
+        properties.getServices().put("bureau", service);
+        return new ConcurrencyLimitPolicyExecutor(properties, meterRegistry, nanos::get);
+    }
+}
@@ -0,0 +1,85 @@
+package com.cfbl.platform.core.retry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.cfbl.platform.core.exception.core.CreditSummaryDataCollectionException;
+import com.cfbl.platform.core.exception.core.ErrorCode;
+import com.cfbl.platform.core.exception.core.UpstreamInfo;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.Test;
+
+class RetryBackoffTest {
+
+    @Test
+    void shouldGrowExponentiallyUpToCap() {
+        RetrySettings settings = new RetrySettings(true, 6, 100, BackoffStrategy.EXPONENTIAL, 2.0, 500, false);
+
+        assertThat(RetryBackoff.waitMillis(settings, 1, null)).isEqualTo(100);
+        assertThat(RetryBackoff.waitMillis(settings, 2, null)).isEqualTo(200);
+        assertThat(RetryBackoff.waitMillis(settings, 3, null)).isEqualTo(400);
+        assertThat(RetryBackoff.waitMillis(settings, 4, null)).isEqualTo(500);
+        assertThat(RetryBackoff.waitMillis(settings, 30, null)).isEqualTo(500);
+    }
+
+    @Test
+    void shouldDrawDecorrelatedJitterFromPreviousWait() {
+        RetrySettings settings = new RetrySettings(true, 4, 100, BackoffStrategy.DECORRELATED_JITTER, 0, 2000, false);
+
+        for (int i = 0; i < 200; i++) {
+            assertThat(RetryBackoff.waitMillis(settings, 1, null)).isBetween(100L, 300L);
+            assertThat(RetryBackoff.waitMillis(settings, 2, 150L, null)).isBetween(100L, 450L);
+            assertThat(RetryBackoff.waitMillis(settings, 3, 1_500L, null)).isBetween(100L, 2000L);
+        }
+        assertThat(RetryBackoff.minimumWaitMillis(settings, 3, null)).isEqualTo(100);
+    }
+
+    @Test
+    void shouldNotDependOnAttemptNumberForDecorrelatedJitter() {
+        RetrySettings settings = new RetrySettings(true, 10, 100, BackoffStrategy.DECORRELATED_JITTER, 0, 60_000, false);
+
+        for (int i = 0; i < 200; i++) {
+            assertThat(RetryBackoff.waitMillis(settings, 9, 100L, null)).isBetween(100L, 300L);
+        }
+    }
+
+    @Test
+    void shouldRaiseWaitToRetryAfterWithinCap() {
+        RetrySettings settings = new RetrySettings(true, 3, 100, BackoffStrategy.FIXED, 0, 1000, false);
+
+        assertThat(RetryBackoff.waitMillis(settings, 1, throttled(400L))).isEqualTo(400);
+        assertThat(RetryBackoff.waitMillis(settings, 1, new IllegalStateException(throttled(400L)))).isEqualTo(400);
+        assertThat(RetryBackoff.waitMillis(settings, 1, throttled(60_000L))).isEqualTo(1000);
+        assertThat(RetryBackoff.waitMillis(settings, 1, throttled(10L))).isEqualTo(100);
+        assertThat(RetryBackoff.minimumWaitMillis(settings, 1, throttled(400L))).isEqualTo(400);
+    }
+
+    @Test
+    void shouldParseDelaySecondsAndHttpDate() {
+        Clock clock = Clock.fixed(Instant.parse("2025-01-01T00:00:00Z"), ZoneOffset.UTC);
+
+        assertThat(RetryBackoff.parseRetryAfterMs("3", clock)).isEqualTo(3000L);
+        assertThat(RetryBackoff.parseRetryAfterMs("Wed, 01 Jan 2025 00:00:02 GMT", clock)).isEqualTo(2000L);
+        assertThat(RetryBackoff.parseRetryAfterMs("Tue, 31 Dec 2024 23:59:00 GMT", clock)).isZero();
+        assertThat(RetryBackoff.parseRetryAfterMs("soon", clock)).isNull();
+        assertThat(RetryBackoff.parseRetryAfterMs(null, clock)).isNull();
+    }
+
+    @Test
+    void shouldKeepFixedWaitForLegacySettings() {
+        RetrySettings settings = new RetrySettings(true, 3, 200);
+
+        assertThat(settings.backoff()).isEqualTo(BackoffStrategy.FIXED);
+        assertThat(RetryBackoff.waitMillis(settings, 2, null)).isEqualTo(200);
+    }
+
+    private CreditSummaryDataCollectionException throttled(long retryAfterMs) {
+        return new CreditSummaryDataCollectionException(
+                ErrorCode.LAYER_DATA_COLLECTION_FAILURE,
+                "Upstream returned HTTP 503",
+                null,
+                new UpstreamInfo(503, "503 SERVICE_UNAVAILABLE", 1L, null, retryAfterMs),
+                null);
+    }
+}
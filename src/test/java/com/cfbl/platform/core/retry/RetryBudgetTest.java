@@ -0,0 +1,50 @@
+package com.cfbl.platform.core.retry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class RetryBudgetTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    @Test
+    void shouldAllowRetriesUpToRatioOfFirstAttempts() {
+        RetryBudget budget = new RetryBudget(new RetryBudgetSettings(true, 0.1, 0, 10_000), nanos::get);
+
+        for (int i = 0; i < 30; i++) {
+            budget.deposit();
+        }
+
+        assertThat(budget.tryWithdraw()).isTrue();
+        assertThat(budget.tryWithdraw()).isTrue();
+        assertThat(budget.tryWithdraw()).isTrue();
+        assertThat(budget.tryWithdraw()).isFalse();
+    }
+
+    @Test
+    void shouldGrantMinimumRetriesForLowTraffic() {
+        RetryBudget budget = new RetryBudget(new RetryBudgetSettings(true, 0.1, 1, 2_000), nanos::get);
+
+        assertThat(budget.tryWithdraw()).isTrue();
+        assertThat(budget.tryWithdraw()).isTrue();
+        assertThat(budget.tryWithdraw()).isFalse();
+    }
+
+    @Test
+    void shouldExpireTokensOutsideWindow() {
+        RetryBudget budget = new RetryBudget(new RetryBudgetSettings(true, 0.5, 0, 1_000), nanos::get);
+        budget.deposit();
+        budget.deposit();
+        assertThat(budget.tryWithdraw()).isTrue();
+        assertThat(budget.tryWithdraw()).isFalse();
+
+        nanos.addAndGet(1_100_000_000L);
+
+        assertThat(budget.tryWithdraw()).isFalse();
+        budget.deposit();
+        budget.deposit();
+        assertThat(budget.tryWithdraw()).isTrue();
+    }
+}
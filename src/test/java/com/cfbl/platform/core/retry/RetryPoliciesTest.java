@@ -0,0 +1,65 @@
+package com.cfbl.platform.core.retry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class RetryPoliciesTest {
+
+    private final RetryPolicies policies = new RetryPolicies("soap:");
+
+    @Test
+    void shouldReusePolicyForEqualSettings() {
+        RetryPolicy first = policies.forService("bureau", new RetrySettings(true, 3, 10));
+        RetryPolicy second = policies.forService("bureau", new RetrySettings(true, 3, 10));
+
+        assertThat(second).isSameAs(first);
+        assertThat(first.name()).isEqualTo("soap:bureau");
+    }
+
+    @Test
+    void shouldKeepOnePolicyPerSettingsOfAService() {
+        RetryPolicy configured = policies.forService("bureau", new RetrySettings(true, 3, 10));
+        RetryPolicy defaults = policies.forService("bureau", RetrySettings.defaults());
+
+        assertThat(defaults).isNotSameAs(configured);
+        assertThat(defaults.compiledFrom(RetrySettings.defaults())).isTrue();
+        // Alternating callers get their cached policy back instead of recompiling it.
+        assertThat(policies.forService("bureau", new RetrySettings(true, 3, 10))).isSameAs(configured);
+        assertThat(policies.forService("bureau", RetrySettings.defaults())).isSameAs(defaults);
+    }
+
+    @Test
+    void shouldShareCompiledPoliciesPerNamespace() {
+        RetryPolicy first = RetryPolicies.shared("rest:").forService("shared-policy", new RetrySettings(true, 3, 10));
+        RetryPolicy second = RetryPolicies.shared("rest:").forService("shared-policy", new RetrySettings(true, 3, 10));
+
+        assertThat(RetryPolicies.shared("rest:")).isSameAs(RetryPolicies.shared("rest:"));
+        assertThat(second).isSameAs(first);
+        assertThat(first.name()).isEqualTo("rest:shared-policy");
+    }
+
+    @Test
+    void shouldShareRetryBudgetAcrossPoliciesOfOneService() {
+        RetryBudgetSettings budget = new RetryBudgetSettings(true, 0, 1, 10_000);
+        RuntimeException failure = new RuntimeException("transient");
+        RetryPolicy reactive = policies.forService("shared-budget",
+                new RetrySettings(true, 3, 10, BackoffStrategy.FIXED, 2.0, 0, false, budget));
+        RetryPolicy blocking = new RetryPolicies("soap:").forService("shared-budget",
+                new RetrySettings(true, 5, 10, BackoffStrategy.FIXED, 2.0, 0, false, budget));
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(reactive.classify(failure, 1, ex -> true, new AtomicLong()))
+                    .isInstanceOf(ScheduledRetryException.class)
+                    .hasCause(failure);
+        }
+        RetryPolicy recompiled = RetryPolicy.compile("rest:shared-budget",
+                new RetrySettings(true, 4, 10, BackoffStrategy.FIXED, 2.0, 0, false, budget));
+
+        assertThat(blocking.classify(failure, 1, ex -> true, new AtomicLong()))
+                .isInstanceOf(RetryStoppedException.class);
+        assertThat(recompiled.classify(failure, 1, ex -> true, new AtomicLong()))
+                .isInstanceOf(RetryStoppedException.class);
+    }
+}
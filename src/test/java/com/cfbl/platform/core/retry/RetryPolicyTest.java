@@ -0,0 +1,54 @@
+package com.cfbl.platform.core.retry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.cfbl.platform.core.timeout.Deadline;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class RetryPolicyTest {
+
+    private static final RetrySettings JITTERED =
+            new RetrySettings(true, 5, 100, BackoffStrategy.DECORRELATED_JITTER, 2.0, 10_000, false);
+
+    @Test
+    void shouldClampJitteredWaitToRemainingDeadline() {
+        RetryPolicy policy = RetryPolicy.compile("rest:jittered-deadline", JITTERED);
+        RuntimeException failure = new RuntimeException("transient");
+
+        for (int i = 0; i < 200; i++) {
+            // A previous wait of 3s draws the next one from [100, 9000] ms, mostly above the budget.
+            AtomicLong previousWait = new AtomicLong(3_000);
+            Throwable classified = policy.classify(
+                    failure, 2, ex -> true, previousWait, Deadline.after(Duration.ofMillis(500)), 100);
+
+            assertThat(classified).isInstanceOf(ScheduledRetryException.class).hasCause(failure);
+            long waitMillis = ((ScheduledRetryException) classified).waitMillis();
+            assertThat(waitMillis).isBetween(100L, 400L);
+            assertThat(previousWait.get()).isEqualTo(waitMillis);
+        }
+    }
+
+    @Test
+    void shouldStopWhenShortestWaitDoesNotFitRemainingDeadline() {
+        RetryPolicy policy = RetryPolicy.compile("rest:jittered-deadline", JITTERED);
+        RuntimeException failure = new RuntimeException("transient");
+
+        Throwable classified = policy.classify(
+                failure, 2, ex -> true, new AtomicLong(3_000), Deadline.after(Duration.ofMillis(150)), 100);
+
+        assertThat(classified).isInstanceOf(RetryStoppedException.class).hasCause(failure);
+        assertThat(((RetryStoppedException) classified).getReason()).isEqualTo(RetryStopReason.DEADLINE);
+    }
+
+    @Test
+    void shouldKeepDrawnWaitWithoutDeadline() {
+        RetryPolicy policy = RetryPolicy.compile("rest:jittered-no-deadline", JITTERED);
+
+        Throwable classified = policy.classify(
+                new RuntimeException("transient"), 2, ex -> true, new AtomicLong(3_000), null, 100);
+
+        assertThat(((ScheduledRetryException) classified).waitMillis()).isBetween(100L, 9_000L);
+    }
+}
@@ -3,6 +3,10 @@ package com.cfbl.platform.core.retry;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import com.cfbl.platform.core.exception.core.CreditSummaryDataCollectionException;
+import com.cfbl.platform.core.exception.core.ErrorCode;
+import com.cfbl.platform.core.exception.core.UpstreamInfo;
+import java.time.Duration;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
 import org.junit.jupiter.api.Test;
@@ -68,6 +72,29 @@ class SyncRetryPolicyExecutorTest {
         assertThat(attempts.get()).isEqualTo(1);
     }
 
+    @Test
+    void shouldEvaluateRetryablePredicatePerCall() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThrows(RuntimeException.class, () -> executor.executeSync(
+                "test-shared-name",
+                () -> {
+                    attempts.incrementAndGet();
+                    throw new RuntimeException("fail");
+                },
+                ex -> false));
+        assertThat(attempts.getAndSet(0)).isEqualTo(1);
+
+        assertThrows(RuntimeException.class, () -> executor.executeSync(
+                "test-shared-name",
+                () -> {
+                    attempts.incrementAndGet();
+                    throw new RuntimeException("fail");
+                },
+                ex -> true));
+        assertThat(attempts.get()).isEqualTo(3);
+    }
+
     @Test
     void shouldRespectDisabledRetrySettings() {
         SyncRetryPolicyExecutor disabledExecutor = new SyncRetryPolicyExecutor(new RetrySettings(false, 3, 1));
@@ -83,4 +110,60 @@ class SyncRetryPolicyExecutorTest {
 
         assertThat(attempts.get()).isEqualTo(1);
     }
+
+    @Test
+    void shouldWaitForRetryAfterHintUnlessIgnored() {
+        CreditSummaryDataCollectionException throttled = new CreditSummaryDataCollectionException(
+                ErrorCode.LAYER_DATA_COLLECTION_FAILURE,
+                "Upstream returned HTTP 429",
+                null,
+                new UpstreamInfo(429, "429 TOO_MANY_REQUESTS", 1L, null, 80L),
+                null);
+
+        long honoredNanos = timeTwoAttempts(new RetrySettings(true, 2, 1), throttled);
+        long ignoredNanos = timeTwoAttempts(
+                new RetrySettings(true, 2, 1, BackoffStrategy.FIXED, 2.0, 0, true), throttled);
+
+        assertThat(Duration.ofNanos(honoredNanos)).isGreaterThanOrEqualTo(Duration.ofMillis(80));
+        assertThat(Duration.ofNanos(ignoredNanos)).isLessThan(Duration.ofMillis(80));
+    }
+
+    @Test
+    void shouldStopRetryingWhenBudgetIsExhausted() {
+        RetrySettings settings = new RetrySettings(
+                true, 2, 1, BackoffStrategy.FIXED, 2.0, 0, false, new RetryBudgetSettings(true, 0.5, 0, 10_000));
+        AtomicInteger attempts = new AtomicInteger();
+        RetryStopReason[] stopReasons = new RetryStopReason[4];
+
+        for (int i = 0; i < 4; i++) {
+            RuntimeException ex = assertThrows(RuntimeException.class, () -> executor.executeSync(
+                    "test-retry-budget",
+                    settings,
+                    () -> {
+                        attempts.incrementAndGet();
+                        throw new RuntimeException("transient");
+                    },
+                    failure -> true));
+            stopReasons[i] = ex instanceof RetryStoppedException stopped ? stopped.getReason() : null;
+        }
+
+        assertThat(stopReasons).containsExactly(RetryStopReason.BUDGET, null, RetryStopReason.BUDGET, null);
+        assertThat(attempts.get()).isEqualTo(6);
+    }
+
+    private long timeTwoAttempts(RetrySettings settings, RuntimeException firstFailure) {
+        AtomicInteger attempts = new AtomicInteger();
+        long start = System.nanoTime();
+        executor.executeSync(
+                "test-retry-after-" + settings.ignoreRetryAfter(),
+                settings,
+                () -> {
+                    if (attempts.incrementAndGet() == 1) {
+                        throw firstFailure;
+                    }
+                    return "ok";
+                },
+                ex -> true);
+        return System.nanoTime() - start;
+    }
 }